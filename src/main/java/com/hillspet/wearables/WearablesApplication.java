@@ -1,6 +1,7 @@
 package com.hillspet.wearables;
 
 import java.beans.PropertyVetoException;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
@@ -18,9 +19,13 @@ import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import com.hillspet.wearables.common.constants.Constants;
+import com.hillspet.wearables.dao.ConnectionTimingDataSource;
+import com.hillspet.wearables.dao.ReadWriteRoutingDataSource;
 import com.hillspet.wearables.dao.configuration.DataSourceConfig;
 import com.mchange.v2.c3p0.C3P0Registry;
 import com.mchange.v2.c3p0.ComboPooledDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 
 @ComponentScan(basePackages = { Constants.WEARABLES_BASE_PACKAGE })
 @SpringBootApplication
@@ -29,6 +34,8 @@ public class WearablesApplication extends SpringBootServletInitializer {
 
 	private static final Logger LOGGER = LogManager.getLogger(WearablesApplication.class);
 
+	private static final String POOL_TYPE_HIKARI = "hikari";
+
 	@Autowired
 	DataSourceConfig dataSourceConfig;
 
@@ -47,12 +54,32 @@ public class WearablesApplication extends SpringBootServletInitializer {
 	 * This data source will be used for quartz session factory, jpa session
 	 * factory.
 	 * 
+	 * The pool is c3p0 unless datasource.poolType is hikari. A second pool is
+	 * created for the read replica when datasource.replica.enabled is set.
+	 * 
 	 * @return
 	 */
 
 	@Bean(name = Constants.DATA_SOURCE)
 	@Primary
 	public DataSource createDataSource() {
+		DataSource dataSource = createPool(dataSourceConfig, "wearables");
+		if (dataSourceConfig.getReplica().isEnabled()) {
+			// the read only procedures go to the replica, see ReadReplicaRouter
+			dataSource = new ReadWriteRoutingDataSource(dataSource,
+					createPool(dataSourceConfig.replicaConfig(), "wearables-replica"));
+		}
+		// times the pool checkouts for the query stats of the DAOs
+		return new ConnectionTimingDataSource(dataSource);
+	}
+
+	private DataSource createPool(DataSourceConfig poolConfig, String identityToken) {
+		return POOL_TYPE_HIKARI.equalsIgnoreCase(poolConfig.getPoolType())
+				? createHikariDataSource(poolConfig)
+				: createC3p0DataSource(poolConfig, identityToken);
+	}
+
+	private DataSource createC3p0DataSource(DataSourceConfig poolConfig, String identityToken) {
 		/*
 		 * when creating the data-source, we're indicating not to register with the JMX
 		 * register. This is because on the constructor it will use a random id
@@ -61,40 +88,73 @@ public class WearablesApplication extends SpringBootServletInitializer {
 		 */
 		ComboPooledDataSource dataSource = new ComboPooledDataSource(false);
 		try {
-			dataSource.setDriverClass(dataSourceConfig.getDriverClass());
+			dataSource.setDriverClass(poolConfig.getDriverClass());
 		} catch (PropertyVetoException e) {
 
 			LOGGER.error("Exception in setting driverClass : ", e);
 		}
-		dataSource.setUser(dataSourceConfig.getUser());
+		dataSource.setUser(poolConfig.getUser());
 		/*
 		 * set data-source name and identity so the pool is easily identifiable in the
 		 * JMX console and in logs
 		 */
-		dataSource.setDataSourceName(dataSourceConfig.getDataSourceName());
-		dataSource.setIdentityToken("wearables");
-		dataSource.setPassword(dataSourceConfig.getPassword());
-		dataSource.setForceSynchronousCheckins(dataSourceConfig.isForceSynchronousCheckins());
-		dataSource.setTestConnectionOnCheckin(dataSourceConfig.isTestConnectionOnCheckin());
-		dataSource.setTestConnectionOnCheckout(dataSourceConfig.isTestConnectionOnCheckout());
-		dataSource.setAcquireIncrement(dataSourceConfig.getAcquireIncrement());
-		dataSource.setMaxStatements(dataSourceConfig.getMaxStatements());
-		dataSource.setMinPoolSize(dataSourceConfig.getMinPoolSize());
-		dataSource.setMaxPoolSize(dataSourceConfig.getMaxPoolSize());
-		dataSource.setNumHelperThreads(dataSourceConfig.getNumHelperThreads());
-		dataSource.setCheckoutTimeout(dataSourceConfig.getCheckoutTimeout());
-		dataSource.setIdleConnectionTestPeriod(dataSourceConfig.getIdleConnectionTestPeriod());
-		dataSource.setMaxIdleTimeExcessConnections(dataSourceConfig.getMaxIdleTimeExcessConnections());
-		dataSource.setMaxIdleTime(dataSourceConfig.getMaxIdleTime());
-		dataSource.setDebugUnreturnedConnectionStackTraces(dataSourceConfig.isDebugUnreturnedConnectionStackTraces());
-		dataSource.setJdbcUrl(dataSourceConfig.getJdbcUrl());
-		dataSource.setInitialPoolSize(dataSourceConfig.getInitialPoolSize());
+		dataSource.setDataSourceName(poolConfig.getDataSourceName());
+		dataSource.setIdentityToken(identityToken);
+		dataSource.setPassword(poolConfig.getPassword());
+		dataSource.setForceSynchronousCheckins(poolConfig.isForceSynchronousCheckins());
+		dataSource.setTestConnectionOnCheckin(poolConfig.isTestConnectionOnCheckin());
+		dataSource.setTestConnectionOnCheckout(poolConfig.isTestConnectionOnCheckout());
+		dataSource.setAcquireIncrement(poolConfig.getAcquireIncrement());
+		dataSource.setMaxStatements(poolConfig.getMaxStatements());
+		dataSource.setMinPoolSize(poolConfig.getMinPoolSize());
+		dataSource.setMaxPoolSize(poolConfig.getMaxPoolSize());
+		dataSource.setNumHelperThreads(poolConfig.getNumHelperThreads());
+		dataSource.setCheckoutTimeout(poolConfig.getCheckoutTimeout());
+		dataSource.setIdleConnectionTestPeriod(poolConfig.getIdleConnectionTestPeriod());
+		dataSource.setMaxIdleTimeExcessConnections(poolConfig.getMaxIdleTimeExcessConnections());
+		dataSource.setMaxIdleTime(poolConfig.getMaxIdleTime());
+		dataSource.setDebugUnreturnedConnectionStackTraces(poolConfig.isDebugUnreturnedConnectionStackTraces());
+		dataSource.setJdbcUrl(poolConfig.getJdbcUrl());
+		dataSource.setInitialPoolSize(poolConfig.getInitialPoolSize());
 		LOGGER.debug("Created a new datasource: {}", dataSource.toString());
 		// register the data-source with C3P0 MBEAN manager
 		C3P0Registry.reregister(dataSource);
 		return dataSource;
 	}
 
+	/**
+	 * HikariCP pool, connections are only validated when they were idle for a
+	 * while instead of on every checkout. The Connector/J statement caches and
+	 * batch rewriting are enabled.
+	 */
+	private DataSource createHikariDataSource(DataSourceConfig poolConfig) {
+		HikariConfig config = new HikariConfig();
+		config.setPoolName(poolConfig.getDataSourceName());
+		config.setDriverClassName(poolConfig.getDriverClass());
+		config.setJdbcUrl(poolConfig.getJdbcUrl());
+		config.setUsername(poolConfig.getUser());
+		config.setPassword(poolConfig.getPassword());
+		config.setMaximumPoolSize(poolConfig.getMaxPoolSize());
+		config.setMinimumIdle(poolConfig.getMinPoolSize());
+		config.setConnectionTimeout(poolConfig.getCheckoutTimeout());
+		config.setIdleTimeout(TimeUnit.SECONDS.toMillis(poolConfig.getMaxIdleTime()));
+		config.addDataSourceProperty("cachePrepStmts", "true");
+		config.addDataSourceProperty("useServerPrepStmts", "true");
+		config.addDataSourceProperty("prepStmtCacheSize", poolConfig.getPrepStmtCacheSize());
+		config.addDataSourceProperty("prepStmtCacheSqlLimit", poolConfig.getPrepStmtCacheSqlLimit());
+		config.addDataSourceProperty("cacheCallableStmts", "true");
+		config.addDataSourceProperty("callableStmtCacheSize", poolConfig.getPrepStmtCacheSize());
+		config.addDataSourceProperty("rewriteBatchedStatements", "true");
+		config.addDataSourceProperty("cacheResultSetMetadata", "true");
+		config.addDataSourceProperty("cacheServerConfiguration", "true");
+		config.addDataSourceProperty("useLocalSessionState", "true");
+		config.addDataSourceProperty("elideSetAutoCommits", "true");
+		config.addDataSourceProperty("maintainTimeStats", "false");
+		HikariDataSource dataSource = new HikariDataSource(config);
+		LOGGER.debug("Created a new Hikari datasource: {}", dataSource.getPoolName());
+		return dataSource;
+	}
+
 	public static void main(String[] args) {
 		new WearablesApplication().configure(new SpringApplicationBuilder(WearablesApplication.class)).run(args);
 		LOGGER.info("Info level log message");
@@ -0,0 +1,183 @@
+package com.hillspet.wearables.common.utils;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Thread safe map of at most maxSize entries for the in-process caches. Adding
+ * an entry to a full cache evicts the least recently used one, so that new keys
+ * are always cached and the entries still in use stay.
+ *
+ * The entries are spread over up to 16 segments, each a LinkedHashMap in access
+ * order behind its own lock, so that lookups of different keys rarely wait on
+ * each other. The least recently used entry is therefore picked within the
+ * segment of the new key. Expiry is left to the callers, which keep the expiry
+ * time in the value and remove the expired entries they find.
+ *
+ * @author vvodyaram
+ *
+ */
+public class BoundedLruCache<K, V> {
+
+	private static final int MAX_SEGMENTS = 16;
+
+	/** Smallest segment, small caches are kept in a single exact LRU segment. */
+	private static final int MIN_SEGMENT_SIZE = 64;
+
+	private final Segment<K, V>[] segments;
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	@SuppressWarnings("unchecked")
+	public BoundedLruCache(int maxSize) {
+		int segmentCount = Math.max(1, Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_SIZE));
+		segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			int segmentSize = maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0);
+			segments[i] = new Segment<>(Math.max(0, segmentSize), evictions);
+		}
+	}
+
+	public V get(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.get(key);
+		}
+	}
+
+	/**
+	 * Adds or replaces the entry, evicting the least recently used entry of its
+	 * segment when the segment is full.
+	 *
+	 * @return the previous value or null
+	 */
+	public V put(K key, V value) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.put(key, value);
+		}
+	}
+
+	public V remove(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.remove(key);
+		}
+	}
+
+	/**
+	 * Removes the entry only if it still maps to the given value.
+	 */
+	public boolean remove(K key, V value) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.remove(key, value);
+		}
+	}
+
+	/**
+	 * Replaces the entry only if it still maps to the given value.
+	 */
+	public boolean replace(K key, V oldValue, V newValue) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.replace(key, oldValue, newValue);
+		}
+	}
+
+	/**
+	 * Removes the entries whose value matches, for instance the expired ones.
+	 *
+	 * @return the number of entries removed
+	 */
+	public int removeIf(Predicate<? super V> filter) {
+		int removed = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				Iterator<V> itr = segment.values().iterator();
+				while (itr.hasNext()) {
+					if (filter.test(itr.next())) {
+						itr.remove();
+						removed++;
+					}
+				}
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * @return a copy of the entries, which does not change their recency
+	 */
+	public List<Map.Entry<K, V>> entries() {
+		List<Map.Entry<K, V>> entries = new ArrayList<>();
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				for (Map.Entry<K, V> entry : segment.entrySet()) {
+					entries.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+				}
+			}
+		}
+		return entries;
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	public void clear() {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	/**
+	 * @return the number of entries evicted to make room for new ones
+	 */
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	private Segment<K, V> segmentFor(K key) {
+		int hash = Objects.hashCode(key);
+		return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)];
+	}
+
+	private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int maxSize;
+		private final AtomicLong evictions;
+
+		private Segment(int maxSize, AtomicLong evictions) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+			this.evictions = evictions;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			if (size() > maxSize) {
+				evictions.incrementAndGet();
+				return true;
+			}
+			return false;
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.hillspet.wearables.common.utils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
 import java.util.Arrays;
@@ -14,6 +16,14 @@ import org.apache.commons.codec.binary.Base64;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * Password and token encryption used by the migrated mobile services.
+ *
+ * The keys derived from the encryption keys (the pet parents' uniqueId values
+ * for the most part) are kept in bounded LRU caches and every thread reuses its
+ * own Cipher instances, which are only re-initialized when the key or the mode
+ * changes.
+ */
 public class Cryptography {
 
 	private static final Logger LOGGER = LogManager.getLogger(Cryptography.class);
@@ -21,17 +31,26 @@ public class Cryptography {
 	public static final String DEFAULT_ENCRYPTION_KEY = "qwe123!@#";
 	private static final String PET_PARENT_ENCRYPTION_KEY = "8com.itlogica.petparent8";
 	private static final String LOGIN_KEY = "AGLOGICAAGLOGICAAGLOGICAAGLOGICA";
-	private static final String LOGIN_IV = "2019010720190107";
 
 	private static final String CRYPTO_TRANSFORMATION = "DESede/ECB/PKCS5Padding";
+	private static final String AES_TRANSFORMATION = "AES/CBC/PKCS5Padding";
 	private static final String ALGO = "DESede";
-	private static final String UTF8_CHAR_SET = "UTF-8";
-	private static final String ASCII_CHAR_SET = "ASCII";
+
+	private static final int MAX_CACHED_KEYS = 10000;
+
+	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+	private static final BoundedLruCache<String, SecretKey> DIGEST_KEYS = new BoundedLruCache<>(MAX_CACHED_KEYS);
+	private static final BoundedLruCache<String, SecretKey> PET_PARENT_KEYS = new BoundedLruCache<>(MAX_CACHED_KEYS);
+
+	private static final ThreadLocal<ReusableCipher> DESEDE_CIPHER = ThreadLocal
+			.withInitial(() -> new ReusableCipher(CRYPTO_TRANSFORMATION));
+	private static final ThreadLocal<ReusableCipher> AES_CIPHER = ThreadLocal
+			.withInitial(() -> new ReusableCipher(AES_TRANSFORMATION));
 
 	public static String genPasswordSalt() {
-		SecureRandom random = new SecureRandom();
 		byte[] salt = new byte[8];
-		random.nextBytes(salt);
+		SECURE_RANDOM.nextBytes(salt);
 		return salt.toString();
 	}
 
@@ -48,29 +67,9 @@ public class Cryptography {
 			if (encryptionKey == null || encryptionKey.trim().length() == 0) {
 				encryptionKey = DEFAULT_ENCRYPTION_KEY;
 			}
-
-			byte[] inputBytes = plainText.getBytes(ASCII_CHAR_SET);
-			byte[] passwordBytes = encryptionKey.getBytes(ASCII_CHAR_SET);
-
-			MessageDigest md = MessageDigest.getInstance("MD5");
-			byte[] passwordHash = md.digest(passwordBytes);
-			byte[] keyBytes = Arrays.copyOf(passwordHash, 24);
-
-			for (int j = 0, k = 16; j < 8;) {
-				keyBytes[k++] = keyBytes[j++];
-			}
-
-			SecretKey key = new SecretKeySpec(keyBytes, ALGO);
-
-			Cipher cipher = Cipher.getInstance(CRYPTO_TRANSFORMATION);
-			cipher.init(Cipher.ENCRYPT_MODE, key);
-
-			byte[] plainTextBytes = inputBytes;
-			byte[] cipherBuf = cipher.doFinal(plainTextBytes);
-			byte[] base64Bytes = Base64.encodeBase64(cipherBuf);
-
-			encryptedText = new String(base64Bytes);
-			LOGGER.info("encryptedText after encryption is {}", encryptedText);
+			byte[] cipherBuf = DESEDE_CIPHER.get().doFinal(Cipher.ENCRYPT_MODE, getDigestKey(encryptionKey),
+					plainText.getBytes(StandardCharsets.US_ASCII));
+			encryptedText = Base64.encodeBase64String(cipherBuf);
 		} catch (Exception e) {
 			LOGGER.error("error while encrypt ", e);
 		}
@@ -86,28 +85,10 @@ public class Cryptography {
 		if (encryptedString == null) {
 			return decpryt;
 		}
-
 		try {
-			byte[] inputBytes = Base64.decodeBase64(encryptedString);
-			byte[] passwordBytes = encryptionKey.getBytes(ASCII_CHAR_SET);
-
-			MessageDigest md = MessageDigest.getInstance("MD5");
-			byte[] passwordHash = md.digest(passwordBytes);
-			byte[] keyBytes = Arrays.copyOf(passwordHash, 24);
-
-			for (int j = 0, k = 16; j < 8;) {
-				keyBytes[k++] = keyBytes[j++];
-			}
-
-			SecretKey key = new SecretKeySpec(keyBytes, ALGO);
-
-			Cipher decipher = Cipher.getInstance(CRYPTO_TRANSFORMATION);
-			decipher.init(Cipher.DECRYPT_MODE, key);
-
-			byte[] plainText = decipher.doFinal(inputBytes);
-			decpryt = new String(plainText, UTF8_CHAR_SET);
-			LOGGER.info("plaing String after decryption is {}", decpryt);
-
+			byte[] plainText = DESEDE_CIPHER.get().doFinal(Cipher.DECRYPT_MODE, getDigestKey(encryptionKey),
+					Base64.decodeBase64(encryptedString));
+			decpryt = new String(plainText, StandardCharsets.UTF_8);
 		} catch (Exception e) {
 			LOGGER.error("error while decrypt ", e);
 		}
@@ -127,16 +108,9 @@ public class Cryptography {
 			if (encryptionKey == null || encryptionKey.trim().length() == 0) {
 				encryptionKey = PET_PARENT_ENCRYPTION_KEY;
 			}
-
-			Cipher cipher = Cipher.getInstance(CRYPTO_TRANSFORMATION);
-			cipher.init(Cipher.ENCRYPT_MODE, getSecreteKey(encryptionKey, UTF8_CHAR_SET));
-
-			byte[] plainTextBytes = plainText.getBytes(UTF8_CHAR_SET);
-			byte[] cipherBuf = cipher.doFinal(plainTextBytes);
-			byte[] base64Bytes = Base64.encodeBase64(cipherBuf);
-
-			encryptedText = new String(base64Bytes);
-			LOGGER.info("encryptedText after encryption is {}", encryptedText);
+			byte[] cipherBuf = DESEDE_CIPHER.get().doFinal(Cipher.ENCRYPT_MODE, getPetParentKey(encryptionKey),
+					plainText.getBytes(StandardCharsets.UTF_8));
+			encryptedText = Base64.encodeBase64String(cipherBuf);
 		} catch (Exception e) {
 			LOGGER.error("error while petParentEncrypt ", e);
 		}
@@ -153,60 +127,126 @@ public class Cryptography {
 			return decpryt;
 		}
 		try {
-			byte[] message = Base64.decodeBase64(encryptedString);
-
-			Cipher decipher = Cipher.getInstance(CRYPTO_TRANSFORMATION);
-			decipher.init(Cipher.DECRYPT_MODE, getSecreteKey(petParentEncryptionKey, UTF8_CHAR_SET));
-
-			byte[] plainText = decipher.doFinal(message);
-			decpryt = new String(plainText, UTF8_CHAR_SET);
-			LOGGER.info("plaing String after decryption is {}", decpryt);
-
+			byte[] plainText = DESEDE_CIPHER.get().doFinal(Cipher.DECRYPT_MODE,
+					getPetParentKey(petParentEncryptionKey), Base64.decodeBase64(encryptedString));
+			decpryt = new String(plainText, StandardCharsets.UTF_8);
 		} catch (Exception e) {
 			LOGGER.error("error while petParentDecrypt ", e);
 		}
 		return decpryt;
 	}
 
-	private static SecretKey getSecreteKey(String secretKey, String charSet) throws Exception {
-		byte[] digestOfPassword = secretKey.getBytes(charSet);
-		byte[] keyBytes = Arrays.copyOf(digestOfPassword, 24);
-		SecretKey key = new SecretKeySpec(keyBytes, ALGO);
-		return key;
-	}
-
+	/**
+	 * The login key is generated from a SecureRandom that is only supplemented by
+	 * the seed, the key is therefore random and generated once per JVM instead of
+	 * once per call.
+	 */
 	public static String encryptByAES(String input) {
 		String encryptedValue = "";
 		try {
-			// IvParameterSpec iv = new IvParameterSpec(loginIV.getBytes(), 0, 16);
-			SecureRandom randomSecureRandom = new SecureRandom();
-			byte[] bytes = LOGIN_IV.getBytes();
-			randomSecureRandom.nextBytes(bytes);
-			IvParameterSpec iv = new IvParameterSpec(bytes);
+			byte[] iv = new byte[16];
+			SECURE_RANDOM.nextBytes(iv);
+			byte[] cipherText = AES_CIPHER.get().doFinal(Cipher.ENCRYPT_MODE, LoginKeyHolder.KEY,
+					new IvParameterSpec(iv), input.getBytes(StandardCharsets.UTF_8));
+			encryptedValue = Base64.encodeBase64String(cipherText);
+		} catch (Exception e) {
+			LOGGER.error("error while encryptByAES ", e);
+		}
+		return encryptedValue;
+	}
 
-			Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+	/**
+	 * Key of encrypt/decrypt: MD5 of the ASCII key, the first 8 bytes repeated as
+	 * the third DES key.
+	 */
+	private static SecretKey getDigestKey(String encryptionKey) throws GeneralSecurityException {
+		SecretKey key = DIGEST_KEYS.get(encryptionKey);
+		if (key == null) {
+			byte[] passwordHash = MessageDigest.getInstance("MD5")
+					.digest(encryptionKey.getBytes(StandardCharsets.US_ASCII));
+			byte[] keyBytes = Arrays.copyOf(passwordHash, 24);
+			System.arraycopy(keyBytes, 0, keyBytes, 16, 8);
+			key = new SecretKeySpec(keyBytes, ALGO);
+			DIGEST_KEYS.put(encryptionKey, key);
+		}
+		return key;
+	}
 
-			SecureRandom random = new SecureRandom();
-			random.setSeed(LOGIN_KEY.getBytes());
+	/**
+	 * Key of petParentEncrypt/petParentDecrypt: the UTF-8 key bytes padded or
+	 * truncated to 24 bytes.
+	 */
+	private static SecretKey getPetParentKey(String encryptionKey) {
+		SecretKey key = PET_PARENT_KEYS.get(encryptionKey);
+		if (key == null) {
+			key = new SecretKeySpec(Arrays.copyOf(encryptionKey.getBytes(StandardCharsets.UTF_8), 24), ALGO);
+			PET_PARENT_KEYS.put(encryptionKey, key);
+		}
+		return key;
+	}
 
-			KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
-			keyGenerator.init(random);
-			SecretKey key = keyGenerator.generateKey();
+	private static final class LoginKeyHolder {
+		private static final SecretKey KEY = generateLoginKey();
+
+		private static SecretKey generateLoginKey() {
+			try {
+				SecureRandom random = new SecureRandom();
+				random.setSeed(LOGIN_KEY.getBytes(StandardCharsets.US_ASCII));
+				KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+				keyGenerator.init(random);
+				return keyGenerator.generateKey();
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("AES is not available", e);
+			}
+		}
+	}
 
-			cipher.init(Cipher.ENCRYPT_MODE, key, iv);
-			byte[] cipherText = cipher.doFinal(input.getBytes());
-			encryptedValue = Base64.encodeBase64String(cipherText).toString();
-		} catch (Exception e) {
-			LOGGER.error("error while encryptByAES ", e);
+	/**
+	 * A Cipher owned by one thread, initialized again only when the key or the
+	 * mode differs from the previous call or when an IV is given.
+	 */
+	private static final class ReusableCipher {
+		private final String transformation;
+		private Cipher cipher;
+		private SecretKey key;
+		private int mode;
+
+		private ReusableCipher(String transformation) {
+			this.transformation = transformation;
+		}
+
+		private byte[] doFinal(int mode, SecretKey key, byte[] input) throws GeneralSecurityException {
+			return doFinal(mode, key, null, input);
+		}
+
+		private byte[] doFinal(int mode, SecretKey key, IvParameterSpec iv, byte[] input)
+				throws GeneralSecurityException {
+			if (cipher == null) {
+				cipher = Cipher.getInstance(transformation);
+			}
+			if (iv != null) {
+				cipher.init(mode, key, iv);
+				this.key = null;
+			} else if (key != this.key || mode != this.mode) {
+				cipher.init(mode, key);
+				this.key = key;
+				this.mode = mode;
+			}
+			try {
+				return cipher.doFinal(input);
+			} catch (GeneralSecurityException | RuntimeException e) {
+				// the cipher state is undefined after a failure, initialize it on the next call
+				this.key = null;
+				throw e;
+			}
 		}
-		return encryptedValue;
 	}
-	
+
 	public static void main(String[] args) {
 		System.out.println("==="+Cryptography.decrypt("tXjcc99n4gWLrAodB9azxA==", null));
 		System.out.println("==="+Cryptography.petParentDecrypt("2u0ISnjxPr1r7jzoRK+1wA=="));
 		//System.out.println("-----1------"+Cryptography.petParentDecrypt("Sprp1Cbx014V+IoLlTmMpg=="));
 		//System.out.println("----2----"+Cryptography.encrypt(Cryptography.petParentDecrypt("Sprp1Cbx014V+IoLlTmMpg=="), "1793162651635247"));
 	}
-	
+
 }
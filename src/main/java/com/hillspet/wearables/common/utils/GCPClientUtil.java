@@ -18,6 +18,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tomcat.util.http.fileupload.IOUtils;
 import org.glassfish.jersey.media.multipart.FormDataBodyPart;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -28,12 +29,15 @@ import com.google.cloud.storage.Bucket;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
+import com.hillspet.wearables.common.utils.SignedUrlCache.SignedUrl;
 
 @Service
 public class GCPClientUtil {
 
 	private static final Logger LOGGER = LogManager.getLogger(GCPClientUtil.class);
 
+	private static final long SIGNED_URL_DURATION_MINUTES = 30;
+
 	private static Storage storage;
 
 	@Value("${mediaPath}")
@@ -50,6 +54,15 @@ public class GCPClientUtil {
 	@Value("${firebase.storageBucket}")
 	private String firebaseBucketName;
 
+	@Value("${wearables.signedUrl.localSigning:false}")
+	private boolean localSigning;
+
+	@Autowired
+	private SignedUrlCache signedUrlCache;
+
+	@Autowired
+	private GcsObjectMetadataCache objectMetadataCache;
+
 	private Bucket getBucket(String bucketName) throws IOException {
 		LOGGER.info("inside getbucketName() :::  " + bucketName);
 		Bucket bucket = getStorageInstance().get(bucketName);
@@ -186,12 +199,10 @@ public class GCPClientUtil {
 		LOGGER.info("bucketName :::  " + bucketName);
 		LOGGER.info("filePath :::  " + uploadFolderPath + gcFolderName + "/" + fileName);
 		try {
-			Blob blob = getStorageInstance().get(bucketName).get(uploadFolderPath + gcFolderName + "/" + fileName);
-			if (blob != null && StringUtils.isNotBlank(blob.getName())) {
-				String blobName = blob.getName();
-				URL signedUrl = getStorageInstance().signUrl(BlobInfo.newBuilder(bucketName, blobName).build(), 30,
-						TimeUnit.MINUTES);
-				url = signedUrl.toExternalForm();
+			SignedUrl signedUrl = signedUrlCache.get(bucketName, uploadFolderPath + gcFolderName + "/" + fileName,
+					this::signObject);
+			if (signedUrl != null) {
+				url = signedUrl.getUrl();
 			}
 		} catch (Exception e) {
 			LOGGER.error("error while google storage getDownloaFiledUrl", e);
@@ -213,12 +224,9 @@ public class GCPClientUtil {
 				// filePath="data-extracts/WAM/08-19-2021/WAM_COAST_20210819.xlsx";
 				LOGGER.info("bucketName :::  " + bucketName);
 				LOGGER.info("filePath :::  " + filePath);
-				Blob blob = getStorageInstance().get(bucketName.trim()).get(filePath.trim());
-				if (blob != null && StringUtils.isNotBlank(blob.getName())) {
-					String blobName = blob.getName();
-					URL signedUrl = getStorageInstance().signUrl(BlobInfo.newBuilder(bucketName, blobName).build(), 30,
-							TimeUnit.MINUTES);
-					url = signedUrl.toExternalForm();
+				SignedUrl signedUrl = signedUrlCache.get(bucketName.trim(), filePath.trim(), this::signObject);
+				if (signedUrl != null) {
+					url = signedUrl.getUrl();
 					LOGGER.info("signed url :::  " + url);
 				}
 			} catch (Exception e) {
@@ -243,19 +251,12 @@ public class GCPClientUtil {
 
 	public Map<String, String> getDownloadGcpFileUrlWithSize(String fileName, String gcFolderName) {
 		Map<String, String> fileData = new HashMap<>();
-		String url = "";
 		LOGGER.info("bucketName :::  " + bucketName);
 		LOGGER.info("filePath :::  " + uploadFolderPath + gcFolderName + "/" + fileName);
 		try {
-			Blob blob = getStorageInstance().get(bucketName).get(uploadFolderPath + gcFolderName + "/" + fileName);
-			if (blob != null && StringUtils.isNotBlank(blob.getName())) {
-				String blobName = blob.getName();
-				URL signedUrl = getStorageInstance().signUrl(BlobInfo.newBuilder(bucketName, blobName).build(), 30,
-						TimeUnit.MINUTES);
-				url = signedUrl.toExternalForm();
-				fileData.put("URL", url);
-				fileData.put("SIZE", blob.getSize() + "");
-			}
+			String objectPath = uploadFolderPath + gcFolderName + "/" + fileName;
+			SignedUrl signedUrl = signedUrlCache.get(bucketName, objectPath, this::signObject);
+			putUrlWithSize(fileData, bucketName, objectPath, signedUrl);
 		} catch (Exception e) {
 			LOGGER.error("error while google storage getDownloaFiledUrl", e);
 		}
@@ -265,19 +266,11 @@ public class GCPClientUtil {
 
 	public Map<String, String> getDownloadFirebaseFileUrlWithSize(String fileName) {
 		Map<String, String> fileData = new HashMap<>();
-		String url = "";
 		LOGGER.info("bucketName :::  " + firebaseBucketName);
 		LOGGER.info("filePath :::  " + fileName);
 		try {
-			Blob blob = getStorageInstance().get(firebaseBucketName).get(fileName);
-			if (blob != null && StringUtils.isNotBlank(blob.getName())) {
-				String blobName = blob.getName();
-				URL signedUrl = getStorageInstance().signUrl(BlobInfo.newBuilder(firebaseBucketName, blobName).build(),
-						30, TimeUnit.MINUTES);
-				url = signedUrl.toExternalForm();
-				fileData.put("URL", url);
-				fileData.put("SIZE", blob.getSize() + "");
-			}
+			SignedUrl signedUrl = signedUrlCache.get(firebaseBucketName, fileName, this::signObject);
+			putUrlWithSize(fileData, firebaseBucketName, fileName, signedUrl);
 		} catch (Exception e) {
 			LOGGER.error("error while google storage getDownloadFileUrlWithSize", e);
 		}
@@ -285,6 +278,74 @@ public class GCPClientUtil {
 		return fileData;
 	}
 
+	/**
+	 * Signs the object for {@value #SIGNED_URL_DURATION_MINUTES} minutes, used by
+	 * the {@link SignedUrlCache} on a miss and for the background refresh.
+	 *
+	 * With wearables.signedUrl.localSigning the V4 URL is built from the service
+	 * account credentials without looking the object up, its existence is only
+	 * checked in the background for a sample of the objects.
+	 *
+	 * @param bucketName
+	 * @param objectPath
+	 * @return signed URL or null when the object does not exist
+	 */
+	private SignedUrl signObject(String bucketName, String objectPath) {
+		long expiresAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(SIGNED_URL_DURATION_MINUTES);
+		if (localSigning) {
+			if (objectMetadataCache.isKnownMissing(bucketName, objectPath)) {
+				return null;
+			}
+			URL signedUrl = getStorageInstance().signUrl(BlobInfo.newBuilder(bucketName, objectPath).build(),
+					SIGNED_URL_DURATION_MINUTES, TimeUnit.MINUTES, Storage.SignUrlOption.withV4Signature());
+			objectMetadataCache.verifyAsync(bucketName, objectPath);
+			return new SignedUrl(signedUrl.toExternalForm(), objectMetadataCache.getSize(bucketName, objectPath),
+					expiresAt);
+		}
+
+		Blob blob = getStorageInstance().get(bucketName).get(objectPath);
+		if (blob == null || StringUtils.isBlank(blob.getName())) {
+			return null;
+		}
+		URL signedUrl = getStorageInstance().signUrl(BlobInfo.newBuilder(bucketName, blob.getName()).build(),
+				SIGNED_URL_DURATION_MINUTES, TimeUnit.MINUTES);
+		return new SignedUrl(signedUrl.toExternalForm(), blob.getSize(), expiresAt);
+	}
+
+	/**
+	 * Puts the URL and SIZE of a signed object. A locally signed URL whose object
+	 * turns out to be missing when its size is read is dropped from the cache and
+	 * left out, as a missing blob is without local signing.
+	 */
+	private void putUrlWithSize(Map<String, String> fileData, String bucketName, String objectPath,
+			SignedUrl signedUrl) {
+		if (signedUrl == null) {
+			return;
+		}
+		Long size = getSize(bucketName, objectPath, signedUrl);
+		if (size == null) {
+			LOGGER.info("{} no longer exists in {}, signed URL dropped", objectPath, bucketName);
+			signedUrlCache.invalidate(bucketName, objectPath);
+			return;
+		}
+		fileData.put("URL", signedUrl.getUrl());
+		fileData.put("SIZE", size.toString());
+	}
+
+	/**
+	 * The size of a signed object, read from the metadata cache or from GCS when
+	 * the URL was signed locally.
+	 *
+	 * @return the size or null when the object does not exist
+	 */
+	private Long getSize(String bucketName, String objectPath, SignedUrl signedUrl) {
+		if (signedUrl.getSize() != null || !localSigning) {
+			return signedUrl.getSize();
+		}
+		Long size = objectMetadataCache.getSize(bucketName, objectPath);
+		return size != null ? size : objectMetadataCache.loadSize(bucketName, objectPath);
+	}
+
 	public String uploadFileByteArray(InputStream uploadedInputStream, FormDataBodyPart bodyPart, String gcFolderName) {
 		LOGGER.error("inside uploadFileByteArray");
 		String fileName = "";
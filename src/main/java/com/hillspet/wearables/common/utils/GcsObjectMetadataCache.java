@@ -0,0 +1,206 @@
+package com.hillspet.wearables.common.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+
+/**
+ * Object metadata used by the local URL signing mode of {@link GCPClientUtil},
+ * where URLs are signed without looking the object up first.
+ *
+ * Existence is verified off the request path: a sample
+ * (wearables.signedUrl.existenceCheckSampleRate) of the signed objects is
+ * queued to a single background thread that reads the object metadata. Objects
+ * found missing are remembered for wearables.signedUrl.missingTtlSeconds so that
+ * no URL is handed out for them, and the sizes read are kept for the callers
+ * that need them. Both are bounded by wearables.signedUrl.maxSize, the least
+ * recently used entry is evicted to make room for a new object.
+ *
+ * @author vvodyaram
+ *
+ */
+@Component
+public class GcsObjectMetadataCache {
+
+	private static final Logger LOGGER = LogManager.getLogger(GcsObjectMetadataCache.class);
+
+	private BoundedLruCache<String, Long> sizes;
+
+	private BoundedLruCache<String, Long> missing;
+
+	private final ConcurrentHashMap<String, Boolean> pending = new ConcurrentHashMap<>();
+
+	private final AtomicLong sampled = new AtomicLong();
+	private final AtomicLong verified = new AtomicLong();
+	private final AtomicLong missingFound = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong sizeLoads = new AtomicLong();
+
+	private ThreadPoolExecutor verifyExecutor;
+
+	@Autowired
+	private SignedUrlCache signedUrlCache;
+
+	@Value("${wearables.signedUrl.existenceCheckSampleRate:0.05}")
+	private double existenceCheckSampleRate;
+
+	@Value("${wearables.signedUrl.existenceCheckQueueSize:1000}")
+	private int existenceCheckQueueSize;
+
+	@Value("${wearables.signedUrl.missingTtlSeconds:600}")
+	private long missingTtlSeconds;
+
+	@Value("${wearables.signedUrl.sizeCacheEnabled:true}")
+	private boolean sizeCacheEnabled;
+
+	@Value("${wearables.signedUrl.maxSize:20000}")
+	private int maxSize;
+
+	@PostConstruct
+	public void start() {
+		sizes = new BoundedLruCache<>(maxSize);
+		missing = new BoundedLruCache<>(maxSize);
+		verifyExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(existenceCheckQueueSize), runnable -> {
+					Thread thread = new Thread(runnable, "gcs-existence-check");
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@PreDestroy
+	public void stop() {
+		verifyExecutor.shutdownNow();
+	}
+
+	/**
+	 * @param bucketName
+	 * @param objectPath
+	 * @return true when a background check found the object missing recently
+	 */
+	public boolean isKnownMissing(String bucketName, String objectPath) {
+		String key = key(bucketName, objectPath);
+		Long expiresAt = missing.get(key);
+		if (expiresAt == null) {
+			return false;
+		}
+		if (System.currentTimeMillis() >= expiresAt) {
+			missing.remove(key, expiresAt);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @param bucketName
+	 * @param objectPath
+	 * @return the cached object size or null when unknown
+	 */
+	public Long getSize(String bucketName, String objectPath) {
+		return sizeCacheEnabled ? sizes.get(key(bucketName, objectPath)) : null;
+	}
+
+	/**
+	 * Reads the object metadata synchronously, for the callers that need the size
+	 * when it is not cached yet.
+	 *
+	 * @param bucketName
+	 * @param objectPath
+	 * @return the object size or null when the object does not exist
+	 */
+	public Long loadSize(String bucketName, String objectPath) {
+		sizeLoads.incrementAndGet();
+		return lookup(bucketName, objectPath);
+	}
+
+	/**
+	 * Queues an existence check for a sample of the objects, never blocks. Checks
+	 * are dropped when the queue is full.
+	 *
+	 * @param bucketName
+	 * @param objectPath
+	 */
+	public void verifyAsync(String bucketName, String objectPath) {
+		if (existenceCheckSampleRate <= 0
+				|| ThreadLocalRandom.current().nextDouble() >= existenceCheckSampleRate) {
+			return;
+		}
+		String key = key(bucketName, objectPath);
+		if (pending.putIfAbsent(key, Boolean.TRUE) != null) {
+			return;
+		}
+		sampled.incrementAndGet();
+		try {
+			verifyExecutor.execute(() -> {
+				try {
+					lookup(bucketName, objectPath);
+					verified.incrementAndGet();
+				} catch (Exception e) {
+					LOGGER.error("error while checking the existence of {}", key, e);
+				} finally {
+					pending.remove(key);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			pending.remove(key);
+			dropped.incrementAndGet();
+		}
+	}
+
+	public void clear() {
+		sizes.clear();
+		missing.clear();
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("sizes", sizes.size());
+		stats.put("knownMissing", missing.size());
+		stats.put("evictions", sizes.getEvictionCount() + missing.getEvictionCount());
+		stats.put("existenceChecksSampled", sampled.get());
+		stats.put("existenceChecksDone", verified.get());
+		stats.put("existenceChecksDropped", dropped.get());
+		stats.put("missingFound", missingFound.get());
+		stats.put("sizeLoads", sizeLoads.get());
+		return stats;
+	}
+
+	private Long lookup(String bucketName, String objectPath) {
+		String key = key(bucketName, objectPath);
+		Blob blob = GCPClientUtil.getStorageInstance().get(BlobId.of(bucketName, objectPath));
+		if (blob == null) {
+			missingFound.incrementAndGet();
+			sizes.remove(key);
+			signedUrlCache.invalidate(bucketName, objectPath);
+			missing.put(key, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(missingTtlSeconds));
+			return null;
+		}
+		missing.remove(key);
+		if (sizeCacheEnabled && blob.getSize() != null) {
+			sizes.put(key, blob.getSize());
+		}
+		return blob.getSize();
+	}
+
+	private static String key(String bucketName, String objectPath) {
+		return bucketName + "/" + objectPath;
+	}
+}
@@ -0,0 +1,62 @@
+package com.hillspet.wearables.common.utils;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Shared JSON codec of the values passed to the stored procedures as JSON
+ * parameters and of the other internal JSON documents.
+ *
+ * One ObjectMapper with the Jackson defaults (the format the procedures
+ * already parse) is shared, and the ObjectWriters and ObjectReaders are
+ * specialized per type once, so the serializers are resolved once instead of
+ * on every call.
+ *
+ * @author vvodyaram
+ */
+@Component
+public class JsonCodec {
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	private final ConcurrentHashMap<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+	private final ConcurrentHashMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+	public JavaType listOf(Class<?> elementType) {
+		return mapper.getTypeFactory().constructCollectionType(List.class, elementType);
+	}
+
+	public JavaType typeOf(Class<?> type) {
+		return mapper.getTypeFactory().constructType(type);
+	}
+
+	public ObjectWriter writerFor(JavaType type) {
+		return writers.computeIfAbsent(type, mapper::writerFor);
+	}
+
+	public ObjectReader readerFor(JavaType type) {
+		return readers.computeIfAbsent(type, mapper::readerFor);
+	}
+
+	/**
+	 * @param values list to serialize, null is written as null
+	 * @param elementType
+	 * @return JSON array
+	 */
+	public String toJson(List<?> values, Class<?> elementType) throws JsonProcessingException {
+		return writerFor(listOf(elementType)).writeValueAsString(values);
+	}
+
+	public String toJson(Object value, JavaType type) throws JsonProcessingException {
+		return writerFor(type).writeValueAsString(value);
+	}
+}
@@ -0,0 +1,103 @@
+package com.hillspet.wearables.common.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Media URLs collected while the rows of a query are read and resolved once the
+ * query is done, so that no GCS call is made while the JDBC connection is
+ * checked out.
+ *
+ * <pre>
+ * MediaUrlBatch mediaUrls = mediaUrlResolver.newBatch();
+ * query(SQL, rs -&gt; {
+ * 	...
+ * 	mediaUrls.addGcpFile(rs.getString("PHOTO_NAME"), Constants.GCP_PET_PHOTO_PATH, dto::setPhotoUrl);
+ * }, id);
+ * mediaUrls.resolve();
+ * </pre>
+ *
+ * Not thread safe, a batch belongs to a single DAO call.
+ *
+ * @author vvodyaram
+ *
+ */
+public class MediaUrlBatch {
+
+	private final MediaUrlResolver resolver;
+
+	private final List<MediaUrlRequest> requests = new ArrayList<>();
+
+	MediaUrlBatch(MediaUrlResolver resolver) {
+		this.resolver = resolver;
+	}
+
+	/**
+	 * Queues a file of the portal bucket, resolved with
+	 * {@link GCPClientUtil#getDownloaFiledUrl(String, String)}.
+	 *
+	 * @param fileName
+	 * @param gcFolderName
+	 * @param target       receives the signed URL
+	 * @return this batch
+	 */
+	public MediaUrlBatch addGcpFile(String fileName, String gcFolderName, Consumer<String> target) {
+		requests.add(new MediaUrlRequest(gcFolderName, fileName, target, null));
+		return this;
+	}
+
+	/**
+	 * Queues a file of the firebase bucket, resolved with
+	 * {@link GCPClientUtil#getDownloadFirebaseFileUrlWithSize(String)}.
+	 *
+	 * @param filePath
+	 * @param target   receives the URL and SIZE map
+	 * @return this batch
+	 */
+	public MediaUrlBatch addFirebaseFile(String filePath, Consumer<Map<String, String>> target) {
+		requests.add(new MediaUrlRequest(null, filePath, null, target));
+		return this;
+	}
+
+	public int size() {
+		return requests.size();
+	}
+
+	/**
+	 * Resolves all the queued URLs and hands them to their targets. Must be
+	 * called after the query returned. URLs not resolved within the deadline of
+	 * the {@link MediaUrlResolver} are set to its placeholder.
+	 */
+	public void resolve() {
+		if (!requests.isEmpty()) {
+			resolver.resolve(requests);
+			requests.clear();
+		}
+	}
+
+	static final class MediaUrlRequest {
+		/** folder under the portal upload folder, null for firebase files */
+		final String gcFolderName;
+		final String path;
+		final Consumer<String> urlTarget;
+		final Consumer<Map<String, String>> fileDataTarget;
+
+		private MediaUrlRequest(String gcFolderName, String path, Consumer<String> urlTarget,
+				Consumer<Map<String, String>> fileDataTarget) {
+			this.gcFolderName = gcFolderName;
+			this.path = path;
+			this.urlTarget = urlTarget;
+			this.fileDataTarget = fileDataTarget;
+		}
+
+		boolean isFirebase() {
+			return gcFolderName == null;
+		}
+
+		String key() {
+			return isFirebase() ? "firebase:" + path : gcFolderName + "/" + path;
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package com.hillspet.wearables.common.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hillspet.wearables.common.utils.MediaUrlBatch.MediaUrlRequest;
+
+/**
+ * Enrichment stage of the DAOs that return media: resolves the signed URLs
+ * queued in a {@link MediaUrlBatch} after the JDBC connection has been
+ * released.
+ *
+ * The references of a batch are deduplicated and resolved in parallel on a
+ * dedicated bounded executor (wearables.mediaUrls.threads). A batch waits at
+ * most wearables.mediaUrls.deadlineMillis; the URLs not resolved by then are
+ * set to wearables.mediaUrls.placeholderUrl so that one slow object does not
+ * stall the whole response. The references the executor cannot take because
+ * its queue (wearables.mediaUrls.queueSize) is full get the placeholder right
+ * away, the request thread does not fetch them itself.
+ *
+ * @author vvodyaram
+ *
+ */
+@Component
+public class MediaUrlResolver {
+
+	private static final Logger LOGGER = LogManager.getLogger(MediaUrlResolver.class);
+
+	private final AtomicLong requested = new AtomicLong();
+	private final AtomicLong resolved = new AtomicLong();
+	private final AtomicLong deduplicated = new AtomicLong();
+	private final AtomicLong timedOut = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+
+	private ThreadPoolExecutor executor;
+
+	@Autowired
+	private GCPClientUtil gcpClientUtil;
+
+	@Value("${wearables.mediaUrls.threads:8}")
+	private int threads;
+
+	@Value("${wearables.mediaUrls.queueSize:500}")
+	private int queueSize;
+
+	@Value("${wearables.mediaUrls.deadlineMillis:2000}")
+	private long deadlineMillis;
+
+	@Value("${wearables.mediaUrls.placeholderUrl:}")
+	private String placeholderUrl;
+
+	@PostConstruct
+	public void start() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueSize), runnable -> {
+					Thread thread = new Thread(runnable, "media-url-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	@PreDestroy
+	public void stop() {
+		executor.shutdownNow();
+	}
+
+	public MediaUrlBatch newBatch() {
+		return new MediaUrlBatch(this);
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("requested", requested.get());
+		stats.put("deduplicated", deduplicated.get());
+		stats.put("resolved", resolved.get());
+		stats.put("timedOut", timedOut.get());
+		stats.put("failed", failed.get());
+		stats.put("rejected", rejected.get());
+		stats.put("activeThreads", executor.getActiveCount());
+		stats.put("queued", executor.getQueue().size());
+		return stats;
+	}
+
+	void resolve(List<MediaUrlRequest> requests) {
+		long startTime = System.currentTimeMillis();
+		requested.addAndGet(requests.size());
+
+		// same object requested by several rows is signed once
+		Map<String, List<MediaUrlRequest>> uniqueRequests = new LinkedHashMap<>();
+		for (MediaUrlRequest request : requests) {
+			uniqueRequests.computeIfAbsent(request.key(), key -> new ArrayList<>(1)).add(request);
+		}
+		deduplicated.addAndGet(requests.size() - uniqueRequests.size());
+
+		if (uniqueRequests.size() == 1 || threads <= 1) {
+			for (List<MediaUrlRequest> sameRequests : uniqueRequests.values()) {
+				apply(sameRequests, fetch(sameRequests.get(0)));
+			}
+		} else {
+			resolveInParallel(uniqueRequests, startTime + deadlineMillis);
+		}
+		LOGGER.debug("{} media urls resolved in {} millis", uniqueRequests.size(),
+				System.currentTimeMillis() - startTime);
+	}
+
+	private void resolveInParallel(Map<String, List<MediaUrlRequest>> uniqueRequests, long deadline) {
+		List<List<MediaUrlRequest>> submitted = new ArrayList<>(uniqueRequests.size());
+		List<Future<Map<String, String>>> futures = new ArrayList<>(uniqueRequests.size());
+		for (List<MediaUrlRequest> sameRequests : uniqueRequests.values()) {
+			try {
+				futures.add(executor.submit(() -> fetch(sameRequests.get(0))));
+				submitted.add(sameRequests);
+			} catch (RejectedExecutionException e) {
+				// executor saturated, the request thread never fetches in its place
+				rejected.incrementAndGet();
+				apply(sameRequests, placeholder());
+			}
+		}
+
+		for (int i = 0; i < futures.size(); i++) {
+			Future<Map<String, String>> future = futures.get(i);
+			Map<String, String> fileData;
+			try {
+				fileData = future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				future.cancel(true);
+				timedOut.incrementAndGet();
+				fileData = placeholder();
+			} catch (ExecutionException e) {
+				LOGGER.error("error while resolving the media url of {}", submitted.get(i).get(0).key(), e.getCause());
+				failed.incrementAndGet();
+				fileData = placeholder();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				future.cancel(true);
+				fileData = placeholder();
+			}
+			apply(submitted.get(i), fileData);
+		}
+	}
+
+	/**
+	 * Resolves a reference, the portal bucket URLs are returned under the URL key
+	 * like the firebase ones.
+	 */
+	private Map<String, String> fetch(MediaUrlRequest request) {
+		Map<String, String> fileData;
+		if (request.isFirebase()) {
+			fileData = gcpClientUtil.getDownloadFirebaseFileUrlWithSize(request.path);
+		} else {
+			fileData = new HashMap<>();
+			fileData.put("URL", gcpClientUtil.getDownloaFiledUrl(request.path, request.gcFolderName));
+		}
+		resolved.incrementAndGet();
+		return fileData;
+	}
+
+	private void apply(List<MediaUrlRequest> sameRequests, Map<String, String> fileData) {
+		for (MediaUrlRequest request : sameRequests) {
+			if (request.isFirebase()) {
+				request.fileDataTarget.accept(fileData);
+			} else {
+				request.urlTarget.accept(fileData.get("URL"));
+			}
+		}
+	}
+
+	private Map<String, String> placeholder() {
+		Map<String, String> fileData = new HashMap<>();
+		fileData.put("URL", placeholderUrl);
+		return fileData;
+	}
+}
@@ -1,21 +1,23 @@
 package com.hillspet.wearables.common.utils;
 
 import java.io.IOException;
+import java.util.List;
 
 import javax.ws.rs.core.MediaType;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.sendgrid.Method;
-import com.sendgrid.Request;
-import com.sendgrid.Response;
-import com.sendgrid.SendGrid;
+import com.hillspet.wearables.email.EmailProviderException;
+import com.hillspet.wearables.email.EmailTransport;
+import com.hillspet.wearables.email.OutboundEmail;
 import com.sendgrid.helpers.mail.Mail;
 import com.sendgrid.helpers.mail.objects.Content;
 import com.sendgrid.helpers.mail.objects.Email;
+import com.sendgrid.helpers.mail.objects.Personalization;
 
 /**
  * @author vvodyaram
@@ -25,31 +27,82 @@ import com.sendgrid.helpers.mail.objects.Email;
 public class SendGridEmailUtil {
 	private static final Logger LOGGER = LogManager.getLogger(SendGridEmailUtil.class);
 
+	/**
+	 * SendGrid limit of personalizations per request.
+	 */
+	public static final int MAX_PERSONALIZATIONS = 1000;
+
 	@Value("${sendgrid.mailFrom}")
 	private String mailFrom;
-	@Value("${sendgrid.apiKey}")
-	private String apiKey;
-
-	public boolean sendMail(String recipient, String subject, String messageBody) {
-		LOGGER.info("mailFrom is {}", mailFrom);
-		LOGGER.info("apiKey is {}", apiKey);
-		Email from = new Email(mailFrom);
-		Email to = new Email(recipient);
+
+	@Autowired
+	private EmailTransport emailTransport;
+
+	/**
+	 * Sends the mail, throws an {@link EmailProviderException} for any non 2xx
+	 * answer and an IOException for network errors.
+	 */
+	public void sendMail(String recipient, String subject, String messageBody) throws IOException {
 		Content content = new Content(MediaType.TEXT_HTML, messageBody);
-		Mail mail = new Mail(from, subject, to, content);
-		SendGrid sg = new SendGrid(apiKey);
-		Request request = new Request();
-		try {
-			request.setMethod(Method.POST);
-			request.setEndpoint("mail/send");
-			request.setBody(mail.build());
-			Response response = sg.api(request);
-			LOGGER.info("statusCode is {}", response.getStatusCode());
-			LOGGER.info("body is {}", response.getBody());
-			LOGGER.info("headers are {}", response.getHeaders());
-			return true;
-		} catch (IOException ex) {
-			return false;
+		emailTransport.send(new Mail(new Email(mailFrom), subject, new Email(recipient), content));
+		LOGGER.debug("mail '{}' accepted by SendGrid for {}", subject, recipient);
+	}
+
+	/**
+	 * Sends mails sharing the same subject and body in one request, one
+	 * personalization per mail carrying its recipient and substitutions.
+	 *
+	 * @param mails at most {@link #MAX_PERSONALIZATIONS}
+	 */
+	public void sendBatch(List<OutboundEmail> mails) throws IOException {
+		OutboundEmail first = mails.get(0);
+		Mail mail = new Mail();
+		mail.setFrom(new Email(mailFrom));
+		mail.setSubject(first.getSubject());
+		mail.addContent(new Content(MediaType.TEXT_HTML, first.getBody()));
+		for (OutboundEmail outboundEmail : mails) {
+			Personalization personalization = new Personalization();
+			personalization.addTo(new Email(outboundEmail.getRecipient()));
+			outboundEmail.getSubstitutions().forEach(personalization::addSubstitution);
+			mail.addPersonalization(personalization);
 		}
+		emailTransport.send(mail);
+		LOGGER.debug("mail '{}' accepted by SendGrid for {} recipients", first.getSubject(), mails.size());
+	}
+
+	/**
+	 * @param e failure of {@link #sendMail(String, String, String)} or
+	 *          {@link #sendBatch(List)}
+	 * @return the HTTP status SendGrid answered, 0 when the request did not get
+	 *         an answer
+	 */
+	public static int statusCode(IOException e) {
+		return e instanceof EmailProviderException ? ((EmailProviderException) e).getStatusCode() : 0;
+	}
+
+	/**
+	 * @return true when SendGrid refused the content of the request (400), a
+	 *         malformed or blocked address refuses the whole request
+	 */
+	public static boolean isBadRequest(IOException e) {
+		return statusCode(e) == 400;
+	}
+
+	/**
+	 * @return true when SendGrid refused the request whatever the mails (401 and
+	 *         403 for a wrong or revoked API key, 413 for a request too large)
+	 */
+	public static boolean isRequestRefused(IOException e) {
+		int statusCode = statusCode(e);
+		return statusCode == 401 || statusCode == 403 || statusCode == 413;
+	}
+
+	/**
+	 * @return true for network errors, throttling, server errors and API key
+	 *         errors, which can be fixed while the mail waits for its retry
+	 */
+	public static boolean isTransientFailure(IOException e) {
+		int statusCode = statusCode(e);
+		return statusCode == 0 || statusCode == 401 || statusCode == 403 || statusCode == 429 || statusCode >= 500;
 	}
 }
@@ -0,0 +1,262 @@
+package com.hillspet.wearables.common.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of the GCS signed URLs keyed by (bucket, object path), the
+ * least recently used URLs are evicted once wearables.signedUrlCache.maxSize
+ * objects are cached.
+ *
+ * A signed URL is handed out again as long as it still has at least
+ * wearables.signedUrlCache.minRemainingSeconds of lifetime left, so a client
+ * never receives a URL that expires while it is being used. The object size
+ * read while signing is cached with the URL.
+ *
+ * Entries accessed at least wearables.signedUrlCache.hotAccessCount times are
+ * re-signed in the background once they enter the last
+ * wearables.signedUrlCache.refreshAheadSeconds of their lifetime, other
+ * entries are just left to expire.
+ *
+ * @author vvodyaram
+ *
+ */
+@Component
+public class SignedUrlCache {
+
+	private static final Logger LOGGER = LogManager.getLogger(SignedUrlCache.class);
+
+	private BoundedLruCache<String, CachedUrl> cache;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+	private final AtomicLong signed = new AtomicLong();
+	private final AtomicLong signFailures = new AtomicLong();
+	private final AtomicLong signNanos = new AtomicLong();
+	private final AtomicLong maxSignNanos = new AtomicLong();
+	private final AtomicLong refreshes = new AtomicLong();
+
+	private ScheduledExecutorService refreshExecutor;
+
+	@Value("${wearables.signedUrlCache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${wearables.signedUrlCache.minRemainingSeconds:300}")
+	private long minRemainingSeconds;
+
+	@Value("${wearables.signedUrlCache.maxSize:20000}")
+	private int maxSize;
+
+	@Value("${wearables.signedUrlCache.refreshAheadSeconds:600}")
+	private long refreshAheadSeconds;
+
+	@Value("${wearables.signedUrlCache.refreshIntervalSeconds:60}")
+	private long refreshIntervalSeconds;
+
+	@Value("${wearables.signedUrlCache.hotAccessCount:3}")
+	private int hotAccessCount;
+
+	/**
+	 * Signs an object, returns null when the object does not exist.
+	 */
+	@FunctionalInterface
+	public interface Signer {
+		SignedUrl sign(String bucketName, String objectPath) throws Exception;
+	}
+
+	@PostConstruct
+	public void start() {
+		cache = new BoundedLruCache<>(maxSize);
+		if (enabled && refreshIntervalSeconds > 0) {
+			refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "signed-url-refresh");
+				thread.setDaemon(true);
+				return thread;
+			});
+			refreshExecutor.scheduleWithFixedDelay(this::refresh, refreshIntervalSeconds, refreshIntervalSeconds,
+					TimeUnit.SECONDS);
+		}
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (refreshExecutor != null) {
+			refreshExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Returns the cached signed URL of the object if it is still safe to use,
+	 * otherwise signs it with the given signer and caches the result.
+	 *
+	 * @param bucketName
+	 * @param objectPath
+	 * @param signer
+	 * @return signed URL or null when the object does not exist
+	 * @throws Exception thrown by the signer
+	 */
+	public SignedUrl get(String bucketName, String objectPath, Signer signer) throws Exception {
+		if (!enabled) {
+			return sign(signer, bucketName, objectPath);
+		}
+		String key = bucketName + "/" + objectPath;
+		CachedUrl cachedUrl = cache.get(key);
+		if (cachedUrl != null && cachedUrl.isUsable(System.currentTimeMillis())) {
+			hits.incrementAndGet();
+			cachedUrl.accessCount.incrementAndGet();
+			return cachedUrl.signedUrl;
+		}
+		misses.incrementAndGet();
+
+		SignedUrl signedUrl = sign(signer, bucketName, objectPath);
+		if (signedUrl == null) {
+			cache.remove(key);
+			return null;
+		}
+		cache.put(key, new CachedUrl(bucketName, objectPath, signer, signedUrl));
+		return signedUrl;
+	}
+
+	/**
+	 * Drops the cached URL of the object, used when the object is found missing.
+	 *
+	 * @param bucketName
+	 * @param objectPath
+	 */
+	public void invalidate(String bucketName, String objectPath) {
+		cache.remove(bucketName + "/" + objectPath);
+	}
+
+	public void clear() {
+		cache.clear();
+	}
+
+	public Map<String, Object> getStats() {
+		long hitCount = hits.get();
+		long missCount = misses.get();
+		long signCount = signed.get();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("size", cache.size());
+		stats.put("hits", hitCount);
+		stats.put("misses", missCount);
+		stats.put("hitRatio", hitCount + missCount == 0 ? 0d : (double) hitCount / (hitCount + missCount));
+		stats.put("evictions", evictions.get() + cache.getEvictionCount());
+		stats.put("signed", signCount);
+		stats.put("signFailures", signFailures.get());
+		stats.put("avgSignMillis", signCount == 0 ? 0d : signNanos.get() / 1_000_000d / signCount);
+		stats.put("maxSignMillis", maxSignNanos.get() / 1_000_000d);
+		stats.put("refreshes", refreshes.get());
+		return stats;
+	}
+
+	private SignedUrl sign(Signer signer, String bucketName, String objectPath) throws Exception {
+		long start = System.nanoTime();
+		try {
+			SignedUrl signedUrl = signer.sign(bucketName, objectPath);
+			signed.incrementAndGet();
+			return signedUrl;
+		} catch (Exception e) {
+			signFailures.incrementAndGet();
+			throw e;
+		} finally {
+			long elapsed = System.nanoTime() - start;
+			signNanos.addAndGet(elapsed);
+			maxSignNanos.accumulateAndGet(elapsed, Math::max);
+		}
+	}
+
+	/**
+	 * Re-signs the hot entries close to their expiry and drops the entries that
+	 * can no longer be handed out.
+	 */
+	private void refresh() {
+		long now = System.currentTimeMillis();
+		long refreshAheadMillis = TimeUnit.SECONDS.toMillis(refreshAheadSeconds);
+		for (Map.Entry<String, CachedUrl> entry : cache.entries()) {
+			CachedUrl cachedUrl = entry.getValue();
+			if (cachedUrl.signedUrl.getExpiresAt() - now > refreshAheadMillis) {
+				continue;
+			}
+			if (cachedUrl.accessCount.get() < hotAccessCount) {
+				if (!cachedUrl.isUsable(now) && cache.remove(entry.getKey(), cachedUrl)) {
+					evictions.incrementAndGet();
+				}
+				continue;
+			}
+			try {
+				SignedUrl signedUrl = sign(cachedUrl.signer, cachedUrl.bucketName, cachedUrl.objectPath);
+				if (signedUrl == null) {
+					cache.remove(entry.getKey(), cachedUrl);
+				} else if (cache.replace(entry.getKey(), cachedUrl,
+						new CachedUrl(cachedUrl.bucketName, cachedUrl.objectPath, cachedUrl.signer, signedUrl))) {
+					refreshes.incrementAndGet();
+				}
+			} catch (Exception e) {
+				LOGGER.error("error while refreshing the signed url of {}", entry.getKey(), e);
+			}
+		}
+	}
+
+	/**
+	 * A signed URL with its absolute expiry time and the size of the object.
+	 */
+	public static final class SignedUrl {
+		private final String url;
+		private final Long size;
+		private final long expiresAt;
+
+		public SignedUrl(String url, Long size, long expiresAt) {
+			this.url = url;
+			this.size = size;
+			this.expiresAt = expiresAt;
+		}
+
+		public String getUrl() {
+			return url;
+		}
+
+		public Long getSize() {
+			return size;
+		}
+
+		/**
+		 * @return expiry time in epoch millis
+		 */
+		public long getExpiresAt() {
+			return expiresAt;
+		}
+	}
+
+	private final class CachedUrl {
+		private final String bucketName;
+		private final String objectPath;
+		private final Signer signer;
+		private final SignedUrl signedUrl;
+		private final AtomicInteger accessCount = new AtomicInteger();
+
+		private CachedUrl(String bucketName, String objectPath, Signer signer, SignedUrl signedUrl) {
+			this.bucketName = bucketName;
+			this.objectPath = objectPath;
+			this.signer = signer;
+			this.signedUrl = signedUrl;
+		}
+
+		private boolean isUsable(long now) {
+			return signedUrl.expiresAt - now > TimeUnit.SECONDS.toMillis(minRemainingSeconds);
+		}
+	}
+}
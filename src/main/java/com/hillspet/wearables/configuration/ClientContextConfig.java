@@ -0,0 +1,28 @@
+package com.hillspet.wearables.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.hillspet.wearables.helpers.ClientContextService;
+import com.hillspet.wearables.helpers.ClientContextServiceImpl;
+
+/**
+ * Registers the {@link ClientContextService} holder at request scope so that
+ * each HTTP request gets its own ClientContext. The holder is exposed through
+ * an interface based proxy, it can be injected into singleton beans.
+ * 
+ * @author vvodyaram
+ */
+@Configuration
+public class ClientContextConfig {
+
+	@Bean
+	@Scope(value = WebApplicationContext.SCOPE_REQUEST, proxyMode = ScopedProxyMode.INTERFACES)
+	public ClientContextService clientContextService() {
+		return new ClientContextServiceImpl();
+	}
+
+}
@@ -0,0 +1,26 @@
+package com.hillspet.wearables.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+
+/**
+ * The Jersey resources are timed as http.server.requests by the Jersey metrics
+ * listener, tagged with their uri template. The Spring MVC metrics filter also
+ * sees those requests but cannot resolve their template and would add a
+ * uri=UNKNOWN series counting every one of them again, that series is dropped.
+ * 
+ * @author vvodyaram
+ */
+@Configuration
+public class MetricsConfig {
+
+	private static final String REQUEST_METRIC = "http.server.requests";
+
+	@Bean
+	public MeterFilter unknownUriRequestFilter() {
+		return MeterFilter.deny(id -> REQUEST_METRIC.equals(id.getName()) && "UNKNOWN".equals(id.getTag("uri")));
+	}
+
+}
@@ -10,8 +10,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import javax.sql.DataSource;
 
@@ -19,8 +22,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
-import org.springframework.dao.DeadlockLoserDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlReturnResultSet;
 import org.springframework.jdbc.core.simple.SimpleJdbcCall;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -38,8 +43,25 @@ public abstract class BaseDaoImpl {
 	@Autowired
 	private DataSourceConfig dataSourceConfig;
 
+	@Autowired
+	private SimpleJdbcCallRegistry simpleJdbcCallRegistry;
+
+	@Autowired
+	private QueryStatsRegistry queryStatsRegistry;
+
+	@Autowired
+	private ReadReplicaRouter readReplicaRouter;
+
+	@Autowired
+	private DaoRetryPolicy daoRetryPolicy;
+
 	private static final Logger LOGGER = LogManager.getLogger(BaseDaoImpl.class);
 
+	/**
+	 * Key prefix used by Spring for the undeclared result sets of a procedure
+	 */
+	public static final String RESULT_SET_PREFIX = "#result-set-";
+
 	/**
 	 * @param dataSource
 	 */
@@ -67,7 +89,8 @@ public abstract class BaseDaoImpl {
 	 * @return get the required from specified table data based on the parameters
 	 */
 	public List<Map<String, Object>> select(String sql, Object... params) {
-		List<Map<String, Object>> list = jdbcTemplate.queryForList(sql, (Object[]) params);
+		List<Map<String, Object>> list = timed(queryStatsRegistry.statementName(sql), params, false,
+				() -> jdbcTemplate.queryForList(sql, (Object[]) params), List::size);
 		return list;
 	}
 
@@ -76,7 +99,8 @@ public abstract class BaseDaoImpl {
 	 * @return get the required data from specified table based on the parameters
 	 */
 	public List<Map<String, Object>> select(String sql) {
-		List<Map<String, Object>> list = jdbcTemplate.queryForList(sql);
+		List<Map<String, Object>> list = timed(queryStatsRegistry.statementName(sql), null, false,
+				() -> jdbcTemplate.queryForList(sql), List::size);
 		return list;
 	}
 
@@ -86,7 +110,7 @@ public abstract class BaseDaoImpl {
 	 * @return delete the data from specified table based on the parameters
 	 */
 	public int delete(String sql, Object... params) {
-		return update(sql, 0, params);
+		return update(sql, params);
 	}
 
 	/**
@@ -95,7 +119,8 @@ public abstract class BaseDaoImpl {
 	 * @return insert the data into specified table based on the parameters
 	 */
 	public int insert(String sql, Object... params) {
-		return jdbcTemplate.update(sql, (Object[]) params);
+		return write(queryStatsRegistry.statementName(sql), params, true,
+				() -> jdbcTemplate.update(sql, (Object[]) params), Integer::longValue);
 	}
 
 	/**
@@ -104,50 +129,66 @@ public abstract class BaseDaoImpl {
 	 * @return update the data from specified table based on the parameters
 	 */
 	public int update(String sql, Object... params) {
-		return update(sql, 0, params);
-	}
-
-	private int update(String sql, int count, Object... params) {
-		int returnVal = 0;
-		try {
-			returnVal = jdbcTemplate.update(sql, (Object[]) params);
-		} catch (Exception e) {
-			// TODO Auto-generated catch block
-			if (count < 5 && (e instanceof DeadlockLoserDataAccessException)) {
-				LOGGER.error("Deadlock Exception throw. Retrying now, Attempt count :" + count);
-				LOGGER.error(e);
-				try {
-					Thread.sleep(500);
-				} catch (InterruptedException e1) {
-					LOGGER.warn("Update thread sleep Exception");
-				}
-				returnVal = update(sql, ++count, params);
-			} else {
-				throw e;
-			}
-		}
-		return returnVal;
+		return write(queryStatsRegistry.statementName(sql), params, true,
+				() -> jdbcTemplate.update(sql, (Object[]) params), Integer::longValue);
 	}
 
 	public int[] batchUpdate(String query, List<Object[]> inputList) throws SQLException {
 		try {
-			return jdbcTemplate.batchUpdate(query, inputList);
+			return write(queryStatsRegistry.statementName(query), inputList, false,
+					() -> jdbcTemplate.batchUpdate(query, inputList), BaseDaoImpl::sum);
 		} catch (Exception exception) {
 			throw new SQLException(exception);
 		}
 	}
 
+	/**
+	 * Declares the parameters of a procedure so that its calls skip the parameter
+	 * metadata lookup, see {@link SimpleJdbcCallRegistry}.
+	 *
+	 * @param procedureName
+	 * @param parameters
+	 */
+	protected void declareProcedureParameters(String procedureName, SqlParameter... parameters) {
+		simpleJdbcCallRegistry.declareParameters(dataSourceConfig.getSchema(), procedureName, parameters);
+	}
+
+	/**
+	 * Declares procedures or queries that only read, they run on the read replica
+	 * when one is configured, see {@link ReadReplicaRouter}. Reads that must see
+	 * the writes just made by the same flow are not to be declared.
+	 *
+	 * @param statements procedure names or sql
+	 */
+	protected void declareReadOnly(String... statements) {
+		for (String statement : statements) {
+			readReplicaRouter.declareReadOnly(queryStatsRegistry.statementName(statement));
+			daoRetryPolicy.declareIdempotent(queryStatsRegistry.statementName(statement));
+		}
+	}
+
+	/**
+	 * Declares procedures or statements that can safely run twice, they are
+	 * retried on any transient failure, see {@link DaoRetryPolicy}.
+	 *
+	 * @param statements procedure names or sql
+	 */
+	protected void declareIdempotent(String... statements) {
+		for (String statement : statements) {
+			daoRetryPolicy.declareIdempotent(queryStatsRegistry.statementName(statement));
+		}
+	}
+
 	/**
 	 * @param procedureName
 	 * @return outputParams Map
 	 * @throws SQLException
 	 */
 	public Map<String, Object> callStoredProcedure(String procedureName) throws SQLException {
-		SimpleJdbcCall simpleJdbcCall = new SimpleJdbcCall(jdbcTemplate);
-		simpleJdbcCall.withCatalogName(dataSourceConfig.getSchema());
-		simpleJdbcCall.withProcedureName(procedureName);
+		SimpleJdbcCall simpleJdbcCall = simpleJdbcCallRegistry.getCall(dataSourceConfig.getSchema(), procedureName);
 		LOGGER.debug("Executing the stored procedureName - " + procedureName);
-		Map<String, Object> outParameters = simpleJdbcCall.execute();
+		Map<String, Object> outParameters = write(procedureName, null, false, () -> simpleJdbcCall.execute(),
+				BaseDaoImpl::countResultSetRows);
 		LOGGER.debug("callStoredProcedure procedureName ended outParameters - " + outParameters);
 		return outParameters;
 	}
@@ -160,16 +201,90 @@ public abstract class BaseDaoImpl {
 	 */
 	public Map<String, Object> callStoredProcedure(String procedureName, Map<String, Object> inputParams)
 			throws SQLException {
-		SimpleJdbcCall simpleJdbcCall = new SimpleJdbcCall(jdbcTemplate);
-		simpleJdbcCall.withCatalogName(dataSourceConfig.getSchema());
-		simpleJdbcCall.withProcedureName(procedureName);
+		SimpleJdbcCall simpleJdbcCall = simpleJdbcCallRegistry.getCall(dataSourceConfig.getSchema(), procedureName);
 		LOGGER.debug("Executing the stored procedureName - " + procedureName);
 		LOGGER.debug("inputParams - " + inputParams);
-		Map<String, Object> outParameters = simpleJdbcCall.execute(inputParams);
+		Map<String, Object> outParameters = write(procedureName, inputParams, false,
+				() -> simpleJdbcCall.execute(inputParams), BaseDaoImpl::countResultSetRows);
 		LOGGER.debug("callStoredProcedure procedureName ended outParameters - " + outParameters);
 		return outParameters;
 	}
 
+	/**
+	 * Calls an IN-only stored procedure and streams every returned result set,
+	 * in order, through the handler registered at the same position. Rows are
+	 * handed to the handlers straight from the JDBC ResultSet, no intermediate
+	 * {@code List<Map<String, Object>>} is built. Result sets without a handler
+	 * are returned the usual way under their #result-set-N key.
+	 *
+	 * The call is not retried, the handlers may have seen the rows of the failed
+	 * attempt.
+	 *
+	 * @param procedureName
+	 * @param inParams          IN parameter values in the procedure order
+	 * @param resultSetHandlers one handler per result set
+	 * @return outputParams Map
+	 */
+	public Map<String, Object> callStoredProcedure(String procedureName, Object[] inParams,
+			RowCallbackHandler... resultSetHandlers) {
+		StringBuilder callString = new StringBuilder("{call ").append(dataSourceConfig.getSchema()).append('.')
+				.append(procedureName).append('(');
+		for (int i = 0; i < inParams.length; i++) {
+			callString.append(i == 0 ? "?" : ",?");
+		}
+		callString.append(")}");
+
+		RowCounter counter = new RowCounter();
+		List<SqlParameter> declaredParameters = new ArrayList<>(resultSetHandlers.length);
+		for (int i = 0; i < resultSetHandlers.length; i++) {
+			declaredParameters.add(
+					new SqlReturnResultSet(RESULT_SET_PREFIX + (i + 1), counter.counting(resultSetHandlers[i])));
+		}
+
+		LOGGER.debug("Streaming the stored procedureName - " + procedureName);
+		Map<String, Object> outParameters = timed(procedureName, inParams, true, () -> jdbcTemplate.call(connection -> {
+			CallableStatement callableStatement = connection.prepareCall(callString.toString());
+			for (int i = 0; i < inParams.length; i++) {
+				callableStatement.setObject(i + 1, inParams[i]);
+			}
+			return callableStatement;
+		}, declaredParameters), out -> counter.rows + countResultSetRows(out));
+		LOGGER.debug("callStoredProcedure procedureName ended outParameters - " + outParameters);
+		return outParameters;
+	}
+
+	/**
+	 * Streams the rows of a query through the handler, the timed counterpart of
+	 * {@link JdbcTemplate#query(String, RowCallbackHandler, Object...)} to be used
+	 * by the DAOs instead of the JdbcTemplate.
+	 *
+	 * @param sql
+	 * @param handler
+	 * @param params
+	 */
+	protected void query(String sql, RowCallbackHandler handler, Object... params) {
+		RowCounter counter = new RowCounter();
+		RowCallbackHandler countingHandler = counter.counting(handler);
+		timed(queryStatsRegistry.statementName(sql), params, false, () -> {
+			jdbcTemplate.query(sql, countingHandler, params);
+			return counter;
+		}, done -> done.rows);
+	}
+
+	/**
+	 * Reads a nullable int column, the typed counterpart of the
+	 * {@code (Integer) row.get(column)} casts done on the result set maps.
+	 *
+	 * @param rs
+	 * @param column
+	 * @return column value or null
+	 * @throws SQLException
+	 */
+	protected static Integer getInteger(ResultSet rs, String column) throws SQLException {
+		int value = rs.getInt(column);
+		return rs.wasNull() ? null : value;
+	}
+
 	/**
 	 * @param sql
 	 * @param params
@@ -179,13 +294,13 @@ public abstract class BaseDaoImpl {
 
 	public long insertNew(final String sql, final Object... params) {
 		final KeyHolder keyHolder = new GeneratedKeyHolder();
-		jdbcTemplate.update(connection -> {
+		write(queryStatsRegistry.statementName(sql), params, true, () -> jdbcTemplate.update(connection -> {
 			PreparedStatement ps = connection.prepareStatement(sql);
 			for (int i = 0; i < params.length; i++) {
 				ps.setObject(i + 1, params[i]);
 			}
 			return ps;
-		}, keyHolder);
+		}, keyHolder), Integer::longValue);
 		LOGGER.debug("inserted data keyHolder- " + keyHolder);
 		long generatedKey = keyHolder.getKey().longValue();
 		LOGGER.debug("inserted data generatedKey- " + generatedKey);
@@ -194,13 +309,13 @@ public abstract class BaseDaoImpl {
 
 	public void insertBatch(final String sql, final Object... params) {
 		final KeyHolder keyHolder = new GeneratedKeyHolder(); //
-		jdbcTemplate.update(connection -> {
+		write(queryStatsRegistry.statementName(sql), params, true, () -> jdbcTemplate.update(connection -> {
 			PreparedStatement ps = connection.prepareStatement(sql);
 			for (int i = 0; i < params.length; i++) {
 				ps.setObject(i + 1, params[i]);
 			}
 			return ps;
-		}, keyHolder);
+		}, keyHolder), Integer::longValue);
 		LOGGER.debug("inserted data keyHolder- " + keyHolder);
 	}
 
@@ -212,7 +327,8 @@ public abstract class BaseDaoImpl {
 	 * @throws DataAccessException
 	 */
 	public <T> List<T> selectForList(String sql, Class<T> elementType, Object[] params) {
-		return jdbcTemplate.queryForList(sql, (Object[]) params, elementType);
+		return timed(queryStatsRegistry.statementName(sql), params, false,
+				() -> jdbcTemplate.queryForList(sql, (Object[]) params, elementType), List::size);
 	}
 
 	/**
@@ -223,7 +339,8 @@ public abstract class BaseDaoImpl {
 	 *         primary key
 	 */
 	public <T> T selectForObject(String sql, Class<T> objType, Object... params) {
-		T object = jdbcTemplate.queryForObject(sql, (Object[]) params, objType);
+		T object = timed(queryStatsRegistry.statementName(sql), params, false,
+				() -> jdbcTemplate.queryForObject(sql, (Object[]) params, objType), result -> 1);
 		return object;
 	}
 
@@ -300,27 +417,83 @@ public abstract class BaseDaoImpl {
 	}
 
 	public void executeBatch(String query, int cnt, List<Object[]> inputList) throws SQLException {
-		try { //
-			int[] batchResult = jdbcTemplate.batchUpdate(query, inputList);
+		int[] batchResult = write(queryStatsRegistry.statementName(query), inputList, false,
+				() -> jdbcTemplate.batchUpdate(query, inputList), BaseDaoImpl::sum);
 
+		if (LOGGER.isDebugEnabled()) {
 			for (int result : batchResult) {
-				System.out.println((++cnt) + " result : " + result);
+				LOGGER.debug("{} result : {}", ++cnt, result);
 			}
-			LOGGER.debug("Total Updated Records count: " + batchResult.length);
-		} catch (Exception exception) {
-			if (cnt < 5 && (exception instanceof DeadlockLoserDataAccessException)) {
-				LOGGER.error("Deadlock Exception throw. Retrying now, Attempt count :" + cnt);
-				LOGGER.error("Error while closing the connection: ", exception);
-				try {
-					Thread.sleep(1000);
-				} catch (InterruptedException e1) {
-					LOGGER.warn("Update thread sleep Exception");
-				}
-				executeBatch(query, ++cnt, inputList);
-			} else {
-				throw exception;
+		}
+		LOGGER.debug("Total Updated Records count: " + batchResult.length);
+	}
+
+	/**
+	 * Runs a write through the {@link DaoRetryPolicy}, every attempt is timed.
+	 *
+	 * @param singleStatement false for the procedures and batches, which are only
+	 *                        retried when declared idempotent
+	 */
+	private <T> T write(String statement, Object parameters, boolean singleStatement, Supplier<T> call,
+			ToLongFunction<T> rows) {
+		return daoRetryPolicy.execute(statement, singleStatement, () -> timed(statement, parameters, true, call, rows));
+	}
+
+	/**
+	 * Runs a statement on the primary or the read replica as chosen by the
+	 * {@link ReadReplicaRouter} and records its time, connection acquire wait and
+	 * rows in the {@link QueryStatsRegistry}.
+	 */
+	private <T> T timed(String statement, Object parameters, boolean mayWrite, Supplier<T> call,
+			ToLongFunction<T> rows) {
+		long acquireStart = ConnectionTimingDataSource.acquireNanos();
+		long start = System.nanoTime();
+		T result = null;
+		RuntimeException failure = null;
+		try {
+			result = readReplicaRouter.route(statement, mayWrite, call);
+			return result;
+		} catch (RuntimeException e) {
+			failure = e;
+			throw e;
+		} finally {
+			queryStatsRegistry.record(statement, System.nanoTime() - start,
+					ConnectionTimingDataSource.acquireNanos() - acquireStart,
+					result == null ? 0 : rows.applyAsLong(result), failure, parameters);
+		}
+	}
+
+	private static long countResultSetRows(Map<String, Object> outParameters) {
+		long rows = 0;
+		for (Object value : outParameters.values()) {
+			if (value instanceof List) {
+				rows += ((List<?>) value).size();
 			}
 		}
+		return rows;
+	}
+
+	private static long sum(int[] counts) {
+		long total = 0;
+		for (int count : counts) {
+			total += Math.max(count, 0);
+		}
+		return total;
+	}
+
+	/**
+	 * Counts the rows handed to the wrapped handlers.
+	 */
+	private static class RowCounter {
+
+		private long rows;
+
+		RowCallbackHandler counting(RowCallbackHandler handler) {
+			return rs -> {
+				rows++;
+				handler.processRow(rs);
+			};
+		}
 	}
 
 }
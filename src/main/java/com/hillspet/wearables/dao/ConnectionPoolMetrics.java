@@ -0,0 +1,221 @@
+package com.hillspet.wearables.dao;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import com.hillspet.wearables.dao.configuration.DataSourceConfig;
+import com.mchange.v2.c3p0.PooledDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Busy, idle and total connections and the threads waiting for a checkout of
+ * the c3p0 or Hikari pool, plus the connection acquire time measured by the
+ * {@link ConnectionTimingDataSource}. Published to Micrometer as
+ * wearables.db.pool.* and returned by the admin resource.
+ *
+ * The gauges are tagged pool=primary, and pool=replica for the read replica
+ * pool of a {@link ReadWriteRoutingDataSource}.
+ *
+ * @author vvodyaram
+ *
+ */
+@Component
+public class ConnectionPoolMetrics implements MeterBinder {
+
+	private static final Logger LOGGER = LogManager.getLogger(ConnectionPoolMetrics.class);
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private DataSourceConfig dataSourceConfig;
+
+	private PoolGauges primary;
+
+	private PoolGauges replica;
+
+	private ReadWriteRoutingDataSource routing;
+
+	private ConnectionTimingDataSource timing;
+
+	@PostConstruct
+	public void init() {
+		DataSource current = dataSource;
+		while (current instanceof DelegatingDataSource) {
+			if (current instanceof ConnectionTimingDataSource) {
+				timing = (ConnectionTimingDataSource) current;
+			}
+			current = ((DelegatingDataSource) current).getTargetDataSource();
+		}
+		if (current instanceof ReadWriteRoutingDataSource) {
+			routing = (ReadWriteRoutingDataSource) current;
+			primary = new PoolGauges(routing.getPrimary());
+			replica = new PoolGauges(routing.getReplica());
+		} else {
+			primary = new PoolGauges(current);
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		primary.bindTo(registry, "primary", dataSourceConfig.getMaxPoolSize());
+		if (replica != null) {
+			replica.bindTo(registry, "replica", dataSourceConfig.getReplica().getMaxPoolSize());
+		}
+		if (timing != null) {
+			FunctionTimer.builder("wearables.db.pool.acquire", timing, ConnectionTimingDataSource::getAcquireCount,
+					ConnectionTimingDataSource::getAcquireTotalNanos, TimeUnit.NANOSECONDS)
+					.description("wait for a pooled connection").register(registry);
+		}
+	}
+
+	/**
+	 * @return primary connections checked out, -1 when unknown
+	 */
+	public int getBusyConnections() {
+		return primary.getBusyConnections();
+	}
+
+	public int getIdleConnections() {
+		return primary.getIdleConnections();
+	}
+
+	public int getTotalConnections() {
+		return primary.getTotalConnections();
+	}
+
+	/**
+	 * @return threads blocked in getConnection of the primary, -1 when unknown
+	 */
+	public int getWaitingThreads() {
+		return primary.getWaitingThreads();
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("maxPoolSize", dataSourceConfig.getMaxPoolSize());
+		stats.putAll(primary.getStats());
+		if (timing != null) {
+			long count = timing.getAcquireCount();
+			stats.put("acquires", count);
+			stats.put("avgAcquireMillis", count == 0 ? 0d : timing.getAcquireTotalNanos() / 1_000_000d / count);
+			stats.put("maxAcquireMillis", timing.getAcquireMaxNanos() / 1_000_000d);
+		}
+		if (replica != null) {
+			Map<String, Object> replicaStats = new LinkedHashMap<>();
+			replicaStats.put("healthy", routing.isReplicaHealthy());
+			replicaStats.put("maxPoolSize", dataSourceConfig.getReplica().getMaxPoolSize());
+			replicaStats.putAll(replica.getStats());
+			stats.put("replica", replicaStats);
+		}
+		return stats;
+	}
+
+	/**
+	 * Gauges of one c3p0 or Hikari pool.
+	 */
+	private static class PoolGauges {
+
+		private PooledDataSource pool;
+
+		private HikariDataSource hikariPool;
+
+		PoolGauges(DataSource dataSource) {
+			if (dataSource instanceof PooledDataSource) {
+				pool = (PooledDataSource) dataSource;
+			} else if (dataSource instanceof HikariDataSource) {
+				hikariPool = (HikariDataSource) dataSource;
+			} else {
+				LOGGER.warn("data source {} is neither a c3p0 nor a Hikari pool, pool gauges are not available",
+						dataSource);
+			}
+		}
+
+		void bindTo(MeterRegistry registry, String name, int maxPoolSize) {
+			Gauge.builder("wearables.db.pool.busy", this, PoolGauges::getBusyConnections).tag("pool", name)
+					.register(registry);
+			Gauge.builder("wearables.db.pool.idle", this, PoolGauges::getIdleConnections).tag("pool", name)
+					.register(registry);
+			Gauge.builder("wearables.db.pool.total", this, PoolGauges::getTotalConnections).tag("pool", name)
+					.register(registry);
+			Gauge.builder("wearables.db.pool.max", () -> maxPoolSize).tag("pool", name).register(registry);
+			Gauge.builder("wearables.db.pool.waiting", this, PoolGauges::getWaitingThreads).tag("pool", name)
+					.register(registry);
+		}
+
+		int getBusyConnections() {
+			if (hikariPool != null) {
+				HikariPoolMXBean poolBean = hikariPool.getHikariPoolMXBean();
+				return poolBean == null ? -1 : poolBean.getActiveConnections();
+			}
+			try {
+				return pool == null ? -1 : pool.getNumBusyConnectionsDefaultUser();
+			} catch (SQLException e) {
+				return -1;
+			}
+		}
+
+		int getIdleConnections() {
+			if (hikariPool != null) {
+				HikariPoolMXBean poolBean = hikariPool.getHikariPoolMXBean();
+				return poolBean == null ? -1 : poolBean.getIdleConnections();
+			}
+			try {
+				return pool == null ? -1 : pool.getNumIdleConnectionsDefaultUser();
+			} catch (SQLException e) {
+				return -1;
+			}
+		}
+
+		int getTotalConnections() {
+			if (hikariPool != null) {
+				HikariPoolMXBean poolBean = hikariPool.getHikariPoolMXBean();
+				return poolBean == null ? -1 : poolBean.getTotalConnections();
+			}
+			try {
+				return pool == null ? -1 : pool.getNumConnectionsDefaultUser();
+			} catch (SQLException e) {
+				return -1;
+			}
+		}
+
+		int getWaitingThreads() {
+			if (hikariPool != null) {
+				HikariPoolMXBean poolBean = hikariPool.getHikariPoolMXBean();
+				return poolBean == null ? -1 : poolBean.getThreadsAwaitingConnection();
+			}
+			try {
+				return pool == null ? -1 : pool.getNumThreadsAwaitingCheckoutDefaultUser();
+			} catch (SQLException e) {
+				return -1;
+			}
+		}
+
+		Map<String, Object> getStats() {
+			Map<String, Object> stats = new LinkedHashMap<>();
+			stats.put("poolType", hikariPool != null ? "hikari" : pool != null ? "c3p0" : "unknown");
+			stats.put("busy", getBusyConnections());
+			stats.put("idle", getIdleConnections());
+			stats.put("total", getTotalConnections());
+			stats.put("waiting", getWaitingThreads());
+			return stats;
+		}
+	}
+}
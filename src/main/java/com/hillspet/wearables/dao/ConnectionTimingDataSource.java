@@ -0,0 +1,88 @@
+package com.hillspet.wearables.dao;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Adds the time spent waiting for the pool in getConnection to a per thread
+ * total, so that the {@link BaseDaoImpl} calls can tell the connection acquire
+ * wait apart from the statement execution. The pool wide acquire count and
+ * time are kept for the {@link ConnectionPoolMetrics}.
+ *
+ * Closing it closes the pool, Spring closes the data source bean on shutdown.
+ *
+ * @author vvodyaram
+ *
+ */
+public class ConnectionTimingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+	private static final ThreadLocal<long[]> ACQUIRE_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+	private final AtomicLong acquireCount = new AtomicLong();
+	private final AtomicLong acquireTotalNanos = new AtomicLong();
+	private final AtomicLong acquireMaxNanos = new AtomicLong();
+
+	public ConnectionTimingDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	/**
+	 * @return total nanos the current thread waited for connections so far, only
+	 *         the difference between two reads is meaningful
+	 */
+	public static long acquireNanos() {
+		return ACQUIRE_NANOS.get()[0];
+	}
+
+	public long getAcquireCount() {
+		return acquireCount.get();
+	}
+
+	public long getAcquireTotalNanos() {
+		return acquireTotalNanos.get();
+	}
+
+	public long getAcquireMaxNanos() {
+		return acquireMaxNanos.get();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		long start = System.nanoTime();
+		try {
+			return super.getConnection();
+		} finally {
+			acquired(System.nanoTime() - start);
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		long start = System.nanoTime();
+		try {
+			return super.getConnection(username, password);
+		} finally {
+			acquired(System.nanoTime() - start);
+		}
+	}
+
+	@Override
+	public void close() throws Exception {
+		DataSource targetDataSource = getTargetDataSource();
+		if (targetDataSource instanceof AutoCloseable) {
+			((AutoCloseable) targetDataSource).close();
+		}
+	}
+
+	private void acquired(long nanos) {
+		ACQUIRE_NANOS.get()[0] += nanos;
+		acquireCount.incrementAndGet();
+		acquireTotalNanos.addAndGet(nanos);
+		acquireMaxNanos.accumulateAndGet(nanos, Math::max);
+	}
+}
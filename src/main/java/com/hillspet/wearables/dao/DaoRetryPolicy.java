@@ -0,0 +1,180 @@
+package com.hillspet.wearables.dao;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Retries the DAO writes that failed on a deadlock, a lock wait timeout or
+ * another transient error.
+ *
+ * The waits grow exponentially from wearables.daoRetry.initialBackoffMillis up
+ * to maxBackoffMillis and are drawn at random below that bound so that the
+ * requests that collided do not retry together. A call gives up after
+ * maxAttempts attempts or when the next wait would end after budgetMillis from
+ * its first attempt.
+ *
+ * A deadlock or lock wait timeout rolls the failed statement back, so a single
+ * statement is always retried. A procedure or a batch may have committed its
+ * first statements, and the outcome of the other transient errors is unknown,
+ * so those are only retried for the statements declared idempotent. Nothing is
+ * retried inside a transaction, the whole transaction was rolled back.
+ *
+ * @author vvodyaram
+ *
+ */
+@Component
+public class DaoRetryPolicy implements MeterBinder {
+
+	private static final Logger LOGGER = LogManager.getLogger(DaoRetryPolicy.class);
+
+	private final Set<String> idempotentStatements = ConcurrentHashMap.newKeySet();
+
+	private final ConcurrentHashMap<String, AtomicLong> retriesByStatement = new ConcurrentHashMap<>();
+
+	private final AtomicLong retries = new AtomicLong();
+	private final AtomicLong recovered = new AtomicLong();
+	private final AtomicLong exhausted = new AtomicLong();
+	private final AtomicLong overBudget = new AtomicLong();
+	private final AtomicLong notRetried = new AtomicLong();
+
+	@Value("${wearables.daoRetry.enabled:true}")
+	private boolean enabled;
+
+	@Value("${wearables.daoRetry.maxAttempts:4}")
+	private int maxAttempts;
+
+	@Value("${wearables.daoRetry.initialBackoffMillis:20}")
+	private long initialBackoffMillis;
+
+	@Value("${wearables.daoRetry.maxBackoffMillis:400}")
+	private long maxBackoffMillis;
+
+	@Value("${wearables.daoRetry.multiplier:2.0}")
+	private double multiplier;
+
+	@Value("${wearables.daoRetry.budgetMillis:1000}")
+	private long budgetMillis;
+
+	/**
+	 * @param statement statement name as recorded by the
+	 *                  {@link QueryStatsRegistry}
+	 */
+	public void declareIdempotent(String statement) {
+		idempotentStatements.add(statement);
+	}
+
+	/**
+	 * Runs the write, retrying it on the transient failures.
+	 *
+	 * @param statement       statement name
+	 * @param singleStatement true when the call runs one statement, false for the
+	 *                        procedures and batches
+	 * @param call            the write
+	 */
+	public <T> T execute(String statement, boolean singleStatement, Supplier<T> call) {
+		long start = System.nanoTime();
+		long budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+		long backoffMillis = Math.max(1, initialBackoffMillis);
+		for (int attempt = 1;; attempt++) {
+			try {
+				T result = call.get();
+				if (attempt > 1) {
+					recovered.incrementAndGet();
+				}
+				return result;
+			} catch (RuntimeException e) {
+				if (!enabled || !isRetryable(statement, singleStatement, e)) {
+					throw e;
+				}
+				if (attempt >= maxAttempts) {
+					exhausted.incrementAndGet();
+					LOGGER.error("{} failed after {} attempts", statement, attempt, e);
+					throw e;
+				}
+				long sleepMillis = ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+				if (System.nanoTime() - start + TimeUnit.MILLISECONDS.toNanos(sleepMillis) > budgetNanos) {
+					overBudget.incrementAndGet();
+					LOGGER.error("{} failed after {} attempts, retry budget of {} ms spent", statement, attempt,
+							budgetMillis, e);
+					throw e;
+				}
+				retries.incrementAndGet();
+				retriesByStatement.computeIfAbsent(statement, key -> new AtomicLong()).incrementAndGet();
+				LOGGER.warn("{} failed with {}, retrying in {} ms, attempt {}", statement, e.getClass().getSimpleName(),
+						sleepMillis, attempt);
+				try {
+					Thread.sleep(sleepMillis);
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					throw e;
+				}
+				backoffMillis = Math.min(Math.max(1, maxBackoffMillis), (long) (backoffMillis * multiplier));
+			}
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("wearables.db.retry", retries, AtomicLong::get).description("retried DAO writes")
+				.register(registry);
+		FunctionCounter.builder("wearables.db.retry.recovered", recovered, AtomicLong::get)
+				.description("DAO writes that succeeded after a retry").register(registry);
+		FunctionCounter.builder("wearables.db.retry.giveup", exhausted, AtomicLong::get).tag("reason", "attempts")
+				.register(registry);
+		FunctionCounter.builder("wearables.db.retry.giveup", overBudget, AtomicLong::get).tag("reason", "budget")
+				.register(registry);
+		FunctionCounter.builder("wearables.db.retry.giveup", notRetried, AtomicLong::get)
+				.tag("reason", "notIdempotent").register(registry);
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("enabled", enabled);
+		stats.put("maxAttempts", maxAttempts);
+		stats.put("budgetMillis", budgetMillis);
+		stats.put("idempotentStatements", idempotentStatements.size());
+		stats.put("retries", retries.get());
+		stats.put("recovered", recovered.get());
+		stats.put("attemptsExhausted", exhausted.get());
+		stats.put("budgetSpent", overBudget.get());
+		stats.put("notIdempotent", notRetried.get());
+		Map<String, Long> byStatement = new LinkedHashMap<>();
+		retriesByStatement.forEach((statement, count) -> byStatement.put(statement, count.get()));
+		stats.put("retriesByStatement", byStatement);
+		return stats;
+	}
+
+	private boolean isRetryable(String statement, boolean singleStatement, RuntimeException e) {
+		if (!(e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException)
+				|| TransactionSynchronizationManager.isActualTransactionActive()) {
+			return false;
+		}
+		boolean rolledBack = e instanceof PessimisticLockingFailureException;
+		if ((rolledBack && singleStatement) || idempotentStatements.contains(statement)) {
+			return true;
+		}
+		notRetried.incrementAndGet();
+		LOGGER.warn("{} failed with {} and is not declared idempotent, not retried", statement,
+				e.getClass().getSimpleName());
+		return false;
+	}
+}
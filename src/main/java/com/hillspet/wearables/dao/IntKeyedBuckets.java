@@ -0,0 +1,112 @@
+package com.hillspet.wearables.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Groups the child rows of a multi result set procedure by their int parent id
+ * (questionnaire id, question id, observation id...) without boxing the keys.
+ *
+ * Open addressing with linear probing, not thread safe. Meant to live for the
+ * duration of a single DAO call.
+ *
+ * @author vvodyaram
+ *
+ * @param <V> child row type
+ */
+public class IntKeyedBuckets<V> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private int[] keys;
+
+	private List<V>[] buckets;
+
+	private int size;
+
+	public IntKeyedBuckets() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IntKeyedBuckets(int expectedKeys) {
+		int capacity = DEFAULT_CAPACITY;
+		while (capacity < expectedKeys * 2) {
+			capacity <<= 1;
+		}
+		allocate(capacity);
+	}
+
+	/**
+	 * Adds the value to the bucket of the key, creating the bucket on first use.
+	 *
+	 * @param key
+	 * @param value
+	 */
+	public void add(int key, V value) {
+		int index = indexOf(key);
+		if (buckets[index] == null) {
+			keys[index] = key;
+			buckets[index] = new ArrayList<>();
+			if (++size * 2 > keys.length) {
+				rehash();
+				index = indexOf(key);
+			}
+		}
+		buckets[index].add(value);
+	}
+
+	/**
+	 * @param key
+	 * @return the bucket of the key or null when nothing was added for it
+	 */
+	public List<V> get(int key) {
+		return buckets[indexOf(key)];
+	}
+
+	/**
+	 * @param key
+	 * @return the bucket of the key or a new empty list when nothing was added for
+	 *         it
+	 */
+	public List<V> getOrEmpty(int key) {
+		List<V> bucket = get(key);
+		return bucket != null ? bucket : new ArrayList<>();
+	}
+
+	public int size() {
+		return size;
+	}
+
+	private int indexOf(int key) {
+		int mask = keys.length - 1;
+		int index = mix(key) & mask;
+		while (buckets[index] != null && keys[index] != key) {
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		buckets = new List[capacity];
+	}
+
+	private void rehash() {
+		int[] oldKeys = keys;
+		List<V>[] oldBuckets = buckets;
+		allocate(oldKeys.length << 1);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldBuckets[i] != null) {
+				int index = indexOf(oldKeys[i]);
+				keys[index] = oldKeys[i];
+				buckets[index] = oldBuckets[i];
+			}
+		}
+	}
+
+	private static int mix(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
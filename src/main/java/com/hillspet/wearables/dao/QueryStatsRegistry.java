@@ -0,0 +1,357 @@
+package com.hillspet.wearables.dao;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Call count, rows, execution time and connection acquire wait of every
+ * statement run through {@link BaseDaoImpl}, keyed by the procedure name.
+ *
+ * Calls slower than wearables.dbStats.slowQueryMillis are kept in a ring of the
+ * last wearables.dbStats.slowQueryCapacity slow calls. The parameters of a
+ * wearables.dbStats.parameterSampleRate share of them are kept as well, cut to
+ * maxParameterLength characters and with the password, key, token and code
+ * parameters masked. The positional parameters have no name telling whether
+ * they are sensitive, only their numbers, booleans and nulls are kept.
+ *
+ * The execution and acquire times are also published to Micrometer as
+ * wearables.db.statement and wearables.db.connection.acquire, tagged by
+ * statement.
+ *
+ * @author vvodyaram
+ *
+ */
+@Component
+public class QueryStatsRegistry {
+
+	private static final Logger LOGGER = LogManager.getLogger(QueryStatsRegistry.class);
+
+	private static final String OTHER = "other";
+
+	private static final Pattern CALL = Pattern.compile("^\\{?\\s*call\\s+([\\w.$]+)", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern SENSITIVE = Pattern.compile("(?i).*(password|pwd|key|token|secret|code).*");
+
+	private static final String MASK = "****";
+
+	private final ConcurrentHashMap<String, String> statementNames = new ConcurrentHashMap<>();
+
+	private final ConcurrentHashMap<String, StatementStats> statements = new ConcurrentHashMap<>();
+
+	private final AtomicLong slowQueryCount = new AtomicLong();
+
+	private AtomicReferenceArray<SlowQuery> slowQueries;
+
+	private long slowQueryNanos;
+
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	@Value("${wearables.dbStats.enabled:true}")
+	private boolean enabled;
+
+	@Value("${wearables.dbStats.maxStatements:500}")
+	private int maxStatements;
+
+	@Value("${wearables.dbStats.slowQueryMillis:500}")
+	private long slowQueryMillis;
+
+	@Value("${wearables.dbStats.slowQueryCapacity:200}")
+	private int slowQueryCapacity;
+
+	@Value("${wearables.dbStats.parameterSampleRate:0.1}")
+	private double parameterSampleRate;
+
+	@Value("${wearables.dbStats.maxParameterLength:64}")
+	private int maxParameterLength;
+
+	@PostConstruct
+	public void init() {
+		slowQueries = new AtomicReferenceArray<>(Math.max(1, slowQueryCapacity));
+		slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMillis);
+	}
+
+	/**
+	 * @param sql
+	 * @return the procedure name of a call statement, the whitespace normalized
+	 *         statement otherwise
+	 */
+	public String statementName(String sql) {
+		String name = statementNames.get(sql);
+		if (name == null) {
+			name = parseStatementName(sql);
+			if (statementNames.size() < maxStatements) {
+				statementNames.put(sql, name);
+			}
+		}
+		return name;
+	}
+
+	/**
+	 * Records one call.
+	 *
+	 * @param statement    procedure name or {@link #statementName(String)}
+	 * @param elapsedNanos whole call, connection acquire included
+	 * @param acquireNanos connection acquire wait
+	 * @param rows         rows returned or updated
+	 * @param failure      exception thrown by the call, null when it succeeded
+	 * @param parameters   Map, Object[] or List of Object[], only read for a
+	 *                     sampled slow call
+	 */
+	public void record(String statement, long elapsedNanos, long acquireNanos, long rows, Throwable failure,
+			Object parameters) {
+		if (!enabled) {
+			return;
+		}
+		StatementStats stats = statements.get(statement);
+		if (stats == null) {
+			stats = statements.computeIfAbsent(statements.size() < maxStatements ? statement : OTHER,
+					StatementStats::new);
+		}
+		stats.record(elapsedNanos, acquireNanos, rows, failure != null);
+
+		if (elapsedNanos >= slowQueryNanos) {
+			String sampledParameters = ThreadLocalRandom.current().nextDouble() < parameterSampleRate
+					? describe(parameters)
+					: null;
+			SlowQuery slowQuery = new SlowQuery(statement, elapsedNanos, acquireNanos, rows,
+					failure == null ? null : failure.getClass().getSimpleName(), sampledParameters);
+			long sequence = slowQueryCount.getAndIncrement();
+			slowQueries.set((int) (sequence % slowQueries.length()), slowQuery);
+			LOGGER.warn("slow statement {} took {} ms, {} ms waiting for a connection", statement,
+					toMillis(elapsedNanos), toMillis(acquireNanos));
+		}
+	}
+
+	/**
+	 * Drops the statement stats and the slow calls.
+	 *
+	 * @return number of statements removed
+	 */
+	public int clear() {
+		int size = statements.size();
+		statements.clear();
+		for (int i = 0; i < slowQueries.length(); i++) {
+			slowQueries.set(i, null);
+		}
+		slowQueryCount.set(0);
+		LOGGER.info("query stats cleared, {} statements removed", size);
+		return size;
+	}
+
+	public Map<String, Object> getStats() {
+		List<StatementStats> sorted = new ArrayList<>(statements.values());
+		sorted.sort(Comparator.comparingLong((StatementStats stats) -> stats.totalNanos.get()).reversed());
+		List<Map<String, Object>> statementStats = new ArrayList<>(sorted.size());
+		for (StatementStats stats : sorted) {
+			statementStats.add(stats.toMap());
+		}
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("enabled", enabled);
+		stats.put("slowQueryMillis", slowQueryMillis);
+		stats.put("slowQueries", slowQueryCount.get());
+		stats.put("statementCount", statementStats.size());
+		stats.put("statements", statementStats);
+		return stats;
+	}
+
+	/**
+	 * @return the slow calls kept in the ring, newest first
+	 */
+	public Map<String, Object> getSlowQueries() {
+		long count = slowQueryCount.get();
+		int capacity = slowQueries.length();
+		List<Map<String, Object>> entries = new ArrayList<>();
+		for (long sequence = count - 1; sequence >= 0 && sequence >= count - capacity; sequence--) {
+			SlowQuery slowQuery = slowQueries.get((int) (sequence % capacity));
+			if (slowQuery != null) {
+				entries.add(slowQuery.toMap());
+			}
+		}
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("slowQueryMillis", slowQueryMillis);
+		stats.put("capacity", capacity);
+		stats.put("parameterSampleRate", parameterSampleRate);
+		stats.put("recorded", count);
+		stats.put("entries", entries);
+		return stats;
+	}
+
+	static String parseStatementName(String sql) {
+		String trimmed = sql.trim();
+		Matcher matcher = CALL.matcher(trimmed);
+		if (matcher.find()) {
+			return matcher.group(1);
+		}
+		String normalized = trimmed.replaceAll("\\s+", " ");
+		return normalized.length() > 120 ? normalized.substring(0, 120) : normalized;
+	}
+
+	private String describe(Object parameters) {
+		if (parameters instanceof Map) {
+			StringBuilder description = new StringBuilder("{");
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) parameters).entrySet()) {
+				if (description.length() > 1) {
+					description.append(", ");
+				}
+				String name = String.valueOf(entry.getKey());
+				description.append(name).append('=')
+						.append(SENSITIVE.matcher(name).matches() ? MASK : truncate(entry.getValue()));
+			}
+			return description.append('}').toString();
+		}
+		if (parameters instanceof Object[]) {
+			return describe((Object[]) parameters);
+		}
+		if (parameters instanceof List) {
+			List<?> batch = (List<?>) parameters;
+			return "batch of " + batch.size()
+					+ (!batch.isEmpty() && batch.get(0) instanceof Object[] ? ", first " + describe((Object[]) batch.get(0))
+							: "");
+		}
+		return null;
+	}
+
+	private String describe(Object[] values) {
+		StringBuilder description = new StringBuilder("[");
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				description.append(", ");
+			}
+			description.append(isPlainValue(values[i]) ? values[i] : MASK);
+		}
+		return description.append(']').toString();
+	}
+
+	private static boolean isPlainValue(Object value) {
+		return value == null || value instanceof Number || value instanceof Boolean;
+	}
+
+	private String truncate(Object value) {
+		String text = String.valueOf(value);
+		return text.length() > maxParameterLength ? text.substring(0, maxParameterLength) + "..." : text;
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000d;
+	}
+
+	private class StatementStats {
+
+		private final String statement;
+		private final AtomicLong calls = new AtomicLong();
+		private final AtomicLong errors = new AtomicLong();
+		private final AtomicLong rows = new AtomicLong();
+		private final AtomicLong totalNanos = new AtomicLong();
+		private final AtomicLong acquireNanos = new AtomicLong();
+		private final AtomicLong maxNanos = new AtomicLong();
+		private final Timer executionTimer;
+		private final Timer acquireTimer;
+
+		StatementStats(String statement) {
+			this.statement = statement;
+			if (meterRegistry != null) {
+				executionTimer = Timer.builder("wearables.db.statement").tag("statement", statement)
+						.description("statement execution, connection acquire excluded").register(meterRegistry);
+				acquireTimer = Timer.builder("wearables.db.connection.acquire").tag("statement", statement)
+						.description("wait for a pooled connection").register(meterRegistry);
+			} else {
+				executionTimer = null;
+				acquireTimer = null;
+			}
+		}
+
+		void record(long elapsed, long acquire, long rowCount, boolean failed) {
+			calls.incrementAndGet();
+			if (failed) {
+				errors.incrementAndGet();
+			}
+			rows.addAndGet(rowCount);
+			totalNanos.addAndGet(elapsed);
+			acquireNanos.addAndGet(acquire);
+			maxNanos.accumulateAndGet(elapsed, Math::max);
+			if (executionTimer != null) {
+				executionTimer.record(elapsed - acquire, TimeUnit.NANOSECONDS);
+				acquireTimer.record(acquire, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		Map<String, Object> toMap() {
+			long callCount = calls.get();
+			long total = totalNanos.get();
+			long acquire = acquireNanos.get();
+			Map<String, Object> stats = new LinkedHashMap<>();
+			stats.put("statement", statement);
+			stats.put("calls", callCount);
+			stats.put("errors", errors.get());
+			stats.put("rows", rows.get());
+			stats.put("totalMillis", toMillis(total));
+			stats.put("avgMillis", callCount == 0 ? 0d : toMillis(total) / callCount);
+			stats.put("avgExecutionMillis", callCount == 0 ? 0d : toMillis(total - acquire) / callCount);
+			stats.put("avgAcquireMillis", callCount == 0 ? 0d : toMillis(acquire) / callCount);
+			stats.put("maxMillis", toMillis(maxNanos.get()));
+			return stats;
+		}
+	}
+
+	private static class SlowQuery {
+
+		private final long timestamp = System.currentTimeMillis();
+		private final String thread = Thread.currentThread().getName();
+		private final String statement;
+		private final long elapsedNanos;
+		private final long acquireNanos;
+		private final long rows;
+		private final String error;
+		private final String parameters;
+
+		SlowQuery(String statement, long elapsedNanos, long acquireNanos, long rows, String error,
+				String parameters) {
+			this.statement = statement;
+			this.elapsedNanos = elapsedNanos;
+			this.acquireNanos = acquireNanos;
+			this.rows = rows;
+			this.error = error;
+			this.parameters = parameters;
+		}
+
+		Map<String, Object> toMap() {
+			Map<String, Object> entry = new LinkedHashMap<>();
+			entry.put("time", Instant.ofEpochMilli(timestamp).toString());
+			entry.put("statement", statement);
+			entry.put("elapsedMillis", toMillis(elapsedNanos));
+			entry.put("acquireMillis", toMillis(acquireNanos));
+			entry.put("rows", rows);
+			entry.put("thread", thread);
+			if (error != null) {
+				entry.put("error", error);
+			}
+			if (parameters != null) {
+				entry.put("parameters", parameters);
+			}
+			return entry;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package com.hillspet.wearables.dao;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hillspet.wearables.dao.configuration.DataSourceConfig;
+import com.hillspet.wearables.helpers.PetParentContext;
+
+/**
+ * Sends the statements the DAOs declared read only to the read replica when
+ * datasource.replica.enabled is set.
+ *
+ * Everything else runs on the primary. After a statement that may write, the
+ * reads of the same pet parent stay on the primary for
+ * datasource.replica.stickyPrimaryMillis, whichever request and thread they
+ * come from, so that the app reads its own writes despite the replication lag.
+ * The reads inside a transaction stay on the primary as well. The pet parent
+ * is the one of the ClientToken, see {@link PetParentContext}, the writes of
+ * the requests without one do not pin anything.
+ *
+ * @author vvodyaram
+ *
+ */
+@Component
+public class ReadReplicaRouter {
+
+	private static final Logger LOGGER = LogManager.getLogger(ReadReplicaRouter.class);
+
+	private final Set<String> readOnlyStatements = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * nanoTime until which the reads of a pet parent stay on the primary
+	 */
+	private final ConcurrentHashMap<String, Long> primaryUntil = new ConcurrentHashMap<>();
+
+	private final AtomicLong replicaReads = new AtomicLong();
+	private final AtomicLong stickyReads = new AtomicLong();
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private DataSourceConfig dataSourceConfig;
+
+	private ReadWriteRoutingDataSource routing;
+
+	private long stickyPrimaryNanos;
+
+	private ScheduledExecutorService healthCheckExecutor;
+
+	@PostConstruct
+	public void start() {
+		DataSource current = dataSource;
+		while (current instanceof DelegatingDataSource) {
+			current = ((DelegatingDataSource) current).getTargetDataSource();
+		}
+		if (!(current instanceof ReadWriteRoutingDataSource)) {
+			return;
+		}
+		routing = (ReadWriteRoutingDataSource) current;
+		DataSourceConfig.Replica replica = dataSourceConfig.getReplica();
+		stickyPrimaryNanos = TimeUnit.MILLISECONDS.toNanos(replica.getStickyPrimaryMillis());
+		int healthCheckSeconds = Math.max(1, replica.getHealthCheckSeconds());
+		healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "read-replica-health-check");
+			thread.setDaemon(true);
+			return thread;
+		});
+		healthCheckExecutor.scheduleWithFixedDelay(() -> {
+			try {
+				routing.checkReplica(healthCheckSeconds);
+			} catch (Exception e) {
+				LOGGER.error("error while checking the read replica", e);
+			}
+			long now = System.nanoTime();
+			primaryUntil.values().removeIf(until -> now - until >= 0);
+		}, 0, healthCheckSeconds, TimeUnit.SECONDS);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (healthCheckExecutor != null) {
+			healthCheckExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * @param statement statement name as recorded by the
+	 *                  {@link QueryStatsRegistry}
+	 */
+	public void declareReadOnly(String statement) {
+		readOnlyStatements.add(statement);
+	}
+
+	/**
+	 * Runs the statement on the replica or on the primary.
+	 *
+	 * @param statement statement name
+	 * @param mayWrite  false for plain selects, the calls that may write keep the
+	 *                  following reads of the pet parent on the primary
+	 * @param call      the statement
+	 */
+	public <T> T route(String statement, boolean mayWrite, Supplier<T> call) {
+		if (routing == null) {
+			return call.get();
+		}
+		String petParentKeyId = PetParentContext.get();
+		if (readOnlyStatements.contains(statement)) {
+			if (TransactionSynchronizationManager.isActualTransactionActive() || isPinned(petParentKeyId)) {
+				stickyReads.incrementAndGet();
+				return call.get();
+			}
+			replicaReads.incrementAndGet();
+			return routing.onReplica(call);
+		}
+		if (!mayWrite || petParentKeyId == null) {
+			return call.get();
+		}
+		try {
+			return call.get();
+		} finally {
+			primaryUntil.put(petParentKeyId, System.nanoTime() + stickyPrimaryNanos);
+		}
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("enabled", routing != null);
+		if (routing != null) {
+			stats.put("replicaHealthy", routing.isReplicaHealthy());
+			stats.put("stickyPrimaryMillis", TimeUnit.NANOSECONDS.toMillis(stickyPrimaryNanos));
+			stats.put("replicaReads", replicaReads.get());
+			stats.put("stickyPrimaryReads", stickyReads.get());
+			stats.put("pinnedPetParents", primaryUntil.size());
+			stats.put("replicaConnections", routing.getReplicaConnections());
+			stats.put("fallbacks", routing.getFallbacks());
+		}
+		stats.put("readOnlyStatements", readOnlyStatements.size());
+		return stats;
+	}
+
+	private boolean isPinned(String petParentKeyId) {
+		if (petParentKeyId == null) {
+			return false;
+		}
+		Long until = primaryUntil.get(petParentKeyId);
+		return until != null && System.nanoTime() - until < 0;
+	}
+}
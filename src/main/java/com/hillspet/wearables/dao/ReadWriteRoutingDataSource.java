@@ -0,0 +1,156 @@
+package com.hillspet.wearables.dao;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Hands out replica connections to the calls run through
+ * {@link #onReplica(Supplier)} and primary connections to everything else.
+ *
+ * A replica that fails to give a connection is marked down and the reads go to
+ * the primary until {@link #checkReplica(int)} finds it valid again.
+ *
+ * Closing it closes both pools.
+ *
+ * @author vvodyaram
+ *
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+	private static final Logger LOGGER = LogManager.getLogger(ReadWriteRoutingDataSource.class);
+
+	private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+
+	private final DataSource primary;
+	private final DataSource replica;
+
+	private volatile boolean replicaHealthy = true;
+
+	private final AtomicLong replicaConnections = new AtomicLong();
+	private final AtomicLong fallbacks = new AtomicLong();
+
+	public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+		this.primary = primary;
+		this.replica = replica;
+	}
+
+	/**
+	 * Runs the call with the connections of the current thread taken from the
+	 * replica.
+	 */
+	public <T> T onReplica(Supplier<T> call) {
+		Boolean previous = READ_ONLY.get();
+		READ_ONLY.set(Boolean.TRUE);
+		try {
+			return call.get();
+		} finally {
+			if (previous == null) {
+				READ_ONLY.remove();
+			} else {
+				READ_ONLY.set(previous);
+			}
+		}
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (useReplica()) {
+			try {
+				Connection connection = replica.getConnection();
+				replicaConnections.incrementAndGet();
+				return connection;
+			} catch (SQLException e) {
+				replicaFailed(e);
+			}
+		}
+		return primary.getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		if (useReplica()) {
+			try {
+				Connection connection = replica.getConnection(username, password);
+				replicaConnections.incrementAndGet();
+				return connection;
+			} catch (SQLException e) {
+				replicaFailed(e);
+			}
+		}
+		return primary.getConnection(username, password);
+	}
+
+	/**
+	 * Validates a replica connection and updates the replica state.
+	 *
+	 * @param timeoutSeconds validation timeout
+	 * @return true when the replica is usable
+	 */
+	public boolean checkReplica(int timeoutSeconds) {
+		boolean healthy;
+		try (Connection connection = replica.getConnection()) {
+			healthy = connection.isValid(timeoutSeconds);
+		} catch (SQLException e) {
+			LOGGER.debug("replica health check failed", e);
+			healthy = false;
+		}
+		if (healthy != replicaHealthy) {
+			LOGGER.warn("read replica is {}", healthy ? "back, reads go to the replica again" : "down, reads go to the primary");
+		}
+		replicaHealthy = healthy;
+		return healthy;
+	}
+
+	public DataSource getPrimary() {
+		return primary;
+	}
+
+	public DataSource getReplica() {
+		return replica;
+	}
+
+	public boolean isReplicaHealthy() {
+		return replicaHealthy;
+	}
+
+	public long getReplicaConnections() {
+		return replicaConnections.get();
+	}
+
+	public long getFallbacks() {
+		return fallbacks.get();
+	}
+
+	@Override
+	public void close() throws Exception {
+		try {
+			if (replica instanceof AutoCloseable) {
+				((AutoCloseable) replica).close();
+			}
+		} finally {
+			if (primary instanceof AutoCloseable) {
+				((AutoCloseable) primary).close();
+			}
+		}
+	}
+
+	private boolean useReplica() {
+		return replicaHealthy && Boolean.TRUE.equals(READ_ONLY.get());
+	}
+
+	private void replicaFailed(SQLException e) {
+		fallbacks.incrementAndGet();
+		if (replicaHealthy) {
+			replicaHealthy = false;
+			LOGGER.warn("read replica is down, reads go to the primary: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package com.hillspet.wearables.dao;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.simple.SimpleJdbcCall;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds one compiled {@link SimpleJdbcCall} per (catalog, procedure name).
+ *
+ * A SimpleJdbcCall reads the procedure parameter metadata from the database the
+ * first time it is executed and is thread safe once compiled, so the instances
+ * are shared by all the DAOs instead of being built on every call.
+ *
+ * Procedures registered through {@link #declareParameters(String, String, SqlParameter...)}
+ * are built with the declared parameters only and never look up the metadata.
+ *
+ * The registry must be cleared after a schema migration changes a procedure
+ * signature.
+ *
+ * @author vvodyaram
+ *
+ */
+@Component
+public class SimpleJdbcCallRegistry {
+
+	private static final Logger LOGGER = LogManager.getLogger(SimpleJdbcCallRegistry.class);
+
+	private final ConcurrentHashMap<String, SimpleJdbcCall> calls = new ConcurrentHashMap<>();
+
+	private final ConcurrentHashMap<String, SqlParameter[]> declaredParameters = new ConcurrentHashMap<>();
+
+	private final AtomicLong created = new AtomicLong();
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Returns the shared call for the procedure, building it on first use.
+	 *
+	 * @param catalogName
+	 * @param procedureName
+	 * @return
+	 */
+	public SimpleJdbcCall getCall(String catalogName, String procedureName) {
+		return calls.computeIfAbsent(key(catalogName, procedureName), key -> create(catalogName, procedureName, key));
+	}
+
+	/**
+	 * Declares the parameters of a procedure explicitly so that the metadata
+	 * lookup is skipped for it. The parameters must be declared in the procedure
+	 * order and with the procedure parameter names.
+	 *
+	 * @param catalogName
+	 * @param procedureName
+	 * @param parameters
+	 */
+	public void declareParameters(String catalogName, String procedureName, SqlParameter... parameters) {
+		String key = key(catalogName, procedureName);
+		declaredParameters.put(key, parameters);
+		calls.remove(key);
+	}
+
+	/**
+	 * Drops all the calls, they are rebuilt with fresh metadata on next
+	 * use. Declared parameters are kept.
+	 *
+	 * @return number of calls removed
+	 */
+	public int clear() {
+		int size = calls.size();
+		calls.clear();
+		LOGGER.info("SimpleJdbcCall registry cleared, {} calls removed", size);
+		return size;
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("calls", calls.size());
+		stats.put("declaredProcedures", declaredParameters.size());
+		stats.put("created", created.get());
+		return stats;
+	}
+
+	private SimpleJdbcCall create(String catalogName, String procedureName, String key) {
+		SimpleJdbcCall simpleJdbcCall = new SimpleJdbcCall(jdbcTemplate).withCatalogName(catalogName)
+				.withProcedureName(procedureName);
+		SqlParameter[] parameters = declaredParameters.get(key);
+		if (parameters != null) {
+			simpleJdbcCall.withoutProcedureColumnMetaDataAccess().declareParameters(parameters);
+		}
+		// compiled lazily (and synchronized) by the first execute, keeps the metadata
+		// round trip out of the map lock
+		created.incrementAndGet();
+		LOGGER.debug("created SimpleJdbcCall {} with declared parameters {}", key,
+				parameters == null ? null : Arrays.toString(parameters));
+		return simpleJdbcCall;
+	}
+
+	private static String key(String catalogName, String procedureName) {
+		return catalogName == null ? procedureName : catalogName + "." + procedureName;
+	}
+}
@@ -0,0 +1,219 @@
+package com.hillspet.wearables.dao.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hillspet.wearables.common.utils.BoundedLruCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * In-process cache for the ClientToken to PET_PARENT_KEY_ID resolution done by
+ * MOBILE_APP_PET_PARENT_AUTH_BY_KEY. Known tokens are kept for
+ * wearables.tokenCache.ttlSeconds, unknown tokens (resolved to 0) are kept for
+ * the much shorter wearables.tokenCache.negativeTtlSeconds so that a token
+ * created after a failed lookup becomes usable quickly.
+ *
+ * Known tokens are bounded by wearables.tokenCache.maxSize and unknown tokens
+ * apart by wearables.tokenCache.negativeMaxSize, the least recently used entry
+ * is evicted when full. A flood of unknown tokens therefore only evicts other
+ * unknown tokens, never the tokens of the pet parents using the app.
+ *
+ * Entries must be invalidated explicitly when the token is revoked (logout).
+ *
+ * The lookups are published to Micrometer as wearables.tokenCache.requests
+ * tagged by result, and returned by the admin resource.
+ *
+ */
+@Component
+public class PetParentKeyCache implements MeterBinder {
+
+	private static final Logger LOGGER = LogManager.getLogger(PetParentKeyCache.class);
+
+	private BoundedLruCache<String, CachedKey> keys;
+
+	private BoundedLruCache<String, CachedKey> unknownTokens;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong negativeHits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	@Value("${wearables.tokenCache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${wearables.tokenCache.ttlSeconds:300}")
+	private long ttlSeconds;
+
+	@Value("${wearables.tokenCache.negativeTtlSeconds:10}")
+	private long negativeTtlSeconds;
+
+	@Value("${wearables.tokenCache.maxSize:10000}")
+	private int maxSize;
+
+	@Value("${wearables.tokenCache.negativeMaxSize:1000}")
+	private int negativeMaxSize;
+
+	@PostConstruct
+	public void start() {
+		keys = new BoundedLruCache<>(maxSize);
+		unknownTokens = new BoundedLruCache<>(negativeMaxSize);
+	}
+
+	/**
+	 * Returns the cached PET_PARENT_KEY_ID for the token, 0 if the token is
+	 * negatively cached or null if the token has to be resolved from the database.
+	 *
+	 * @param token
+	 * @return
+	 */
+	public Integer get(String token) {
+		if (!enabled || token == null) {
+			return null;
+		}
+		BoundedLruCache<String, CachedKey> cache = keys;
+		CachedKey cachedKey = cache.get(token);
+		if (cachedKey == null) {
+			cache = unknownTokens;
+			cachedKey = cache.get(token);
+		}
+		if (cachedKey == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+		if (cachedKey.isExpired(System.nanoTime())) {
+			if (cache.remove(token, cachedKey)) {
+				evictions.incrementAndGet();
+			}
+			misses.incrementAndGet();
+			return null;
+		}
+		if (cachedKey.petParentKeyId == 0) {
+			negativeHits.incrementAndGet();
+		} else {
+			hits.incrementAndGet();
+		}
+		return cachedKey.petParentKeyId;
+	}
+
+	/**
+	 * Caches the resolved PET_PARENT_KEY_ID, a value of 0 is cached as a negative
+	 * entry.
+	 *
+	 * @param token
+	 * @param petParentKeyId
+	 */
+	public void put(String token, int petParentKeyId) {
+		if (!enabled || token == null) {
+			return;
+		}
+		long ttl = petParentKeyId == 0 ? negativeTtlSeconds : ttlSeconds;
+		if (ttl <= 0) {
+			return;
+		}
+		CachedKey cachedKey = new CachedKey(petParentKeyId, System.nanoTime() + TimeUnit.SECONDS.toNanos(ttl));
+		if (petParentKeyId == 0) {
+			keys.remove(token);
+			unknownTokens.put(token, cachedKey);
+		} else {
+			unknownTokens.remove(token);
+			keys.put(token, cachedKey);
+		}
+	}
+
+	/**
+	 * Removes the token from the cache, must be called whenever a token is revoked.
+	 *
+	 * @param token
+	 */
+	public void invalidate(String token) {
+		if (token == null) {
+			return;
+		}
+		// put keeps a token in one of the two caches only
+		if (keys.remove(token) != null || unknownTokens.remove(token) != null) {
+			LOGGER.debug("token removed from pet parent key cache");
+		}
+	}
+
+	public void clear() {
+		keys.clear();
+		unknownTokens.clear();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("wearables.tokenCache.size", this, PetParentKeyCache::size).register(registry);
+		FunctionCounter.builder("wearables.tokenCache.requests", hits, AtomicLong::get).tag("result", "hit")
+				.register(registry);
+		FunctionCounter.builder("wearables.tokenCache.requests", negativeHits, AtomicLong::get)
+				.tag("result", "negativeHit").register(registry);
+		FunctionCounter.builder("wearables.tokenCache.requests", misses, AtomicLong::get).tag("result", "miss")
+				.register(registry);
+		FunctionCounter.builder("wearables.tokenCache.evictions", this, PetParentKeyCache::getEvictionCount)
+				.register(registry);
+	}
+
+	public Map<String, Object> getStats() {
+		long hitCount = hits.get() + negativeHits.get();
+		long requests = hitCount + misses.get();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("enabled", enabled);
+		stats.put("size", size());
+		stats.put("negativeSize", unknownTokens.size());
+		stats.put("maxSize", maxSize);
+		stats.put("negativeMaxSize", negativeMaxSize);
+		stats.put("hits", hits.get());
+		stats.put("negativeHits", negativeHits.get());
+		stats.put("misses", misses.get());
+		stats.put("hitRatio", requests == 0 ? 0d : (double) hitCount / requests);
+		stats.put("evictions", getEvictionCount());
+		return stats;
+	}
+
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	public long getNegativeHitCount() {
+		return negativeHits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	public long getEvictionCount() {
+		return evictions.get() + keys.getEvictionCount() + unknownTokens.getEvictionCount();
+	}
+
+	private int size() {
+		return keys.size() + unknownTokens.size();
+	}
+
+	private static final class CachedKey {
+		private final int petParentKeyId;
+		private final long expiresAt;
+
+		private CachedKey(int petParentKeyId, long expiresAt) {
+			this.petParentKeyId = petParentKeyId;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now - expiresAt >= 0;
+		}
+	}
+}
@@ -0,0 +1,340 @@
+package com.hillspet.wearables.dao.cache;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
+import com.hillspet.wearables.dao.pet.PetDao;
+import com.hillspet.wearables.dao.questionnaire.MobileAppDao;
+import com.hillspet.wearables.dao.supportmaterial.SupportMaterialDao;
+import com.hillspet.wearables.dto.EatingEnthusiasmScale;
+import com.hillspet.wearables.dto.MaterialCategory;
+import com.hillspet.wearables.dto.MaterialType;
+import com.hillspet.wearables.dto.PetBehavior;
+import com.hillspet.wearables.dto.PetBreed;
+import com.hillspet.wearables.dto.PetFeedingPreference;
+import com.hillspet.wearables.dto.PetFeedingTime;
+import com.hillspet.wearables.dto.PetSpecies;
+
+/**
+ * Immutable snapshot of the reference data used by the mobile app (species,
+ * breeds, behaviors, feeding lookups, device types and models, support material
+ * types and categories).
+ *
+ * The snapshot is loaded on startup and reloaded every
+ * wearables.referenceData.refreshMinutes or on demand from the admin resource.
+ * A reload builds a complete new snapshot and swaps it in, readers only do a
+ * volatile read and never touch the database. The lists handed out are
+ * unmodifiable and shared, callers must not change the DTOs.
+ *
+ * Lookups by parameter are loaded for every known species and device type. Other
+ * parameter values are loaded on first use and added to the snapshot (copy on
+ * write), up to wearables.referenceData.maxParameterizedEntries.
+ *
+ * Every snapshot carries a version computed from its content, so it only
+ * changes when the data does.
+ *
+ * @author vvodyaram
+ *
+ */
+@Component
+public class ReferenceDataCache {
+
+	private static final Logger LOGGER = LogManager.getLogger(ReferenceDataCache.class);
+
+	private static final ObjectMapper VERSION_MAPPER = new ObjectMapper();
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+	/** how to reload each parameterized entry of the snapshot */
+	private final ConcurrentHashMap<String, Loader<?>> parameterizedLoaders = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService refreshExecutor;
+
+	@Autowired
+	private PetDao petDao;
+
+	@Autowired
+	private MobileAppDao mobileAppDao;
+
+	@Autowired
+	private SupportMaterialDao supportMaterialDao;
+
+	@Value("${wearables.referenceData.enabled:true}")
+	private boolean enabled;
+
+	@Value("${wearables.referenceData.refreshMinutes:60}")
+	private long refreshMinutes;
+
+	@Value("${wearables.referenceData.maxParameterizedEntries:500}")
+	private int maxParameterizedEntries;
+
+	@FunctionalInterface
+	private interface Loader<T> {
+		List<T> load() throws ServiceExecutionException;
+	}
+
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "reference-data-refresh");
+			thread.setDaemon(true);
+			return thread;
+		});
+		refreshExecutor.scheduleWithFixedDelay(() -> {
+			try {
+				refresh();
+			} catch (Exception e) {
+				LOGGER.error("error while refreshing the reference data, keeping the previous snapshot", e);
+			}
+		}, 0, refreshMinutes, TimeUnit.MINUTES);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (refreshExecutor != null) {
+			refreshExecutor.shutdownNow();
+		}
+	}
+
+	public List<PetSpecies> getPetSpecies() throws ServiceExecutionException {
+		return enabled ? getSnapshot().species : petDao.getPetSpecies();
+	}
+
+	public List<PetBreed> getPetBreeds(int speciesId) throws ServiceExecutionException {
+		return getParameterized(breedsKey(speciesId), () -> petDao.getPetBreeds(speciesId));
+	}
+
+	public List<PetBehavior> getPetBehaviors(int speciesId, int behaviorTypeId) throws ServiceExecutionException {
+		return getParameterized("behaviors:" + speciesId + ":" + behaviorTypeId,
+				() -> petDao.getPetBehaviors(speciesId, behaviorTypeId));
+	}
+
+	public List<EatingEnthusiasmScale> getPetEatingEnthusiasmScale() throws ServiceExecutionException {
+		return enabled ? getSnapshot().eatingEnthusiasmScales : petDao.getPetEatingEnthusiasmScale();
+	}
+
+	public List<PetFeedingTime> getPetFeedingTime() throws ServiceExecutionException {
+		return enabled ? getSnapshot().feedingTimes : petDao.getPetFeedingTime();
+	}
+
+	public List<PetFeedingPreference> getPetFeedingPreferences() throws ServiceExecutionException {
+		return enabled ? getSnapshot().feedingPreferences : petDao.getPetFeedingPreferences();
+	}
+
+	public List<String> getDeviceTypes() throws ServiceExecutionException {
+		return enabled ? getSnapshot().deviceTypes : mobileAppDao.getDeviceTypes();
+	}
+
+	public List<String> getDeviceModels(String deviceType) throws ServiceExecutionException {
+		return getParameterized(deviceModelsKey(deviceType), () -> mobileAppDao.getDeviceModels(deviceType));
+	}
+
+	public List<MaterialType> getMaterialTypeList() throws ServiceExecutionException {
+		return enabled ? getSnapshot().materialTypes : supportMaterialDao.getMaterialTypeList();
+	}
+
+	public List<MaterialCategory> getMaterialCategoryList(int categoryId) throws ServiceExecutionException {
+		return getParameterized("materialCategories:" + categoryId,
+				() -> supportMaterialDao.getMaterialCategoryList(categoryId));
+	}
+
+	/**
+	 * @return version of the current snapshot, null when nothing is loaded yet
+	 */
+	public String getVersion() {
+		Snapshot current = snapshot.get();
+		return current == null ? null : current.version;
+	}
+
+	/**
+	 * Reloads all the reference data and swaps the new snapshot in. The previous
+	 * snapshot is kept if anything fails.
+	 *
+	 * @return version of the new snapshot
+	 */
+	public synchronized String refresh() throws ServiceExecutionException {
+		long startTime = System.currentTimeMillis();
+		Snapshot previous = snapshot.get();
+
+		List<PetSpecies> species = unmodifiable(petDao.getPetSpecies());
+		for (PetSpecies petSpecies : species) {
+			Integer speciesId = petSpecies.getSpeciesId();
+			if (speciesId != null) {
+				addLoader(breedsKey(speciesId), () -> petDao.getPetBreeds(speciesId));
+			}
+		}
+		List<String> deviceTypes = unmodifiable(mobileAppDao.getDeviceTypes());
+		for (String deviceType : deviceTypes) {
+			addLoader(deviceModelsKey(deviceType), () -> mobileAppDao.getDeviceModels(deviceType));
+		}
+
+		Map<String, List<?>> parameterized = new HashMap<>();
+		for (Map.Entry<String, Loader<?>> entry : parameterizedLoaders.entrySet()) {
+			parameterized.put(entry.getKey(), unmodifiable(entry.getValue().load()));
+		}
+
+		Snapshot loaded = new Snapshot(species, unmodifiable(petDao.getPetEatingEnthusiasmScale()),
+				unmodifiable(petDao.getPetFeedingTime()), unmodifiable(petDao.getPetFeedingPreferences()),
+				deviceTypes, unmodifiable(supportMaterialDao.getMaterialTypeList()),
+				Collections.unmodifiableMap(parameterized), null, System.currentTimeMillis());
+		loaded = loaded.withVersion(computeVersion(loaded));
+		snapshot.set(loaded);
+
+		LOGGER.info("reference data loaded in {} millis, version {} (previous {})",
+				System.currentTimeMillis() - startTime, loaded.version, previous == null ? null : previous.version);
+		return loaded.version;
+	}
+
+	public Map<String, Object> getStats() {
+		Snapshot current = snapshot.get();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("enabled", enabled);
+		stats.put("version", current == null ? null : current.version);
+		stats.put("loadedAt", current == null ? null : current.loadedAt);
+		stats.put("parameterizedEntries", current == null ? 0 : current.parameterized.size());
+		return stats;
+	}
+
+	private Snapshot getSnapshot() throws ServiceExecutionException {
+		Snapshot current = snapshot.get();
+		return current != null ? current : loadIfAbsent();
+	}
+
+	/**
+	 * Blocks the requests that arrive before the startup load is done.
+	 */
+	private synchronized Snapshot loadIfAbsent() throws ServiceExecutionException {
+		if (snapshot.get() == null) {
+			refresh();
+		}
+		return snapshot.get();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> List<T> getParameterized(String key, Loader<T> loader) throws ServiceExecutionException {
+		if (!enabled) {
+			return loader.load();
+		}
+		List<?> cached = getSnapshot().parameterized.get(key);
+		if (cached != null) {
+			return (List<T>) cached;
+		}
+
+		List<T> loaded = unmodifiable(loader.load());
+		if (parameterizedLoaders.size() < maxParameterizedEntries) {
+			addLoader(key, loader);
+			Snapshot current;
+			do {
+				current = snapshot.get();
+			} while (!current.parameterized.containsKey(key)
+					&& !snapshot.compareAndSet(current, current.withParameterized(key, loaded)));
+		}
+		return loaded;
+	}
+
+	private <T> void addLoader(String key, Loader<T> loader) {
+		parameterizedLoaders.putIfAbsent(key, loader);
+	}
+
+	private static String computeVersion(Snapshot snapshot) {
+		Map<String, Object> content = new TreeMap<>();
+		content.put("species", snapshot.species);
+		content.put("eatingEnthusiasmScales", snapshot.eatingEnthusiasmScales);
+		content.put("feedingTimes", snapshot.feedingTimes);
+		content.put("feedingPreferences", snapshot.feedingPreferences);
+		content.put("deviceTypes", snapshot.deviceTypes);
+		content.put("materialTypes", snapshot.materialTypes);
+		content.put("parameterized", new TreeMap<>(snapshot.parameterized));
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(VERSION_MAPPER.writeValueAsBytes(content));
+			StringBuilder version = new StringBuilder();
+			for (int i = 0; i < 8; i++) {
+				version.append(String.format("%02x", digest[i]));
+			}
+			return version.toString();
+		} catch (Exception e) {
+			LOGGER.error("error while computing the reference data version", e);
+			return Long.toHexString(snapshot.loadedAt);
+		}
+	}
+
+	private static String breedsKey(int speciesId) {
+		return "breeds:" + speciesId;
+	}
+
+	private static String deviceModelsKey(String deviceType) {
+		return "deviceModels:" + deviceType;
+	}
+
+	private static <T> List<T> unmodifiable(List<T> list) {
+		return Collections.unmodifiableList(new ArrayList<>(list));
+	}
+
+	private static final class Snapshot {
+		private final List<PetSpecies> species;
+		private final List<EatingEnthusiasmScale> eatingEnthusiasmScales;
+		private final List<PetFeedingTime> feedingTimes;
+		private final List<PetFeedingPreference> feedingPreferences;
+		private final List<String> deviceTypes;
+		private final List<MaterialType> materialTypes;
+		private final Map<String, List<?>> parameterized;
+		private final String version;
+		private final long loadedAt;
+
+		private Snapshot(List<PetSpecies> species, List<EatingEnthusiasmScale> eatingEnthusiasmScales,
+				List<PetFeedingTime> feedingTimes, List<PetFeedingPreference> feedingPreferences,
+				List<String> deviceTypes, List<MaterialType> materialTypes, Map<String, List<?>> parameterized,
+				String version, long loadedAt) {
+			this.species = species;
+			this.eatingEnthusiasmScales = eatingEnthusiasmScales;
+			this.feedingTimes = feedingTimes;
+			this.feedingPreferences = feedingPreferences;
+			this.deviceTypes = deviceTypes;
+			this.materialTypes = materialTypes;
+			this.parameterized = parameterized;
+			this.version = version;
+			this.loadedAt = loadedAt;
+		}
+
+		private Snapshot withVersion(String newVersion) {
+			return new Snapshot(species, eatingEnthusiasmScales, feedingTimes, feedingPreferences, deviceTypes,
+					materialTypes, parameterized, newVersion, loadedAt);
+		}
+
+		/**
+		 * Copy of this snapshot with one more parameterized entry. The version is
+		 * kept, the entry was read from the same data.
+		 */
+		private Snapshot withParameterized(String key, List<?> value) {
+			Map<String, List<?>> copy = new HashMap<>(parameterized);
+			copy.put(key, value);
+			return new Snapshot(species, eatingEnthusiasmScales, feedingTimes, feedingPreferences, deviceTypes,
+					materialTypes, Collections.unmodifiableMap(copy), version, loadedAt);
+		}
+	}
+}
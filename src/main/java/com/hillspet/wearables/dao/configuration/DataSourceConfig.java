@@ -2,6 +2,7 @@ package com.hillspet.wearables.dao.configuration;
 
 import java.util.List;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +16,19 @@ import org.springframework.stereotype.Component;
 @Component
 @ConfigurationProperties("datasource")
 public class DataSourceConfig {
+	/**
+	 * c3p0 or hikari
+	 */
+	private String poolType = "c3p0";
+	/**
+	 * Connector/J prepared and callable statement cache sizes, hikari only
+	 */
+	private int prepStmtCacheSize = 250;
+	private int prepStmtCacheSqlLimit = 2048;
+	/**
+	 * optional read replica for the procedures the DAOs declare read only
+	 */
+	private Replica replica = new Replica();
 	private int acquireIncrement;
 	private boolean testConnectionOnCheckin;
 	private int minPoolSize;
@@ -254,6 +268,30 @@ public class DataSourceConfig {
 		this.encodingFormat = encodingFormat;
 	}
 
+	public String getPoolType() {
+		return poolType;
+	}
+
+	public void setPoolType(String poolType) {
+		this.poolType = poolType;
+	}
+
+	public int getPrepStmtCacheSize() {
+		return prepStmtCacheSize;
+	}
+
+	public void setPrepStmtCacheSize(int prepStmtCacheSize) {
+		this.prepStmtCacheSize = prepStmtCacheSize;
+	}
+
+	public int getPrepStmtCacheSqlLimit() {
+		return prepStmtCacheSqlLimit;
+	}
+
+	public void setPrepStmtCacheSqlLimit(int prepStmtCacheSqlLimit) {
+		this.prepStmtCacheSqlLimit = prepStmtCacheSqlLimit;
+	}
+
 	public String getSchema() {
 		return schema;
 	}
@@ -262,4 +300,127 @@ public class DataSourceConfig {
 		this.schema = schema;
 	}
 
+	public Replica getReplica() {
+		return replica;
+	}
+
+	public void setReplica(Replica replica) {
+		this.replica = replica;
+	}
+
+	/**
+	 * @return a copy of this configuration pointing to the replica, with the
+	 *         replica pool sizes and checkout timeout
+	 */
+	public DataSourceConfig replicaConfig() {
+		DataSourceConfig config = new DataSourceConfig();
+		BeanUtils.copyProperties(this, config);
+		config.setDataSourceName(dataSourceName + "-replica");
+		config.setJdbcUrl(replica.getJdbcUrl());
+		if (replica.getUser() != null && !replica.getUser().isEmpty()) {
+			config.setUser(replica.getUser());
+			config.setPassword(replica.getPassword());
+		}
+		config.setMinPoolSize(replica.getMinPoolSize());
+		config.setInitialPoolSize(replica.getMinPoolSize());
+		config.setMaxPoolSize(replica.getMaxPoolSize());
+		config.setCheckoutTimeout(replica.getCheckoutTimeout());
+		return config;
+	}
+
+	/**
+	 * Read replica settings, the user and password of the primary are used when
+	 * no user is set.
+	 */
+	public static class Replica {
+		private boolean enabled;
+		private String jdbcUrl;
+		private String user;
+		private String password;
+		private int minPoolSize = 1;
+		private int maxPoolSize = 5;
+		/**
+		 * short so that a replica out of connections falls back quickly, millis
+		 */
+		private int checkoutTimeout = 2000;
+		private int healthCheckSeconds = 10;
+		/**
+		 * reads of a pet parent stay on the primary this long after one of its
+		 * writes
+		 */
+		private long stickyPrimaryMillis = 2000;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getJdbcUrl() {
+			return jdbcUrl;
+		}
+
+		public void setJdbcUrl(String jdbcUrl) {
+			this.jdbcUrl = jdbcUrl;
+		}
+
+		public String getUser() {
+			return user;
+		}
+
+		public void setUser(String user) {
+			this.user = user;
+		}
+
+		public String getPassword() {
+			return password;
+		}
+
+		public void setPassword(String password) {
+			this.password = password;
+		}
+
+		public int getMinPoolSize() {
+			return minPoolSize;
+		}
+
+		public void setMinPoolSize(int minPoolSize) {
+			this.minPoolSize = minPoolSize;
+		}
+
+		public int getMaxPoolSize() {
+			return maxPoolSize;
+		}
+
+		public void setMaxPoolSize(int maxPoolSize) {
+			this.maxPoolSize = maxPoolSize;
+		}
+
+		public int getCheckoutTimeout() {
+			return checkoutTimeout;
+		}
+
+		public void setCheckoutTimeout(int checkoutTimeout) {
+			this.checkoutTimeout = checkoutTimeout;
+		}
+
+		public int getHealthCheckSeconds() {
+			return healthCheckSeconds;
+		}
+
+		public void setHealthCheckSeconds(int healthCheckSeconds) {
+			this.healthCheckSeconds = healthCheckSeconds;
+		}
+
+		public long getStickyPrimaryMillis() {
+			return stickyPrimaryMillis;
+		}
+
+		public void setStickyPrimaryMillis(long stickyPrimaryMillis) {
+			this.stickyPrimaryMillis = stickyPrimaryMillis;
+		}
+	}
+
 }
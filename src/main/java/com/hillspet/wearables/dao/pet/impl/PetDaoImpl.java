@@ -6,10 +6,10 @@ import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+
+import javax.annotation.PostConstruct;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
@@ -21,11 +21,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hillspet.wearables.common.constants.Constants;
 import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
-import com.hillspet.wearables.common.utils.GCPClientUtil;
+import com.hillspet.wearables.common.utils.JsonCodec;
+import com.hillspet.wearables.common.utils.MediaUrlBatch;
+import com.hillspet.wearables.common.utils.MediaUrlResolver;
 import com.hillspet.wearables.dao.BaseDaoImpl;
+import com.hillspet.wearables.dao.IntKeyedBuckets;
 import com.hillspet.wearables.dao.pet.PetDao;
 import com.hillspet.wearables.dto.EatingEnthusiasmScale;
 import com.hillspet.wearables.dto.ImageScoringScale;
@@ -45,6 +47,7 @@ import com.hillspet.wearables.dto.PetWeightHistoryDTO;
 import com.hillspet.wearables.request.AddPetWeight;
 import com.hillspet.wearables.request.PetAddFeedingPreferences;
 import com.hillspet.wearables.request.PetAddImageScoring;
+import com.hillspet.wearables.request.PetImageScoreDetails;
 import com.hillspet.wearables.request.UpdatePet;
 import com.hillspet.wearables.request.UpdatePetWeight;
 
@@ -55,7 +58,10 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 	private String environment;
 
 	@Autowired
-	private GCPClientUtil gcpClientUtil;
+	private MediaUrlResolver mediaUrlResolver;
+
+	@Autowired
+	private JsonCodec jsonCodec;
 
 	public static final String RESULT_SET_1 = "#result-set-1";
 	public static final String RESULT_SET_2 = "#result-set-2";
@@ -83,6 +89,14 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 
 	private static final Logger LOGGER = LogManager.getLogger(PetDaoImpl.class);
 
+	@PostConstruct
+	public void declareProcedures() {
+		declareReadOnly(PET_GET_WEIGHT_HISTORY, GET_SPECIES, PET_GET_BREEDS, PET_GET_BEHAVIORS, GET_ENTHUSIASM_SCALES,
+				GET_PET_FEEDING_TIMES, GET_PET_FEEDING_PREFERENCES, MOBILE_APP_GET_OBSERVATIONS_BY_PET_ID);
+		declareIdempotent(PET_UPDATE_WEIGHT, MOBILE_APP_UPDATE_PET_PHOTO, MOBILE_APP_UPDATE_PET_PROFILE,
+				DELETE_PET_OBSERVATION);
+	}
+
 	@Override
 	public PetWeightDTO addPetWeight(AddPetWeight addPetWeight) throws ServiceExecutionException {
 		PetWeightDTO petWeightDTO = new PetWeightDTO();
@@ -94,9 +108,9 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 			inputParams.put("p_user_id", addPetWeight.getUserId());
 			inputParams.put("p_add_date", addPetWeight.getAddDate());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(PET_ADD_WEIGHT, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			String errorMsg = (String) outParams.get("out_error_msg");
 			int statusFlag = (int) outParams.get("out_flag");
@@ -127,9 +141,9 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 			inputParams.put("p_user_id", updatePetWeight.getUserId());
 			inputParams.put("p_modified_date", updatePetWeight.getModifiedDate());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(PET_UPDATE_WEIGHT, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			String errorMsg = (String) outParams.get("out_error_msg");
 			int statusFlag = (int) outParams.get("out_flag");
@@ -153,9 +167,9 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 			inputParams.put("p_photo_name", petPhoto);
 			inputParams.put("p_pet_parent_id", petParentId);
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_UPDATE_PET_PHOTO, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			String errorMsg = (String) outParams.get("out_error_msg");
 			int statusFlag = (int) outParams.get("out_flag");
@@ -174,7 +188,7 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 		List<PetWeightHistoryDTO> weightList = new ArrayList<>();
 		LOGGER.debug("getPetWeightHistory called");
 		try {
-			jdbcTemplate.query(PET_GET_WEIGHT_HISTORY, new RowCallbackHandler() {
+			query(PET_GET_WEIGHT_HISTORY, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					PetWeightHistoryDTO dto = new PetWeightHistoryDTO();
@@ -210,7 +224,7 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 		List<PetSpecies> speciesList = new ArrayList<>();
 		LOGGER.debug("getPetSpecies called");
 		try {
-			jdbcTemplate.query(GET_SPECIES, new RowCallbackHandler() {
+			query(GET_SPECIES, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					PetSpecies species = new PetSpecies();
@@ -231,7 +245,7 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 		List<PetBreed> breedList = new ArrayList<>();
 		LOGGER.debug("getPetBreeds called");
 		try {
-			jdbcTemplate.query(PET_GET_BREEDS, new RowCallbackHandler() {
+			query(PET_GET_BREEDS, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					PetBreed petBreed = new PetBreed();
@@ -253,7 +267,7 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 		List<PetBehavior> behaviorList = new ArrayList<>();
 		LOGGER.debug("getPetBehaviors called");
 		try {
-			jdbcTemplate.query(PET_GET_BEHAVIORS, new RowCallbackHandler() {
+			query(PET_GET_BEHAVIORS, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					PetBehavior petBehavior = new PetBehavior();
@@ -277,7 +291,7 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 		List<EatingEnthusiasmScale> eatingEnthusiasmScales = new ArrayList<>();
 		LOGGER.debug("getPetEatingEnthusiasmScale called");
 		try {
-			jdbcTemplate.query(GET_ENTHUSIASM_SCALES, new RowCallbackHandler() {
+			query(GET_ENTHUSIASM_SCALES, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					EatingEnthusiasmScale eatingEnthusiasmScale = new EatingEnthusiasmScale();
@@ -298,7 +312,7 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 		List<PetFeedingTime> petFeedingTimes = new ArrayList<>();
 		LOGGER.debug("getPetFeedingTime called");
 		try {
-			jdbcTemplate.query(GET_PET_FEEDING_TIMES, new RowCallbackHandler() {
+			query(GET_PET_FEEDING_TIMES, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					PetFeedingTime petFeedingTime = new PetFeedingTime();
@@ -319,7 +333,7 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 		List<PetMobileAppConfig> petMobileAppConfigs = new ArrayList<>();
 		LOGGER.debug("getPetBreeds called");
 		try {
-			jdbcTemplate.query(PET_GET_MOBILE_APP_CONFIGS, new RowCallbackHandler() {
+			query(PET_GET_MOBILE_APP_CONFIGS, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					PetMobileAppConfig petMobileAppConfig = new PetMobileAppConfig();
@@ -353,9 +367,9 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 			inputParams.put("p_feeding_date", petFeedingEnthusiasmScale.getFeedingDate());
 			inputParams.put("p_pet_parent_id", petFeedingEnthusiasmScale.getPetParentId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(ADD_PET_FEEDING_TIME_ENTSM_SCALE, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			String errorMsg = (String) outParams.get("out_error_msg");
 			int statusFlag = (int) outParams.get("out_flag");
@@ -373,125 +387,80 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 		return petFeedingEnthusiasmScale;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public List<PetObservation> getPetObservationsByPetId(int petId) throws ServiceExecutionException {
 		LOGGER.debug("getPetObservationsByPetId called");
 		List<PetObservation> petObservations = new ArrayList<>();
-		Map<Integer, List<ObservationPhoto>> photoDetailsMap = new HashMap<>();
-		Map<Integer, List<ObservationVideo>> videoDetailsMap = new HashMap<>();
+		IntKeyedBuckets<ObservationPhoto> photoDetailsMap = new IntKeyedBuckets<>();
+		IntKeyedBuckets<ObservationVideo> videoDetailsMap = new IntKeyedBuckets<>();
+		MediaUrlBatch mediaUrls = mediaUrlResolver.newBatch();
 		long startTime = System.currentTimeMillis();
 		try {
-			Map<String, Object> inputParams = new HashMap<String, Object>();
-			inputParams.put("p_pet_id", petId);
-
-			LOGGER.info("inputParams are {}", inputParams);
-			Map<String, Object> simpleJdbcCallResult = callStoredProcedure(MOBILE_APP_GET_OBSERVATIONS_BY_PET_ID,
-					inputParams);
-			LOGGER.info("outParams are {}", simpleJdbcCallResult);
-			Iterator<Entry<String, Object>> itr = simpleJdbcCallResult.entrySet().iterator();
-
-			while (itr.hasNext()) {
-				Map.Entry<String, Object> entry = (Map.Entry<String, Object>) itr.next();
-				String key = entry.getKey();
-
-				if (key.equals(RESULT_SET_1)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(photoObservations -> {
-						ObservationPhoto observationPhoto = new ObservationPhoto();
-						observationPhoto.setObservationPhotoId((Integer) photoObservations.get("PHOTO_ID"));
-						observationPhoto.setFileName((String) photoObservations.get("FILE_NAME"));
-						// observationPhoto.setFilePath((String) photoObservations.get("IMAGE_PATH"));
-
-						String imagePathValue = (String) photoObservations.get("IMAGE_PATH");
-
-						if (!StringUtils.contains(imagePathValue, "firebasestorage")) {
-							String imageSignedUrl = gcpClientUtil.getDownloaFiledUrl(
-									imagePathValue.concat("/").concat(observationPhoto.getFileName()),
-									Constants.GCP_OBSERVATION_PHOTO_PATH);
-							observationPhoto.setFilePath(imageSignedUrl);
-						} else {
-							observationPhoto.setFilePath(imagePathValue);
-						}
-
-						Integer petObservationId = (Integer) photoObservations.get("PET_OBSERVATION_ID");
-
-						photoDetailsMap.computeIfAbsent(petObservationId, k -> new ArrayList<ObservationPhoto>())
-								.add(observationPhoto);
-
-					});
+			LOGGER.debug("inputParams are p_pet_id={}", petId);
+			callStoredProcedure(MOBILE_APP_GET_OBSERVATIONS_BY_PET_ID, new Object[] { petId }, rs -> {
+				ObservationPhoto observationPhoto = new ObservationPhoto();
+				observationPhoto.setObservationPhotoId(rs.getInt("PHOTO_ID"));
+				observationPhoto.setFileName(rs.getString("FILE_NAME"));
+
+				String imagePathValue = rs.getString("IMAGE_PATH");
+				if (!StringUtils.contains(imagePathValue, "firebasestorage")) {
+					mediaUrls.addGcpFile(imagePathValue.concat("/").concat(observationPhoto.getFileName()),
+							Constants.GCP_OBSERVATION_PHOTO_PATH, observationPhoto::setFilePath);
+				} else {
+					observationPhoto.setFilePath(imagePathValue);
 				}
 
-				if (key.equals(RESULT_SET_2)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(videoObservations -> {
-						ObservationVideo observationVideo = new ObservationVideo();
-						observationVideo.setObservationVideoId((Integer) videoObservations.get("VIDEO_ID"));
-						observationVideo.setVideoName((String) videoObservations.get("VIDEO_NAME"));
-
-						String videoURL = (String) videoObservations.get("VIDEO_URL");
-						if (StringUtils.isNotBlank(videoURL)) {
-							if (!StringUtils.contains(videoURL, "firebasestorage")) {
-								String mediaSignedUrl = gcpClientUtil.getDownloaFiledUrl(
-										videoURL.replaceAll("https://storage.googleapis.com/wearables-portal-media/"
-												+ environment + "/GCloud/WPortal/ObservationVideo/", ""),
-										Constants.GCP_OBSERVATION_VIDEO_PATH);
-								observationVideo.setVideoUrl(mediaSignedUrl);
-							} else {
-								observationVideo.setVideoUrl(videoURL);
-							}
-						}
-
-						String videoThumbnailURL = (String) videoObservations.get("VIDEO_THUMBNAIL_URL");
-						if (StringUtils.isNotBlank(videoThumbnailURL)) {
-							if (!StringUtils.contains(videoThumbnailURL, "firebasestorage")) {
-								String mediaSignedThumbUrl = gcpClientUtil.getDownloaFiledUrl(
-										videoThumbnailURL.replaceAll(
-												"https://storage.googleapis.com/wearables-portal-media/" + environment
-														+ "/GCloud/WPortal/ObservationVideoThumbnail/",
-												""),
-										Constants.GCP_OBSERVATION_VIDEO_THUMBNAIL_PATH);
-								observationVideo.setVideoThumbnailUrl(mediaSignedThumbUrl);
-							} else {
-								observationVideo.setVideoThumbnailUrl(videoThumbnailURL);
-							}
-						}
-
-						Integer petObservationId = (Integer) videoObservations.get("PET_OBSERVATION_ID");
-
-						videoDetailsMap.computeIfAbsent(petObservationId, k -> new ArrayList<ObservationVideo>())
-								.add(observationVideo);
-
-					});
+				photoDetailsMap.add(rs.getInt("PET_OBSERVATION_ID"), observationPhoto);
+			}, rs -> {
+				ObservationVideo observationVideo = new ObservationVideo();
+				observationVideo.setObservationVideoId(rs.getInt("VIDEO_ID"));
+				observationVideo.setVideoName(rs.getString("VIDEO_NAME"));
+
+				String videoURL = rs.getString("VIDEO_URL");
+				if (StringUtils.isNotBlank(videoURL)) {
+					if (!StringUtils.contains(videoURL, "firebasestorage")) {
+						mediaUrls.addGcpFile(
+								videoURL.replaceAll("https://storage.googleapis.com/wearables-portal-media/"
+										+ environment + "/GCloud/WPortal/ObservationVideo/", ""),
+								Constants.GCP_OBSERVATION_VIDEO_PATH, observationVideo::setVideoUrl);
+					} else {
+						observationVideo.setVideoUrl(videoURL);
+					}
 				}
 
-				if (key.equals(RESULT_SET_3)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-
-					list.forEach(obsDetails -> {
-						PetObservation petObservation = new PetObservation();
-						petObservation.setPetId((Integer) obsDetails.get("PET_ID"));
-						petObservation.setBehaviorId(Integer.parseInt((String) obsDetails.get("ACTIVITY_TYPE_ID")));
-						petObservation.setBehaviorName((String) obsDetails.get("ACTIVITY_TYPE"));
-						petObservation.setObsText((String) obsDetails.get("OBS_TEXT"));
-						petObservation.setObservationDateTime((LocalDateTime) obsDetails.get("OBSERVATION_DATE_TIME"));
-						petObservation.setTag((String) obsDetails.get("TAG"));
-						petObservation.setEmotionIconsText((String) obsDetails.get("EMOTICONS_TEXT"));
-						petObservation.setSeizuresDescription((String) obsDetails.get("SEIZURES_DESCRIPTION"));
-						petObservation.setObservationId((Integer) obsDetails.get("PET_OBSERVATION_ID"));
-						petObservation.setModifiedDate((LocalDateTime) obsDetails.get("MODIFIED_DATE"));
-
-						petObservation.setPhotos(photoDetailsMap.get(petObservation.getObservationId()) != null
-								? photoDetailsMap.get(petObservation.getObservationId())
-								: new ArrayList<>());
-
-						petObservation.setVideos(videoDetailsMap.get(petObservation.getObservationId()) != null
-								? videoDetailsMap.get(petObservation.getObservationId())
-								: new ArrayList<>());
-						petObservations.add(petObservation);
-					});
+				String videoThumbnailURL = rs.getString("VIDEO_THUMBNAIL_URL");
+				if (StringUtils.isNotBlank(videoThumbnailURL)) {
+					if (!StringUtils.contains(videoThumbnailURL, "firebasestorage")) {
+						mediaUrls.addGcpFile(
+								videoThumbnailURL.replaceAll("https://storage.googleapis.com/wearables-portal-media/"
+										+ environment + "/GCloud/WPortal/ObservationVideoThumbnail/", ""),
+								Constants.GCP_OBSERVATION_VIDEO_THUMBNAIL_PATH, observationVideo::setVideoThumbnailUrl);
+					} else {
+						observationVideo.setVideoThumbnailUrl(videoThumbnailURL);
+					}
 				}
-			}
+
+				videoDetailsMap.add(rs.getInt("PET_OBSERVATION_ID"), observationVideo);
+			}, rs -> {
+				PetObservation petObservation = new PetObservation();
+				petObservation.setPetId(rs.getInt("PET_ID"));
+				petObservation.setBehaviorId(Integer.parseInt(rs.getString("ACTIVITY_TYPE_ID")));
+				petObservation.setBehaviorName(rs.getString("ACTIVITY_TYPE"));
+				petObservation.setObsText(rs.getString("OBS_TEXT"));
+				petObservation.setObservationDateTime(rs.getObject("OBSERVATION_DATE_TIME", LocalDateTime.class));
+				petObservation.setTag(rs.getString("TAG"));
+				petObservation.setEmotionIconsText(rs.getString("EMOTICONS_TEXT"));
+				petObservation.setSeizuresDescription(rs.getString("SEIZURES_DESCRIPTION"));
+				petObservation.setObservationId(rs.getInt("PET_OBSERVATION_ID"));
+				petObservation.setModifiedDate(rs.getObject("MODIFIED_DATE", LocalDateTime.class));
+
+				petObservation.setPhotos(photoDetailsMap.getOrEmpty(petObservation.getObservationId()));
+				petObservation.setVideos(videoDetailsMap.getOrEmpty(petObservation.getObservationId()));
+				petObservations.add(petObservation);
+			});
+
+			// the connection is back in the pool, sign the media now
+			mediaUrls.resolve();
 			long endTime = System.currentTimeMillis();
 			LOGGER.info("Time taken to execute getPetObservationsByPetId service in millis is {}",
 					(endTime - startTime));
@@ -515,12 +484,12 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 			inputParams.put("p_emoticons_text", addPetObservation.getEmotionIconsText());
 			inputParams.put("p_seizures_description", addPetObservation.getSeizuresDescription());
 			inputParams.put("p_login_user_id", addPetObservation.getLoginUserId());
-			inputParams.put("p_videos", new ObjectMapper().writeValueAsString(addPetObservation.getVideos()));
-			inputParams.put("p_photos", new ObjectMapper().writeValueAsString(addPetObservation.getPhotos()));
+			inputParams.put("p_videos", jsonCodec.toJson(addPetObservation.getVideos(), ObservationVideo.class));
+			inputParams.put("p_photos", jsonCodec.toJson(addPetObservation.getPhotos(), ObservationPhoto.class));
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(SAVE_PET_OBSERVATION, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			String errorMsg = (String) outParams.get("out_error_msg");
 			int statusFlag = (int) outParams.get("out_flag");
@@ -546,9 +515,9 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 		inputParams.put("p_pet_id", petId);
 		inputParams.put("p_pet_parent_id", petParentId);
 		try {
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(DELETE_PET_OBSERVATION, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			String errorMsg = (String) outParams.get("out_error_msg");
 			if (StringUtils.isNotEmpty(errorMsg) || (int) outParams.get("out_flag") < NumberUtils.INTEGER_ONE) {
 				throw new ServiceExecutionException(errorMsg);
@@ -559,74 +528,45 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 		}
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public List<ImageScoringScale> getPetImageScoringScales(int petId) throws ServiceExecutionException {
 		List<ImageScoringScale> imageScoringScales = new ArrayList<>();
-		Map<Integer, List<ImageScoringScaleDetails>> scoreDetailsMap = new HashMap<>();
+		IntKeyedBuckets<ImageScoringScaleDetails> scoreDetailsMap = new IntKeyedBuckets<>();
+		MediaUrlBatch mediaUrls = mediaUrlResolver.newBatch();
 
 		LOGGER.debug("getPetImageScoringScales called");
 		try {
-			Map<String, Object> inputParams = new HashMap<String, Object>();
-			inputParams.put("p_pet_id", petId);
-
-			LOGGER.info("inputParams are {}", inputParams);
-			Map<String, Object> simpleJdbcCallResult = callStoredProcedure(GET_PET_IMAGE_SCORINGS, inputParams);
-			LOGGER.info("outParams are {}", simpleJdbcCallResult);
-			Iterator<Entry<String, Object>> itr = simpleJdbcCallResult.entrySet().iterator();
-
-			while (itr.hasNext()) {
-				Map.Entry<String, Object> entry = (Map.Entry<String, Object>) itr.next();
-				String key = entry.getKey();
-
-				if (key.equals(RESULT_SET_1)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-
-					list.forEach(scaleDetails -> {
-						ImageScoringScaleDetails scoringScaleDetails = new ImageScoringScaleDetails();
-						scoringScaleDetails
-								.setImageScoringDetailsId((Integer) scaleDetails.get("IMAGE_SCORING_DTLS_ID"));
-						scoringScaleDetails.setScore((Integer) scaleDetails.get("SCORE"));
-						scoringScaleDetails.setUom((Integer) scaleDetails.get("UOM"));
-						scoringScaleDetails.setUnitName((String) scaleDetails.get("UNIT_NAME"));
-						scoringScaleDetails.setDescription((String) scaleDetails.get("DESCRIPTION"));
-						scoringScaleDetails.setImageLabel((String) scaleDetails.get("IMAGE_LABEL"));
-						String imgPath = (String) scaleDetails.get("IMAGE_PATH");
-
-						if (StringUtils.isNotEmpty(imgPath)) {
-							scoringScaleDetails.setImagePath(
-									gcpClientUtil.getDownloaFiledUrl(imgPath, Constants.GCP_IMAGE_SCORING_PATH));
-						}
-
-						Integer imageScoringScaleId = (Integer) scaleDetails.get("IMAGE_SCORING_ID");
-
-						scoreDetailsMap
-								.computeIfAbsent(imageScoringScaleId, k -> new ArrayList<ImageScoringScaleDetails>())
-								.add(scoringScaleDetails);
-					});
+			LOGGER.debug("inputParams are p_pet_id={}", petId);
+			callStoredProcedure(GET_PET_IMAGE_SCORINGS, new Object[] { petId }, rs -> {
+				ImageScoringScaleDetails scoringScaleDetails = new ImageScoringScaleDetails();
+				scoringScaleDetails.setImageScoringDetailsId(getInteger(rs, "IMAGE_SCORING_DTLS_ID"));
+				scoringScaleDetails.setScore(getInteger(rs, "SCORE"));
+				scoringScaleDetails.setUom(getInteger(rs, "UOM"));
+				scoringScaleDetails.setUnitName(rs.getString("UNIT_NAME"));
+				scoringScaleDetails.setDescription(rs.getString("DESCRIPTION"));
+				scoringScaleDetails.setImageLabel(rs.getString("IMAGE_LABEL"));
+				String imgPath = rs.getString("IMAGE_PATH");
+				if (StringUtils.isNotEmpty(imgPath)) {
+					mediaUrls.addGcpFile(imgPath, Constants.GCP_IMAGE_SCORING_PATH, scoringScaleDetails::setImagePath);
 				}
 
-				if (key.equals(RESULT_SET_2)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(imageScales -> {
-						ImageScoringScale imageScoringScale = new ImageScoringScale();
-						imageScoringScale.setImageScoringScaleId((Integer) imageScales.get("IMAGE_SCORING_ID"));
-						imageScoringScale.setImageScaleName((String) imageScales.get("IMAGE_SCALE_NAME"));
-						imageScoringScale.setClassificationId((Integer) imageScales.get("CLASSIFICATION_ID"));
-						imageScoringScale.setClassification((String) imageScales.get("CLASSIFICATION"));
-						imageScoringScale.setScoringTypeId((Integer) imageScales.get("SCORING_TYPE_ID"));
-						imageScoringScale.setScoringType((String) imageScales.get("SCORING_TYPE"));
-						imageScoringScale.setSpeciesId((Integer) imageScales.get("SPECIES_ID"));
-						imageScoringScale.setSpeciesName((String) imageScales.get("SPECIES_NAME"));
-
-						imageScoringScale.setScoringScaleDetails(
-								scoreDetailsMap.get(imageScoringScale.getImageScoringScaleId()) != null
-										? scoreDetailsMap.get(imageScoringScale.getImageScoringScaleId())
-										: new ArrayList<>());
-						imageScoringScales.add(imageScoringScale);
-					});
-				}
-			}
+				scoreDetailsMap.add(rs.getInt("IMAGE_SCORING_ID"), scoringScaleDetails);
+			}, rs -> {
+				ImageScoringScale imageScoringScale = new ImageScoringScale();
+				imageScoringScale.setImageScoringScaleId(getInteger(rs, "IMAGE_SCORING_ID"));
+				imageScoringScale.setImageScaleName(rs.getString("IMAGE_SCALE_NAME"));
+				imageScoringScale.setClassificationId(getInteger(rs, "CLASSIFICATION_ID"));
+				imageScoringScale.setClassification(rs.getString("CLASSIFICATION"));
+				imageScoringScale.setScoringTypeId(getInteger(rs, "SCORING_TYPE_ID"));
+				imageScoringScale.setScoringType(rs.getString("SCORING_TYPE"));
+				imageScoringScale.setSpeciesId(getInteger(rs, "SPECIES_ID"));
+				imageScoringScale.setSpeciesName(rs.getString("SPECIES_NAME"));
+
+				imageScoringScale.setScoringScaleDetails(scoreDetailsMap.getOrEmpty(rs.getInt("IMAGE_SCORING_ID")));
+				imageScoringScales.add(imageScoringScale);
+			});
+
+			mediaUrls.resolve();
 		} catch (Exception e) {
 			LOGGER.error("error while fetching getPetImageScoringScales", e);
 			throw new ServiceExecutionException(e.getMessage());
@@ -643,12 +583,12 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 			inputParams.put("p_image_score_id", addPetImageScoring.getImageScoringId());
 			inputParams.put("p_pet_id", addPetImageScoring.getPetId());
 			inputParams.put("p_image_score_dtls_json",
-					new ObjectMapper().writeValueAsString(addPetImageScoring.getPetImgScoreDetails()));
+					jsonCodec.toJson(addPetImageScoring.getPetImgScoreDetails(), PetImageScoreDetails.class));
 			inputParams.put("p_pet_parent_id", addPetImageScoring.getPetParentId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(ADD_PET_IMAGE_SCORINGS, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			String errorMsg = (String) outParams.get("out_error_msg");
 			int statusFlag = (int) outParams.get("out_flag");
@@ -671,7 +611,7 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 		List<PetFeedingPreference> petFeedingPreferences = new ArrayList<>();
 		LOGGER.debug("getPetFeedingPreferences called");
 		try {
-			jdbcTemplate.query(GET_PET_FEEDING_PREFERENCES, new RowCallbackHandler() {
+			query(GET_PET_FEEDING_PREFERENCES, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					PetFeedingPreference petFeedingPreference = new PetFeedingPreference();
@@ -694,12 +634,12 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 			Map<String, Object> inputParams = new HashMap<>();
 			inputParams.put("p_pet_id", petAddFeedingPreferences.getPetId());
 			inputParams.put("p_pet_feeding_preferences_json",
-					new ObjectMapper().writeValueAsString(petAddFeedingPreferences.getPetFeedingPreferences()));
+					jsonCodec.toJson(petAddFeedingPreferences.getPetFeedingPreferences(), Integer.class));
 			inputParams.put("p_user_id", petAddFeedingPreferences.getUserId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(ADD_PET_FEEDING_PREFERENCES, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			String errorMsg = (String) outParams.get("out_error_msg");
 			int statusFlag = (int) outParams.get("out_flag");
@@ -728,9 +668,9 @@ public class PetDaoImpl extends BaseDaoImpl implements PetDao {
 			inputParams.put("p_weight_unit", updatePet.getWeightUnit());
 			inputParams.put("p_user_id", updatePet.getUserId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_UPDATE_PET_PROFILE, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			String errorMsg = (String) outParams.get("out_error_msg");
 			int statusFlag = (int) outParams.get("out_flag");
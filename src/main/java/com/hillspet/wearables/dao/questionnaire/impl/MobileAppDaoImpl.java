@@ -4,6 +4,7 @@ import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -12,8 +13,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
 
+import javax.annotation.PostConstruct;
 import javax.ws.rs.core.Response.Status;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -24,16 +25,20 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.SqlParameter;
 import org.springframework.stereotype.Repository;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hillspet.wearables.common.constants.Constants;
 import com.hillspet.wearables.common.constants.WearablesErrorCode;
 import com.hillspet.wearables.common.dto.WearablesError;
 import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
-import com.hillspet.wearables.common.utils.GCPClientUtil;
+import com.hillspet.wearables.common.utils.JsonCodec;
+import com.hillspet.wearables.common.utils.MediaUrlBatch;
+import com.hillspet.wearables.common.utils.MediaUrlResolver;
 import com.hillspet.wearables.dao.BaseDaoImpl;
+import com.hillspet.wearables.dao.IntKeyedBuckets;
+import com.hillspet.wearables.dao.cache.PetParentKeyCache;
 import com.hillspet.wearables.dao.questionnaire.MobileAppDao;
 import com.hillspet.wearables.dto.Campaign;
 import com.hillspet.wearables.dto.DeviceDTO;
@@ -60,7 +65,13 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 	private String environment;
 
 	@Autowired
-	private GCPClientUtil gcpClientUtil;
+	private MediaUrlResolver mediaUrlResolver;
+
+	@Autowired
+	private PetParentKeyCache petParentKeyCache;
+
+	@Autowired
+	private JsonCodec jsonCodec;
 
 	public static final String RESULT_SET_1 = "#result-set-1";
 	public static final String RESULT_SET_2 = "#result-set-2";
@@ -84,122 +95,45 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 	public static final String MOBILE_APP_GET_DEVICE_TYPES = "CALL MOBILE_APP_GET_GET_DEVICE_TYPES()";
 	public static final String MOBILE_APP_GET_DEVICE_MODELS = "CALL MOBILE_APP_GET_DEVICE_MODELS(?)";
 
-	@SuppressWarnings("unchecked")
+	@PostConstruct
+	public void declareProcedures() {
+		// called on every authenticated request, skip the parameter metadata lookup
+		declareProcedureParameters(MOBILE_APP_PET_PARENT_AUTH_BY_KEY,
+				new SqlParameter("p_pet_parent_key", Types.VARCHAR));
+		// the answers by id are read back right after they are saved, they stay on
+		// the primary
+		declareReadOnly(MOBILE_APP_GET_FEEDBACK_QUESTIONNAIRE_BY_PET_ID, MOBILE_APP_GET_QUESTIONNAIRE_BY_PET_ID,
+				MOBILE_APP_GET_CAMPAIGN_POINTS_LIST_BY_PET, MOBILE_APP_GET_ALL_CAMPAIGN_POINTS_BY_PET,
+				MOBILE_APP_GET_CAMPAIGNS_BY_PET, MOBILE_APP_GET_LEADER_BOARD_BY_CAMPAIGN,
+				MOBILE_APP_GET_REDEEMTION_HISTORY_BY_PET, MOBILE_APP_GET_DEVICE_TYPES, MOBILE_APP_GET_DEVICE_MODELS);
+		declareIdempotent(MOBILE_APP_GET_QUESTIONNAIRE_ASNWER_BY_ID, MOBILE_APP_PET_PARENT_AUTH_BY_KEY);
+	}
+
 	@Override
 	public List<Questionnaire> getFeedbackQuestionnaireByPetId(int petId) throws ServiceExecutionException {
 		LOGGER.debug("getFeedbackQuestionnaireByPetId called");
 		List<Questionnaire> questionnaireList = new ArrayList<>();
 
-		Map<Integer, List<QuestionnaireInstruction>> instructionsMap = new HashMap<>();
-		Map<Integer, List<QuestionAnswerOption>> questionAnsOptsMap = new HashMap<>();
-		Map<Integer, List<Question>> questionsMap = new HashMap<>();
+		IntKeyedBuckets<QuestionnaireInstruction> instructionsMap = new IntKeyedBuckets<>();
+		IntKeyedBuckets<QuestionAnswerOption> questionAnsOptsMap = new IntKeyedBuckets<>();
+		IntKeyedBuckets<Question> questionsMap = new IntKeyedBuckets<>();
 		try {
-			// in params
-			Map<String, Object> inputParams = new HashMap<String, Object>();
-			inputParams.put("p_pet_id", petId);
-
-			LOGGER.info("inputParams are {}", inputParams);
-			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_GET_FEEDBACK_QUESTIONNAIRE_BY_PET_ID,
-					inputParams);
-			LOGGER.info("outParams are {}", outParams);
-
-			Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
-
-			while (itr.hasNext()) {
-				Map.Entry<String, Object> entry = (Map.Entry<String, Object>) itr.next();
-				String key = entry.getKey();
-
-				if (key.equals(RESULT_SET_1)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-
-					list.forEach(instruction -> {
-						QuestionnaireInstruction questionnaireInstruction = new QuestionnaireInstruction();
-						questionnaireInstruction
-								.setInstructionId((Integer) instruction.get("QUESTIONNAIRE_INSTRUCTION_ID"));
-						questionnaireInstruction.setInstruction((String) instruction.get("INSTRUCTION"));
-						questionnaireInstruction.setInstructionOrder((Integer) instruction.get("INSTRUCTION_ORDER"));
-
-						Integer questionnaireId = (Integer) instruction.get("QUESTIONNAIRE_ID");
-						instructionsMap.computeIfAbsent(questionnaireId, k -> new ArrayList<QuestionnaireInstruction>())
-								.add(questionnaireInstruction);
-					});
-				}
-
-				if (key.equals(RESULT_SET_2)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(answerOpts -> {
-						QuestionAnswerOption ansOptions = new QuestionAnswerOption();
-						ansOptions.setQuestionAnswerId((Integer) answerOpts.get("QUESTION_ANSWER_OPTION_ID"));
-						ansOptions.setQuestionAnswer((String) answerOpts.get("ANSWER"));
-
-						Integer questionId = (Integer) answerOpts.get("QUESTION_ID");
-
-						questionAnsOptsMap.computeIfAbsent(questionId, k -> new ArrayList<QuestionAnswerOption>())
-								.add(ansOptions);
-					});
-				}
-
-				if (key.equals(RESULT_SET_3)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(quest -> {
-						Question question = new Question();
-						Integer questionId = (Integer) quest.get("QUESTION_ID");
-						question.setQuestionId(questionId);
-						question.setQuestion((String) quest.get("QUESTION"));
-						question.setQuestionTypeId((Integer) quest.get("QUESTION_TYPE_ID"));
-						question.setQuestionType((String) quest.get("QUESTION_TYPE"));
-						question.setQuestionOrder((Integer) quest.get("QUESTION_ORDER"));
-						question.setIsMandatory(quest.get("IS_MANDATORY") != null
-								&& (Integer) quest.get("IS_MANDATORY") > NumberUtils.INTEGER_ZERO ? Boolean.TRUE
-										: Boolean.FALSE);
-
-						question.setCeil((Integer) quest.get("SCALE_MAX"));
-						question.setFloor((Integer) quest.get("SCALE_MIN"));
-						question.setTickStep((Integer) quest.get("STEP_VALUE"));
-
-						question.setQuestionAnswerOptions(
-								questionAnsOptsMap.get(questionId) != null ? questionAnsOptsMap.get(questionId)
-										: new ArrayList<>());
-
-						Integer questionnaireId = (Integer) quest.get("QUESTIONNAIRE_ID");
-						questionsMap.computeIfAbsent(questionnaireId, k -> new ArrayList<Question>()).add(question);
-					});
-				}
-
-				if (key.equals(RESULT_SET_4)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(quesObj -> {
+			LOGGER.debug("inputParams are p_pet_id={}", petId);
+			callStoredProcedure(MOBILE_APP_GET_FEEDBACK_QUESTIONNAIRE_BY_PET_ID, new Object[] { petId },
+					instructionRowHandler(instructionsMap), answerOptionRowHandler(questionAnsOptsMap),
+					questionRowHandler(questionsMap, questionAnsOptsMap, false), rs -> {
 						Questionnaire questionnaire = new Questionnaire();
-						Integer questionnaireId = (Integer) quesObj.get("QUESTIONNAIRE_ID");
-
-						questionnaire.setQuestionnaireId(questionnaireId);
-						questionnaire.setQuestionnaireName((String) quesObj.get("QUESTIONNAIRE_NAME"));
+						int questionnaireId = rs.getInt("QUESTIONNAIRE_ID");
 
-						Date startDate = (Date) quesObj.get("START_DATE");
-						questionnaire.setStartDate((startDate.toLocalDate()));
+						questionnaire.setQuestionnaireId(getInteger(rs, "QUESTIONNAIRE_ID"));
+						questionnaire.setQuestionnaireName(rs.getString("QUESTIONNAIRE_NAME"));
+						questionnaire.setStartDate(rs.getDate("START_DATE").toLocalDate());
+						questionnaire.setEndDate(rs.getDate("END_DATE").toLocalDate());
 
-						Date endDate = (Date) quesObj.get("END_DATE");
-						questionnaire.setEndDate((endDate.toLocalDate()));
-
-						/*
-						 * Long ansCount = (Long) quesObj.get("ANS_CNT"); if (ansCount > 0) {
-						 * questionnaire.setStatus("Submitted"); } else { if
-						 * (endDate.toLocalDate().isBefore(LocalDate.now())) {
-						 * questionnaire.setStatus("Elapsed"); } else { questionnaire.setStatus("Open");
-						 * } }
-						 */
-
-						questionnaire.setQuestions(
-								questionsMap.get(questionnaireId) != null ? questionsMap.get(questionnaireId)
-										: new ArrayList<>());
-
-						questionnaire.setInstructions(
-								instructionsMap.get(questionnaireId) != null ? instructionsMap.get(questionnaireId)
-										: new ArrayList<>());
+						questionnaire.setQuestions(questionsMap.getOrEmpty(questionnaireId));
+						questionnaire.setInstructions(instructionsMap.getOrEmpty(questionnaireId));
 						questionnaireList.add(questionnaire);
 					});
-				}
-			}
 		} catch (Exception e) {
 			LOGGER.error("error while fetching getFeedbackQuestionnaireByPetId", e);
 			throw new ServiceExecutionException(e.getMessage());
@@ -207,159 +141,56 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 		return questionnaireList;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public List<Questionnaire> getQuestionnaireByPetId(int petId) throws ServiceExecutionException {
 		LOGGER.debug("getQuestionnaireByPetId called");
 		List<Questionnaire> questionnaireList = new ArrayList<>();
-		List<QuestionAnswer> questionAnswerList = new ArrayList<>();
+		// answers by questionnaire response id, then question id
+		IntKeyedBuckets<QuestionAnswer> answersMap = new IntKeyedBuckets<>();
 
-		Map<Integer, List<QuestionnaireInstruction>> instructionsMap = new HashMap<>();
-		Map<Integer, List<QuestionAnswerOption>> questionAnsOptsMap = new HashMap<>();
-		Map<Integer, List<Question>> questionsMap = new HashMap<>();
+		IntKeyedBuckets<QuestionnaireInstruction> instructionsMap = new IntKeyedBuckets<>();
+		IntKeyedBuckets<QuestionAnswerOption> questionAnsOptsMap = new IntKeyedBuckets<>();
+		IntKeyedBuckets<Question> questionsMap = new IntKeyedBuckets<>();
 		long startTime = System.currentTimeMillis();
 		try {
-			// in params
-			Map<String, Object> inputParams = new HashMap<String, Object>();
-			inputParams.put("p_pet_id", petId);
-
-			LOGGER.info("inputParams are {}", inputParams);
-			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_GET_QUESTIONNAIRE_BY_PET_ID, inputParams);
-			LOGGER.info("outParams are {}", outParams);
-
-			Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
-
-			while (itr.hasNext()) {
-				Map.Entry<String, Object> entry = (Map.Entry<String, Object>) itr.next();
-				String key = entry.getKey();
-
-				if (key.equals(RESULT_SET_1)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-
-					list.forEach(instruction -> {
-						QuestionnaireInstruction questionnaireInstruction = new QuestionnaireInstruction();
-						questionnaireInstruction
-								.setInstructionId((Integer) instruction.get("QUESTIONNAIRE_INSTRUCTION_ID"));
-						questionnaireInstruction.setInstruction((String) instruction.get("INSTRUCTION"));
-						questionnaireInstruction.setInstructionOrder((Integer) instruction.get("INSTRUCTION_ORDER"));
-
-						Integer questionnaireId = (Integer) instruction.get("QUESTIONNAIRE_ID");
-						instructionsMap.computeIfAbsent(questionnaireId, k -> new ArrayList<QuestionnaireInstruction>())
-								.add(questionnaireInstruction);
-					});
-				}
-
-				if (key.equals(RESULT_SET_2)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(answerOpts -> {
-						QuestionAnswerOption ansOptions = new QuestionAnswerOption();
-						ansOptions.setQuestionAnswerId((Integer) answerOpts.get("QUESTION_ANSWER_OPTION_ID"));
-						ansOptions.setQuestionAnswer((String) answerOpts.get("ANSWER"));
-
-						Integer questionId = (Integer) answerOpts.get("QUESTION_ID");
-
-						questionAnsOptsMap.computeIfAbsent(questionId, k -> new ArrayList<QuestionAnswerOption>())
-								.add(ansOptions);
-					});
-				}
-
-				if (key.equals(RESULT_SET_3)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(quest -> {
-						Question question = new Question();
-						Integer questionId = (Integer) quest.get("QUESTION_ID");
-						question.setQuestionId(questionId);
-						question.setQuestion((String) quest.get("QUESTION"));
-						question.setQuestionTypeId((Integer) quest.get("QUESTION_TYPE_ID"));
-						question.setQuestionType((String) quest.get("QUESTION_TYPE"));
-						question.setQuestionOrder((Integer) quest.get("QUESTION_ORDER"));
-						question.setIsMandatory(quest.get("IS_MANDATORY") != null
-								&& (Integer) quest.get("IS_MANDATORY") > NumberUtils.INTEGER_ZERO ? Boolean.TRUE
-										: Boolean.FALSE);
-
-						question.setCeil((Integer) quest.get("SCALE_MAX"));
-						question.setFloor((Integer) quest.get("SCALE_MIN"));
-						question.setTickStep((Integer) quest.get("STEP_VALUE"));
-
-						question.setQuestionAnswerOptions(
-								questionAnsOptsMap.get(questionId) != null ? questionAnsOptsMap.get(questionId)
-										: new ArrayList<>());
-
-						Integer questionnaireId = (Integer) quest.get("QUESTIONNAIRE_ID");
-
-						questionsMap.computeIfAbsent(questionnaireId, k -> new ArrayList<Question>()).add(question);
-					});
-				}
-
-				if (key.equals(RESULT_SET_4)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(quesObj -> {
-						Questionnaire questionnaire = new Questionnaire();
-						Integer questionnaireId = (Integer) quesObj.get("QUESTIONNAIRE_ID");
-						questionnaire.setStudyIds((String) quesObj.get("STUDY_ID"));
-
-						questionnaire.setQuestionnaireId(questionnaireId);
-						questionnaire.setQuestionnaireName((String) quesObj.get("QUESTIONNAIRE_NAME"));
-
-						Date startDate = (Date) quesObj.get("START_DATE");
-						questionnaire.setStartDate((startDate.toLocalDate()));
-
-						Date endDate = (Date) quesObj.get("END_DATE");
-						questionnaire.setEndDate((endDate.toLocalDate()));
-
-						Long ansCount = (Long) quesObj.get("ANS_CNT");
-						if (ansCount > 0) {
-							questionnaire.setStatus("Submitted");
-						} else {
-							if (endDate.toLocalDate().isBefore(LocalDate.now())) {
-								questionnaire.setStatus("Elapsed");
-							} else {
-								questionnaire.setStatus("Open");
-							}
-						}
-
-						Integer questionnaireResponseId = quesObj.get("QUESTIONNAIRE_RESPONSE_ID") != null
-								? (Integer) quesObj.get("QUESTIONNAIRE_RESPONSE_ID")
-								: NumberUtils.INTEGER_ZERO;
-						questionnaire.setQuestionnaireResponseId(questionnaireResponseId);
-
-						questionnaire.setQuestions(
-								questionsMap.get(questionnaireId) != null ? questionsMap.get(questionnaireId)
-										: new ArrayList<>());
-
-						questionnaire.setInstructions(
-								instructionsMap.get(questionnaireId) != null ? instructionsMap.get(questionnaireId)
-										: new ArrayList<>());
+			LOGGER.debug("inputParams are p_pet_id={}", petId);
+			callStoredProcedure(MOBILE_APP_GET_QUESTIONNAIRE_BY_PET_ID, new Object[] { petId },
+					instructionRowHandler(instructionsMap), answerOptionRowHandler(questionAnsOptsMap),
+					questionRowHandler(questionsMap, questionAnsOptsMap, false), rs -> {
+						Questionnaire questionnaire = questionnaireWithStatus(rs);
+						int questionnaireId = rs.getInt("QUESTIONNAIRE_ID");
+
+						Integer questionnaireResponseId = getInteger(rs, "QUESTIONNAIRE_RESPONSE_ID");
+						questionnaire.setQuestionnaireResponseId(
+								questionnaireResponseId != null ? questionnaireResponseId : NumberUtils.INTEGER_ZERO);
+
+						questionnaire.setQuestions(questionsMap.getOrEmpty(questionnaireId));
+						questionnaire.setInstructions(instructionsMap.getOrEmpty(questionnaireId));
 						questionnaireList.add(questionnaire);
-					});
-				}
-
-				if (key.equals(RESULT_SET_5)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(quesObj -> {
+					}, rs -> {
 						QuestionAnswer questionAnswer = new QuestionAnswer();
+						questionAnswer.setQuestionnaireResponseId(getInteger(rs, "QUESTIONNAIRE_RESPONSE_ID"));
+						questionAnswer.setQuestionId(getInteger(rs, "QUESTION_ID"));
+						questionAnswer.setAnswer(rs.getString("ANSWER"));
+						questionAnswer.setAnswerOptionId(getInteger(rs, "ANSWER_OPTION_ID"));
 
-						questionAnswer.setQuestionnaireResponseId((Integer) quesObj.get("QUESTIONNAIRE_RESPONSE_ID"));
-						questionAnswer.setQuestionId((Integer) quesObj.get("QUESTION_ID"));
-						questionAnswer.setAnswer((String) quesObj.get("ANSWER"));
-						questionAnswer.setAnswerOptionId((Integer) quesObj.get("ANSWER_OPTION_ID"));
-
-						questionAnswerList.add(questionAnswer);
+						answersMap.add(rs.getInt("QUESTIONNAIRE_RESPONSE_ID"), questionAnswer);
 					});
-				}
 
-				questionnaireList.parallelStream().forEach(questionnaire -> {
-					questionnaire.getQuestions().parallelStream().forEach(question -> {
-						Optional<QuestionAnswer> optionalAnswer = questionAnswerList.stream()
-								.filter(answer -> answer.getQuestionnaireResponseId()
-										.equals(questionnaire.getQuestionnaireResponseId())
-										&& answer.getQuestionId().equals(question.getQuestionId()))
-								.findFirst();
-						if (optionalAnswer.isPresent()) {
-							question.setAnswer(optionalAnswer.get().getAnswer());
+			// first answer of the questionnaire response wins for a question
+			for (Questionnaire questionnaire : questionnaireList) {
+				List<QuestionAnswer> answers = answersMap.get(questionnaire.getQuestionnaireResponseId());
+				if (answers == null) {
+					continue;
+				}
+				for (Question question : questionnaire.getQuestions()) {
+					for (QuestionAnswer answer : answers) {
+						if (answer.getQuestionId() != null && answer.getQuestionId().equals(question.getQuestionId())) {
+							question.setAnswer(answer.getAnswer());
+							break;
 						}
-					});
-				});
+					}
+				}
 			}
 			long endTime = System.currentTimeMillis();
 			LOGGER.info("Time taken to execute getQuestionnaireByPetId service in millis is {}", (endTime - startTime));
@@ -370,133 +201,117 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 		return questionnaireList;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public List<Questionnaire> getQuestionnaireAnswers(int petId, int inQuestionnaireId)
 			throws ServiceExecutionException {
 		LOGGER.debug("getQuestionnaireAnswers called");
 		List<Questionnaire> questionnaireList = new ArrayList<>();
 
-		Map<Integer, List<QuestionnaireInstruction>> instructionsMap = new HashMap<>();
-		Map<Integer, List<QuestionAnswerOption>> questionAnsOptsMap = new HashMap<>();
-		Map<Integer, List<Question>> questionsMap = new HashMap<>();
+		IntKeyedBuckets<QuestionnaireInstruction> instructionsMap = new IntKeyedBuckets<>();
+		IntKeyedBuckets<QuestionAnswerOption> questionAnsOptsMap = new IntKeyedBuckets<>();
+		IntKeyedBuckets<Question> questionsMap = new IntKeyedBuckets<>();
 		try {
-			// in params
-			Map<String, Object> inputParams = new HashMap<String, Object>();
-			inputParams.put("p_pet_id", petId);
-			inputParams.put("p_questionnaire_id", inQuestionnaireId);
-
-			LOGGER.info("inputParams are {}", inputParams);
-			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_GET_QUESTIONNAIRE_ASNWER_BY_ID, inputParams);
-			LOGGER.info("outParams are {}", outParams);
-
-			Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
-
-			while (itr.hasNext()) {
-				Map.Entry<String, Object> entry = (Map.Entry<String, Object>) itr.next();
-				String key = entry.getKey();
-
-				if (key.equals(RESULT_SET_1)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-
-					list.forEach(instruction -> {
-						QuestionnaireInstruction questionnaireInstruction = new QuestionnaireInstruction();
-						questionnaireInstruction
-								.setInstructionId((Integer) instruction.get("QUESTIONNAIRE_INSTRUCTION_ID"));
-						questionnaireInstruction.setInstruction((String) instruction.get("INSTRUCTION"));
-						questionnaireInstruction.setInstructionOrder((Integer) instruction.get("INSTRUCTION_ORDER"));
-
-						Integer questionnaireId = (Integer) instruction.get("QUESTIONNAIRE_ID");
-						instructionsMap.computeIfAbsent(questionnaireId, k -> new ArrayList<QuestionnaireInstruction>())
-								.add(questionnaireInstruction);
-					});
-				}
-
-				if (key.equals(RESULT_SET_2)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(answerOpts -> {
-						QuestionAnswerOption ansOptions = new QuestionAnswerOption();
-						ansOptions.setQuestionAnswerId((Integer) answerOpts.get("QUESTION_ANSWER_OPTION_ID"));
-						ansOptions.setQuestionAnswer((String) answerOpts.get("ANSWER"));
-
-						Integer questionId = (Integer) answerOpts.get("QUESTION_ID");
-
-						questionAnsOptsMap.computeIfAbsent(questionId, k -> new ArrayList<QuestionAnswerOption>())
-								.add(ansOptions);
-					});
-				}
-
-				if (key.equals(RESULT_SET_3)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(quest -> {
-						Question question = new Question();
-						Integer questionId = (Integer) quest.get("QUESTION_ID");
-						question.setQuestionId(questionId);
-						question.setQuestion((String) quest.get("QUESTION"));
-						question.setAnswer((String) quest.get("ANSWER"));
-						question.setQuestionTypeId((Integer) quest.get("QUESTION_TYPE_ID"));
-						question.setQuestionType((String) quest.get("QUESTION_TYPE"));
-						question.setQuestionOrder((Integer) quest.get("QUESTION_ORDER"));
-						question.setIsMandatory(quest.get("IS_MANDATORY") != null
-								&& (Integer) quest.get("IS_MANDATORY") > NumberUtils.INTEGER_ZERO ? Boolean.TRUE
-										: Boolean.FALSE);
-
-						question.setCeil((Integer) quest.get("SCALE_MAX"));
-						question.setFloor((Integer) quest.get("SCALE_MIN"));
-						question.setTickStep((Integer) quest.get("STEP_VALUE"));
-
-						question.setQuestionAnswerOptions(
-								questionAnsOptsMap.get(questionId) != null ? questionAnsOptsMap.get(questionId)
-										: new ArrayList<>());
-
-						Integer questionnaireId = (Integer) quest.get("QUESTIONNAIRE_ID");
-						questionsMap.computeIfAbsent(questionnaireId, k -> new ArrayList<Question>()).add(question);
+			LOGGER.debug("inputParams are p_pet_id={}, p_questionnaire_id={}", petId, inQuestionnaireId);
+			callStoredProcedure(MOBILE_APP_GET_QUESTIONNAIRE_ASNWER_BY_ID, new Object[] { petId, inQuestionnaireId },
+					instructionRowHandler(instructionsMap), answerOptionRowHandler(questionAnsOptsMap),
+					questionRowHandler(questionsMap, questionAnsOptsMap, true), rs -> {
+						Questionnaire questionnaire = questionnaireWithStatus(rs);
+						int questionnaireId = rs.getInt("QUESTIONNAIRE_ID");
+
+						questionnaire.setQuestions(questionsMap.getOrEmpty(questionnaireId));
+						questionnaire.setInstructions(instructionsMap.getOrEmpty(questionnaireId));
+						questionnaireList.add(questionnaire);
 					});
-				}
+		} catch (Exception e) {
+			LOGGER.error("error while fetching getQuestionnaireAnswers", e);
+			throw new ServiceExecutionException(e.getMessage());
+		}
+		return questionnaireList;
+	}
 
-				if (key.equals(RESULT_SET_4)) {
-					List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
-					list.forEach(quesObj -> {
-						Questionnaire questionnaire = new Questionnaire();
-						Integer questionnaireId = (Integer) quesObj.get("QUESTIONNAIRE_ID");
-						questionnaire.setStudyIds((String) quesObj.get("STUDY_ID"));
+	/**
+	 * Questionnaire result set 1, instructions grouped by questionnaire id
+	 */
+	private RowCallbackHandler instructionRowHandler(IntKeyedBuckets<QuestionnaireInstruction> instructionsMap) {
+		return rs -> {
+			QuestionnaireInstruction questionnaireInstruction = new QuestionnaireInstruction();
+			questionnaireInstruction.setInstructionId(getInteger(rs, "QUESTIONNAIRE_INSTRUCTION_ID"));
+			questionnaireInstruction.setInstruction(rs.getString("INSTRUCTION"));
+			questionnaireInstruction.setInstructionOrder(getInteger(rs, "INSTRUCTION_ORDER"));
+
+			instructionsMap.add(rs.getInt("QUESTIONNAIRE_ID"), questionnaireInstruction);
+		};
+	}
 
-						questionnaire.setQuestionnaireId(questionnaireId);
-						questionnaire.setQuestionnaireName((String) quesObj.get("QUESTIONNAIRE_NAME"));
+	/**
+	 * Questionnaire result set 2, answer options grouped by question id
+	 */
+	private RowCallbackHandler answerOptionRowHandler(IntKeyedBuckets<QuestionAnswerOption> questionAnsOptsMap) {
+		return rs -> {
+			QuestionAnswerOption ansOptions = new QuestionAnswerOption();
+			ansOptions.setQuestionAnswerId(getInteger(rs, "QUESTION_ANSWER_OPTION_ID"));
+			ansOptions.setQuestionAnswer(rs.getString("ANSWER"));
+
+			questionAnsOptsMap.add(rs.getInt("QUESTION_ID"), ansOptions);
+		};
+	}
 
-						Date startDate = (Date) quesObj.get("START_DATE");
-						questionnaire.setStartDate((startDate.toLocalDate()));
+	/**
+	 * Questionnaire result set 3, questions with their answer options grouped by
+	 * questionnaire id
+	 */
+	private RowCallbackHandler questionRowHandler(IntKeyedBuckets<Question> questionsMap,
+			IntKeyedBuckets<QuestionAnswerOption> questionAnsOptsMap, boolean withAnswer) {
+		return rs -> {
+			Question question = new Question();
+			int questionId = rs.getInt("QUESTION_ID");
+			question.setQuestionId(getInteger(rs, "QUESTION_ID"));
+			question.setQuestion(rs.getString("QUESTION"));
+			if (withAnswer) {
+				question.setAnswer(rs.getString("ANSWER"));
+			}
+			question.setQuestionTypeId(getInteger(rs, "QUESTION_TYPE_ID"));
+			question.setQuestionType(rs.getString("QUESTION_TYPE"));
+			question.setQuestionOrder(getInteger(rs, "QUESTION_ORDER"));
+			question.setIsMandatory(rs.getInt("IS_MANDATORY") > NumberUtils.INTEGER_ZERO ? Boolean.TRUE : Boolean.FALSE);
 
-						Date endDate = (Date) quesObj.get("END_DATE");
-						questionnaire.setEndDate((endDate.toLocalDate()));
+			question.setCeil(getInteger(rs, "SCALE_MAX"));
+			question.setFloor(getInteger(rs, "SCALE_MIN"));
+			question.setTickStep(getInteger(rs, "STEP_VALUE"));
 
-						Long ansCount = (Long) quesObj.get("ANS_CNT");
-						if (ansCount > 0) {
-							questionnaire.setStatus("Submitted");
-						} else {
-							if (endDate.toLocalDate().isBefore(LocalDate.now())) {
-								questionnaire.setStatus("Elapsed");
-							} else {
-								questionnaire.setStatus("Open");
-							}
-						}
+			question.setQuestionAnswerOptions(questionAnsOptsMap.getOrEmpty(questionId));
 
-						questionnaire.setQuestions(
-								questionsMap.get(questionnaireId) != null ? questionsMap.get(questionnaireId)
-										: new ArrayList<>());
+			questionsMap.add(rs.getInt("QUESTIONNAIRE_ID"), question);
+		};
+	}
 
-						questionnaire.setInstructions(
-								instructionsMap.get(questionnaireId) != null ? instructionsMap.get(questionnaireId)
-										: new ArrayList<>());
-						questionnaireList.add(questionnaire);
-					});
-				}
+	/**
+	 * Questionnaire result set 4 columns shared by the pet questionnaire lists,
+	 * the status is derived from the answer count and the end date
+	 */
+	private static Questionnaire questionnaireWithStatus(ResultSet rs) throws SQLException {
+		Questionnaire questionnaire = new Questionnaire();
+		questionnaire.setStudyIds(rs.getString("STUDY_ID"));
+		questionnaire.setQuestionnaireId(getInteger(rs, "QUESTIONNAIRE_ID"));
+		questionnaire.setQuestionnaireName(rs.getString("QUESTIONNAIRE_NAME"));
+
+		Date startDate = rs.getDate("START_DATE");
+		questionnaire.setStartDate(startDate.toLocalDate());
+
+		Date endDate = rs.getDate("END_DATE");
+		questionnaire.setEndDate(endDate.toLocalDate());
+
+		long ansCount = rs.getLong("ANS_CNT");
+		if (ansCount > 0) {
+			questionnaire.setStatus("Submitted");
+		} else {
+			if (endDate.toLocalDate().isBefore(LocalDate.now())) {
+				questionnaire.setStatus("Elapsed");
+			} else {
+				questionnaire.setStatus("Open");
 			}
-		} catch (Exception e) {
-			LOGGER.error("error while fetching getQuestionnaireAnswers", e);
-			throw new ServiceExecutionException(e.getMessage());
 		}
-		return questionnaireList;
+		return questionnaire;
 	}
 
 	@Override
@@ -508,11 +323,11 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 			inputParams.put("p_questionnaire_id", questionAnswerRequest.getQuestionnaireId());
 			inputParams.put("p_study_ids", questionAnswerRequest.getStudyIds());
 			inputParams.put("p_question_answer_json",
-					new ObjectMapper().writeValueAsString(questionAnswerRequest.getQuestionAnswers()));
+					jsonCodec.toJson(questionAnswerRequest.getQuestionAnswers(), QuestionAnswer.class));
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_INSERT_QUESTIONNAIRE_RESPONSE, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			// System.out.println(outParams);
 			String errorMsg = (String) outParams.get("out_error_msg");
 			int statusFlag = (int) outParams.get("out_flag");
@@ -545,7 +360,7 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 		final PetCampaignPointsDTO petCampaignPointsDTO = new PetCampaignPointsDTO();
 		LOGGER.debug("getPetCampaignPoints called");
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_ALL_CAMPAIGN_POINTS_BY_PET, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_ALL_CAMPAIGN_POINTS_BY_PET, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					petCampaignPointsDTO.setTotalEarnedPoints(rs.getInt("TOTAL_EARNED_POINTS"));
@@ -570,8 +385,9 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 	public List<PetCampaignPointsListDTO> getPetCampaignPointsList(int petId) throws ServiceExecutionException {
 		LOGGER.debug("getPetCampaignList called");
 		List<PetCampaignPointsListDTO> campaignList = new ArrayList<>();
+		MediaUrlBatch mediaUrls = mediaUrlResolver.newBatch();
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_CAMPAIGN_POINTS_LIST_BY_PET, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_CAMPAIGN_POINTS_LIST_BY_PET, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					PetCampaignPointsListDTO campagin = new PetCampaignPointsListDTO();
@@ -590,9 +406,8 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 					String imageURL = rs.getString("IMAGE_PATH");
 					if (StringUtils.isNotBlank(imageURL)) {
 						if (!StringUtils.contains(imageURL, "firebasestorage")) {
-							String imageSignedUrl = gcpClientUtil.getDownloaFiledUrl(
-									imageURL.concat("/").concat(fileName), Constants.GCP_OBSERVATION_PHOTO_PATH);
-							campagin.setImageUrl(imageSignedUrl);
+							mediaUrls.addGcpFile(imageURL.concat("/").concat(fileName),
+									Constants.GCP_OBSERVATION_PHOTO_PATH, campagin::setImageUrl);
 						} else {
 							campagin.setImageUrl(imageURL);
 						}
@@ -601,11 +416,10 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 					String videoURL = rs.getString("VIDEO_URL");
 					if (StringUtils.isNotBlank(videoURL)) {
 						if (!StringUtils.contains(videoURL, "firebasestorage")) {
-							String mediaSignedUrl = gcpClientUtil.getDownloaFiledUrl(
+							mediaUrls.addGcpFile(
 									videoURL.replaceAll("https://storage.googleapis.com/wearables-portal-media/"
 											+ environment + "/GCloud/WPortal/ObservationVideo/", ""),
-									Constants.GCP_OBSERVATION_VIDEO_PATH);
-							campagin.setVideoUrl(mediaSignedUrl);
+									Constants.GCP_OBSERVATION_VIDEO_PATH, campagin::setVideoUrl);
 						} else {
 							campagin.setVideoUrl(videoURL);
 						}
@@ -614,12 +428,11 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 					String videoThumbnailURL = rs.getString("VIDEO_THUMBNAIL");
 					if (StringUtils.isNotBlank(videoThumbnailURL)) {
 						if (!StringUtils.contains(videoThumbnailURL, "firebasestorage")) {
-							String mediaSignedThumbUrl = gcpClientUtil.getDownloaFiledUrl(
+							mediaUrls.addGcpFile(
 									videoThumbnailURL
 											.replaceAll("https://storage.googleapis.com/wearables-portal-media/"
 													+ environment + "/GCloud/WPortal/ObservationVideoThumbnail/", ""),
-									Constants.GCP_OBSERVATION_VIDEO_THUMBNAIL_PATH);
-							campagin.setVideoThumbnailUrl(mediaSignedThumbUrl);
+									Constants.GCP_OBSERVATION_VIDEO_THUMBNAIL_PATH, campagin::setVideoThumbnailUrl);
 						} else {
 							campagin.setVideoThumbnailUrl(videoThumbnailURL);
 						}
@@ -637,6 +450,7 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 					campaignList.add(campagin);
 				}
 			}, petId);
+			mediaUrls.resolve();
 		} catch (Exception e) {
 			LOGGER.error("error while fetching getPetCampaignList", e);
 			throw new ServiceExecutionException(e.getMessage());
@@ -648,15 +462,19 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 	@Override
 	public int getPetParentByPetParentKey(String petParentKey) throws ServiceExecutionException {
 		LOGGER.debug("getPetParentByAuthKey called");
+		Integer cachedPetParentKeyId = petParentKeyCache.get(petParentKey);
+		if (cachedPetParentKeyId != null) {
+			return cachedPetParentKeyId;
+		}
 		int petParentKeyId = 0;
 		try {
 			// in params
 			Map<String, Object> inputParams = new HashMap<String, Object>();
 			inputParams.put("p_pet_parent_key", petParentKey);
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_PET_PARENT_AUTH_BY_KEY, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
 
@@ -676,6 +494,7 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 			LOGGER.error("error while fetching getPetParentByAuthKey", e);
 			throw new ServiceExecutionException(e.getMessage());
 		}
+		petParentKeyCache.put(petParentKey, petParentKeyId);
 		return petParentKeyId;
 	}
 
@@ -684,7 +503,7 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 		List<Campaign> campaignList = new ArrayList<>();
 		LOGGER.debug("getCampaignListByPet called");
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_CAMPAIGNS_BY_PET, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_CAMPAIGNS_BY_PET, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					Campaign campaign = new Campaign();
@@ -708,9 +527,10 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 	@Override
 	public List<LeaderBoard> getLeaderBoardByCampaignId(int campaignId) throws ServiceExecutionException {
 		List<LeaderBoard> leaderBoards = new ArrayList<>();
+		MediaUrlBatch mediaUrls = mediaUrlResolver.newBatch();
 		LOGGER.debug("getLeaderBoardByCampaignId called");
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_LEADER_BOARD_BY_CAMPAIGN, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_LEADER_BOARD_BY_CAMPAIGN, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					LeaderBoard leaderBoard = new LeaderBoard();
@@ -722,8 +542,7 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 						String imageName = rs.getString("PHOTO_NAME");
 						// String petPhotoUrl = photoPath + imageName;
 						// leaderBoard.setPetPhotoUrl(petPhotoUrl);
-						leaderBoard.setPetPhotoUrl(
-								gcpClientUtil.getDownloaFiledUrl(imageName, Constants.GCP_PET_PHOTO_PATH));
+						mediaUrls.addGcpFile(imageName, Constants.GCP_PET_PHOTO_PATH, leaderBoard::setPetPhotoUrl);
 					}
 
 					leaderBoard.setPoints(rs.getInt("POINTS"));
@@ -732,6 +551,7 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 					leaderBoards.add(leaderBoard);
 				}
 			}, campaignId);
+			mediaUrls.resolve();
 		} catch (Exception e) {
 			LOGGER.error("error while fetching getLeaderBoardByCampaignId", e);
 			throw new ServiceExecutionException(e.getMessage());
@@ -745,7 +565,7 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 		List<PetRedemptionHistoryDTO> redemptionHistoryDTOs = new ArrayList<>();
 
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_REDEEMTION_HISTORY_BY_PET, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_REDEEMTION_HISTORY_BY_PET, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					PetRedemptionHistoryDTO redemptionHistoryDTO = new PetRedemptionHistoryDTO();
@@ -778,9 +598,9 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 			inputParams.put("p_device_type", assignSensorRequest.getDeviceType());
 			inputParams.put("p_assigned_date", assignSensorRequest.getAssignedDate());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_ASSIGN_PET_SENSOR, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			// System.out.println(outParams);
 			String errorMsg = (String) outParams.get("out_error_msg");
@@ -817,9 +637,10 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 		LOGGER.debug("getPetDevicesByPetParent called");
 		List<PetDTO> petDevices = new ArrayList<>();
 		Map<Integer, List<DeviceDTO>> devicesMap = new HashMap<>();
+		MediaUrlBatch mediaUrls = mediaUrlResolver.newBatch();
 		long startTime = System.currentTimeMillis();
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_PET_DEVICES_BY_PET_PARENT_ID, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_PET_DEVICES_BY_PET_PARENT_ID, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					PetDTO petDTO = new PetDTO();
@@ -827,11 +648,6 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 					petDTO.setPetName(rs.getString("PET_NAME"));
 
 					String imageName = rs.getString("PHOTO_NAME");
-					if (StringUtils.isNotEmpty(imageName)) {
-						// String photoUrl = photoPath + imageName;
-						// petDeviceDTO.setPhotoUrl(photoUrl);
-						petDTO.setPhotoUrl(gcpClientUtil.getDownloaFiledUrl(imageName, Constants.GCP_PET_PHOTO_PATH));
-					}
 					if (StringUtils.isNotEmpty(rs.getString("weightData"))) {
 						String[] weightData = rs.getString("weightData").split("###");
 						if (("lbs").equals(weightData[Constants.NUMBER_TWO])) {
@@ -875,9 +691,14 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 						devicesMap.put(petDTO.getPetID(), devices);
 						petDTO.setDevices(devicesMap.get(petDTO.getPetID()));
 						petDevices.add(petDTO);
+						// signed only once per pet, after the query
+						if (StringUtils.isNotEmpty(imageName)) {
+							mediaUrls.addGcpFile(imageName, Constants.GCP_PET_PHOTO_PATH, petDTO::setPhotoUrl);
+						}
 					}
 				}
 			}, petParentId);
+			mediaUrls.resolve();
 			long endTime = System.currentTimeMillis();
 			LOGGER.info("Time taken to execute getPetDevicesByPetParent service in millis is {}",
 					(endTime - startTime));
@@ -893,7 +714,7 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 		List<MobileAppFeedback> mobileAppFeedbackList = new ArrayList<>();
 		LOGGER.debug("getMobileAppFeedback called");
 		try {
-			jdbcTemplate.query(MOBILE_APP_FEEDBACK_LIST, new RowCallbackHandler() {
+			query(MOBILE_APP_FEEDBACK_LIST, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					MobileAppFeedback mobileAppFeedback = new MobileAppFeedback();
@@ -923,7 +744,7 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 		List<String> deviceTypeList = new ArrayList<>();
 		LOGGER.debug("getDeviceType called");
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_DEVICE_TYPES, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_DEVICE_TYPES, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet resultSet) throws SQLException {
 					deviceTypeList.add(resultSet.getString("DEVICE_TYPE"));
@@ -941,7 +762,7 @@ public class MobileAppDaoImpl extends BaseDaoImpl implements MobileAppDao {
 		List<String> deviceModelList = new ArrayList<>();
 		LOGGER.debug("getDeviceModel called");
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_DEVICE_MODELS, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_DEVICE_MODELS, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet resultSet) throws SQLException {
 					deviceModelList.add(resultSet.getString("DEVICE_MODEL"));
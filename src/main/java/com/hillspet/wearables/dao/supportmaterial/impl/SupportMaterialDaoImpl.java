@@ -4,7 +4,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+
+import javax.annotation.PostConstruct;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -15,7 +16,8 @@ import org.springframework.stereotype.Repository;
 
 import com.hillspet.wearables.common.constants.Constants;
 import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
-import com.hillspet.wearables.common.utils.GCPClientUtil;
+import com.hillspet.wearables.common.utils.MediaUrlBatch;
+import com.hillspet.wearables.common.utils.MediaUrlResolver;
 import com.hillspet.wearables.dao.BaseDaoImpl;
 import com.hillspet.wearables.dao.supportmaterial.SupportMaterialDao;
 import com.hillspet.wearables.dto.MaterialCategory;
@@ -29,18 +31,23 @@ public class SupportMaterialDaoImpl extends BaseDaoImpl implements SupportMateri
 	private static final Logger LOGGER = LogManager.getLogger(SupportMaterialDaoImpl.class);
 
 	@Autowired
-	private GCPClientUtil gcpClientUtil;
+	private MediaUrlResolver mediaUrlResolver;
 
 	private static String GET_SUPPORT_MATERIAL_TYPES = "MOBILE_APP_GET_SUPPORT_MATERIAL_TYPES";
 	private static String GET_SUPPORT_MATERIAL_CATEGORIES = "MOBILE_APP_GET_SUPPORT_MATERIAL_CATEGORIES";
 	private static String GET_SUPPORT_MATERIALS = "CALL MOBILE_APP_GET_SUPPORT_MATERIALS(?,?,?,?,?)";
 
+	@PostConstruct
+	public void declareProcedures() {
+		declareReadOnly(GET_SUPPORT_MATERIAL_TYPES, GET_SUPPORT_MATERIAL_CATEGORIES, GET_SUPPORT_MATERIALS);
+	}
+
 	@Override
 	public List<MaterialType> getMaterialTypeList() throws ServiceExecutionException {
 		List<MaterialType> materialTypeList = new ArrayList<>();
 		LOGGER.debug("getMaterialTypeList called");
 		try {
-			jdbcTemplate.query(GET_SUPPORT_MATERIAL_TYPES, new RowCallbackHandler() {
+			query(GET_SUPPORT_MATERIAL_TYPES, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					MaterialType materialType = new MaterialType();
@@ -61,7 +68,7 @@ public class SupportMaterialDaoImpl extends BaseDaoImpl implements SupportMateri
 		List<MaterialCategory> materialCategoryList = new ArrayList<>();
 		LOGGER.debug("getMaterialCategoryList called");
 		try {
-			jdbcTemplate.query(GET_SUPPORT_MATERIAL_CATEGORIES, new RowCallbackHandler() {
+			query(GET_SUPPORT_MATERIAL_CATEGORIES, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					MaterialCategory materialCategory = new MaterialCategory();
@@ -85,10 +92,11 @@ public class SupportMaterialDaoImpl extends BaseDaoImpl implements SupportMateri
 		List<SupportMaterialDetails> fags = new ArrayList<>();
 		List<SupportMaterialDetails> videos = new ArrayList<>();
 		List<SupportMaterialDetails> userGuides = new ArrayList<>();
+		MediaUrlBatch mediaUrls = mediaUrlResolver.newBatch();
 
 		LOGGER.debug("getSupportMaterials called");
 		try {
-			jdbcTemplate.query(GET_SUPPORT_MATERIALS, new RowCallbackHandler() {
+			query(GET_SUPPORT_MATERIALS, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					SupportMaterialDetails supportMaterial = new SupportMaterialDetails();
@@ -106,12 +114,14 @@ public class SupportMaterialDaoImpl extends BaseDaoImpl implements SupportMateri
 					String filePath = rs.getString("URL_OR_ANSWER");
 					if (StringUtils.isNotBlank(filePath)
 							&& supportMaterial.getMaterialTypeId() != Constants.NUMBER_TWO) {
-						Map<String, String> fileData = gcpClientUtil.getDownloadFirebaseFileUrlWithSize(filePath);
-						supportMaterial.setUrlOrAnswer(fileData.get("URL"));
-						supportMaterial.setSize(fileData.get("SIZE")); // SIZE
+						mediaUrls.addFirebaseFile(filePath, fileData -> {
+							supportMaterial.setUrlOrAnswer(fileData.get("URL"));
+							supportMaterial.setSize(fileData.get("SIZE")); // SIZE
+						});
 
 						supportMaterial.setFileName(rs.getString("UPLOADED_FILE_NAME"));
-						supportMaterial.setThumbnailUrl(gcpClientUtil.getDownloadFirebaseFileUrlWithSize(rs.getString("THUMBNAIL_URL")).get("URL"));
+						mediaUrls.addFirebaseFile(rs.getString("THUMBNAIL_URL"),
+								fileData -> supportMaterial.setThumbnailUrl(fileData.get("URL")));
 					}
 
 					if (supportMaterial.getMaterialTypeId() == Constants.NUMBER_ONE) {
@@ -127,6 +137,7 @@ public class SupportMaterialDaoImpl extends BaseDaoImpl implements SupportMateri
 					}
 				}
 			}, materialType, categoryId, subCategoryId, deviceType, deviceModel);
+			mediaUrls.resolve();
 			supportMaterials.setVideos(videos);
 			supportMaterials.setFags(fags);
 			supportMaterials.setUserGuides(userGuides);
@@ -12,16 +12,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import javax.annotation.PostConstruct;
+
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 import org.threeten.bp.LocalDate;
 
 import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
 import com.hillspet.wearables.dao.BaseDaoImpl;
+import com.hillspet.wearables.dao.cache.PetParentKeyCache;
 import com.hillspet.wearables.dao.user.MigratedDao;
 import com.hillspet.wearables.dto.ClientInfo;
 import com.hillspet.wearables.dto.ClientSMSCode;
@@ -41,6 +45,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 
 	private static final Logger LOGGER = LogManager.getLogger(MigratedDaoImpl.class);
 
+	@Autowired
+	private PetParentKeyCache petParentKeyCache;
+
 	public static final String RESULT_SET_1 = "#result-set-1";
 	public static final String RESULT_SET_2 = "#result-set-2";
 	public static final String RESULT_SET_3 = "#result-set-3";
@@ -83,11 +90,20 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 	public static final String MOBILE_APP_INSERT_MONITORING_PLAN = "MOBILE_APP_INSERT_MONITORING_PLAN";
 	public static final String MOBILE_APP_PET_PARENT_LOG_OUT = "MOBILE_APP_PET_PARENT_LOG_OUT";
 
+	@PostConstruct
+	public void declareProcedures() {
+		// set values or only read, safe to run again after a transient failure
+		declareIdempotent(MOBILE_APP_UPDATE_PET_PARENT_INFO, MOBILE_APP_UPDATE_PET_PARENT_PASSWORD,
+				MOBILE_APP_UPDATE_SENSOR_SETUP_STATUS, MOBILE_APP_GET_SENSOR_SETUP_STATUS,
+				MOBILE_APP_GET_DEVICE_ASSIGNMENT_BY_DEVICE_NUMBER, MOBILE_APP_UPDATE_PET_INFO,
+				MOBILE_APP_UPDATE_ONBOARDING_ARCHIVED, MOBILE_APP_UPDATE_ONBOARDING_STATUS, MOBILE_APP_PET_PARENT_LOG_OUT);
+	}
+
 	public ClientInfo getClientInfoByEmail(String email) throws ServiceExecutionException {
 		LOGGER.info("entered into getClientInfoByEmail");
 		ClientInfo clientInfo = new ClientInfo();
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_CLIENT_INFO_BY_EMAIL, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_CLIENT_INFO_BY_EMAIL, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					// set the column values to fields like below
@@ -119,9 +135,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_email", email);
 			inputParams.put("p_password", password);
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_VALIDATE_PET_PARENT_LOGIN, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
 			while (itr.hasNext()) {
@@ -163,9 +179,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_add_date", parentKeyInfoDTO.getAddDate());
 			inputParams.put("p_login_user_id", parentKeyInfoDTO.getUserId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_INSERT_PET_PARENT_KEY, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			// System.out.println(outParams);
 			uniqueId = (int) outParams.get("last_insert_id");
 			LOGGER.debug("returning from insertClientKey");
@@ -190,9 +206,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_fcm_token", clientInfo.getFcmToken());
 			inputParams.put("p_login_user_id", clientInfo.getClientId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_UPDATE_PET_PARENT_INFO, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			// System.out.println(outParams);
 			int uniqueId = (int) outParams.get("last_insert_id");
 			LOGGER.debug("returning from updateClientInfo");
@@ -208,7 +224,7 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 		LOGGER.debug("entered into getClientSMSCodeByClientID");
 		ClientSMSCode clientSMSCode = new ClientSMSCode();
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_PET_PARENT_SMS_CODE_BY_PET_PARENT_ID, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_PET_PARENT_SMS_CODE_BY_PET_PARENT_ID, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					clientSMSCode.setPetParentSMSCodeId(rs.getInt("PET_PARENT_SMS_CODE_ID"));
@@ -243,9 +259,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_is_expired", clientSMSCode.getExpired());
 			inputParams.put("p_login_user_id", clientSMSCode.getUserId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_UPDATE_PET_PARENT_SMS_CODE, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			// System.out.println(outParams);
 			uniqueId = (int) outParams.get("last_insert_id");
 			LOGGER.debug("returning from updateClientSMSCode");
@@ -268,9 +284,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_add_date", clientSMSCode.getAddDate());
 			inputParams.put("p_login_user_id", clientSMSCode.getClientID());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_INSERT_PET_PARENT_SMS_CODE, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			// System.out.println(outParams);
 			uniqueId = (int) outParams.get("last_insert_id");
 			LOGGER.debug("returning from insertClientSMSCode");
@@ -291,10 +307,10 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_pet_parent_id", clientID);
 			inputParams.put("p_verification_code", verificationCode);
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(
 					MOBILE_APP_GET_SMS_CODE_BY_PET_PARENT_ID_AND_VERIFICATION_CODE, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
 			while (itr.hasNext()) {
@@ -338,9 +354,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_password", clientInfo.getPassword());
 			inputParams.put("p_login_user_id", clientInfo.getClientId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_UPDATE_PET_PARENT_PASSWORD, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			uniqueId = (int) outParams.get("last_insert_id");
 			LOGGER.debug("returning from insertClientKey");
@@ -356,7 +372,7 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 		LOGGER.debug("entered into getPetListByPetParentId");
 		List<PetInfoDTO> petList = new ArrayList<PetInfoDTO>();
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_PET_LIST_BY_PET_PARENT_ID, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_PET_LIST_BY_PET_PARENT_ID, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					PetInfoDTO petInfoDTO = new PetInfoDTO();
@@ -390,7 +406,7 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_plan_id", planId);
 			inputParams.put("p_pet_id", petId);
 
-			jdbcTemplate.query(MOBILE_APP_GET_DEVICE_ASSIGN_LIST_BY_PLAN_ID_AND_PET_ID, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_DEVICE_ASSIGN_LIST_BY_PLAN_ID_AND_PET_ID, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					DeviceAssignDTO assignDTO = new DeviceAssignDTO();
@@ -442,15 +458,19 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 	@SuppressWarnings("unchecked")
 	public int getPetParentByPetParentKey(String petParentKey) throws ServiceExecutionException {
 		LOGGER.debug("getPetParentByAuthKey called");
+		Integer cachedPetParentKeyId = petParentKeyCache.get(petParentKey);
+		if (cachedPetParentKeyId != null) {
+			return cachedPetParentKeyId;
+		}
 		int petParentKeyId = 0;
 		try {
 			// in params
 			Map<String, Object> inputParams = new HashMap<String, Object>();
 			inputParams.put("p_pet_parent_key", petParentKey);
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_PET_PARENT_AUTH_BY_KEY, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
 
 			while (itr.hasNext()) {
@@ -469,6 +489,7 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			LOGGER.error("error while fetching getPetParentByAuthKey", e);
 			throw new ServiceExecutionException(e.getMessage());
 		}
+		petParentKeyCache.put(petParentKey, petParentKeyId);
 		return petParentKeyId;
 	}
 
@@ -477,7 +498,7 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 		LOGGER.debug("entered into getClientInfoById");
 		ClientInfo clientInfo = new ClientInfo();
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_PET_PARENT_INFO_BY_PET_PARENT_ID, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_PET_PARENT_INFO_BY_PET_PARENT_ID, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					// set the column values to fields like below
@@ -508,7 +529,7 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 		LOGGER.debug("entered into getPasswordByClientID");
 		ClientInfo clientInfo = new ClientInfo();
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_PET_PARENT_PASSWORD_BY_PET_PARENT_ID, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_PET_PARENT_PASSWORD_BY_PET_PARENT_ID, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					clientInfo.setPassword(rs.getString(1));
@@ -527,7 +548,7 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 		List<TimerLog> petTimerLogDTOs = new ArrayList<TimerLog>();
 		LOGGER.debug("getPetTimerLog called");
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_PET_TIMER_LOG, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_PET_TIMER_LOG, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					TimerLog timerLog = new TimerLog();
@@ -568,9 +589,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_timer_date", timerLog.getTimerDate());
 			inputParams.put("p_login_user_id", timerLog.getUserId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_INSERT_PET_TIMER_LOG, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			// System.out.println(outParams);
 			int uniqueId = (int) outParams.get("last_insert_id");
 			LOGGER.debug("returning from managePetTimerLog");
@@ -599,10 +620,10 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 				inputParams.put("p_opt", 0);
 			}
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_INSERT_MOBILE_APP_SCREENS_FEEDBACK,
 					inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			// System.out.println(outParams);
 			int uniqueId = (int) outParams.get("last_insert_id");
 			LOGGER.debug("returning from manageMobileAppScreensFeedback");
@@ -624,9 +645,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_ssid_list", sensorDetailsDTO.getSsidList());
 			inputParams.put("p_login_user_id", sensorDetailsDTO.getPetParentId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_UPDATE_SENSOR_SETUP_STATUS, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			// System.out.println(outParams);
 			int uniqueId = (int) outParams.get("last_insert_id");
 			LOGGER.debug("returning from updateSensorSetupStatus");
@@ -648,9 +669,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_pet_id", petId);
 			inputParams.put("p_pet_parent_id", petParentId);
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_GET_SENSOR_SETUP_STATUS, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
 			while (itr.hasNext()) {
@@ -689,10 +710,10 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			}
 			inputParams.put("p_login_user_id", sensorDetailsDTO.getPetParentId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(
 					MOBILE_APP_INSERT_UPDATE_SENSOR_CHARGING_NOTIFICATION_SETTINGS, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			// System.out.println(outParams);
 			int uniqueId = (int) outParams.get("last_insert_id");
@@ -715,10 +736,10 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_device_number", deviceNumber);
 			inputParams.put("p_pet_parent_id", clientId);
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_GET_DEVICE_ASSIGNMENT_BY_DEVICE_NUMBER,
 					inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
 			while (itr.hasNext()) {
@@ -772,9 +793,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_phone_number", clientInfo.getPhoneNumber());
 			inputParams.put("p_login_user_id", clientInfo.getUserId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_INSERT_PET_PARENT_INFO, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 
 			// System.out.println(outParams);
 			uniqueId = (int) outParams.get("last_insert_id");
@@ -801,9 +822,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_is_free", onboardingInfo.isIsFree());
 			inputParams.put("p_login_user_id", onboardingInfo.getUserID());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_HANDLE_ONBOARDING_INFO, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
 
 			while (itr.hasNext()) {
@@ -833,7 +854,7 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 		LOGGER.debug("entered into getOnboardingInfoByUID");
 		OnboardingInfo onboardingInfo = new OnboardingInfo();
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_ONBOARDING_INFO_BY_UID, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_ONBOARDING_INFO_BY_UID, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					onboardingInfo.setUID(rs.getString("UID"));
@@ -861,7 +882,7 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 		LOGGER.debug("entered into getMonitoringPlanList");
 		List<MonitoringPlan> monitoringPlanList = new ArrayList<MonitoringPlan>();
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_STUDY_PLANS_LIST_BY_STUDY_ID, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_STUDY_PLANS_LIST_BY_STUDY_ID, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					MonitoringPlan monitoringPlan = new MonitoringPlan();
@@ -885,7 +906,7 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 		LOGGER.debug("entered into getPetInfoByID");
 		PetInfoDTO petInfoDTO = new PetInfoDTO();
 		try {
-			jdbcTemplate.query(MOBILE_APP_GET_PET_INFO_BY_PET_ID, new RowCallbackHandler() {
+			query(MOBILE_APP_GET_PET_INFO_BY_PET_ID, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					Date sqlDate = null;
@@ -976,9 +997,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_is_deceased", petInfo.getIsDeceased());
 			inputParams.put("p_login_user_id", petInfo.getUserId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_UPDATE_PET_INFO, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			// System.out.println(outParams);
 			int uniqueId = (int) outParams.get("last_insert_id");
 			LOGGER.debug("returning from updatePetInfo");
@@ -1010,9 +1031,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_algorithm_version", petInfo.getAlgorithmVersion());
 			inputParams.put("p_login_user_id", petInfo.getUserId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_INSERT_PET_INFO, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			// System.out.println(outParams);
 			int uniqueId = (int) outParams.get("last_insert_id");
 			LOGGER.debug("returning from insertPetInfo");
@@ -1036,9 +1057,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_checked_by", petCheckedInfo.getCheckedBy());
 			inputParams.put("p_login_user_id", petCheckedInfo.getCheckedBy());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_INSERT_PET_CHECKED_INFO, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
 
 			while (itr.hasNext()) {
@@ -1067,7 +1088,7 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 		DeviceInfo deviceInfo = new DeviceInfo();
 		LOGGER.debug("getDeviceInfoByDeviceNumber called");
 		try {
-			jdbcTemplate.query(MOBLIE_APP_GET_DEVICE_INFO_BY_DEVICE_NUMBER, new RowCallbackHandler() {
+			query(MOBLIE_APP_GET_DEVICE_INFO_BY_DEVICE_NUMBER, new RowCallbackHandler() {
 				@Override
 				public void processRow(ResultSet rs) throws SQLException {
 					deviceInfo.setDeviceID(rs.getInt("DEVICE_ID"));
@@ -1096,9 +1117,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_add_date", deviceInfo.getAddDate());
 			inputParams.put("p_login_user_id", deviceInfo.getUserId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_INSERT_DEVICE_INFO, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			// System.out.println(outParams);
 			uniqueId = (int) outParams.get("last_insert_id");
 			LOGGER.debug("returning from insertDeviceInfo");
@@ -1120,9 +1141,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_note", deviceAssign.getNote());
 			inputParams.put("p_login_user_id", deviceAssign.getUserId());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_INSERT_PET_STUDY_DEVICE, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
 
 			while (itr.hasNext()) {
@@ -1152,9 +1173,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			Map<String, Object> inputParams = new HashMap<>();
 			inputParams.put("p_uid", UID);
 			inputParams.put("p_login_user_id", userId);
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_UPDATE_ONBOARDING_ARCHIVED, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 		} catch (SQLException e) {
 			LOGGER.error("error while executing updateSensorSetupStatus ", e);
 			throw new ServiceExecutionException(e.getMessage());
@@ -1169,9 +1190,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_uid", UID);
 			inputParams.put("p_onboarding_status", sbStatus);
 			inputParams.put("p_login_user_id", userId);
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_UPDATE_ONBOARDING_STATUS, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 		} catch (SQLException e) {
 			LOGGER.error("error while executing updateSensorSetupStatus ", e);
 			throw new ServiceExecutionException(e.getMessage());
@@ -1202,9 +1223,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			inputParams.put("p_user_id", monitoringPlan.getUserID());
 			inputParams.put("p_login_user_id", monitoringPlan.getUserID());
 
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			Map<String, Object> outParams = callStoredProcedure(MOBILE_APP_INSERT_MONITORING_PLAN, inputParams);
-			LOGGER.info("outParams are {}", outParams);
+			LOGGER.debug("outParams are {}", outParams);
 			// System.out.println(outParams);
 			uniqueId = (int) outParams.get("last_insert_id");
 			LOGGER.debug("returning from insertMonitoringPlan");
@@ -1222,8 +1243,9 @@ public class MigratedDaoImpl extends BaseDaoImpl implements MigratedDao {
 			Map<String, Object> inputParams = new HashMap<>();
 			inputParams.put("p_pet_parent_key", token);
 			inputParams.put("p_pet_parent_id", petParentId);
-			LOGGER.info("inputParams are {}", inputParams);
+			LOGGER.debug("inputParams are {}", inputParams);
 			callStoredProcedure(MOBILE_APP_PET_PARENT_LOG_OUT, inputParams);
+			petParentKeyCache.invalidate(token);
 		} catch (SQLException e) {
 			LOGGER.error("error while executing logoutUser ", e);
 			throw new ServiceExecutionException(e.getMessage());
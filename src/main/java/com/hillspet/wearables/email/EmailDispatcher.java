@@ -0,0 +1,332 @@
+package com.hillspet.wearables.email;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hillspet.wearables.common.utils.JsonCodec;
+import com.hillspet.wearables.common.utils.SendGridEmailUtil;
+
+/**
+ * Outbound email queue. {@link #send(String, String, String)} only hands the
+ * mail to the journal and the queue, it never waits on SendGrid, on a worker
+ * or on the disk.
+ *
+ * At most wearables.email.queueCapacity mails are pending at a time, mails
+ * above that are rejected and logged, send returns false for them so that the
+ * callers can report the mail as not sent. Pending mails are kept in a journal
+ * (wearables.email.journalFile) and queued again after a restart. A dedicated
+ * pool of wearables.email.workers threads sends them, network errors,
+ * throttling and SendGrid server errors are retried with an
+ * exponential backoff up to wearables.email.maxAttempts.
+ *
+ * A worker collects the mails queued within wearables.email.batch.lingerMillis
+ * of the first one, up to wearables.email.batch.maxSize, and sends the mails
+ * sharing a subject and body as one SendGrid request with a personalization
+ * per recipient. The per recipient values are passed as substitutions.
+ * SendGrid refuses the whole request with a 400 for a single malformed or
+ * blocked address, such a batch is split in halves sent apart, down to single
+ * mails, so that only the refused mails are dropped. A 401 or 403 (wrong or
+ * revoked API key) or a 413 refuses the batch whatever its recipients, it is
+ * logged as an error and counted in refusedRequests without splitting; the API
+ * key errors are retried like the transient failures.
+ *
+ * @author vvodyaram
+ */
+@Component
+public class EmailDispatcher {
+
+	private static final Logger LOGGER = LogManager.getLogger(EmailDispatcher.class);
+
+	private final BlockingQueue<OutboundEmail> queue = new LinkedBlockingQueue<>();
+	private final AtomicInteger pending = new AtomicInteger();
+	private final AtomicInteger waitingRetry = new AtomicInteger();
+	private final AtomicLong nextId = new AtomicLong();
+
+	private final AtomicLong enqueued = new AtomicLong();
+	private final AtomicLong recovered = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong sent = new AtomicLong();
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong retried = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private final AtomicLong batchSplits = new AtomicLong();
+	private final AtomicLong refusedRequests = new AtomicLong();
+	private final AtomicLong sendNanos = new AtomicLong();
+	private final AtomicLong maxSendNanos = new AtomicLong();
+
+	private EmailJournal journal;
+	private ExecutorService workers;
+	private ScheduledExecutorService retryScheduler;
+
+	@Autowired
+	private SendGridEmailUtil emailUtil;
+
+	@Autowired
+	private JsonCodec jsonCodec;
+
+	@Value("${wearables.email.workers:4}")
+	private int workerCount;
+
+	@Value("${wearables.email.queueCapacity:5000}")
+	private int queueCapacity;
+
+	@Value("${wearables.email.maxAttempts:5}")
+	private int maxAttempts;
+
+	@Value("${wearables.email.retryBaseMillis:2000}")
+	private long retryBaseMillis;
+
+	@Value("${wearables.email.retryMaxMillis:300000}")
+	private long retryMaxMillis;
+
+	@Value("${wearables.email.journalFile:${user.home}/.wearables/email-outbound.journal}")
+	private String journalFile;
+
+	@Value("${wearables.email.journalCompactEvery:500}")
+	private int journalCompactEvery;
+
+	@Value("${wearables.email.batch.maxSize:100}")
+	private int maxBatchSize;
+
+	@Value("${wearables.email.batch.lingerMillis:50}")
+	private long lingerMillis;
+
+	@PostConstruct
+	public void start() {
+		maxBatchSize = Math.max(1, Math.min(maxBatchSize, SendGridEmailUtil.MAX_PERSONALIZATIONS));
+		journal = new EmailJournal(Paths.get(journalFile), jsonCodec, journalCompactEvery);
+		try {
+			List<OutboundEmail> recoveredMails = journal.open();
+			for (OutboundEmail mail : recoveredMails) {
+				nextId.accumulateAndGet(mail.getId(), Math::max);
+				pending.incrementAndGet();
+				queue.offer(mail);
+			}
+			recovered.addAndGet(recoveredMails.size());
+			if (!recoveredMails.isEmpty()) {
+				LOGGER.info("{} pending mails recovered from {}", recoveredMails.size(), journalFile);
+			}
+		} catch (IOException e) {
+			LOGGER.error("error while opening the email journal {}, pending mails are kept in memory only",
+					journalFile, e);
+		}
+
+		AtomicInteger threadNumber = new AtomicInteger();
+		workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+			Thread thread = new Thread(runnable, "email-sender-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		for (int i = 0; i < workerCount; i++) {
+			workers.execute(this::work);
+		}
+		retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "email-retry");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	public void stop() {
+		workers.shutdownNow();
+		retryScheduler.shutdownNow();
+		journal.close();
+	}
+
+	/**
+	 * Queues a mail, returns immediately.
+	 *
+	 * @param recipient
+	 * @param subject
+	 * @param messageBody
+	 * @return false when the queue is full and the mail is dropped
+	 */
+	public boolean send(String recipient, String subject, String messageBody) {
+		return send(recipient, subject, messageBody, Collections.emptyMap());
+	}
+
+	/**
+	 * Queues a mail whose body holds placeholders replaced for this recipient
+	 * only, so that it can share a request with the other recipients of the same
+	 * template.
+	 *
+	 * @param recipient
+	 * @param subject
+	 * @param messageBody
+	 * @param substitutions placeholder to value
+	 * @return false when the queue is full and the mail is dropped
+	 */
+	public boolean send(String recipient, String subject, String messageBody, Map<String, String> substitutions) {
+		if (pending.incrementAndGet() > queueCapacity) {
+			pending.decrementAndGet();
+			rejected.incrementAndGet();
+			LOGGER.error("email queue is full, mail '{}' to {} is dropped", subject, recipient);
+			return false;
+		}
+		OutboundEmail mail = new OutboundEmail(nextId.incrementAndGet(), recipient, subject, messageBody,
+				substitutions);
+		journal.append(mail);
+		enqueued.incrementAndGet();
+		queue.offer(mail);
+		return true;
+	}
+
+	public Map<String, Object> getStats() {
+		long sentCount = sent.get();
+		long requestCount = requests.get();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("queueDepth", queue.size());
+		stats.put("pending", pending.get());
+		stats.put("waitingRetry", waitingRetry.get());
+		stats.put("journaled", journal.size());
+		stats.put("enqueued", enqueued.get());
+		stats.put("recovered", recovered.get());
+		stats.put("rejected", rejected.get());
+		stats.put("sent", sentCount);
+		stats.put("requests", requestCount);
+		stats.put("retried", retried.get());
+		stats.put("failed", failed.get());
+		stats.put("journalErrors", journal.getErrors());
+		stats.put("batchSplits", batchSplits.get());
+		stats.put("refusedRequests", refusedRequests.get());
+		stats.put("avgSendMillis", requestCount == 0 ? 0d : sendNanos.get() / 1_000_000d / requestCount);
+		stats.put("maxSendMillis", maxSendNanos.get() / 1_000_000d);
+		return stats;
+	}
+
+	private void work() {
+		List<OutboundEmail> collected = new ArrayList<>(maxBatchSize);
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				collected.add(queue.take());
+				linger(collected);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			Map<String, List<OutboundEmail>> batches = new LinkedHashMap<>();
+			for (OutboundEmail mail : collected) {
+				batches.computeIfAbsent(mail.getSubject() + '\u0000' + mail.getBody(), key -> new ArrayList<>())
+						.add(mail);
+			}
+			collected.clear();
+			for (List<OutboundEmail> batch : batches.values()) {
+				deliver(batch);
+			}
+		}
+	}
+
+	/**
+	 * Adds the mails queued within the linger window to the collected ones.
+	 */
+	private void linger(List<OutboundEmail> collected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+		while (collected.size() < maxBatchSize) {
+			queue.drainTo(collected, maxBatchSize - collected.size());
+			long remaining = deadline - System.nanoTime();
+			if (collected.size() >= maxBatchSize || remaining <= 0) {
+				return;
+			}
+			OutboundEmail mail = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (mail == null) {
+				return;
+			}
+			collected.add(mail);
+		}
+	}
+
+	private void deliver(List<OutboundEmail> batch) {
+		long start = System.nanoTime();
+		try {
+			emailUtil.sendBatch(batch);
+			long elapsed = System.nanoTime() - start;
+			sendNanos.addAndGet(elapsed);
+			maxSendNanos.accumulateAndGet(elapsed, Math::max);
+			requests.incrementAndGet();
+			sent.addAndGet(batch.size());
+			for (OutboundEmail mail : batch) {
+				LOGGER.info("Email has been sent successfully to {}", mail.getRecipient());
+				complete(mail);
+			}
+		} catch (IOException e) {
+			boolean transientFailure = SendGridEmailUtil.isTransientFailure(e);
+			if (SendGridEmailUtil.isBadRequest(e) && batch.size() > 1) {
+				batchSplits.incrementAndGet();
+				LOGGER.warn("Mail '{}' refused for a batch of {} recipients, sending the halves apart: {}",
+						batch.get(0).getSubject(), batch.size(), e.getMessage());
+				int half = batch.size() / 2;
+				deliver(new ArrayList<>(batch.subList(0, half)));
+				deliver(new ArrayList<>(batch.subList(half, batch.size())));
+				return;
+			}
+			if (SendGridEmailUtil.isRequestRefused(e)) {
+				// nothing to do with the recipients, splitting would only repeat the refusal
+				refusedRequests.incrementAndGet();
+				LOGGER.error("SendGrid refused the request of mail '{}' for {} recipients with status {}, "
+						+ "check the API key and the request size", batch.get(0).getSubject(), batch.size(),
+						SendGridEmailUtil.statusCode(e));
+			}
+			for (OutboundEmail mail : batch) {
+				int attempt = mail.incrementAttempts();
+				if (transientFailure && attempt < maxAttempts) {
+					long delay = backoff(attempt);
+					LOGGER.warn("Mail sending failed for email {}, attempt {} retried in {} millis: {}",
+							mail.getRecipient(), attempt, delay, e.getMessage());
+					retried.incrementAndGet();
+					waitingRetry.incrementAndGet();
+					retryScheduler.schedule(() -> {
+						waitingRetry.decrementAndGet();
+						queue.offer(mail);
+					}, delay, TimeUnit.MILLISECONDS);
+				} else {
+					LOGGER.error("Mail sending failed for email {} after {} attempts", mail.getRecipient(), attempt, e);
+					failed.incrementAndGet();
+					complete(mail);
+				}
+			}
+		} catch (Exception e) {
+			for (OutboundEmail mail : batch) {
+				LOGGER.error("Error while sending an email to {}", mail.getRecipient(), e);
+				failed.incrementAndGet();
+				complete(mail);
+			}
+		}
+	}
+
+	private void complete(OutboundEmail mail) {
+		pending.decrementAndGet();
+		journal.markDone(mail);
+	}
+
+	/**
+	 * Exponential backoff with jitter, between half and the full delay.
+	 */
+	private long backoff(int attempt) {
+		long delay = Math.min(retryMaxMillis, retryBaseMillis << Math.min(attempt - 1, 20));
+		return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+	}
+}
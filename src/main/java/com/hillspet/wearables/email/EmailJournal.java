@@ -0,0 +1,312 @@
+package com.hillspet.wearables.email;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hillspet.wearables.common.utils.JsonCodec;
+
+/**
+ * Append only journal of the pending mails of the {@link EmailDispatcher}. A
+ * queued mail is written as a Q line holding its JSON, a mail that is sent or
+ * given up as a D line holding its id. The file is replayed at startup and
+ * rewritten with only the pending mails once enough of them are done.
+ *
+ * {@link #append(OutboundEmail)} and {@link #markDone(OutboundEmail)} only hand
+ * the line to the email-journal thread, which writes and compacts the file, so
+ * that the request threads and the email workers never wait on the disk. Lines
+ * are flushed to the operating system after each batch of writes but not forced
+ * to the disk, a mail can therefore be lost on a host crash but not on a
+ * restart.
+ *
+ * The mails hold the verification codes, the journal and its directory are
+ * created readable by the owner only where the file system has POSIX
+ * permissions.
+ *
+ * @author vvodyaram
+ */
+class EmailJournal {
+
+	private static final Logger LOGGER = LogManager.getLogger(EmailJournal.class);
+
+	private static final String QUEUED = "Q";
+	private static final String DONE = "D";
+	private static final char SEPARATOR = '\t';
+
+	private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions
+			.fromString("rwx------");
+	private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+
+	/** Stops the writer once the operations queued before it are written. */
+	private static final Operation STOP = new Operation(DONE, null);
+
+	private final Path file;
+	private final ObjectWriter jsonWriter;
+	private final ObjectReader jsonReader;
+	private final int compactEvery;
+
+	private final BlockingQueue<Operation> operations = new LinkedBlockingQueue<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	private final AtomicLong errors = new AtomicLong();
+	private volatile Thread writerThread;
+
+	// only touched by open and then by the writer thread
+	private final Map<Long, OutboundEmail> pending = new LinkedHashMap<>();
+	private BufferedWriter writer;
+	private int doneSinceCompaction;
+
+	EmailJournal(Path file, JsonCodec jsonCodec, int compactEvery) {
+		this.file = file.toAbsolutePath();
+		this.jsonWriter = jsonCodec.writerFor(jsonCodec.typeOf(OutboundEmail.class));
+		this.jsonReader = jsonCodec.readerFor(jsonCodec.typeOf(OutboundEmail.class));
+		this.compactEvery = compactEvery;
+	}
+
+	/**
+	 * Replays the journal and starts the writer thread.
+	 *
+	 * @return the mails that were still pending, in queue order
+	 */
+	synchronized List<OutboundEmail> open() throws IOException {
+		createDirectories(file.getParent());
+		if (Files.exists(file)) {
+			restrictToOwner(file);
+			try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					replay(line);
+				}
+			}
+		}
+		compact();
+		pendingCount.set(pending.size());
+
+		Thread thread = new Thread(this::writeOperations, "email-journal");
+		thread.setDaemon(true);
+		thread.start();
+		writerThread = thread;
+		return new ArrayList<>(pending.values());
+	}
+
+	/**
+	 * Hands the queued mail to the writer thread, does nothing when the journal
+	 * could not be opened.
+	 */
+	void append(OutboundEmail mail) {
+		if (writerThread != null) {
+			operations.offer(new Operation(QUEUED, mail));
+		}
+	}
+
+	/**
+	 * Hands the sent or given up mail to the writer thread, does nothing when the
+	 * journal could not be opened.
+	 */
+	void markDone(OutboundEmail mail) {
+		if (writerThread != null) {
+			operations.offer(new Operation(DONE, mail));
+		}
+	}
+
+	int size() {
+		return pendingCount.get();
+	}
+
+	long getErrors() {
+		return errors.get();
+	}
+
+	/**
+	 * Writes the operations handed over so far and stops the writer thread.
+	 */
+	synchronized void close() {
+		Thread thread = writerThread;
+		if (thread == null) {
+			return;
+		}
+		writerThread = null;
+		operations.offer(STOP);
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void writeOperations() {
+		List<Operation> batch = new ArrayList<>();
+		boolean stopped = false;
+		while (!stopped) {
+			try {
+				batch.add(operations.take());
+			} catch (InterruptedException e) {
+				break;
+			}
+			operations.drainTo(batch);
+			for (Operation operation : batch) {
+				if (operation == STOP) {
+					stopped = true;
+					break;
+				}
+				try {
+					write(operation);
+				} catch (IOException e) {
+					errors.incrementAndGet();
+					LOGGER.error("error while journaling mail {} to {}", operation.mail.getId(), file, e);
+				}
+			}
+			batch.clear();
+			try {
+				flush();
+			} catch (IOException e) {
+				errors.incrementAndGet();
+				LOGGER.error("error while flushing the email journal {}", file, e);
+			}
+		}
+		closeWriter();
+	}
+
+	private void write(Operation operation) throws IOException {
+		OutboundEmail mail = operation.mail;
+		if (QUEUED.equals(operation.type)) {
+			pending.put(mail.getId(), mail);
+			pendingCount.set(pending.size());
+			writeLine(QUEUED + SEPARATOR + jsonWriter.writeValueAsString(mail));
+			return;
+		}
+		if (pending.remove(mail.getId()) == null) {
+			return;
+		}
+		pendingCount.set(pending.size());
+		writeLine(DONE + SEPARATOR + mail.getId());
+		// only rewritten while the backlog is small so that the writer does not fall behind
+		if (++doneSinceCompaction >= compactEvery && pending.size() <= compactEvery / 10) {
+			compact();
+		}
+	}
+
+	private void replay(String line) {
+		int separator = line.indexOf(SEPARATOR);
+		if (separator < 0) {
+			return;
+		}
+		try {
+			String type = line.substring(0, separator);
+			String value = line.substring(separator + 1);
+			if (QUEUED.equals(type)) {
+				OutboundEmail mail = jsonReader.readValue(value);
+				pending.put(mail.getId(), mail);
+			} else if (DONE.equals(type)) {
+				pending.remove(Long.parseLong(value));
+			}
+		} catch (IOException | NumberFormatException e) {
+			// last line of a journal that was being written when the process died
+			LOGGER.warn("skipping unreadable email journal line in {}", file);
+		}
+	}
+
+	private void writeLine(String line) throws IOException {
+		if (writer == null) {
+			createFile(file);
+			writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+		}
+		writer.write(line);
+		writer.newLine();
+	}
+
+	private void flush() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+	}
+
+	private void closeWriter() {
+		if (writer != null) {
+			try {
+				writer.close();
+			} catch (IOException e) {
+				LOGGER.error("error while closing the email journal {}", file, e);
+			}
+			writer = null;
+		}
+	}
+
+	private void compact() throws IOException {
+		closeWriter();
+		Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+		Files.deleteIfExists(tempFile);
+		createFile(tempFile);
+		try (BufferedWriter tempWriter = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+			for (OutboundEmail mail : pending.values()) {
+				tempWriter.write(QUEUED + SEPARATOR + jsonWriter.writeValueAsString(mail));
+				tempWriter.newLine();
+			}
+		}
+		Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		doneSinceCompaction = 0;
+	}
+
+	private void createDirectories(Path directory) throws IOException {
+		if (directory == null || Files.isDirectory(directory)) {
+			return;
+		}
+		if (isPosix()) {
+			Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+		} else {
+			Files.createDirectories(directory);
+		}
+	}
+
+	private void createFile(Path path) throws IOException {
+		if (Files.exists(path)) {
+			return;
+		}
+		if (isPosix()) {
+			Files.createFile(path, PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE));
+		} else {
+			Files.createFile(path);
+		}
+	}
+
+	private void restrictToOwner(Path path) throws IOException {
+		if (isPosix()) {
+			Files.setPosixFilePermissions(path, OWNER_ONLY_FILE);
+		}
+	}
+
+	private boolean isPosix() {
+		return file.getFileSystem().supportedFileAttributeViews().contains("posix");
+	}
+
+	private static final class Operation {
+
+		private final String type;
+		private final OutboundEmail mail;
+
+		private Operation(String type, OutboundEmail mail) {
+			this.type = type;
+			this.mail = mail;
+		}
+	}
+}
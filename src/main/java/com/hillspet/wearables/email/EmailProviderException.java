@@ -0,0 +1,25 @@
+package com.hillspet.wearables.email;
+
+import java.io.IOException;
+
+/**
+ * Answer of the email provider other than 2xx, thrown by the
+ * {@link EmailTransport} with the HTTP status of the response.
+ *
+ * @author vvodyaram
+ */
+public class EmailProviderException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int statusCode;
+
+	public EmailProviderException(int statusCode, String body) {
+		super("Request returned status code " + statusCode + ", body: " + body);
+		this.statusCode = statusCode;
+	}
+
+	public int getStatusCode() {
+		return statusCode;
+	}
+}
@@ -0,0 +1,22 @@
+package com.hillspet.wearables.email;
+
+import java.io.IOException;
+
+import com.sendgrid.helpers.mail.Mail;
+
+/**
+ * Delivers a built mail to the provider. Implementations are singletons shared
+ * by all the email workers and must be thread safe.
+ *
+ * @author vvodyaram
+ */
+public interface EmailTransport {
+
+	/**
+	 * @param mail
+	 * @throws EmailProviderException when the provider answers with an error
+	 *                                status
+	 * @throws IOException             on network errors
+	 */
+	void send(Mail mail) throws IOException;
+}
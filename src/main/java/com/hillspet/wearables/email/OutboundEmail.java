@@ -0,0 +1,97 @@
+package com.hillspet.wearables.email;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A mail waiting in the {@link EmailDispatcher} queue, the journal keeps it as
+ * JSON until it is sent or given up. Mails with the same subject and body are
+ * sent together, one SendGrid personalization per recipient.
+ *
+ * @author vvodyaram
+ */
+public class OutboundEmail {
+
+	private long id;
+	private String recipient;
+	private String subject;
+	private String body;
+	private Map<String, String> substitutions = Collections.emptyMap();
+	private long createdAt;
+
+	@JsonIgnore
+	private int attempts;
+
+	public OutboundEmail() {
+	}
+
+	public OutboundEmail(long id, String recipient, String subject, String body, Map<String, String> substitutions) {
+		this.id = id;
+		this.recipient = recipient;
+		this.subject = subject;
+		this.body = body;
+		this.substitutions = substitutions;
+		this.createdAt = System.currentTimeMillis();
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public void setId(long id) {
+		this.id = id;
+	}
+
+	public String getRecipient() {
+		return recipient;
+	}
+
+	public void setRecipient(String recipient) {
+		this.recipient = recipient;
+	}
+
+	public String getSubject() {
+		return subject;
+	}
+
+	public void setSubject(String subject) {
+		this.subject = subject;
+	}
+
+	public String getBody() {
+		return body;
+	}
+
+	public void setBody(String body) {
+		this.body = body;
+	}
+
+	/**
+	 * @return values replaced in the subject and body for this recipient only
+	 */
+	public Map<String, String> getSubstitutions() {
+		return substitutions;
+	}
+
+	public void setSubstitutions(Map<String, String> substitutions) {
+		this.substitutions = substitutions;
+	}
+
+	public long getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(long createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	public int incrementAttempts() {
+		return ++attempts;
+	}
+}
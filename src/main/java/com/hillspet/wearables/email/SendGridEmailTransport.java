@@ -0,0 +1,104 @@
+package com.hillspet.wearables.email;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.sendgrid.Client;
+import com.sendgrid.Method;
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import com.sendgrid.SendGrid;
+import com.sendgrid.helpers.mail.Mail;
+
+/**
+ * {@link EmailTransport} over the SendGrid v3 API. One SendGrid client backed
+ * by a pooled keep-alive HTTP client is shared by all the senders, so the TLS
+ * connections are reused across mails.
+ *
+ * wearables.email.sendgrid.host and useHttp point the transport to a local
+ * stub server instead of api.sendgrid.com.
+ *
+ * @author vvodyaram
+ */
+@Component
+public class SendGridEmailTransport implements EmailTransport {
+
+	private static final Logger LOGGER = LogManager.getLogger(SendGridEmailTransport.class);
+
+	private static final String MAIL_SEND_ENDPOINT = "mail/send";
+
+	private CloseableHttpClient httpClient;
+	private SendGrid sendGrid;
+
+	@Value("${sendgrid.apiKey}")
+	private String apiKey;
+
+	@Value("${wearables.email.sendgrid.host:api.sendgrid.com}")
+	private String host;
+
+	@Value("${wearables.email.sendgrid.useHttp:false}")
+	private boolean useHttp;
+
+	@Value("${wearables.email.sendgrid.maxConnections:20}")
+	private int maxConnections;
+
+	@Value("${wearables.email.sendgrid.connectTimeoutMillis:5000}")
+	private int connectTimeoutMillis;
+
+	@Value("${wearables.email.sendgrid.socketTimeoutMillis:15000}")
+	private int socketTimeoutMillis;
+
+	@Value("${wearables.email.sendgrid.connectionRequestTimeoutMillis:5000}")
+	private int connectionRequestTimeoutMillis;
+
+	@Value("${wearables.email.sendgrid.idleTimeoutSeconds:60}")
+	private long idleTimeoutSeconds;
+
+	@PostConstruct
+	public void start() {
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnections);
+		httpClient = HttpClients.custom().setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom().setConnectTimeout(connectTimeoutMillis)
+						.setSocketTimeout(socketTimeoutMillis)
+						.setConnectionRequestTimeout(connectionRequestTimeoutMillis).build())
+				.evictExpiredConnections().evictIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS).build();
+		sendGrid = new SendGrid(apiKey, new Client(httpClient, useHttp));
+		sendGrid.setHost(host);
+	}
+
+	@PreDestroy
+	public void stop() {
+		try {
+			httpClient.close();
+		} catch (IOException e) {
+			LOGGER.error("error while closing the SendGrid http client", e);
+		}
+	}
+
+	@Override
+	public void send(Mail mail) throws IOException {
+		Request request = new Request();
+		request.setMethod(Method.POST);
+		request.setEndpoint(MAIL_SEND_ENDPOINT);
+		request.setBody(mail.build());
+		Response response = sendGrid.api(request);
+		LOGGER.debug("SendGrid answered {}", response.getStatusCode());
+		if (response.getStatusCode() < 200 || response.getStatusCode() >= 300) {
+			throw new EmailProviderException(response.getStatusCode(), response.getBody());
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.hillspet.wearables.email.templates;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.StreamUtils;
+
+/**
+ * An email template parsed once into its literal segments and ${name} slots.
+ * Line breaks of the template source are dropped so that the templates can be
+ * kept one tag per line.
+ *
+ * Rendering computes the exact length of the result and writes the segments
+ * and values into a buffer of that size in a single pass.
+ *
+ * @author vvodyaram
+ */
+public final class CompiledTemplate {
+
+	private static final String SLOT_START = "${";
+	private static final char SLOT_END = '}';
+
+	private final String name;
+	private final String[] literals;
+	private final int[] slots;
+	private final List<String> slotNames;
+	private final int literalLength;
+
+	private CompiledTemplate(String name, String[] literals, int[] slots, List<String> slotNames) {
+		this.name = name;
+		this.literals = literals;
+		this.slots = slots;
+		this.slotNames = Collections.unmodifiableList(slotNames);
+		int length = 0;
+		for (String literal : literals) {
+			length += literal.length();
+		}
+		this.literalLength = length;
+	}
+
+	/**
+	 * @param resource classpath resource of the template, UTF-8 encoded
+	 */
+	public static CompiledTemplate load(String resource) {
+		try (InputStream in = CompiledTemplate.class.getResourceAsStream(resource)) {
+			if (in == null) {
+				throw new IllegalStateException("email template " + resource + " not found");
+			}
+			return parse(resource, StreamUtils.copyToString(in, StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new IllegalStateException("error while loading the email template " + resource, e);
+		}
+	}
+
+	static CompiledTemplate parse(String name, String source) {
+		String template = source.replace("\r", "").replace("\n", "");
+		List<String> literals = new ArrayList<>();
+		List<Integer> slots = new ArrayList<>();
+		List<String> slotNames = new ArrayList<>();
+		int position = 0;
+		int start;
+		while ((start = template.indexOf(SLOT_START, position)) >= 0) {
+			int end = template.indexOf(SLOT_END, start + SLOT_START.length());
+			if (end < 0) {
+				throw new IllegalArgumentException("unterminated slot at " + start + " in email template " + name);
+			}
+			String slotName = template.substring(start + SLOT_START.length(), end);
+			int slot = slotNames.indexOf(slotName);
+			if (slot < 0) {
+				slot = slotNames.size();
+				slotNames.add(slotName);
+			}
+			literals.add(template.substring(position, start));
+			slots.add(slot);
+			position = end + 1;
+		}
+		literals.add(template.substring(position));
+
+		int[] slotArray = new int[slots.size()];
+		for (int i = 0; i < slotArray.length; i++) {
+			slotArray[i] = slots.get(i);
+		}
+		return new CompiledTemplate(name, literals.toArray(new String[0]), slotArray, slotNames);
+	}
+
+	/**
+	 * @return the distinct slot names in order of first appearance
+	 */
+	public List<String> getSlotNames() {
+		return slotNames;
+	}
+
+	/**
+	 * @param values one value per slot name, in the order of
+	 *               {@link #getSlotNames()}, null values are written as "null"
+	 * @return the rendered template
+	 */
+	public String render(String... values) {
+		if (values.length != slotNames.size()) {
+			throw new IllegalArgumentException(
+					"email template " + name + " expects " + slotNames + " but got " + values.length + " values");
+		}
+		int length = literalLength;
+		for (int slot : slots) {
+			length += values[slot] == null ? 4 : values[slot].length();
+		}
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < slots.length; i++) {
+			sb.append(literals[i]).append(values[slots[i]]);
+		}
+		return sb.append(literals[slots.length]).toString();
+	}
+}
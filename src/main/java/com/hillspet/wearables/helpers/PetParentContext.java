@@ -0,0 +1,37 @@
+package com.hillspet.wearables.helpers;
+
+/**
+ * Pet parent key id of the request being processed by the current thread.
+ *
+ * Set by the ClientToken filter on the container thread and carried over by
+ * the resource bulkheads to the thread that runs the resource method, unlike
+ * the request scoped {@link ClientContextService}. Null for the requests
+ * without a ClientToken. Cleared by the ClientToken response filter and, for
+ * the resources on a bulkhead, once the call is handed over, so a pooled
+ * container thread never keeps the pet parent of a finished request.
+ *
+ * @author vvodyaram
+ */
+public final class PetParentContext {
+
+	private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+	private PetParentContext() {
+	}
+
+	public static String get() {
+		return CURRENT.get();
+	}
+
+	public static void set(String petParentKeyId) {
+		if (petParentKeyId == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(petParentKeyId);
+		}
+	}
+
+	public static void clear() {
+		CURRENT.remove();
+	}
+}
@@ -0,0 +1,259 @@
+package com.hillspet.wearables.jaxrs.async;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.hillspet.wearables.helpers.PetParentContext;
+import com.hillspet.wearables.jaxrs.filter.AdmissionPermit;
+
+/**
+ * Bounded pool running the methods of one resource class, so that a slow
+ * resource only exhausts its own threads.
+ *
+ * The calls wait in a queue of queueDepth entries when the poolSize threads are
+ * busy, a call that finds the queue full is answered at once with 503 and a
+ * Retry-After header. A call still queued after timeoutMillis is dropped and
+ * answered the same way, it never ran so the client can safely send it again.
+ * A call already running by then may have written to the database, answering
+ * it would invite a retry and a duplicate write, so the response keeps waiting
+ * for its result and the overrun is only counted.
+ *
+ * The admission slot of the request is held by the call and given back when it
+ * ends or is dropped, not when its response is sent, the admission limit keeps
+ * counting a call that outlived its response. The {@link PetParentContext} of
+ * the request is carried over to the thread running the call and cleared on
+ * the container thread once the call is handed over.
+ *
+ * @author vvodyaram
+ */
+public class ResourceBulkhead {
+
+	private static final Logger LOGGER = LogManager.getLogger(ResourceBulkhead.class);
+
+	private static final int RETRY_AFTER_SECONDS = 1;
+
+	private final String name;
+	private final int poolSize;
+	private final int queueDepth;
+	private final long timeoutMillis;
+	private final ThreadPoolExecutor executor;
+
+	private final AtomicLong executed = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong expired = new AtomicLong();
+	private final AtomicLong overran = new AtomicLong();
+	private final AtomicLong queueWaitNanos = new AtomicLong();
+	private final AtomicLong queueWaitMaxNanos = new AtomicLong();
+
+	/**
+	 * @param name          resource name, used for the thread names and metrics
+	 * @param poolSize      threads, the calls run inline when 0
+	 * @param queueDepth    calls waiting for a thread
+	 * @param timeoutMillis longest time before the response is resumed, no
+	 *                      timeout when 0
+	 */
+	ResourceBulkhead(String name, int poolSize, int queueDepth, long timeoutMillis) {
+		this.name = name;
+		this.poolSize = Math.max(0, poolSize);
+		this.queueDepth = Math.max(1, queueDepth);
+		this.timeoutMillis = Math.max(0, timeoutMillis);
+		if (this.poolSize == 0) {
+			executor = null;
+			return;
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		executor = new ThreadPoolExecutor(this.poolSize, this.poolSize, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(this.queueDepth), runnable -> {
+					Thread thread = new Thread(runnable, "bulkhead-" + name + "-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Runs the call on the bulkhead and resumes the response with its result or
+	 * exception, the exception mappers apply as for a synchronous method.
+	 *
+	 * @param asyncResponse suspended response of the resource method
+	 * @param call          the resource method body
+	 */
+	public void execute(AsyncResponse asyncResponse, Callable<Response> call) {
+		try {
+			submit(asyncResponse, call);
+		} finally {
+			// the task carries the pet parent over, the container thread is done with it
+			PetParentContext.clear();
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	public int getQueueDepth() {
+		return queueDepth;
+	}
+
+	public int getActive() {
+		return executor == null ? 0 : executor.getActiveCount();
+	}
+
+	public int getQueued() {
+		return executor == null ? 0 : executor.getQueue().size();
+	}
+
+	public long getRejected() {
+		return rejected.get();
+	}
+
+	/**
+	 * @return calls dropped from the queue at the timeout
+	 */
+	public long getExpired() {
+		return expired.get();
+	}
+
+	/**
+	 * @return calls still running at the timeout, their response kept waiting
+	 */
+	public long getOverran() {
+		return overran.get();
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("poolSize", poolSize);
+		stats.put("queueDepth", queueDepth);
+		stats.put("timeoutMillis", timeoutMillis);
+		stats.put("active", getActive());
+		stats.put("queued", getQueued());
+		long count = executed.get();
+		stats.put("executed", count);
+		stats.put("rejected", rejected.get());
+		stats.put("expiredInQueue", expired.get());
+		stats.put("overranTimeout", overran.get());
+		stats.put("avgQueueWaitMillis", count == 0 ? 0d : queueWaitNanos.get() / 1_000_000d / count);
+		stats.put("maxQueueWaitMillis", queueWaitMaxNanos.get() / 1_000_000d);
+		return stats;
+	}
+
+	void shutdown() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	private void submit(AsyncResponse asyncResponse, Callable<Response> call) {
+		if (executor == null) {
+			new Task(asyncResponse, call, null).run();
+			return;
+		}
+		Task task = new Task(asyncResponse, call, AdmissionPermit.hold());
+		if (timeoutMillis > 0) {
+			asyncResponse.setTimeoutHandler(response -> onTimeout(task));
+			asyncResponse.setTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+		}
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException e) {
+			rejected.incrementAndGet();
+			task.release(false);
+			LOGGER.warn("{} bulkhead full, {} requests running and {} queued", name, executor.getActiveCount(),
+					executor.getQueue().size());
+			asyncResponse.resume(unavailable());
+		}
+	}
+
+	private void onTimeout(Task task) {
+		if (task.state.compareAndSet(State.QUEUED, State.EXPIRED)) {
+			executor.remove(task);
+			task.release(false);
+			expired.incrementAndGet();
+			LOGGER.warn("{} request still queued after {} ms, dropped", name, timeoutMillis);
+			task.asyncResponse.resume(unavailable());
+			return;
+		}
+		if (task.state.compareAndSet(State.RUNNING, State.OVERRAN)) {
+			overran.incrementAndGet();
+			LOGGER.warn("{} request still running after {} ms, waiting for its result", name, timeoutMillis);
+		}
+		task.asyncResponse.setTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private enum State {
+		QUEUED, RUNNING, OVERRAN, EXPIRED
+	}
+
+	private class Task implements Runnable {
+
+		private final AsyncResponse asyncResponse;
+		private final Callable<Response> call;
+		private final AdmissionPermit permit;
+		private final String petParentKeyId = PetParentContext.get();
+		private final long queuedAt = System.nanoTime();
+		private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+
+		private Task(AsyncResponse asyncResponse, Callable<Response> call, AdmissionPermit permit) {
+			this.asyncResponse = asyncResponse;
+			this.call = call;
+			this.permit = permit;
+		}
+
+		@Override
+		public void run() {
+			if (!state.compareAndSet(State.QUEUED, State.RUNNING)) {
+				// dropped at the timeout
+				return;
+			}
+			long waitNanos = System.nanoTime() - queuedAt;
+			executed.incrementAndGet();
+			queueWaitNanos.addAndGet(waitNanos);
+			queueWaitMaxNanos.accumulateAndGet(waitNanos, Math::max);
+			boolean succeeded = false;
+			String previousPetParent = PetParentContext.get();
+			PetParentContext.set(petParentKeyId);
+			try {
+				Response response = call.call();
+				// server errors are often fast failures, they would make the limit grow
+				succeeded = response.getStatus() < 500;
+				asyncResponse.resume(response);
+			} catch (Throwable e) {
+				asyncResponse.resume(e);
+			} finally {
+				PetParentContext.set(previousPetParent);
+				release(succeeded);
+			}
+		}
+
+		private void release(boolean sample) {
+			if (permit != null) {
+				permit.release(sample);
+			}
+		}
+	}
+
+	private static Response unavailable() {
+		return Response.status(Response.Status.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+				.build();
+	}
+}
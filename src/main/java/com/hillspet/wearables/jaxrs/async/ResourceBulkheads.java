@@ -0,0 +1,113 @@
+package com.hillspet.wearables.jaxrs.async;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Creates the {@link ResourceBulkhead} of each resource class.
+ *
+ * The pool size, queue depth and timeout are read from
+ * wearables.bulkhead.resources.&lt;name&gt;.poolSize, queueDepth and
+ * timeoutMillis, falling back to wearables.bulkhead.default.*. With
+ * wearables.bulkhead.enabled false the resource methods run on the request
+ * thread as before.
+ *
+ * The resource methods run outside the servlet request thread, request scoped
+ * beans are not available to them.
+ *
+ * The running and queued calls, rejections and timeouts, split between the
+ * calls dropped from the queue and the ones still running, are published to
+ * Micrometer as wearables.bulkhead.*, tagged by resource, and returned by the
+ * admin resource.
+ *
+ * @author vvodyaram
+ */
+@Component
+public class ResourceBulkheads {
+
+	private static final String PREFIX = "wearables.bulkhead.resources.";
+
+	private final Map<String, ResourceBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+	@Autowired
+	private Environment environment;
+
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	@Value("${wearables.bulkhead.enabled:true}")
+	private boolean enabled;
+
+	@Value("${wearables.bulkhead.default.poolSize:10}")
+	private int defaultPoolSize;
+
+	@Value("${wearables.bulkhead.default.queueDepth:20}")
+	private int defaultQueueDepth;
+
+	@Value("${wearables.bulkhead.default.timeoutMillis:30000}")
+	private long defaultTimeoutMillis;
+
+	/**
+	 * @param name resource name, the key of its configuration
+	 * @return the bulkhead of the resource, created on the first call
+	 */
+	public ResourceBulkhead forResource(String name) {
+		return bulkheads.computeIfAbsent(name, this::create);
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("enabled", enabled);
+		new TreeMap<>(bulkheads).forEach((name, bulkhead) -> stats.put(name, bulkhead.getStats()));
+		return stats;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		bulkheads.values().forEach(ResourceBulkhead::shutdown);
+	}
+
+	private ResourceBulkhead create(String name) {
+		int poolSize = enabled ? environment.getProperty(PREFIX + name + ".poolSize", Integer.class, defaultPoolSize)
+				: 0;
+		int queueDepth = environment.getProperty(PREFIX + name + ".queueDepth", Integer.class, defaultQueueDepth);
+		long timeoutMillis = environment.getProperty(PREFIX + name + ".timeoutMillis", Long.class,
+				defaultTimeoutMillis);
+		ResourceBulkhead bulkhead = new ResourceBulkhead(name, poolSize, queueDepth, timeoutMillis);
+		if (meterRegistry != null) {
+			bindTo(meterRegistry, bulkhead);
+		}
+		return bulkhead;
+	}
+
+	private static void bindTo(MeterRegistry registry, ResourceBulkhead bulkhead) {
+		String resource = bulkhead.getName();
+		Gauge.builder("wearables.bulkhead.active", bulkhead, ResourceBulkhead::getActive).tag("resource", resource)
+				.register(registry);
+		Gauge.builder("wearables.bulkhead.queued", bulkhead, ResourceBulkhead::getQueued).tag("resource", resource)
+				.register(registry);
+		Gauge.builder("wearables.bulkhead.poolSize", bulkhead, ResourceBulkhead::getPoolSize)
+				.tag("resource", resource).register(registry);
+		Gauge.builder("wearables.bulkhead.queueDepth", bulkhead, ResourceBulkhead::getQueueDepth)
+				.tag("resource", resource).register(registry);
+		FunctionCounter.builder("wearables.bulkhead.rejected", bulkhead, ResourceBulkhead::getRejected)
+				.tag("resource", resource).register(registry);
+		FunctionCounter.builder("wearables.bulkhead.timeouts", bulkhead, ResourceBulkhead::getExpired)
+				.tag("resource", resource).tag("state", "queued").register(registry);
+		FunctionCounter.builder("wearables.bulkhead.timeouts", bulkhead, ResourceBulkhead::getOverran)
+				.tag("resource", resource).tag("state", "running").register(registry);
+	}
+}
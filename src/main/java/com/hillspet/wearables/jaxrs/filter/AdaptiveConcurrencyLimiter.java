@@ -0,0 +1,214 @@
+package com.hillspet.wearables.jaxrs.filter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit adjusted from the observed latencies, in the style of the
+ * gradient limiters.
+ *
+ * The latencies are averaged over windows of windowSize requests. The lowest
+ * window average is kept as the latency without load and is forgotten every
+ * {@value #MIN_RTT_WINDOWS} windows so that it follows the database. The limit
+ * is scaled by min / window latency (with tolerance, between 0.5 and 1) and
+ * grows by the square root of the limit, so it grows while the latency stays
+ * flat and shrinks as soon as requests start to wait on the pool. The limit is
+ * not raised from a window that never used half of it.
+ *
+ * Requests above the limit wait in a queue, a request is refused when its
+ * expected wait exceeds the budget or when it waited for the whole budget.
+ *
+ * @author vvodyaram
+ */
+class AdaptiveConcurrencyLimiter {
+
+	private static final int MIN_RTT_WINDOWS = 100;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition released = lock.newCondition();
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final int windowSize;
+	private final double tolerance;
+	private final double smoothing;
+
+	private double limit;
+	private int inflight;
+	private int queued;
+
+	private double shortRtt;
+	private double minRtt;
+	private int windows;
+	private long windowNanos;
+	private int windowSamples;
+	private int windowMaxInflight;
+
+	AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int windowSize, double tolerance,
+			double smoothing) {
+		this.minLimit = Math.max(1, minLimit);
+		this.maxLimit = Math.max(this.minLimit, maxLimit);
+		this.windowSize = Math.max(1, windowSize);
+		this.tolerance = Math.max(1, tolerance);
+		this.smoothing = Math.max(0.01, Math.min(smoothing, 1));
+		this.limit = Math.max(this.minLimit, Math.min(initialLimit, this.maxLimit));
+	}
+
+	/**
+	 * Takes a slot, waiting up to the budget when the limit is reached.
+	 *
+	 * @param budgetNanos longest acceptable wait
+	 * @return false when the request must be refused
+	 */
+	boolean acquire(long budgetNanos) {
+		lock.lock();
+		try {
+			if (inflight < (int) limit) {
+				admit();
+				return true;
+			}
+			if (expectedWaitNanos(queued + 1) > budgetNanos) {
+				return false;
+			}
+			queued++;
+			try {
+				long remaining = budgetNanos;
+				while (inflight >= (int) limit) {
+					if (remaining <= 0) {
+						return false;
+					}
+					remaining = released.awaitNanos(remaining);
+				}
+				admit();
+				return true;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			} finally {
+				queued--;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gives the slot back.
+	 *
+	 * @param rttNanos time the request held the slot
+	 * @param sample   false for the requests whose latency must not move the limit,
+	 *                 the failed ones for instance
+	 */
+	void release(long rttNanos, boolean sample) {
+		lock.lock();
+		try {
+			inflight--;
+			int previousLimit = (int) limit;
+			if (sample) {
+				windowNanos += rttNanos;
+				if (++windowSamples >= windowSize) {
+					update();
+				}
+			}
+			if ((int) limit > previousLimit) {
+				released.signalAll();
+			} else {
+				released.signal();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return expected wait of a request queued now, to be sent as Retry-After
+	 */
+	long expectedWaitNanos() {
+		lock.lock();
+		try {
+			return expectedWaitNanos(queued + 1);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	Map<String, Object> getStats() {
+		lock.lock();
+		try {
+			Map<String, Object> stats = new LinkedHashMap<>();
+			stats.put("limit", (int) limit);
+			stats.put("minLimit", minLimit);
+			stats.put("maxLimit", maxLimit);
+			stats.put("inflight", inflight);
+			stats.put("queued", queued);
+			stats.put("shortRttMillis", shortRtt / 1_000_000d);
+			stats.put("minRttMillis", minRtt / 1_000_000d);
+			return stats;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	int getLimit() {
+		lock.lock();
+		try {
+			return (int) limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	int getInflight() {
+		lock.lock();
+		try {
+			return inflight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	int getQueued() {
+		lock.lock();
+		try {
+			return queued;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void admit() {
+		inflight++;
+		windowMaxInflight = Math.max(windowMaxInflight, inflight);
+	}
+
+	private long expectedWaitNanos(int position) {
+		return (long) (position * shortRtt / Math.max(1, (int) limit));
+	}
+
+	private void update() {
+		shortRtt = (double) windowNanos / windowSamples;
+		if (minRtt == 0 || shortRtt < minRtt || ++windows >= MIN_RTT_WINDOWS) {
+			minRtt = shortRtt;
+			windows = 0;
+		}
+		boolean appLimited = windowMaxInflight < limit / 2;
+		windowNanos = 0;
+		windowSamples = 0;
+		windowMaxInflight = inflight;
+
+		double gradient = Math.max(0.5, Math.min(1, tolerance * minRtt / shortRtt));
+		double newLimit = limit * gradient + Math.sqrt(limit);
+		if (appLimited && newLimit > limit) {
+			return;
+		}
+		newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+		limit = Math.max(minLimit, Math.min(newLimit, maxLimit));
+	}
+
+	static long toRetryAfterSeconds(long waitNanos) {
+		return Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+	}
+}
@@ -0,0 +1,171 @@
+package com.hillspet.wearables.jaxrs.filter;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hillspet.wearables.dao.ConnectionPoolMetrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Caps the requests running at the same time, nearly every resource calls the
+ * database and the pool only has a handful of connections.
+ *
+ * The cap is the {@link AdaptiveConcurrencyLimiter} limit, between
+ * wearables.admission.minLimit and maxLimit. Requests above it wait for a slot,
+ * a request whose expected wait exceeds wearables.admission.latencyBudgetMillis
+ * or that waited that long is answered at once with 503 and a Retry-After
+ * header instead of waiting on the pool checkout timeout. The paths starting
+ * with one of wearables.admission.excludePaths are never limited.
+ *
+ * Runs before the authentication filters, which can call the database as well.
+ * The slot is given back by the response filter, or when the work ends for the
+ * resources running on a bulkhead, see {@link AdmissionPermit}.
+ *
+ * @author vvodyaram
+ */
+@Provider
+@Component
+@Priority(Priorities.AUTHENTICATION - 100)
+public class AdmissionControlFilter implements ContainerRequestFilter, ContainerResponseFilter, MeterBinder {
+
+	private static final Logger LOGGER = LogManager.getLogger(AdmissionControlFilter.class);
+
+	private static final String PERMIT_PROPERTY = AdmissionControlFilter.class.getName() + ".permit";
+
+	private final AtomicLong admitted = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+
+	private AdaptiveConcurrencyLimiter limiter;
+
+	private List<String> excludedPaths;
+
+	private long latencyBudgetNanos;
+
+	@Autowired
+	private ConnectionPoolMetrics connectionPoolMetrics;
+
+	@Value("${wearables.admission.enabled:true}")
+	private boolean enabled;
+
+	@Value("${wearables.admission.initialLimit:10}")
+	private int initialLimit;
+
+	@Value("${wearables.admission.minLimit:2}")
+	private int minLimit;
+
+	@Value("${wearables.admission.maxLimit:50}")
+	private int maxLimit;
+
+	@Value("${wearables.admission.windowSize:20}")
+	private int windowSize;
+
+	@Value("${wearables.admission.tolerance:1.5}")
+	private double tolerance;
+
+	@Value("${wearables.admission.smoothing:0.2}")
+	private double smoothing;
+
+	@Value("${wearables.admission.latencyBudgetMillis:2000}")
+	private long latencyBudgetMillis;
+
+	@Value("${wearables.admission.excludePaths:admin}")
+	private String[] excludePaths;
+
+	@PostConstruct
+	public void init() {
+		limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, windowSize, tolerance, smoothing);
+		latencyBudgetNanos = TimeUnit.MILLISECONDS.toNanos(latencyBudgetMillis);
+		excludedPaths = Arrays.stream(excludePaths).map(String::trim).filter(path -> !path.isEmpty())
+				.map(path -> path.startsWith("/") ? path.substring(1) : path).collect(Collectors.toList());
+	}
+
+	@Override
+	public void filter(ContainerRequestContext requestContext) {
+		AdmissionPermit.clear();
+		if (!enabled || isExcluded(requestContext.getUriInfo().getPath())) {
+			return;
+		}
+		if (!limiter.acquire(latencyBudgetNanos)) {
+			rejected.incrementAndGet();
+			long retryAfter = AdaptiveConcurrencyLimiter.toRetryAfterSeconds(limiter.expectedWaitNanos());
+			LOGGER.warn("request to {} refused, {} requests running and {} waiting", requestContext.getUriInfo().getPath(),
+					limiter.getInflight(), limiter.getQueued());
+			requestContext.abortWith(
+					Response.status(Response.Status.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, retryAfter).build());
+			return;
+		}
+		admitted.incrementAndGet();
+		requestContext.setProperty(PERMIT_PROPERTY, AdmissionPermit.open(limiter));
+	}
+
+	@Override
+	public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+		AdmissionPermit permit = (AdmissionPermit) requestContext.getProperty(PERMIT_PROPERTY);
+		if (permit == null) {
+			return;
+		}
+		requestContext.removeProperty(PERMIT_PROPERTY);
+		permit.detach();
+		if (permit.isHeld()) {
+			// released by the bulkhead when the work ends
+			return;
+		}
+		// server errors are often fast failures, they would make the limit grow
+		permit.release(responseContext.getStatus() < 500);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("wearables.admission.limit", this, filter -> filter.limiter.getLimit()).register(registry);
+		Gauge.builder("wearables.admission.inflight", this, filter -> filter.limiter.getInflight()).register(registry);
+		Gauge.builder("wearables.admission.queued", this, filter -> filter.limiter.getQueued()).register(registry);
+		FunctionCounter.builder("wearables.admission.rejected", rejected, AtomicLong::get).register(registry);
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("enabled", enabled);
+		stats.put("latencyBudgetMillis", latencyBudgetMillis);
+		stats.putAll(limiter.getStats());
+		stats.put("admitted", admitted.get());
+		stats.put("rejected", rejected.get());
+		stats.put("pool", connectionPoolMetrics.getStats());
+		return stats;
+	}
+
+	private boolean isExcluded(String path) {
+		String relativePath = path.startsWith("/") ? path.substring(1) : path;
+		for (String excludedPath : excludedPaths) {
+			if (relativePath.startsWith(excludedPath)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,79 @@
+package com.hillspet.wearables.jaxrs.filter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission slot taken by a request in the {@link AdmissionControlFilter}.
+ *
+ * The slot is normally given back by the response filter. A resource that runs
+ * the request on another thread takes the permit over with {@link #hold()}
+ * before returning, the slot is then given back when that work ends, a response
+ * sent earlier (a timeout) does not release it while the work still holds a
+ * database connection.
+ *
+ * The request filters and the resource method run on the same container
+ * thread, the permit of the request being dispatched is kept in a thread local
+ * until it is held or the response filter runs.
+ *
+ * @author vvodyaram
+ */
+public final class AdmissionPermit {
+
+	private static final ThreadLocal<AdmissionPermit> CURRENT = new ThreadLocal<>();
+
+	private final AdaptiveConcurrencyLimiter limiter;
+	private final long start = System.nanoTime();
+	private final AtomicBoolean released = new AtomicBoolean();
+
+	private volatile boolean held;
+
+	private AdmissionPermit(AdaptiveConcurrencyLimiter limiter) {
+		this.limiter = limiter;
+	}
+
+	/**
+	 * Takes over the permit of the request dispatched on this thread.
+	 *
+	 * @return the permit, to be released by the caller, null when the request was
+	 *         not limited
+	 */
+	public static AdmissionPermit hold() {
+		AdmissionPermit permit = CURRENT.get();
+		if (permit != null) {
+			CURRENT.remove();
+			permit.held = true;
+		}
+		return permit;
+	}
+
+	/**
+	 * Gives the slot back, only the first call counts.
+	 *
+	 * @param sample false for the requests whose latency must not move the limit
+	 */
+	public void release(boolean sample) {
+		if (released.compareAndSet(false, true)) {
+			limiter.release(System.nanoTime() - start, sample);
+		}
+	}
+
+	static AdmissionPermit open(AdaptiveConcurrencyLimiter limiter) {
+		AdmissionPermit permit = new AdmissionPermit(limiter);
+		CURRENT.set(permit);
+		return permit;
+	}
+
+	static void clear() {
+		CURRENT.remove();
+	}
+
+	boolean isHeld() {
+		return held;
+	}
+
+	void detach() {
+		if (CURRENT.get() == this) {
+			CURRENT.remove();
+		}
+	}
+}
@@ -0,0 +1,312 @@
+package com.hillspet.wearables.jaxrs.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compresses the response entities with gzip or deflate, as negotiated with
+ * the Accept-Encoding request header.
+ *
+ * The response filter picks the encoding for the responses whose media type is
+ * in wearables.compression.mimeTypes, the writer interceptor then holds back
+ * the first wearables.compression.minSizeBytes bytes of the entity. Smaller
+ * entities are written as they are, larger ones get the Content-Encoding header
+ * and are compressed at wearables.compression.level.
+ *
+ * @author vvodyaram
+ */
+@Provider
+@Component
+@Priority(Priorities.ENTITY_CODER)
+public class CompressionFilter implements ContainerResponseFilter, WriterInterceptor {
+
+	private static final String ENCODING_PROPERTY = CompressionFilter.class.getName() + ".encoding";
+
+	private static final String GZIP = "gzip";
+	private static final String DEFLATE = "deflate";
+
+	private final AtomicLong candidates = new AtomicLong();
+	private final AtomicLong compressed = new AtomicLong();
+	private final AtomicLong belowThreshold = new AtomicLong();
+	private final AtomicLong notAccepted = new AtomicLong();
+	private final AtomicLong bytesIn = new AtomicLong();
+	private final AtomicLong bytesOut = new AtomicLong();
+
+	@Value("${wearables.compression.enabled:true}")
+	private boolean enabled;
+
+	@Value("${wearables.compression.minSizeBytes:1024}")
+	private int minSizeBytes;
+
+	@Value("${wearables.compression.level:6}")
+	private int level;
+
+	@Value("${wearables.compression.mimeTypes:application/json}")
+	private String[] mimeTypes;
+
+	private Set<String> allowedTypes;
+
+	@PostConstruct
+	public void init() {
+		allowedTypes = Collections.unmodifiableSet(Arrays.stream(mimeTypes).map(String::trim)
+				.filter(type -> !type.isEmpty()).map(type -> type.toLowerCase(Locale.ROOT)).collect(Collectors.toSet()));
+		level = Math.max(Deflater.BEST_SPEED, Math.min(level, Deflater.BEST_COMPRESSION));
+		minSizeBytes = Math.max(0, minSizeBytes);
+	}
+
+	@Override
+	public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+		if (!enabled || !responseContext.hasEntity() || !isAllowed(responseContext.getMediaType())) {
+			return;
+		}
+		MultivaluedMap<String, Object> headers = responseContext.getHeaders();
+		if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+			return;
+		}
+		headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		candidates.incrementAndGet();
+		String encoding = negotiate(requestContext.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+		if (encoding == null) {
+			notAccepted.incrementAndGet();
+			return;
+		}
+		requestContext.setProperty(ENCODING_PROPERTY, encoding);
+	}
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+		String encoding = (String) context.getProperty(ENCODING_PROPERTY);
+		if (encoding == null) {
+			context.proceed();
+			return;
+		}
+		CompressingOutputStream out = new CompressingOutputStream(context, encoding);
+		context.setOutputStream(out);
+		try {
+			context.proceed();
+		} finally {
+			out.finish();
+		}
+	}
+
+	public Map<String, Object> getStats() {
+		long in = bytesIn.get();
+		long out = bytesOut.get();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("enabled", enabled);
+		stats.put("minSizeBytes", minSizeBytes);
+		stats.put("level", level);
+		stats.put("mimeTypes", allowedTypes);
+		stats.put("candidates", candidates.get());
+		stats.put("compressed", compressed.get());
+		stats.put("belowThreshold", belowThreshold.get());
+		stats.put("notAccepted", notAccepted.get());
+		stats.put("bytesIn", in);
+		stats.put("bytesOut", out);
+		stats.put("bytesSaved", in - out);
+		stats.put("ratio", in == 0 ? 0d : (double) out / in);
+		return stats;
+	}
+
+	private boolean isAllowed(MediaType mediaType) {
+		return mediaType != null && allowedTypes
+				.contains((mediaType.getType() + '/' + mediaType.getSubtype()).toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * @return gzip or deflate, gzip when the client accepts both equally, null
+	 *         when the client accepts neither
+	 */
+	static String negotiate(String acceptEncoding) {
+		if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+			return null;
+		}
+		float gzip = -1;
+		float deflate = -1;
+		float any = -1;
+		for (String element : acceptEncoding.split(",")) {
+			String[] parts = element.split(";");
+			String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+			float quality = 1;
+			for (int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].trim();
+				if (parameter.startsWith("q=")) {
+					try {
+						quality = Float.parseFloat(parameter.substring(2));
+					} catch (NumberFormatException e) {
+						quality = 0;
+					}
+				}
+			}
+			if (GZIP.equals(coding) || "x-gzip".equals(coding)) {
+				gzip = quality;
+			} else if (DEFLATE.equals(coding)) {
+				deflate = quality;
+			} else if ("*".equals(coding)) {
+				any = quality;
+			}
+		}
+		if (gzip < 0) {
+			gzip = any;
+		}
+		if (deflate < 0) {
+			deflate = any;
+		}
+		if (gzip > 0 && gzip >= deflate) {
+			return GZIP;
+		}
+		return deflate > 0 ? DEFLATE : null;
+	}
+
+	/**
+	 * Buffers the entity up to the threshold and switches to the compressed
+	 * encoding once it is exceeded. The headers are only written by Jersey with
+	 * the first byte, so the Content-Encoding can still be set at that point.
+	 */
+	private class CompressingOutputStream extends OutputStream {
+
+		private final WriterInterceptorContext context;
+		private final String encoding;
+		private final OutputStream target;
+		private ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.min(minSizeBytes, 8192) + 1);
+		private CountingOutputStream counter;
+		private DeflaterOutputStream compressor;
+		private Deflater deflater;
+		private long written;
+		private boolean finished;
+
+		CompressingOutputStream(WriterInterceptorContext context, String encoding) {
+			this.context = context;
+			this.encoding = encoding;
+			this.target = context.getOutputStream();
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			written += len;
+			if (compressor != null) {
+				compressor.write(b, off, len);
+				return;
+			}
+			buffer.write(b, off, len);
+			if (buffer.size() > minSizeBytes) {
+				startCompression();
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			// a flush does not decide the encoding, the buffered bytes wait for the threshold
+			if (compressor != null) {
+				compressor.flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			finish();
+			target.close();
+		}
+
+		void finish() throws IOException {
+			if (finished) {
+				return;
+			}
+			finished = true;
+			if (compressor == null) {
+				belowThreshold.incrementAndGet();
+				buffer.writeTo(target);
+				buffer = null;
+				return;
+			}
+			try {
+				compressor.finish();
+			} finally {
+				deflater.end();
+			}
+			compressed.incrementAndGet();
+			bytesIn.addAndGet(written);
+			bytesOut.addAndGet(counter.count);
+		}
+
+		private void startCompression() throws IOException {
+			MultivaluedMap<String, Object> headers = context.getHeaders();
+			headers.putSingle(HttpHeaders.CONTENT_ENCODING, encoding);
+			headers.remove(HttpHeaders.CONTENT_LENGTH);
+			boolean gzip = GZIP.equals(encoding);
+			counter = new CountingOutputStream(target);
+			deflater = new Deflater(level, gzip);
+			compressor = gzip ? new GzipStream(counter, deflater) : new DeflaterOutputStream(counter, deflater);
+			buffer.writeTo(compressor);
+			buffer = null;
+		}
+	}
+
+	/**
+	 * GZIPOutputStream that deflates with the given deflater, which must be
+	 * created with nowrap, so that the compression level can be set.
+	 */
+	private static class GzipStream extends GZIPOutputStream {
+
+		GzipStream(OutputStream out, Deflater deflater) throws IOException {
+			super(out);
+			def.end();
+			def = deflater;
+		}
+	}
+
+	private static class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.hillspet.wearables.jaxrs.filter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET resource method whose responses can be revalidated with
+ * If-None-Match. {@link ConditionalGetFilter} adds a strong ETag and the
+ * Cache-Control header configured under wearables.httpCache.maxAgeSeconds for
+ * the endpoint, and answers 304 Not Modified when the client copy is current.
+ *
+ * @author vvodyaram
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ConditionalGet {
+
+	/**
+	 * Key of the endpoint under wearables.httpCache.maxAgeSeconds.
+	 */
+	String value();
+
+	/**
+	 * True when the response only depends on the request URI and the reference
+	 * data snapshot. The ETag is then derived from the snapshot version and a
+	 * matching request is answered before the resource method is invoked,
+	 * otherwise the ETag is a hash of the serialized response.
+	 */
+	boolean referenceData() default false;
+}
@@ -0,0 +1,213 @@
+package com.hillspet.wearables.jaxrs.filter;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Priority;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hillspet.wearables.dao.cache.ReferenceDataCache;
+
+/**
+ * Conditional GET support for the resource methods annotated with
+ * {@link ConditionalGet}.
+ *
+ * For the reference data endpoints the ETag is the version of the reference
+ * data snapshot, read before the resource method runs, so a matching
+ * If-None-Match is answered with 304 without calling the service or serializing
+ * anything. For the other endpoints the response is serialized once here with
+ * the Jersey ObjectMapper, the ETag is a hash of those bytes and the bytes are
+ * written as they are, or dropped for a 304.
+ *
+ * Runs after the authentication filters so that only authorized clients are
+ * answered, the Cache-Control header is therefore always private.
+ *
+ * @author vvodyaram
+ */
+@Provider
+@Component
+@Priority(Priorities.HEADER_DECORATOR)
+public class ConditionalGetFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+	private static final Logger LOGGER = LogManager.getLogger(ConditionalGetFilter.class);
+
+	private static final String CONDITIONAL_GET_PROPERTY = ConditionalGetFilter.class.getName() + ".conditionalGet";
+	private static final String ETAG_PROPERTY = ConditionalGetFilter.class.getName() + ".etag";
+
+	private static final String REFERENCE_DATA_ETAG_PREFIX = "rd-";
+
+	private final ConcurrentHashMap<Method, Optional<ConditionalGet>> annotationCache = new ConcurrentHashMap<>();
+
+	private final ConcurrentHashMap<String, String> cacheControlByEndpoint = new ConcurrentHashMap<>();
+
+	@Autowired
+	private ReferenceDataCache referenceDataCache;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private Environment environment;
+
+	@Value("${wearables.httpCache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${wearables.httpCache.defaultMaxAgeSeconds:0}")
+	private long defaultMaxAgeSeconds;
+
+	@Override
+	public void filter(ContainerRequestContext requestContext) {
+		if (!enabled || !HttpMethod.GET.equals(requestContext.getMethod())) {
+			return;
+		}
+		ResourceMethod resourceMethod = ((ExtendedUriInfo) requestContext.getUriInfo()).getMatchedResourceMethod();
+		if (resourceMethod == null) {
+			return;
+		}
+		Optional<ConditionalGet> conditionalGet = annotationCache.computeIfAbsent(
+				resourceMethod.getInvocable().getHandlingMethod(),
+				method -> Optional.ofNullable(findAnnotation(resourceMethod.getInvocable())));
+		if (!conditionalGet.isPresent()) {
+			return;
+		}
+		requestContext.setProperty(CONDITIONAL_GET_PROPERTY, conditionalGet.get());
+		if (!conditionalGet.get().referenceData()) {
+			return;
+		}
+
+		// a refresh after this point only makes the response newer than its tag,
+		// the client then gets the full response again on its next request
+		String version = referenceDataCache.getVersion();
+		if (version == null) {
+			return;
+		}
+		String etag = REFERENCE_DATA_ETAG_PREFIX + version;
+		requestContext.setProperty(ETAG_PROPERTY, etag);
+		if (matches(requestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH), etag)) {
+			requestContext.abortWith(Response.notModified(new EntityTag(etag))
+					.header(HttpHeaders.CACHE_CONTROL, getCacheControl(conditionalGet.get())).build());
+		}
+	}
+
+	@Override
+	public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+		ConditionalGet conditionalGet = (ConditionalGet) requestContext.getProperty(CONDITIONAL_GET_PROPERTY);
+		if (conditionalGet == null || responseContext.getStatus() != Response.Status.OK.getStatusCode()
+				|| !responseContext.hasEntity()) {
+			return;
+		}
+
+		String etag = (String) requestContext.getProperty(ETAG_PROPERTY);
+		if (etag == null) {
+			byte[] body;
+			try {
+				body = objectMapper.writeValueAsBytes(responseContext.getEntity());
+			} catch (IOException e) {
+				LOGGER.error("error while serializing the response of {}", requestContext.getUriInfo().getPath(), e);
+				return;
+			}
+			etag = hash(body);
+			if (matches(requestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH), etag)) {
+				responseContext.setStatus(Response.Status.NOT_MODIFIED.getStatusCode());
+				responseContext.setEntity(null);
+				responseContext.getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+			} else {
+				responseContext.setEntity(body, responseContext.getEntityAnnotations(), responseContext.getMediaType());
+			}
+		}
+		responseContext.getHeaders().putSingle(HttpHeaders.ETAG, new EntityTag(etag));
+		responseContext.getHeaders().putSingle(HttpHeaders.CACHE_CONTROL, getCacheControl(conditionalGet));
+	}
+
+	private String getCacheControl(ConditionalGet conditionalGet) {
+		return cacheControlByEndpoint.computeIfAbsent(conditionalGet.value(), endpoint -> {
+			long maxAgeSeconds = environment.getProperty("wearables.httpCache.maxAgeSeconds." + endpoint, Long.class,
+					defaultMaxAgeSeconds);
+			return maxAgeSeconds > 0 ? "private, max-age=" + maxAgeSeconds : "private, no-cache";
+		});
+	}
+
+	/**
+	 * If-None-Match uses the weak comparison, W/ prefixes are ignored.
+	 */
+	private static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String tag : ifNoneMatch.split(",")) {
+			tag = tag.trim();
+			if ("*".equals(tag)) {
+				return true;
+			}
+			if (tag.startsWith("W/")) {
+				tag = tag.substring(2);
+			}
+			if (tag.length() >= 2 && tag.charAt(0) == '"' && tag.charAt(tag.length() - 1) == '"') {
+				tag = tag.substring(1, tag.length() - 1);
+			}
+			if (tag.equals(etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String hash(byte[] body) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+			StringBuilder etag = new StringBuilder();
+			for (int i = 0; i < 16; i++) {
+				etag.append(String.format("%02x", digest[i]));
+			}
+			return etag.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static ConditionalGet findAnnotation(Invocable invocable) {
+		ConditionalGet annotation = invocable.getHandlingMethod().getAnnotation(ConditionalGet.class);
+		if (annotation == null) {
+			annotation = invocable.getDefinitionMethod().getAnnotation(ConditionalGet.class);
+		}
+		if (annotation == null) {
+			Method handlingMethod = invocable.getHandlingMethod();
+			for (Class<?> resourceInterface : handlingMethod.getDeclaringClass().getInterfaces()) {
+				try {
+					annotation = resourceInterface.getMethod(handlingMethod.getName(), handlingMethod.getParameterTypes())
+							.getAnnotation(ConditionalGet.class);
+				} catch (NoSuchMethodException e) {
+					continue;
+				}
+				if (annotation != null) {
+					break;
+				}
+			}
+		}
+		return annotation;
+	}
+}
@@ -0,0 +1,40 @@
+package com.hillspet.wearables.jaxrs.filter;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.hillspet.wearables.dao.cache.ReferenceDataCache;
+
+/**
+ * Adds the version of the reference data snapshot to every GET response so that
+ * the clients know when to drop their copy of the species, breeds and other
+ * lookup lists.
+ *
+ * @author vvodyaram
+ */
+@Provider
+@Component
+public class ReferenceDataVersionFilter implements ContainerResponseFilter {
+
+	public static final String REFERENCE_DATA_VERSION_HEADER = "X-Reference-Data-Version";
+
+	@Autowired
+	private ReferenceDataCache referenceDataCache;
+
+	@Override
+	public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+		if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+			return;
+		}
+		String version = referenceDataCache.getVersion();
+		if (version != null) {
+			responseContext.getHeaders().putSingle(REFERENCE_DATA_VERSION_HEADER, version);
+		}
+	}
+}
@@ -0,0 +1,190 @@
+package com.hillspet.wearables.jaxrs.resource;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+
+import org.apache.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import com.hillspet.wearables.common.constants.Constants;
+import com.hillspet.wearables.common.response.Message;
+import com.hillspet.wearables.objects.common.response.CommonResponse;
+import com.hillspet.wearables.response.AdminStatsResponse;
+import com.hillspet.wearables.security.AdminKeyRequired;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+
+/**
+ * Operational endpoints used by the support team, guarded by the AdminKey
+ * header.
+ * 
+ * @author vvodyaram
+ */
+@AdminKeyRequired
+@Path("/admin")
+@Api(value = "RESTful service that performs operational tasks", tags = { "Admin Operations" })
+@Produces({ MediaType.APPLICATION_JSON_VALUE, Constants.MEDIA_TYPE_APPLICATION_JSON_INITIAL_VERSION1 })
+@Consumes({ MediaType.APPLICATION_JSON_VALUE, Constants.MEDIA_TYPE_APPLICATION_JSON_INITIAL_VERSION1 })
+public interface AdminResource {
+
+	@GET
+	@Path("/procedureCalls")
+	@ApiOperation(value = "Get stored procedure call registry stats", notes = "Gets the compiled SimpleJdbcCall registry stats")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = AdminStatsResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response getProcedureCallStats();
+
+	@POST
+	@Path("/procedureCalls/clear")
+	@ApiOperation(value = "Clear stored procedure call registry", notes = "Drops the compiled SimpleJdbcCalls, to be used after a schema migration")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = CommonResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response clearProcedureCalls();
+
+	@GET
+	@Path("/tokenCache")
+	@ApiOperation(value = "Get token cache stats", notes = "Gets the ClientToken to pet parent cache size, hit ratio and evictions")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = AdminStatsResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response getTokenCacheStats();
+
+	@POST
+	@Path("/tokenCache/clear")
+	@ApiOperation(value = "Clear token cache", notes = "Drops the cached ClientToken resolutions, the next requests resolve their token from the database")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = CommonResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response clearTokenCache();
+
+	@GET
+	@Path("/signedUrls")
+	@ApiOperation(value = "Get signed URL cache stats", notes = "Gets the GCS signed URL cache hit ratio, signing latency and object metadata stats")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = AdminStatsResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response getSignedUrlCacheStats();
+
+	@POST
+	@Path("/signedUrls/clear")
+	@ApiOperation(value = "Clear signed URL cache", notes = "Drops the cached GCS signed URLs and object metadata")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = CommonResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response clearSignedUrlCache();
+
+	@GET
+	@Path("/referenceData")
+	@ApiOperation(value = "Get reference data snapshot stats", notes = "Gets the version and load time of the reference data snapshot")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = AdminStatsResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response getReferenceDataStats();
+
+	@POST
+	@Path("/referenceData/refresh")
+	@ApiOperation(value = "Refresh reference data snapshot", notes = "Reloads species, breeds, behaviors and the other lookup lists from the database")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = CommonResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response refreshReferenceData();
+
+	@GET
+	@Path("/emailQueue")
+	@ApiOperation(value = "Get outbound email queue stats", notes = "Gets the queue depth, retries, failures and SendGrid send latency")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = AdminStatsResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response getEmailQueueStats();
+
+	@GET
+	@Path("/compression")
+	@ApiOperation(value = "Get response compression stats", notes = "Gets the compressed and skipped responses and the bytes saved")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = AdminStatsResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response getCompressionStats();
+
+	@GET
+	@Path("/dbStats")
+	@ApiOperation(value = "Get database statement stats", notes = "Gets the calls, rows, execution time and connection wait of every stored procedure and query")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = AdminStatsResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response getDbStats();
+
+	@GET
+	@Path("/dbStats/slowQueries")
+	@ApiOperation(value = "Get slow database calls", notes = "Gets the last calls slower than the slow query threshold, newest first")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = AdminStatsResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response getSlowQueries();
+
+	@POST
+	@Path("/dbStats/clear")
+	@ApiOperation(value = "Clear database statement stats", notes = "Resets the statement stats and drops the slow calls")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = CommonResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response clearDbStats();
+
+	@GET
+	@Path("/admission")
+	@ApiOperation(value = "Get admission control stats", notes = "Gets the adaptive concurrency limit, the running, queued and refused requests and the connection pool usage")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = AdminStatsResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response getAdmissionStats();
+
+	@GET
+	@Path("/replica")
+	@ApiOperation(value = "Get read replica stats", notes = "Gets the read replica health, the reads sent to it or kept on the primary and both pool usages")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = AdminStatsResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response getReplicaStats();
+
+	@GET
+	@Path("/dbRetries")
+	@ApiOperation(value = "Get DAO retry stats", notes = "Gets the retried DAO writes, the ones that recovered and the ones given up per reason")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = AdminStatsResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response getDbRetryStats();
+
+	@GET
+	@Path("/bulkheads")
+	@ApiOperation(value = "Get resource bulkhead stats", notes = "Gets the running and queued requests, the rejections and the timeouts of each resource bulkhead")
+	@ApiResponses(value = {
+			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = AdminStatsResponse.class),
+			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
+			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
+	public Response getBulkheadStats();
+
+}
@@ -8,7 +8,8 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
-import javax.ws.rs.core.Response;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 
 import org.apache.http.HttpStatus;
 import org.glassfish.jersey.media.multipart.FormDataBodyPart;
@@ -42,9 +43,10 @@ public interface FileUploadResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response uploadPetPhoto(@FormDataParam("file") InputStream uploadedInputStream,
+	public void uploadPetPhoto(@FormDataParam("file") InputStream uploadedInputStream,
 			@FormDataParam("file") FormDataContentDisposition fileDetail, @FormDataParam("petId") int petId,
-			@FormDataParam("petParentId") int petParentId, @FormDataParam("file") FormDataBodyPart bodyPart);
+			@FormDataParam("petParentId") int petParentId, @FormDataParam("file") FormDataBodyPart bodyPart,
+			@Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/uploadFile")
@@ -57,9 +59,10 @@ public interface FileUploadResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response uploadFile(@FormDataParam("file") InputStream uploadedInputStream,
+	public void uploadFile(@FormDataParam("file") InputStream uploadedInputStream,
 			@FormDataParam("file") FormDataContentDisposition fileDetail,
-			@FormDataParam("moduleName") String moduleName, @FormDataParam("file") FormDataBodyPart bodyPart);
+			@FormDataParam("moduleName") String moduleName, @FormDataParam("file") FormDataBodyPart bodyPart,
+			@Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getFileUrlByName")
@@ -70,6 +73,6 @@ public interface FileUploadResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getFileUrlByName(@QueryParam("fileName") String fileName);
+	public void getFileUrlByName(@QueryParam("fileName") String fileName, @Suspended AsyncResponse asyncResponse);
 
 }
@@ -6,7 +6,8 @@ import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
-import javax.ws.rs.core.Response;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 
 import org.apache.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -15,6 +16,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import com.hillspet.wearables.common.constants.Constants;
 import com.hillspet.wearables.common.response.Message;
 import com.hillspet.wearables.objects.common.response.CommonResponse;
+import com.hillspet.wearables.request.migrated.ChangePasswordRequest;
+import com.hillspet.wearables.request.migrated.ClientIdRequest;
+import com.hillspet.wearables.request.migrated.ClientInfoRequest;
+import com.hillspet.wearables.request.migrated.ClientLoginRequest;
+import com.hillspet.wearables.request.migrated.ClientSMSCodeRequest;
+import com.hillspet.wearables.request.migrated.DeviceNumberRequest;
+import com.hillspet.wearables.request.migrated.LogoutRequest;
+import com.hillspet.wearables.request.migrated.PetTimerLogRequest;
+import com.hillspet.wearables.request.migrated.ScreenFeedbackRequest;
+import com.hillspet.wearables.request.migrated.SensorChargingNotificationRequest;
+import com.hillspet.wearables.request.migrated.SensorSetupStatusRequest;
+import com.hillspet.wearables.security.ClientTokenRequired;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -35,7 +48,7 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response clientLogin(@RequestBody String payload);
+	public void clientLogin(@RequestBody ClientLoginRequest request, @Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/SendEmailVerificationCode")
@@ -45,7 +58,8 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response sendEmailVerificationCode(@RequestBody String payload);
+	public void sendEmailVerificationCode(@RequestBody ClientSMSCodeRequest request,
+			@Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/CheckClientSMSCode")
@@ -55,7 +69,8 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response checkClientSMSCode(@RequestBody String payload);
+	public void checkClientSMSCode(@RequestBody ClientSMSCodeRequest request,
+			@Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/SetClientPasswordBySMSCode")
@@ -65,8 +80,10 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response setClientPasswordBySMSCode(@RequestBody String payload);
+	public void setClientPasswordBySMSCode(@RequestBody ClientSMSCodeRequest request,
+			@Suspended AsyncResponse asyncResponse);
 
+	@ClientTokenRequired(legacyResponse = true)
 	@POST
 	@Path("/ChangePassword")
 	@ApiOperation(value = "Change Password", notes = "Change Password")
@@ -75,8 +92,10 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response changePassword(@RequestBody String payload, @HeaderParam("ClientToken") String token);
+	public void changePassword(@RequestBody ChangePasswordRequest request, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
+	@ClientTokenRequired(legacyResponse = true)
 	@POST
 	@Path("/GetClientInfo")
 	@ApiOperation(value = "Get Client Info", notes = "Get Pet Parent Info By Pet Parent Id")
@@ -85,8 +104,10 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response getClientInfo(@RequestBody String payload, @HeaderParam("ClientToken") String token);
+	public void getClientInfo(@RequestBody ClientIdRequest request, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
+	@ClientTokenRequired(legacyResponse = true)
 	@POST
 	@Path("/ChangeClientInfo")
 	@ApiOperation(value = "Change Client Info", notes = "Change Client Info")
@@ -95,8 +116,10 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response changeClientInfo(@RequestBody String payload, @HeaderParam("ClientToken") String token);
+	public void changeClientInfo(@RequestBody ClientInfoRequest request, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
+	@ClientTokenRequired(legacyResponse = true)
 	@POST
 	@Path("/ManageMobileAppScreensFeedback")
 	@ApiOperation(value = "Manage Mobile Screens Feedback", notes = "Manage Mobile Screens Feedback")
@@ -105,9 +128,10 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response manageMobileAppScreensFeedback(@RequestBody String payload,
-			@HeaderParam("ClientToken") String token);
+	public void manageMobileAppScreensFeedback(@RequestBody ScreenFeedbackRequest request,
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
+	@ClientTokenRequired(legacyResponse = true)
 	@POST
 	@Path("/GetPetTimerLog")
 	@ApiOperation(value = "Get Pet TimerLog", notes = "Get Pet TimerLog")
@@ -116,8 +140,10 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response getPetTimerLog(@RequestBody String payload, @HeaderParam("ClientToken") String token);
+	public void getPetTimerLog(@RequestBody ClientIdRequest request, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
+	@ClientTokenRequired(legacyResponse = true)
 	@POST
 	@Path("/ManagePetTimerLog")
 	@ApiOperation(value = "Manage Pet TimerLog", notes = "Manage Pet TimerLog")
@@ -126,8 +152,10 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response managePetTimerLog(@RequestBody String payload, @HeaderParam("ClientToken") String token);
+	public void managePetTimerLog(@RequestBody PetTimerLogRequest request, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
+	@ClientTokenRequired(legacyResponse = true)
 	@POST
 	@Path("/UpdateSensorSetupStatus")
 	@ApiOperation(value = "Update Sensor Setup Status", notes = "Update Sensor Setup Status")
@@ -136,8 +164,10 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response updateSensorSetupStatus(@RequestBody String payload, @HeaderParam("ClientToken") String token);
+	public void updateSensorSetupStatus(@RequestBody SensorSetupStatusRequest request,
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
+	@ClientTokenRequired(legacyResponse = true)
 	@POST
 	@Path("/GetSensorSetupStatus")
 	@ApiOperation(value = "Get Sensor Setup Status", notes = "Get Sensor Setup Status")
@@ -146,8 +176,10 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response getSensorStatus(@RequestBody String payload, @HeaderParam("ClientToken") String token);
+	public void getSensorStatus(@RequestBody SensorSetupStatusRequest request,
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
+	@ClientTokenRequired(legacyResponse = true)
 	@POST
 	@Path("/ManageSensorChargingNotificationSettings")
 	@ApiOperation(value = "Manage Mobile Screens Feedback", notes = "Manage Mobile Screens Feedback")
@@ -156,9 +188,11 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response manageSensorChargingNotificationSettings(@RequestBody String payload,
-			@HeaderParam("ClientToken") String token);
+	public void manageSensorChargingNotificationSettings(
+			@RequestBody SensorChargingNotificationRequest request, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
+	@ClientTokenRequired(legacyResponse = true)
 	@POST
 	@Path("/ValidateDeviceNumber")
 	@ApiOperation(value = "Validate Device Number", notes = "Validate Device Number")
@@ -167,7 +201,8 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response validateDeviceNumber(@RequestBody String payload, @HeaderParam("ClientToken") String token);
+	public void validateDeviceNumber(@RequestBody DeviceNumberRequest request,
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/ManageClientInfo")
@@ -178,8 +213,10 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response manageClientInfo(@RequestBody String payload, @HeaderParam("ClientToken") String token);
+	public void manageClientInfo(@RequestBody ClientInfoRequest request, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
+	@ClientTokenRequired(legacyResponse = true)
 	@POST
 	@Path("/CompleteOnboardingInfo")
 	@ApiOperation(value = "Complete Onboarding Info", notes = "Complete Onboarding Info")
@@ -189,7 +226,8 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response completeOnboardingInfo(@RequestBody String payload, @HeaderParam("ClientToken") String token);
+	public void completeOnboardingInfo(@RequestBody String payload, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/logout")
@@ -200,7 +238,8 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found"),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden"),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error") })
-	public Response logoutUser(@RequestBody String payload, @HeaderParam("ClientToken") String token);
+	public void logoutUser(@RequestBody LogoutRequest request, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 	
 	@GET
 	@Path("/validate")
@@ -211,6 +250,6 @@ public interface MigratedResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response validate();
+	public void validate(@Suspended AsyncResponse asyncResponse);
 
 }
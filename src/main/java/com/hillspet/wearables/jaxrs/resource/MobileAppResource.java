@@ -21,13 +21,15 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
-import javax.ws.rs.core.Response;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 
 import org.apache.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 import com.hillspet.wearables.common.constants.Constants;
 import com.hillspet.wearables.common.response.Message;
+import com.hillspet.wearables.jaxrs.filter.ConditionalGet;
 import com.hillspet.wearables.objects.common.response.CommonResponse;
 import com.hillspet.wearables.request.AssignSensorRequest;
 import com.hillspet.wearables.request.QuestionAnswerRequest;
@@ -41,6 +43,7 @@ import com.hillspet.wearables.response.PetCampaignResponse;
 import com.hillspet.wearables.response.PetDevicesResponse;
 import com.hillspet.wearables.response.PetRedemptionHistoryResponse;
 import com.hillspet.wearables.response.QuestionnaireListResponse;
+import com.hillspet.wearables.security.ClientTokenRequired;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -64,6 +67,7 @@ import io.swagger.annotations.ApiResponses;
  * @since Available Since Wearables Portal Version.
  * @see New line seperated Classes or Interfaces related to this class.
  */
+@ClientTokenRequired
 @Path("/")
 @Api(value = "RESTful service that performs Mobile App Services operations", tags = { "Mobile App Services" })
 @Produces({ MediaType.APPLICATION_JSON_VALUE, Constants.MEDIA_TYPE_APPLICATION_JSON_INITIAL_VERSION1 })
@@ -79,7 +83,8 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getFeedbackQuestionnaireByPetId(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token);
+	public void getFeedbackQuestionnaireByPetId(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 	
 	@GET
 	@Path("/getQuestionnaireByPetId/{petId}")
@@ -90,7 +95,8 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getQuestionnaireByPetId(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token);
+	public void getQuestionnaireByPetId(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getQuestionnaireAnswers/{petId}/{questionnaireId}")
@@ -101,8 +107,9 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getQuestionnaireAnswers(@PathParam("petId") int petId,
-			@PathParam("questionnaireId") int questionnaireId, @HeaderParam("ClientToken") String token);
+	public void getQuestionnaireAnswers(@PathParam("petId") int petId,
+			@PathParam("questionnaireId") int questionnaireId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/saveQuestionAnswers")
@@ -113,9 +120,9 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response saveQuestionAnswers(
+	public void saveQuestionAnswers(
 			@Valid @ApiParam(name = "questionAnswerRequest", required = true) QuestionAnswerRequest questionAnswerRequest,
-			@HeaderParam("ClientToken") String token);
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getPetCampaignPoints/{petId}")
@@ -126,7 +133,8 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetCampaignPoints(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token);
+	public void getPetCampaignPoints(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getPetCampaignPointsList/{petId}")
@@ -137,7 +145,8 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetCampaignPointsList(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token);
+	public void getPetCampaignPointsList(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getCampaignListByPet/{petId}")
@@ -148,7 +157,8 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getCampaignListByPet(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token);
+	public void getCampaignListByPet(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getLeaderBoardByCampaignId/{campaignId}/{petId}")
@@ -159,8 +169,8 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getLeaderBoardByCampaignId(@PathParam("campaignId") int campaignId, @PathParam("petId") int petId,
-			@HeaderParam("ClientToken") String token);
+	public void getLeaderBoardByCampaignId(@PathParam("campaignId") int campaignId, @PathParam("petId") int petId,
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getPetRedemptionHistory/{petId}")
@@ -171,7 +181,8 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetRedemptionHistory(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token);
+	public void getPetRedemptionHistory(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/assignSensorToPet")
@@ -182,9 +193,9 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response assignSensorToPet(
+	public void assignSensorToPet(
 			@Valid @ApiParam(name = "assignSensorRequest", required = true) AssignSensorRequest assignSensorRequest,
-			@HeaderParam("ClientToken") String token);
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getPetDevicesByPetParent/{petParentId}")
@@ -195,8 +206,8 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetDevicesByPetParent(@PathParam("petParentId") int petParentId,
-			@HeaderParam("ClientToken") String token);
+	public void getPetDevicesByPetParent(@PathParam("petParentId") int petParentId,
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getFeedbackByPetParent/{petParentId}")
@@ -207,11 +218,12 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getFeedbackByPetParent(@PathParam("petParentId") int petParentId,
-			@HeaderParam("ClientToken") String token);
+	public void getFeedbackByPetParent(@PathParam("petParentId") int petParentId,
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getDeviceTypes")
+	@ConditionalGet(value = "deviceTypes", referenceData = true)
 	@ApiOperation(value = "Get Device Type Lookup", notes = "Gets the Device Type List")
 	@ApiResponses(value = {
 			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = DeviceTypesResponse.class),
@@ -219,10 +231,11 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getDeviceTypes(@HeaderParam("ClientToken") String token);
+	public void getDeviceTypes(@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getDeviceModels/{deviceType}")
+	@ConditionalGet(value = "deviceModels", referenceData = true)
 	@ApiOperation(value = "Get Device Model Lookup", notes = "Gets the Device Model List")
 	@ApiResponses(value = {
 			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = DeviceModelsResponse.class),
@@ -230,6 +243,7 @@ public interface MobileAppResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getDeviceModels(@PathParam("deviceType") String deviceType, @HeaderParam("ClientToken") String token);
+	public void getDeviceModels(@PathParam("deviceType") String deviceType, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 }
@@ -1,7 +1,5 @@
 package com.hillspet.wearables.jaxrs.resource;
 
-import java.io.IOException;
-
 import javax.validation.Valid;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -13,7 +11,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
-import javax.ws.rs.core.Response;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 
 import org.apache.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -22,6 +21,7 @@ import com.hillspet.wearables.common.constants.Constants;
 import com.hillspet.wearables.common.response.Message;
 import com.hillspet.wearables.dto.PetFeedingEnthusiasmScale;
 import com.hillspet.wearables.dto.PetObservation;
+import com.hillspet.wearables.jaxrs.filter.ConditionalGet;
 import com.hillspet.wearables.objects.common.response.CommonResponse;
 import com.hillspet.wearables.request.AddPetWeight;
 import com.hillspet.wearables.request.PetAddFeedingPreferences;
@@ -41,6 +41,7 @@ import com.hillspet.wearables.response.PetObservationsResponse;
 import com.hillspet.wearables.response.PetSpeciesResponse;
 import com.hillspet.wearables.response.PetWeightHistoryResponse;
 import com.hillspet.wearables.response.PetWeightResponse;
+import com.hillspet.wearables.security.ClientTokenRequired;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -56,6 +57,7 @@ import io.swagger.annotations.ApiResponses;
  * @version w2.0
  * @version Dec 8, 2021
  */
+@ClientTokenRequired
 @Path("/pets")
 @Api(value = "RESTful service that performs pets related operations", tags = { "Pet Management" })
 @Produces({ MediaType.APPLICATION_JSON_VALUE, Constants.MEDIA_TYPE_APPLICATION_JSON_INITIAL_VERSION1 })
@@ -71,8 +73,8 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response addWeight(@Valid @ApiParam(name = "addPetWeight", required = true) AddPetWeight addPetWeight,
-			@HeaderParam("ClientToken") String token);
+	public void addWeight(@Valid @ApiParam(name = "addPetWeight", required = true) AddPetWeight addPetWeight,
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/updateWeight")
@@ -83,9 +85,9 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response updateWeight(
+	public void updateWeight(
 			@Valid @ApiParam(name = "updatePetWeight", required = true) UpdatePetWeight updatePetWeight,
-			@HeaderParam("ClientToken") String token);
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/weightHistory/{petId}")
@@ -96,11 +98,12 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetWeightHistory(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token)
-			throws IOException;
+	public void getPetWeightHistory(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getPetSpecies")
+	@ConditionalGet(value = "petSpecies", referenceData = true)
 	@ApiOperation(value = "Get Pet Speecies List Lookup", notes = "Gets the Pet Speecies List")
 	@ApiResponses(value = {
 			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = PetSpeciesResponse.class),
@@ -108,10 +111,11 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetSpecies(@HeaderParam("ClientToken") String token);
+	public void getPetSpecies(@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getPetBreeds/{speciesId}")
+	@ConditionalGet(value = "petBreeds", referenceData = true)
 	@ApiOperation(value = "Get Pet Breed List By species ", notes = "Gets the Pet Breed List")
 	@ApiResponses(value = {
 			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = PetBreedResponse.class),
@@ -119,7 +123,8 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetBreeds(@PathParam("speciesId") int speciesId, @HeaderParam("ClientToken") String token);
+	public void getPetBreeds(@PathParam("speciesId") int speciesId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getPetBehaviors/{speciesId}")
@@ -130,8 +135,8 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetBehaviors(@PathParam("speciesId") int speciesId, @HeaderParam("ClientToken") String token,
-			@QueryParam("behaviorTypeId") int behaviorTypeId);
+	public void getPetBehaviors(@PathParam("speciesId") int speciesId, @HeaderParam("ClientToken") String token,
+			@QueryParam("behaviorTypeId") int behaviorTypeId, @Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getPetEatingEnthusiasmScale")
@@ -142,7 +147,8 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetEatingEnthusiasmScale(@HeaderParam("ClientToken") String token);
+	public void getPetEatingEnthusiasmScale(@HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getPetFeedingTime")
@@ -153,7 +159,7 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetFeedingTime(@HeaderParam("ClientToken") String token);
+	public void getPetFeedingTime(@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getMobileAppConfigs/{petId}")
@@ -164,8 +170,8 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getMobileAppConfigs(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token)
-			throws IOException;
+	public void getMobileAppConfigs(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/addPetFeedingTime")
@@ -176,9 +182,9 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response addPetFeedingTime(
+	public void addPetFeedingTime(
 			@Valid @ApiParam(name = "addPetFeedingTime", required = true) PetFeedingEnthusiasmScale petFeedingEnthusiasmScale,
-			@HeaderParam("ClientToken") String token);
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("getPetObservations/{petId}")
@@ -189,7 +195,8 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetObservationsByPetId(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token);
+	public void getPetObservationsByPetId(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/savePetObservation")
@@ -200,9 +207,9 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response savePetObservation(
+	public void savePetObservation(
 			@Valid @ApiParam(name = "savePetObservation", required = true) PetObservation savePetObservation,
-			@HeaderParam("ClientToken") String token);
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@DELETE
 	@Path("/{observationId}/{petId}/{petParentId}")
@@ -213,8 +220,9 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response deletePetObservation(@PathParam("observationId") int observationId, @PathParam("petId") int petId,
-			@PathParam("petParentId") int petParentId, @HeaderParam("ClientToken") String token);
+	public void deletePetObservation(@PathParam("observationId") int observationId, @PathParam("petId") int petId,
+			@PathParam("petParentId") int petParentId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getPetImageScoringScales/{petId}")
@@ -225,7 +233,8 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetImageScoringScales(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token);
+	public void getPetImageScoringScales(@PathParam("petId") int petId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/addPetImageScoring")
@@ -236,9 +245,9 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response addPetImageScoring(
+	public void addPetImageScoring(
 			@Valid @ApiParam(name = "addPetImageScoring", required = true) PetAddImageScoring addPetImageScorings,
-			@HeaderParam("ClientToken") String token);
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getPetFeedingPreferences")
@@ -249,7 +258,8 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getPetFeedingPreferences(@HeaderParam("ClientToken") String token);
+	public void getPetFeedingPreferences(@HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@POST
 	@Path("/addPetFeedingPreferences")
@@ -260,9 +270,9 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response addPetFeedingPreferences(
+	public void addPetFeedingPreferences(
 			@Valid @ApiParam(name = "petAddFeedingPreferences", required = true) PetAddFeedingPreferences petAddFeedingPreferences,
-			@HeaderParam("ClientToken") String token);
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 	
 	@PUT
 	@Path("/updatePet")
@@ -273,7 +283,7 @@ public interface PetResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response updatePet(
+	public void updatePet(
 			@Valid @ApiParam(name = "updatePet", required = true) UpdatePet updatePet,
-			@HeaderParam("ClientToken") String token);
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 }
@@ -7,16 +7,19 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
-import javax.ws.rs.core.Response;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 
 import org.apache.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 import com.hillspet.wearables.common.constants.Constants;
 import com.hillspet.wearables.common.response.Message;
+import com.hillspet.wearables.jaxrs.filter.ConditionalGet;
 import com.hillspet.wearables.response.MaterialCategoriesResponse;
 import com.hillspet.wearables.response.MaterialTypesResponse;
 import com.hillspet.wearables.response.SupportMaterialsResponse;
+import com.hillspet.wearables.security.ClientTokenRequired;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -31,6 +34,7 @@ import io.swagger.annotations.ApiResponses;
  * @version w2.0
  * @version Dec 8, 2021
  */
+@ClientTokenRequired
 @Path("/supportDocs")
 @Api(value = "RESTful service that performs support document related operations", tags = { "Support Documents Management" })
 @Produces({ MediaType.APPLICATION_JSON_VALUE, Constants.MEDIA_TYPE_APPLICATION_JSON_INITIAL_VERSION1 })
@@ -39,6 +43,7 @@ public interface SupportMaterialResource {
 	
 	@GET
 	@Path("/getMaterialTypeList")
+	@ConditionalGet(value = "materialTypes", referenceData = true)
 	@ApiOperation(value = "Get Campaign List", notes = "Gets the Campaign List")
 	@ApiResponses(value = {
 			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = MaterialTypesResponse.class),
@@ -46,10 +51,12 @@ public interface SupportMaterialResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getMaterialTypeList(@HeaderParam("ClientToken") String token);
+	public void getMaterialTypeList(@HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 	
 	@GET
 	@Path("/getMaterialCategoryList")
+	@ConditionalGet(value = "materialCategories", referenceData = true)
 	@ApiOperation(value = "Get Campaign List", notes = "Gets the Campaign List")
 	@ApiResponses(value = {
 			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = MaterialCategoriesResponse.class),
@@ -57,10 +64,12 @@ public interface SupportMaterialResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getMaterialCategoryList(@QueryParam("categoryId") int categoryId, @HeaderParam("ClientToken") String token);
+	public void getMaterialCategoryList(@QueryParam("categoryId") int categoryId, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 	
 	@GET
 	@Path("/getDeviceSupportDocs/{deviceType}/{deviceModel}")
+	@ConditionalGet("supportDocs")
 	@ApiOperation(value = "Get Sensor support documents by deviceType and device model", notes = "Get Sensor support documents by deviceType and device model")
 	@ApiResponses(value = {
 			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = SupportMaterialsResponse.class),
@@ -68,11 +77,13 @@ public interface SupportMaterialResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getDeviceSupportDocs(@PathParam("deviceType") String deviceType,
-			@PathParam("deviceModel") String deviceModel, @HeaderParam("ClientToken") String token);
+	public void getDeviceSupportDocs(@PathParam("deviceType") String deviceType,
+			@PathParam("deviceModel") String deviceModel, @HeaderParam("ClientToken") String token,
+			@Suspended AsyncResponse asyncResponse);
 
 	@GET
 	@Path("/getAppSupportDocs/{subCategoryType}")
+	@ConditionalGet("supportDocs")
 	@ApiOperation(value = "Get App support documents by sub categroy type", notes = "Get App support documents by sub categroy type")
 	@ApiResponses(value = {
 			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = SupportMaterialsResponse.class),
@@ -80,11 +91,12 @@ public interface SupportMaterialResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getAppSupportDocs(@PathParam("subCategoryType") int subCategoryType,
-			@HeaderParam("ClientToken") String token);
+	public void getAppSupportDocs(@PathParam("subCategoryType") int subCategoryType,
+			@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 	
 	@GET
 	@Path("/getSupportDocs")
+	@ConditionalGet("supportDocs")
 	@ApiOperation(value = "Get App support documents by sub categroy type", notes = "Get App support documents by sub categroy type")
 	@ApiResponses(value = {
 			@ApiResponse(code = HttpStatus.SC_OK, message = "Successful Response", response = SupportMaterialsResponse.class),
@@ -92,6 +104,6 @@ public interface SupportMaterialResource {
 			@ApiResponse(code = HttpStatus.SC_NOT_FOUND, message = "Not Found", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_FORBIDDEN, message = "Forbidden", response = Message.class),
 			@ApiResponse(code = HttpStatus.SC_INTERNAL_SERVER_ERROR, message = "Runtime Error or Internal Server Error", response = Message.class) })
-	public Response getSupportDocs(@HeaderParam("ClientToken") String token);
+	public void getSupportDocs(@HeaderParam("ClientToken") String token, @Suspended AsyncResponse asyncResponse);
 
 }
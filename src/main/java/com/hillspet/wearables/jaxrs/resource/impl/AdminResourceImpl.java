@@ -0,0 +1,142 @@
+package com.hillspet.wearables.jaxrs.resource.impl;
+
+import javax.ws.rs.core.Response;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.hillspet.wearables.common.builders.JaxrsJsonResponseBuilder;
+import com.hillspet.wearables.common.response.SuccessResponse;
+import com.hillspet.wearables.jaxrs.resource.AdminResource;
+import com.hillspet.wearables.objects.common.response.CommonResponse;
+import com.hillspet.wearables.response.AdminStatsResponse;
+import com.hillspet.wearables.service.admin.AdminService;
+
+/**
+ * Operational endpoints, access is checked by the AdminKeyAuthenticationFilter.
+ * 
+ * @author vvodyaram
+ */
+@Service
+public class AdminResourceImpl implements AdminResource {
+
+	private static final Logger LOGGER = LogManager.getLogger(AdminResourceImpl.class);
+
+	@Autowired
+	private AdminService adminService;
+
+	@Autowired
+	private JaxrsJsonResponseBuilder responseBuilder;
+
+	@Override
+	public Response getProcedureCallStats() {
+		return buildStatsResponse(new AdminStatsResponse(adminService.getProcedureCallStats()));
+	}
+
+	@Override
+	public Response clearProcedureCalls() {
+		LOGGER.info("clearProcedureCalls called");
+		int removed = adminService.clearProcedureCalls();
+		return buildMessageResponse(removed + " stored procedure calls cleared");
+	}
+
+	@Override
+	public Response getTokenCacheStats() {
+		return buildStatsResponse(new AdminStatsResponse(adminService.getTokenCacheStats()));
+	}
+
+	@Override
+	public Response clearTokenCache() {
+		LOGGER.info("clearTokenCache called");
+		adminService.clearTokenCache();
+		return buildMessageResponse("token cache cleared");
+	}
+
+	@Override
+	public Response getSignedUrlCacheStats() {
+		return buildStatsResponse(new AdminStatsResponse(adminService.getSignedUrlCacheStats()));
+	}
+
+	@Override
+	public Response clearSignedUrlCache() {
+		LOGGER.info("clearSignedUrlCache called");
+		adminService.clearSignedUrlCache();
+		return buildMessageResponse("signed url cache cleared");
+	}
+
+	@Override
+	public Response getReferenceDataStats() {
+		return buildStatsResponse(new AdminStatsResponse(adminService.getReferenceDataStats()));
+	}
+
+	@Override
+	public Response refreshReferenceData() {
+		LOGGER.info("refreshReferenceData called");
+		String version = adminService.refreshReferenceData();
+		return buildMessageResponse("reference data refreshed, version " + version);
+	}
+
+	@Override
+	public Response getEmailQueueStats() {
+		return buildStatsResponse(new AdminStatsResponse(adminService.getEmailQueueStats()));
+	}
+
+	@Override
+	public Response getCompressionStats() {
+		return buildStatsResponse(new AdminStatsResponse(adminService.getCompressionStats()));
+	}
+
+	@Override
+	public Response getDbStats() {
+		return buildStatsResponse(new AdminStatsResponse(adminService.getDbStats()));
+	}
+
+	@Override
+	public Response getSlowQueries() {
+		return buildStatsResponse(new AdminStatsResponse(adminService.getSlowQueries()));
+	}
+
+	@Override
+	public Response clearDbStats() {
+		LOGGER.info("clearDbStats called");
+		int removed = adminService.clearDbStats();
+		return buildMessageResponse("stats of " + removed + " statements cleared");
+	}
+
+	@Override
+	public Response getAdmissionStats() {
+		return buildStatsResponse(new AdminStatsResponse(adminService.getAdmissionStats()));
+	}
+
+	@Override
+	public Response getReplicaStats() {
+		return buildStatsResponse(new AdminStatsResponse(adminService.getReplicaStats()));
+	}
+
+	@Override
+	public Response getDbRetryStats() {
+		return buildStatsResponse(new AdminStatsResponse(adminService.getDbRetryStats()));
+	}
+
+	@Override
+	public Response getBulkheadStats() {
+		return buildStatsResponse(new AdminStatsResponse(adminService.getBulkheadStats()));
+	}
+
+	private Response buildStatsResponse(AdminStatsResponse response) {
+		SuccessResponse<AdminStatsResponse> successResponse = new SuccessResponse<>();
+		successResponse.setServiceResponse(response);
+		return responseBuilder.buildResponse(successResponse);
+	}
+
+	private Response buildMessageResponse(String message) {
+		CommonResponse response = new CommonResponse();
+		response.setMessage(message);
+		SuccessResponse<CommonResponse> successResponse = new SuccessResponse<>();
+		successResponse.setServiceResponse(response);
+		return responseBuilder.buildResponse(successResponse);
+	}
+
+}
@@ -7,33 +7,31 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Random;
 import java.util.TimeZone;
 import java.util.UUID;
-import java.util.concurrent.ThreadPoolExecutor;
 
+import javax.annotation.PostConstruct;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hillspet.wearables.common.constants.Constants;
 import com.hillspet.wearables.common.constants.WearablesErrorCode;
 import com.hillspet.wearables.common.dto.WearablesError;
 import com.hillspet.wearables.common.exceptions.ServiceValidationException;
 import com.hillspet.wearables.common.response.SuccessResponse;
 import com.hillspet.wearables.common.utils.Cryptography;
-import com.hillspet.wearables.concurrent.EmailSenderThread;
-import com.hillspet.wearables.concurrent.EmailThreadPoolExecutor;
+import com.hillspet.wearables.common.utils.JsonCodec;
 import com.hillspet.wearables.dto.ClientInfo;
 import com.hillspet.wearables.dto.ClientSMSCode;
 import com.hillspet.wearables.dto.DeviceAssignDTO;
@@ -46,10 +44,36 @@ import com.hillspet.wearables.dto.PetInfoDTO;
 import com.hillspet.wearables.dto.PetParentKeyInfoDTO;
 import com.hillspet.wearables.dto.SensorDetailsDTO;
 import com.hillspet.wearables.dto.TimerLog;
+import com.hillspet.wearables.email.EmailDispatcher;
 import com.hillspet.wearables.email.templates.EmailTemplate;
 import com.hillspet.wearables.format.validation.FormatValidationService;
+import com.hillspet.wearables.jaxrs.async.ResourceBulkhead;
+import com.hillspet.wearables.jaxrs.async.ResourceBulkheads;
 import com.hillspet.wearables.jaxrs.resource.MigratedResource;
 import com.hillspet.wearables.objects.common.response.CommonResponse;
+import com.hillspet.wearables.request.migrated.ChangePasswordRequest;
+import com.hillspet.wearables.request.migrated.ClientIdRequest;
+import com.hillspet.wearables.request.migrated.ClientInfoRequest;
+import com.hillspet.wearables.request.migrated.ClientLoginRequest;
+import com.hillspet.wearables.request.migrated.ClientSMSCodeRequest;
+import com.hillspet.wearables.request.migrated.DeviceNumberRequest;
+import com.hillspet.wearables.request.migrated.LogoutRequest;
+import com.hillspet.wearables.request.migrated.OnboardingInfoRequest;
+import com.hillspet.wearables.request.migrated.PetTimerLogRequest;
+import com.hillspet.wearables.request.migrated.ScreenFeedbackRequest;
+import com.hillspet.wearables.request.migrated.SensorChargingNotificationRequest;
+import com.hillspet.wearables.request.migrated.SensorSetupStatusRequest;
+import com.hillspet.wearables.response.migrated.ClientInfoResult;
+import com.hillspet.wearables.response.migrated.ClientLoginResult;
+import com.hillspet.wearables.response.migrated.ClientPasswordResult;
+import com.hillspet.wearables.response.migrated.DeviceNumberResult;
+import com.hillspet.wearables.response.migrated.KeyValueResult;
+import com.hillspet.wearables.response.migrated.LegacyResponse;
+import com.hillspet.wearables.response.migrated.ManagedClientInfoResult;
+import com.hillspet.wearables.response.migrated.OnboardingResult;
+import com.hillspet.wearables.response.migrated.ResponseCodeResult;
+import com.hillspet.wearables.response.migrated.SensorSetupStatusResult;
+import com.hillspet.wearables.response.migrated.UpdateResult;
 import com.hillspet.wearables.service.user.MigratedService;
 
 @Service
@@ -63,956 +87,893 @@ public class MigratedResourceImpl implements MigratedResource {
 	@Autowired
 	FormatValidationService formatValidationService;
 
-	private static final String dateFormat = "yyyy-MM-dd hh:mm:ss";
+	@Autowired
+	private EmailDispatcher emailDispatcher;
 
-	@Override
-	public Response clientLogin(String payload) {
-		LOGGER.debug("entered into clientLogin");
-		JSONObject jsonObject = null;
-		JSONObject resultJson = null;
-		try {
-			jsonObject = new JSONObject(payload);
-			resultJson = new JSONObject();
-			String email = jsonObject.getString("Email");
-			String password = jsonObject.getString("Password");
-			String fcmToken = jsonObject.getString("FCMToken");
-
-			if (email == null || email.trim().length() == 0) {
-				throw new ServiceValidationException("Email is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.EMAIL_REQUIRED)));
-			}
+	@Autowired
+	private JsonCodec jsonCodec;
 
-			if (password == null || password.trim().length() == 0) {
-				throw new ServiceValidationException("Password is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PASSWORD_REQUIRED)));
-			}
+	private static final String dateFormat = "yyyy-MM-dd hh:mm:ss";
 
-			ClientInfo clientInfo = migratedService.getClientInfoByEmail(email);
-			if (clientInfo.getClientId() > 0) {
-				password = Cryptography.encrypt(Cryptography.petParentDecrypt(password), clientInfo.getUniqueId());
-			}
-			System.out.println("password " + password);
-			clientInfo = migratedService.clientLogin(email, password);
-			clientInfo.setPassword(password);
-			System.out.println("clientInfo.getClientId() " + clientInfo.getClientId());
-			JSONObject object = null;
-
-			if (clientInfo != null && clientInfo.getClientId() > 0) {
-				object = new JSONObject();
-				String key = UUID.randomUUID().toString();
-				Calendar startTime = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-				String addDate = startTime.toString();
-				PetParentKeyInfoDTO parentKeyInfoDTO = new PetParentKeyInfoDTO();
-				parentKeyInfoDTO.setAddDate(addDate);
-				parentKeyInfoDTO.setIsExpired(0);
-				parentKeyInfoDTO.setKey(key);
-				parentKeyInfoDTO.setUserId(String.valueOf(clientInfo.getClientId()));
-				parentKeyInfoDTO.setPetParentId(clientInfo.getClientId());
-				migratedService.insertClientKey(parentKeyInfoDTO);
-
-				clientInfo.setLastLogin(addDate);
-				if (StringUtils.isNoneEmpty(fcmToken)) {
-					clientInfo.setFcmToken(fcmToken);
-				}
-				migratedService.updateClientInfo(clientInfo);
-				object.put("clientID", clientInfo.getClientId());
-				object.put("email", clientInfo.getEmail());
-				object.put("token", key);
-
-				resultJson.put("responseCode", 0);
-				resultJson.put("responseMessage", "SUCCESS");
-				resultJson.put("success", true);
-				resultJson.put("result", object);
-			} else {
-				resultJson.put("responseCode", 1);
-				resultJson.put("responseMessage", "ERROR");
-				resultJson.put("success", false);
-				resultJson.put("result", "null");
-			}
+	@Autowired
+	private ResourceBulkheads resourceBulkheads;
 
-			resultJson.put("errors", "null");
-			resultJson.put("warnings", "null");
+	private ResourceBulkhead bulkhead;
 
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(resultJson.toString()).build();
+	@PostConstruct
+	public void init() {
+		bulkhead = resourceBulkheads.forResource("migrated");
 	}
 
 	@Override
-	public Response sendEmailVerificationCode(String payload) {
-		LOGGER.debug("entered into SendEmailVerificationCode");
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
-		try {
-
-			request = new JSONObject(payload);
-			String email = request.getString("Email");
-
-			if (email == null || email.trim().length() == 0) {
-				throw new ServiceValidationException("Email informaton is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.EMAIL_REQUIRED)));
-			}
+	public void clientLogin(ClientLoginRequest request, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into clientLogin");
+			LegacyResponse response = new LegacyResponse();
+			try {
+				String email = request.getEmail();
+				String password = request.getPassword();
+				String fcmToken = request.getFcmToken();
+
+				if (email == null || email.trim().length() == 0) {
+					throw new ServiceValidationException("Email is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.EMAIL_REQUIRED)));
+				}
+
+				if (password == null || password.trim().length() == 0) {
+					throw new ServiceValidationException("Password is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PASSWORD_REQUIRED)));
+				}
 
-			ClientInfo clientInfo = migratedService.getClientInfoByEmail(email);
-			String sid = sendClientVerificationCode(clientInfo, "Email", true);
-			boolean status = false;
-			if (sid != null && sid.trim().length() > 0) {
-				status = true;
+				ClientInfo clientInfo = migratedService.getClientInfoByEmail(email);
+				if (clientInfo.getClientId() > 0) {
+					password = Cryptography.encrypt(Cryptography.petParentDecrypt(password), clientInfo.getUniqueId());
+				}
+				clientInfo = migratedService.clientLogin(email, password);
+				clientInfo.setPassword(password);
+				LOGGER.debug("clientInfo.getClientId() {}", clientInfo.getClientId());
+				if (clientInfo != null && clientInfo.getClientId() > 0) {
+					String key = UUID.randomUUID().toString();
+					Calendar startTime = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+					String addDate = startTime.toString();
+					PetParentKeyInfoDTO parentKeyInfoDTO = new PetParentKeyInfoDTO();
+					parentKeyInfoDTO.setAddDate(addDate);
+					parentKeyInfoDTO.setIsExpired(0);
+					parentKeyInfoDTO.setKey(key);
+					parentKeyInfoDTO.setUserId(String.valueOf(clientInfo.getClientId()));
+					parentKeyInfoDTO.setPetParentId(clientInfo.getClientId());
+					migratedService.insertClientKey(parentKeyInfoDTO);
+
+					clientInfo.setLastLogin(addDate);
+					if (StringUtils.isNoneEmpty(fcmToken)) {
+						clientInfo.setFcmToken(fcmToken);
+					}
+					migratedService.updateClientInfo(clientInfo);
+					ClientLoginResult result = new ClientLoginResult();
+					result.setClientId(clientInfo.getClientId());
+					result.setEmail(clientInfo.getEmail());
+					result.setToken(key);
+					response = LegacyResponse.success(result);
+				} else {
+					response = LegacyResponse.error();
+				}
+			} catch (Exception e) {
+				LOGGER.error("error while executing clientLogin", e);
 			}
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", new JSONObject().put("Key", status).put("Value", ""));
-			response.put("success", true);
-			response.put("warnings", "null");
-
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response checkClientSMSCode(String payload) {
-		LOGGER.debug("entered into checkClientSMSCode");
-		JSONObject jsonObject = null;
-		JSONObject resultJson = null;
-		try {
-			jsonObject = new JSONObject(payload);
-			resultJson = new JSONObject();
-			String email = jsonObject.getString("Email");
-			String verificationCode = jsonObject.getString("VerificationCode");
-
-			if (email == null || email.trim().length() == 0) {
-				throw new ServiceValidationException("Email is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.EMAIL_REQUIRED)));
-			}
+	public void sendEmailVerificationCode(ClientSMSCodeRequest request, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into SendEmailVerificationCode");
+			LegacyResponse response = new LegacyResponse();
+			try {
 
-			if (verificationCode == null || verificationCode.trim().length() == 0) {
-				throw new ServiceValidationException("Verification Code is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.VERIFICATION_CODE_REQUIRED)));
-			}
+				String email = request.getEmail();
 
-			ClientInfo clientInfo = migratedService.getClientInfoByEmail(email);
-			System.out.println("clientInfo.getClientId() " + clientInfo.getClientId());
-			ClientSMSCode codeDTO = migratedService
-					.getClientSMSCodeByClientIDAndVerificationCode(clientInfo.getClientId(), verificationCode);
+				if (email == null || email.trim().length() == 0) {
+					throw new ServiceValidationException("Email informaton is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.EMAIL_REQUIRED)));
+				}
 
-			boolean result = false;
-			if (codeDTO.getPetParentSMSCodeId() > 0) {
-				result = true;
-			}
+				ClientInfo clientInfo = migratedService.getClientInfoByEmail(email);
+				String sid = sendClientVerificationCode(clientInfo, "Email", true);
+				boolean status = false;
+				if (sid != null && sid.trim().length() > 0) {
+					status = true;
+				}
+				response = LegacyResponse.success(new KeyValueResult(status, ""));
 
-			resultJson.put("errors", "null");
-			resultJson.put("responseCode", 0);
-			resultJson.put("responseMessage", "SUCCESS");
-			resultJson.put("result", new JSONObject().put("Key", result).put("Value", ""));
-			resultJson.put("success", true);
-			resultJson.put("warnings", "null");
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(resultJson.toString()).build();
+			} catch (Exception e) {
+				LOGGER.error("error while executing sendEmailVerificationCode", e);
+			}
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response setClientPasswordBySMSCode(String payload) {
-		LOGGER.debug("entered into clientLogin");
-		JSONObject request = null;
-		JSONObject response = null;
-		try {
-			request = new JSONObject(payload);
-			String email = request.getString("Email");
-			String verificationCode = request.getString("VerificationCode");
-			String password = request.getString("Password");
-
-			if (email == null || email.trim().length() == 0) {
-				throw new ServiceValidationException("Email is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.EMAIL_REQUIRED)));
-			}
+	public void checkClientSMSCode(ClientSMSCodeRequest request, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into checkClientSMSCode");
+			LegacyResponse response = new LegacyResponse();
+			try {
+				String email = request.getEmail();
+				String verificationCode = request.getVerificationCode();
+
+				if (email == null || email.trim().length() == 0) {
+					throw new ServiceValidationException("Email is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.EMAIL_REQUIRED)));
+				}
 
-			if (verificationCode == null || verificationCode.trim().length() == 0) {
-				throw new ServiceValidationException("Verification Code is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.VERIFICATION_CODE_REQUIRED)));
-			}
+				if (verificationCode == null || verificationCode.trim().length() == 0) {
+					throw new ServiceValidationException("Verification Code is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.VERIFICATION_CODE_REQUIRED)));
+				}
+
+				ClientInfo clientInfo = migratedService.getClientInfoByEmail(email);
+				LOGGER.debug("clientInfo.getClientId() {}", clientInfo.getClientId());
+				ClientSMSCode codeDTO = migratedService
+						.getClientSMSCodeByClientIDAndVerificationCode(clientInfo.getClientId(), verificationCode);
+
+				boolean result = false;
+				if (codeDTO.getPetParentSMSCodeId() > 0) {
+					result = true;
+				}
 
-			if (password == null || password.trim().length() == 0) {
-				throw new ServiceValidationException("Password is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PASSWORD_REQUIRED)));
+				response = LegacyResponse.success(new KeyValueResult(result, ""));
+			} catch (Exception e) {
+				LOGGER.error("error while executing checkClientSMSCode", e);
 			}
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
+	}
 
-			String deviceNumber = "";
-			int petID = 0;
-			String petName = "";
+	@Override
+	public void setClientPasswordBySMSCode(ClientSMSCodeRequest request, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into clientLogin");
+			LegacyResponse response = new LegacyResponse();
+			try {
+				String email = request.getEmail();
+				String verificationCode = request.getVerificationCode();
+				String password = request.getPassword();
+
+				if (email == null || email.trim().length() == 0) {
+					throw new ServiceValidationException("Email is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.EMAIL_REQUIRED)));
+				}
 
-			ClientInfo clientInfoResult = new ClientInfo();
-			clientInfoResult = migratedService.getClientInfoByEmail(email);
-			ClientSMSCode clientSMSCode = migratedService
-					.getClientSMSCodeByClientIDAndVerificationCode(clientInfoResult.getClientId(), verificationCode);
+				if (verificationCode == null || verificationCode.trim().length() == 0) {
+					throw new ServiceValidationException("Verification Code is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.VERIFICATION_CODE_REQUIRED)));
+				}
 
-			if (clientSMSCode.getPetParentSMSCodeId() <= 0) {
-				clientInfoResult = new ClientInfo();
-			}
+				if (password == null || password.trim().length() == 0) {
+					throw new ServiceValidationException("Password is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PASSWORD_REQUIRED)));
+				}
+
+				String deviceNumber = "";
+				int petID = 0;
+				String petName = "";
+
+				ClientInfo clientInfoResult = new ClientInfo();
+				clientInfoResult = migratedService.getClientInfoByEmail(email);
+				ClientSMSCode clientSMSCode = migratedService.getClientSMSCodeByClientIDAndVerificationCode(
+						clientInfoResult.getClientId(), verificationCode);
 
-			if (clientInfoResult.getClientId() > 0) {
-				String newPassword = "";
-				newPassword = Cryptography.encrypt(Cryptography.petParentDecrypt(password),
-						clientInfoResult.getUniqueId());
-				clientInfoResult.setPassword(newPassword);
-				int status = migratedService.updatePassword(clientInfoResult);
-				if (status > 0) {
-					migratedService.expiredClientSMSCode(clientInfoResult.getClientId(), verificationCode);
+				if (clientSMSCode.getPetParentSMSCodeId() <= 0) {
+					clientInfoResult = new ClientInfo();
 				}
-				clientInfoResult = migratedService.clientLogin(clientInfoResult.getEmail(), newPassword);
+
 				if (clientInfoResult.getClientId() > 0) {
-					List<PetInfoDTO> petList = migratedService.getPetListByPetParentId(clientInfoResult.getClientId());
-					petList.sort(Comparator.comparing(PetInfoDTO::getPlanId));
-					PetInfoDTO petInfoDTO = null;
-					for (PetInfoDTO petInfo : petList) {
-						if (petInfo.getPlanStatus() != 0) {
-							petInfoDTO = petInfo;
-							break;
-						}
+					String newPassword = "";
+					newPassword = Cryptography.encrypt(Cryptography.petParentDecrypt(password),
+							clientInfoResult.getUniqueId());
+					clientInfoResult.setPassword(newPassword);
+					int status = migratedService.updatePassword(clientInfoResult);
+					if (status > 0) {
+						migratedService.expiredClientSMSCode(clientInfoResult.getClientId(), verificationCode);
 					}
-					if (petInfoDTO == null && petList.size() > 0) {
-						petInfoDTO = petList.get(0);
-					}
-					if (petInfoDTO != null) {
-						List<DeviceAssignDTO> devices = migratedService
-								.getDeviceAssignListByPlanIDAndPetID(petInfoDTO.getPlanId(), petInfoDTO.getPetId());
-						DeviceAssignDTO deviceAssignDTO = null;
-						for (DeviceAssignDTO deviceAssignDTO1 : devices) {
-							if (deviceAssignDTO1.isIsAssign()) {
-								deviceAssignDTO = deviceAssignDTO1;
+					clientInfoResult = migratedService.clientLogin(clientInfoResult.getEmail(), newPassword);
+					if (clientInfoResult.getClientId() > 0) {
+						List<PetInfoDTO> petList = migratedService
+								.getPetListByPetParentId(clientInfoResult.getClientId());
+						petList.sort(Comparator.comparing(PetInfoDTO::getPlanId));
+						PetInfoDTO petInfoDTO = null;
+						for (PetInfoDTO petInfo : petList) {
+							if (petInfo.getPlanStatus() != 0) {
+								petInfoDTO = petInfo;
 								break;
 							}
 						}
-						if (deviceAssignDTO == null) {
-							deviceAssignDTO = devices.get(0);
+						if (petInfoDTO == null && petList.size() > 0) {
+							petInfoDTO = petList.get(0);
 						}
-						if (deviceAssignDTO != null) {
-							deviceNumber = deviceAssignDTO.getDeviceNumber();
+						if (petInfoDTO != null) {
+							List<DeviceAssignDTO> devices = migratedService
+									.getDeviceAssignListByPlanIDAndPetID(petInfoDTO.getPlanId(), petInfoDTO.getPetId());
+							DeviceAssignDTO deviceAssignDTO = null;
+							for (DeviceAssignDTO deviceAssignDTO1 : devices) {
+								if (deviceAssignDTO1.isIsAssign()) {
+									deviceAssignDTO = deviceAssignDTO1;
+									break;
+								}
+							}
+							if (deviceAssignDTO == null) {
+								deviceAssignDTO = devices.get(0);
+							}
+							if (deviceAssignDTO != null) {
+								deviceNumber = deviceAssignDTO.getDeviceNumber();
+							}
+							petID = petInfoDTO.getPetId();
+							petName = petInfoDTO.getPetName();
 						}
-						petID = petInfoDTO.getPetId();
-						petName = petInfoDTO.getPetName();
 					}
 				}
-			}
-			JSONObject result = new JSONObject();
-			result.put("clientID", clientInfoResult.getClientId());
-			result.put("petID", petID);
-			result.put("petName", petName);
-			result.put("token", UUID.randomUUID().toString());
-			result.put("deviceNumber", deviceNumber);
-
-			response = new JSONObject();
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", result);
-			response.put("success", true);
-			response.put("warnings", "null");
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+				ClientPasswordResult result = new ClientPasswordResult();
+				result.setClientId(clientInfoResult.getClientId());
+				result.setPetId(petID);
+				result.setPetName(petName);
+				result.setToken(UUID.randomUUID().toString());
+				result.setDeviceNumber(deviceNumber);
+
+				response = LegacyResponse.success(result);
+			} catch (Exception e) {
+				LOGGER.error("error while executing setClientPasswordBySMSCode", e);
+			}
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response changePassword(String payload, String token) {
-		LOGGER.debug("entered into clientLogin");
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
-		try {
-
-			int petParentKeyId = migratedService.getPetParentByPetParentKey(token);
-			if (petParentKeyId == 0) {
-				return Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).build();
-			}
-
-			request = new JSONObject(payload);
-			int clientID = request.getInt("ClientID");
-			String newPassword = request.getString("NewPassword");
-			String oldPassword = request.getString("Password");
-
-			if (clientID == 0) {
-				throw new ServiceValidationException("Client ID not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
-			}
+	public void changePassword(ChangePasswordRequest request, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into clientLogin");
+			LegacyResponse response = new LegacyResponse();
+			try {
+				int clientID = request.getClientId();
+				String newPassword = request.getNewPassword();
+				String oldPassword = request.getPassword();
+
+				if (clientID == 0) {
+					throw new ServiceValidationException("Client ID not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
+				}
 
-			if (newPassword == null || newPassword.trim().length() == 0) {
-				throw new ServiceValidationException("New Password is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.NEW_PASSWORD_REQUIRED)));
-			}
+				if (newPassword == null || newPassword.trim().length() == 0) {
+					throw new ServiceValidationException("New Password is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.NEW_PASSWORD_REQUIRED)));
+				}
 
-			if (oldPassword == null || oldPassword.trim().length() == 0) {
-				throw new ServiceValidationException("Password is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PASSWORD_REQUIRED)));
-			}
+				if (oldPassword == null || oldPassword.trim().length() == 0) {
+					throw new ServiceValidationException("Password is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PASSWORD_REQUIRED)));
+				}
 
-			ClientInfo clientInfo = migratedService.getClientInfoById(Integer.toString(clientID));
-			JSONObject result = new JSONObject();
-			if (clientInfo.getClientId() > 0) {
-				String databasePassword = Cryptography.decrypt(
-						migratedService.getPasswordByClientID(clientInfo.getClientId()), 
-							clientInfo.getUniqueId() == null ? Cryptography.DEFAULT_ENCRYPTION_KEY : clientInfo.getUniqueId());
-				if (!databasePassword.equals(Cryptography.petParentDecrypt(oldPassword))) {
-					result.put("Key", false);
-					result.put("Value", "INVALID OLD PASSWORD");
-				} else {
-					String password = Cryptography.encrypt(Cryptography.petParentDecrypt(newPassword),
-							clientInfo.getUniqueId());
-
-					clientInfo.setPassword(password);
-					int status = migratedService.updatePassword(clientInfo);
-					if (status == 0) {
-						result.put("Key", false);
-						result.put("Value", "CHANGE FAILED");
+				ClientInfo clientInfo = migratedService.getClientInfoById(Integer.toString(clientID));
+				KeyValueResult result = new KeyValueResult();
+				if (clientInfo.getClientId() > 0) {
+					String databasePassword = Cryptography.decrypt(
+							migratedService.getPasswordByClientID(clientInfo.getClientId()),
+							clientInfo.getUniqueId() == null ? Cryptography.DEFAULT_ENCRYPTION_KEY
+									: clientInfo.getUniqueId());
+					if (!databasePassword.equals(Cryptography.petParentDecrypt(oldPassword))) {
+						result.setKey(false);
+						result.setValue("INVALID OLD PASSWORD");
 					} else {
-						result.put("Key", true);
-						result.put("Value", "");
+						String password = Cryptography.encrypt(Cryptography.petParentDecrypt(newPassword),
+								clientInfo.getUniqueId());
+
+						clientInfo.setPassword(password);
+						int status = migratedService.updatePassword(clientInfo);
+						if (status == 0) {
+							result.setKey(false);
+							result.setValue("CHANGE FAILED");
+						} else {
+							result.setKey(true);
+							result.setValue("");
+						}
 					}
 				}
-			}
 
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", result);
-			response.put("success", true);
-			response.put("warnings", "null");
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+				response = LegacyResponse.success(result);
+			} catch (Exception e) {
+				LOGGER.error("error while executing changePassword", e);
+			}
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response getClientInfo(String payload, String token) {
-		LOGGER.debug("CheckClientEmail called");
-		int clientid = 0;
-		String clientID = "";
-		JSONObject jsonObject = null;
-		try {
-			int petParentKeyId = migratedService.getPetParentByPetParentKey(token);
-			if (petParentKeyId == 0) {
-				return Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).build();
-			}
+	public void getClientInfo(ClientIdRequest request, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("CheckClientEmail called");
+			int clientid = 0;
+			String clientID = "";
+			LegacyResponse response = new LegacyResponse();
+			try {
+				if (request.getClientId() != null) {
+					clientid = request.getClientId();
+				}
+				if (clientid > 0) {
+					clientID = Integer.toString(clientid);
+				}
+				if (clientID == null || clientID.trim().length() == 0) {
+					throw new ServiceValidationException("Clinet ID is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
+				}
 
-			jsonObject = new JSONObject(payload);
-			if (jsonObject.has("ClientID")) {
-				clientid = jsonObject.getInt("ClientID");
-			}
-			if (clientid > 0) {
-				clientID = Integer.toString(clientid);
-			}
-			if (clientID == null || clientID.trim().length() == 0) {
-				throw new ServiceValidationException("Clinet ID is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
-			}
+				ClientInfo clientInfo = migratedService.getClientInfoById(clientID);
+				ClientInfoResult result = new ClientInfoResult();
+				result.setClientId(clientInfo.getClientId());
+				result.setEmail(clientInfo.getEmail());
+				result.setFullName(clientInfo.getFullName());
+				result.setPhoneNumber(clientInfo.getPhoneNumber());
+				result.setFirstName(clientInfo.getFirstName());
+				result.setLastName(clientInfo.getLastName());
 
-			ClientInfo clientInfo = migratedService.getClientInfoById(clientID);
-			JSONObject json = new JSONObject();
-			json.put("clientID", clientInfo.getClientId());
-			json.put("email", clientInfo.getEmail());
-			json.put("fullName", clientInfo.getFullName());
-			json.put("phoneNumber", clientInfo.getPhoneNumber());
-			json.put("firstName", clientInfo.getFirstName());
-			json.put("lastName", clientInfo.getLastName());
-
-			jsonObject = new JSONObject();
-			jsonObject.put("errors", "null");
-			jsonObject.put("responseCode", 0);
-			jsonObject.put("responseMessage", "SUCCESS");
-			jsonObject.put("result", json);
-			jsonObject.put("success", true);
-			jsonObject.put("warnings", "null");
-
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(jsonObject.toString()).build();
+				response = LegacyResponse.success(result);
+
+			} catch (Exception e) {
+				LOGGER.error("error while executing getClientInfo", e);
+			}
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response changeClientInfo(String payload, String token) {
-		LOGGER.debug("entered into changeClientInfo");
-
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
+	public void changeClientInfo(ClientInfoRequest request, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into changeClientInfo");
 
-		try {
-			int petParentKeyId = migratedService.getPetParentByPetParentKey(token);
-			if (petParentKeyId == 0) {
-				return Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).build();
-			}
+			LegacyResponse response = new LegacyResponse();
 
-			request = new JSONObject(payload);
-			int petParentId = request.getInt("ClientID");
-			String firstName = request.getString("FirstName");
-			String lastName = request.getString("LastName");
-			String phoneNumber = request.getString("PhoneNumber");
+			try {
+				int petParentId = request.getClientId();
+				String firstName = request.getFirstName();
+				String lastName = request.getLastName();
+				String phoneNumber = request.getPhoneNumber();
 
-			if (petParentId == 0) {
-				throw new ServiceValidationException("Client ID is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
-			}
+				if (petParentId == 0) {
+					throw new ServiceValidationException("Client ID is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
+				}
 
-			if (firstName == null || firstName.trim().length() == 0) {
-				throw new ServiceValidationException("First Name is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.FIRST_NAME_REQUIRED)));
-			}
+				if (firstName == null || firstName.trim().length() == 0) {
+					throw new ServiceValidationException("First Name is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.FIRST_NAME_REQUIRED)));
+				}
 
-			if (lastName == null || lastName.trim().length() == 0) {
-				throw new ServiceValidationException("Last Name is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.LAST_NAME_REQUIRED)));
-			}
+				if (lastName == null || lastName.trim().length() == 0) {
+					throw new ServiceValidationException("Last Name is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.LAST_NAME_REQUIRED)));
+				}
 
-			if (phoneNumber == null || phoneNumber.trim().length() == 0) {
-				throw new ServiceValidationException("Phone Number is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PHONE_NUMBER_REQUIRED)));
-			}
+				if (phoneNumber == null || phoneNumber.trim().length() == 0) {
+					throw new ServiceValidationException("Phone Number is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PHONE_NUMBER_REQUIRED)));
+				}
 
-			ClientInfo clientInfo = migratedService.getClientInfoById(Integer.toString(petParentId));
-			String fullName = "";
+				ClientInfo clientInfo = migratedService.getClientInfoById(Integer.toString(petParentId));
+				String fullName = "";
 
-			if (StringUtils.isNotEmpty(firstName) && StringUtils.isNotEmpty(lastName)) {
-				fullName += firstName + " " + lastName;
-			} else {
-				if (StringUtils.isNoneEmpty(firstName)) {
-					fullName = firstName;
+				if (StringUtils.isNotEmpty(firstName) && StringUtils.isNotEmpty(lastName)) {
+					fullName += firstName + " " + lastName;
+				} else {
+					if (StringUtils.isNoneEmpty(firstName)) {
+						fullName = firstName;
+					}
 				}
-			}
-			clientInfo.setFullName(fullName);
-			clientInfo.setFcmToken(null);
-
-			clientInfo.setFullName(fullName);
-			clientInfo.setFirstName(firstName);
-			clientInfo.setLastName(lastName);
-			clientInfo.setClientId(petParentId);
-
-			if (phoneNumber != null && phoneNumber.trim().length() > 0) {
-				if (phoneNumber.contains(" ")) {
-					String[] phoneCodeArray = phoneNumber.split(" ");
-					String countryCode = phoneCodeArray[0];
-					String phoneCode = phoneCodeArray[1];
-					if (countryCode == "+1") {
-						String firstPhoneCode = " (" + phoneCode.substring(0, 3) + ") ";
-						String secondPhoneCode = phoneCode.substring(3, 3);
-						String thirdPhoneCode = "-" + phoneCode.substring(6);
-						phoneNumber = countryCode + firstPhoneCode + secondPhoneCode + thirdPhoneCode;
+				clientInfo.setFullName(fullName);
+				clientInfo.setFcmToken(null);
+
+				clientInfo.setFullName(fullName);
+				clientInfo.setFirstName(firstName);
+				clientInfo.setLastName(lastName);
+				clientInfo.setClientId(petParentId);
+
+				if (phoneNumber != null && phoneNumber.trim().length() > 0) {
+					if (phoneNumber.contains(" ")) {
+						String[] phoneCodeArray = phoneNumber.split(" ");
+						String countryCode = phoneCodeArray[0];
+						String phoneCode = phoneCodeArray[1];
+						if (countryCode == "+1") {
+							String firstPhoneCode = " (" + phoneCode.substring(0, 3) + ") ";
+							String secondPhoneCode = phoneCode.substring(3, 3);
+							String thirdPhoneCode = "-" + phoneCode.substring(6);
+							phoneNumber = countryCode + firstPhoneCode + secondPhoneCode + thirdPhoneCode;
+						}
 					}
+					clientInfo.setPhoneNumber(phoneNumber);
 				}
-				clientInfo.setPhoneNumber(phoneNumber);
-			}
 
-			boolean result = migratedService.updateClientInfo(clientInfo);
+				boolean result = migratedService.updateClientInfo(clientInfo);
 
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", new JSONObject().put("result", result));
-			response.put("success", true);
-			response.put("warnings", "null");
+				response = LegacyResponse.success(new UpdateResult(result));
 
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+			} catch (Exception e) {
+				LOGGER.error("error while executing changeClientInfo", e);
+			}
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response manageMobileAppScreensFeedback(String payload, String token) {
-		LOGGER.debug("entered into manageMobileAppScreensFeedback");
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
-		try {
-			int petParentKeyId = migratedService.getPetParentByPetParentKey(token);
-			if (petParentKeyId == 0) {
-				return Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).build();
-			}
+	public void manageMobileAppScreensFeedback(ScreenFeedbackRequest request, String token,
+			AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into manageMobileAppScreensFeedback");
+			LegacyResponse response = new LegacyResponse();
+			try {
+				int petParentId = request.getClientId();
+				int petId = request.getPetId();
+				String pageName = request.getPageName();
+				String deviceType = request.getDeviceType();
+				String feedbackText = request.getFeedbackText();
+
+				if (petParentId == 0) {
+					throw new ServiceValidationException("Clinet ID is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
+				}
 
-			request = new JSONObject(payload);
-			int petParentId = request.getInt("ClientID");
-			int petId = request.getInt("PetId");
-			String pageName = request.getString("PageName");
-			String deviceType = request.getString("DeviceType");
-			String feedbackText = request.getString("FeedbackText");
+				if (petId == 0) {
+					throw new ServiceValidationException("Pet ID is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PET_ID_REQUIRED)));
+				}
 
-			if (petParentId == 0) {
-				throw new ServiceValidationException("Clinet ID is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
-			}
+				if (pageName == null || pageName.trim().length() == 0) {
+					throw new ServiceValidationException("Page Name is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PAGE_NAME_REQUIRED)));
+				}
 
-			if (petId == 0) {
-				throw new ServiceValidationException("Pet ID is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PET_ID_REQUIRED)));
-			}
+				if (deviceType == null || deviceType.trim().length() == 0) {
+					throw new ServiceValidationException("Device Type is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.DEVICE_TYPE_REQUIRED)));
+				}
 
-			if (pageName == null || pageName.trim().length() == 0) {
-				throw new ServiceValidationException("Page Name is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PAGE_NAME_REQUIRED)));
-			}
+				if (feedbackText == null || feedbackText.trim().length() == 0) {
+					throw new ServiceValidationException("Feedback Text is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.FEEDBACK_TEXT_REQUIRED)));
+				}
 
-			if (deviceType == null || deviceType.trim().length() == 0) {
-				throw new ServiceValidationException("Device Type is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.DEVICE_TYPE_REQUIRED)));
-			}
+				MobileAppFeedbackDTO mobileAppFeedbackDTO = new MobileAppFeedbackDTO();
+				mobileAppFeedbackDTO.setDeviceType(deviceType);
+				mobileAppFeedbackDTO.setFeedbackText(feedbackText);
+				mobileAppFeedbackDTO.setPageName(pageName);
+				mobileAppFeedbackDTO.setPetId(Integer.toString(petId));
+				mobileAppFeedbackDTO.setPetParentId(Integer.toString(petParentId));
+				mobileAppFeedbackDTO.setLoginUserId(Integer.toString(petParentId));
 
-			if (feedbackText == null || feedbackText.trim().length() == 0) {
-				throw new ServiceValidationException("Feedback Text is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.FEEDBACK_TEXT_REQUIRED)));
-			}
+				boolean status = migratedService.manageMobileAppScreensFeedback(mobileAppFeedbackDTO);
 
-			MobileAppFeedbackDTO mobileAppFeedbackDTO = new MobileAppFeedbackDTO();
-			mobileAppFeedbackDTO.setDeviceType(deviceType);
-			mobileAppFeedbackDTO.setFeedbackText(feedbackText);
-			mobileAppFeedbackDTO.setPageName(pageName);
-			mobileAppFeedbackDTO.setPetId(Integer.toString(petId));
-			mobileAppFeedbackDTO.setPetParentId(Integer.toString(petParentId));
-			mobileAppFeedbackDTO.setLoginUserId(Integer.toString(petParentId));
-
-			boolean status = migratedService.manageMobileAppScreensFeedback(mobileAppFeedbackDTO);
-
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", status);
-			response.put("success", true);
-			response.put("warnings", "null");
-
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
-	}
+				response = LegacyResponse.success(status);
 
-	@Override
-	public Response getPetTimerLog(String payload, String token) {
-		LOGGER.debug("entered into getPetTimerLog");
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
-		try {
-
-			int petParentKeyId = migratedService.getPetParentByPetParentKey(token);
-			if (petParentKeyId == 0) {
-				return Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).build();
+			} catch (Exception e) {
+				LOGGER.error("error while executing manageMobileAppScreensFeedback", e);
 			}
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
+	}
 
-			request = new JSONObject(payload);
+	@Override
+	public void getPetTimerLog(ClientIdRequest request, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into getPetTimerLog");
+			LegacyResponse response = new LegacyResponse();
+			try {
+				Integer petParentId = request.getClientId();
+
+				if (petParentId == null) {
+					throw new ServiceValidationException("Client ID is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
+				}
 
-			String petParentId = request.getString("ClientID");
+				List<TimerLog> petTimerLogs = migratedService.getPetTimerLog(petParentId);
 
-			if (petParentId == null || petParentId.trim().length() == 0) {
-				throw new ServiceValidationException("Client ID is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
+				response = LegacyResponse.success(petTimerLogs);
+			} catch (Exception e) {
+				LOGGER.error("error while executing getPetTimerLog", e);
 			}
-
-			List<TimerLog> petTimerLogs = migratedService.getPetTimerLog(Integer.parseInt(petParentId));
-
-			ObjectMapper mapper = new ObjectMapper();
-			String json = mapper.writeValueAsString(petTimerLogs);
-
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", new JSONArray(json));
-			response.put("success", true);
-			response.put("warnings", "null");
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response managePetTimerLog(String payload, String token) {
-		LOGGER.debug("entered into managePetTimerLog");
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
-		try {
-
-			int petParentKeyId = migratedService.getPetParentByPetParentKey(token);
-			if (petParentKeyId == 0) {
-				return Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).build();
-			}
+	public void managePetTimerLog(PetTimerLogRequest request, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into managePetTimerLog");
+			LegacyResponse response = new LegacyResponse();
+			try {
+				String petParentId = request.getClientId();
+				String petId = request.getPetId();
+				String category = request.getCategory();
+				String deviceNumber = request.getDeviceNumber();
+				String duration = request.getDuration();
+				String timerDate = request.getTimerDate();
+
+				if (petParentId == null || petParentId.trim().length() == 0) {
+					throw new ServiceValidationException("Client ID is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
+				}
 
-			request = new JSONObject(payload);
+				if (petId == null || petId.trim().length() == 0) {
+					throw new ServiceValidationException("Pet Id is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PET_ID_REQUIRED)));
+				}
 
-			String petParentId = request.getString("ClientID");
-			String petId = request.getString("PetID");
-			String category = request.getString("Category");
-			String deviceNumber = request.getString("DeviceNumber");
-			String duration = request.getString("Duration");
-			String timerDate = request.getString("TimerDate");
+				if (category == null || category.trim().length() == 0) {
+					throw new ServiceValidationException("Category is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.CATEGORY_REQUIRED)));
+				}
 
-			if (petParentId == null || petParentId.trim().length() == 0) {
-				throw new ServiceValidationException("Client ID is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
-			}
+				if (deviceNumber == null || deviceNumber.trim().length() == 0) {
+					throw new ServiceValidationException("Device Number is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.DEVICE_NUMBER_REQUIRED)));
+				}
 
-			if (petId == null || petId.trim().length() == 0) {
-				throw new ServiceValidationException("Pet Id is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PET_ID_REQUIRED)));
-			}
+				if (duration == null || duration.trim().length() == 0) {
+					throw new ServiceValidationException("Duration is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.DURATION_REQUIRED)));
+				}
 
-			if (category == null || category.trim().length() == 0) {
-				throw new ServiceValidationException("Category is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.CATEGORY_REQUIRED)));
-			}
+				if (timerDate == null || timerDate.trim().length() == 0) {
+					throw new ServiceValidationException("Timer Date is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.TIMER_DATE_REQUIRED)));
+				}
 
-			if (deviceNumber == null || deviceNumber.trim().length() == 0) {
-				throw new ServiceValidationException("Device Number is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.DEVICE_NUMBER_REQUIRED)));
-			}
+				TimerLog timerLog = new TimerLog();
+				timerLog.setCategory(category);
+				timerLog.setDeviceNumber(deviceNumber);
+				timerLog.setDuration(duration);
+				timerLog.setPetId(Integer.parseInt(petId));
+				timerLog.setPetParentId(Integer.parseInt(petParentId));
+				timerLog.setTimerDate(timerDate);
+				timerLog.setUserId(petParentId);
 
-			if (duration == null || duration.trim().length() == 0) {
-				throw new ServiceValidationException("Duration is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.DURATION_REQUIRED)));
-			}
+				migratedService.managePetTimerLog(timerLog);
 
-			if (timerDate == null || timerDate.trim().length() == 0) {
-				throw new ServiceValidationException("Timer Date is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.TIMER_DATE_REQUIRED)));
+				response = LegacyResponse.success(new ResponseCodeResult("SUCCESS", "SUCCESS"));
+			} catch (Exception e) {
+				LOGGER.error("error while executing managePetTimerLog", e);
 			}
-
-			TimerLog timerLog = new TimerLog();
-			timerLog.setCategory(category);
-			timerLog.setDeviceNumber(deviceNumber);
-			timerLog.setDuration(duration);
-			timerLog.setPetId(Integer.parseInt(petId));
-			timerLog.setPetParentId(Integer.parseInt(petParentId));
-			timerLog.setTimerDate(timerDate);
-			timerLog.setUserId(petParentId);
-
-			migratedService.managePetTimerLog(timerLog);
-
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", new JSONObject().put("responseCode", "SUCCESS").put("responseMessage", "SUCCESS"));
-			response.put("success", true);
-			response.put("warnings", "null");
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response updateSensorSetupStatus(String payload, String token) {
-		LOGGER.debug("updateSensorSetupStatus called");
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
-		try {
-			int petParentKeyId = migratedService.getPetParentByPetParentKey(token);
-			if (petParentKeyId == 0) {
-				return Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).build();
-			}
+	public void updateSensorSetupStatus(SensorSetupStatusRequest request, String token,
+			AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("updateSensorSetupStatus called");
+			LegacyResponse response = new LegacyResponse();
+			try {
+				String petParentId = request.getClientId();
+				String petId = request.getPatientId();
+				String setupStatus = request.getSetupStatus();
+				String ssidList = request.getSsidList();
+				String deviceNumber = request.getDeviceNumber();
+
+				if (petParentId == null || petParentId.trim().length() == 0) {
+					throw new ServiceValidationException("Clinet ID is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
+				}
 
-			request = new JSONObject(payload);
+				if (petId == null || petId.trim().length() == 0) {
+					throw new ServiceValidationException("Patient Id is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PET_ID_REQUIRED)));
+				}
 
-			String petParentId = request.getString("ClientID");
-			String petId = request.getString("PatientID");
-			String setupStatus = request.getString("SetupStatus");
-			String ssidList = request.getString("SSIDList");
-			String deviceNumber = request.getString("DeviceNumber");
+				if (setupStatus == null || setupStatus.trim().length() == 0) {
+					throw new ServiceValidationException("Setup Status is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.SETUP_STATUS_REQUIRED)));
+				}
 
-			if (petParentId == null || petParentId.trim().length() == 0) {
-				throw new ServiceValidationException("Clinet ID is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
-			}
+				if (ssidList == null || ssidList.trim().length() == 0) {
+					throw new ServiceValidationException("SSID List is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.SSID_REQUIRED)));
+				}
 
-			if (petId == null || petId.trim().length() == 0) {
-				throw new ServiceValidationException("Patient Id is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PET_ID_REQUIRED)));
-			}
+				SensorDetailsDTO sensorDetailsDTO = new SensorDetailsDTO();
+				sensorDetailsDTO.setDeviceNumber(deviceNumber);
+				sensorDetailsDTO.setPetId(petId);
+				sensorDetailsDTO.setPetParentId(petParentId);
+				sensorDetailsDTO.setSetupStatus(setupStatus);
+				sensorDetailsDTO.setSsidList(ssidList);
+				sensorDetailsDTO.setUserId(petParentId);
 
-			if (setupStatus == null || setupStatus.trim().length() == 0) {
-				throw new ServiceValidationException("Setup Status is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.SETUP_STATUS_REQUIRED)));
-			}
+				boolean sensorUpdateStatus = migratedService.updateSensorSetupStatus(sensorDetailsDTO);
+				response = LegacyResponse.success(new KeyValueResult(sensorUpdateStatus, null));
 
-			if (ssidList == null || ssidList.trim().length() == 0) {
-				throw new ServiceValidationException("SSID List is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.SSID_REQUIRED)));
+			} catch (Exception e) {
+				LOGGER.error("error while executing updateSensorSetupStatus", e);
 			}
-
-			SensorDetailsDTO sensorDetailsDTO = new SensorDetailsDTO();
-			sensorDetailsDTO.setDeviceNumber(deviceNumber);
-			sensorDetailsDTO.setPetId(petId);
-			sensorDetailsDTO.setPetParentId(petParentId);
-			sensorDetailsDTO.setSetupStatus(setupStatus);
-			sensorDetailsDTO.setSsidList(ssidList);
-			sensorDetailsDTO.setUserId(petParentId);
-
-			boolean sensorUpdateStatus = migratedService.updateSensorSetupStatus(sensorDetailsDTO);
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", new JSONObject().put("Key", sensorUpdateStatus));
-			response.put("success", true);
-			response.put("warnings", "null");
-
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response getSensorStatus(String payload, String token) {
-		LOGGER.debug("getSensorSetupStatus called");
-		// System.out.println("getSensorSetupStatus entered");
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
-		try {
-			int petParentKeyId = migratedService.getPetParentByPetParentKey(token);
-			if (petParentKeyId == 0) {
-				return Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).build();
-			}
+	public void getSensorStatus(SensorSetupStatusRequest request, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("getSensorSetupStatus called");
+			// System.out.println("getSensorSetupStatus entered");
+			LegacyResponse response = new LegacyResponse();
+			try {
+				String petParentId = request.getClientId();
+				String petId = request.getPetId();
+
+				if (petParentId == null || petParentId.trim().length() == 0) {
+					throw new ServiceValidationException("Clinet ID is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
+				}
 
-			request = new JSONObject(payload);
-			String petParentId = request.getString("ClientID");
-			String petId = request.getString("PetID");
+				if (petId == null || petId.trim().length() == 0) {
+					throw new ServiceValidationException("Pet ID is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PET_ID_REQUIRED)));
+				}
+				LOGGER.debug("petParentId " + petParentId + " petId " + petId);
+				SensorDetailsDTO sensorDetailsDTO = migratedService.getSensorSetupStatus(petParentId, petId);
 
-			if (petParentId == null || petParentId.trim().length() == 0) {
-				throw new ServiceValidationException("Clinet ID is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
-			}
+				SensorSetupStatusResult result = new SensorSetupStatusResult();
+				result.setSetupStatus(sensorDetailsDTO.getSetupStatus());
+				result.setSsidList(sensorDetailsDTO.getSsidList() == null ? " " : sensorDetailsDTO.getSsidList());
+				response = LegacyResponse.success(result);
 
-			if (petId == null || petId.trim().length() == 0) {
-				throw new ServiceValidationException("Pet ID is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PET_ID_REQUIRED)));
+			} catch (Exception e) {
+				LOGGER.error("error while executing getSensorStatus", e);
 			}
-			LOGGER.debug("petParentId " + petParentId + " petId " + petId);
-			SensorDetailsDTO sensorDetailsDTO = migratedService.getSensorSetupStatus(petParentId, petId);
-
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", new JSONObject().put("SetupStatus", sensorDetailsDTO.getSetupStatus())
-					.put("SSIDList", sensorDetailsDTO.getSsidList() == null ? " " : sensorDetailsDTO.getSsidList()));
-			response.put("success", true);
-			response.put("warnings", "null");
-
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response manageSensorChargingNotificationSettings(String payload, String token) {
-		LOGGER.debug("entered into manageSensorChargingNotificationSettings");
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
-		try {
-			int petParentKeyId = migratedService.getPetParentByPetParentKey(token);
-			if (petParentKeyId == 0) {
-				return Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).build();
-			}
-			request = new JSONObject(payload);
+	public void manageSensorChargingNotificationSettings(SensorChargingNotificationRequest request,
+			String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into manageSensorChargingNotificationSettings");
+			LegacyResponse response = new LegacyResponse();
+			try {
+				int petParentId = request.getClientId();
+				int petId = request.getPetId();
+				String notificationType = request.getNotificationType();
+				String notificationDay = request.getNotificationDay();
+				String opt = request.getOpt();
+
+				if (petParentId == 0) {
+					throw new ServiceValidationException("Clinet ID is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
+				}
 
-			int petParentId = request.getInt("ClientID");
-			int petId = request.getInt("PetID");
-			String notificationType = request.getString("NotificationType");
-			String notificationDay = request.getString("NotificationDay");
-			String opt = request.getString("Opt");
+				if (notificationType == null || notificationType.trim().length() == 0) {
+					throw new ServiceValidationException("Notification Type is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.NOTIFICATION_TYPE_REQUIRED)));
+				}
 
-			if (petParentId == 0) {
-				throw new ServiceValidationException("Clinet ID is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
-			}
+				SensorDetailsDTO sensorDetailsDTO = new SensorDetailsDTO();
+				sensorDetailsDTO.setPetId(Integer.toString(petId));
+				sensorDetailsDTO.setPetParentId(Integer.toString(petParentId));
+				sensorDetailsDTO.setNotificationType(notificationType);
+				sensorDetailsDTO.setOpt(opt);
+
+				Calendar weekStartDate = Calendar.getInstance();
+				if (notificationType.trim().toLowerCase().equals("weekly")) {
+					OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+					int DayNo = 0;
+					DayOfWeek Day = now.getDayOfWeek();
+					int Days = Day.getValue() - DayOfWeek.MONDAY.getValue();
+					now = now.minusDays(Days);
+					weekStartDate.setTimeInMillis(now.toInstant().toEpochMilli());
+
+					if (notificationDay != null && notificationDay.trim().length() > 0) {
+						switch (notificationDay) {
+						case "monday":
+							DayNo = 0;
+							break;
+						case "tuesday":
+							DayNo = 1;
+							break;
+						case "wednesday":
+							DayNo = 2;
+							break;
+						case "thursday":
+							DayNo = 3;
+							break;
+						case "friday":
+							DayNo = 4;
+							break;
+						case "saturday":
+							DayNo = 5;
+							break;
+						case "sunday":
+							DayNo = 6;
+							break;
+						default:
+							DayNo = 0;
+							break;
+						}
+					}
 
-			if (notificationType == null || notificationType.trim().length() == 0) {
-				throw new ServiceValidationException("Notification Type is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.NOTIFICATION_TYPE_REQUIRED)));
-			}
+					weekStartDate.add(Calendar.DAY_OF_MONTH, DayNo);
+					Calendar notificationDate = Calendar.getInstance();
+					notificationDate.setTimeInMillis(weekStartDate.getTimeInMillis());
+					Calendar startTime = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
 
-			SensorDetailsDTO sensorDetailsDTO = new SensorDetailsDTO();
-			sensorDetailsDTO.setPetId(Integer.toString(petId));
-			sensorDetailsDTO.setPetParentId(Integer.toString(petParentId));
-			sensorDetailsDTO.setNotificationType(notificationType);
-			sensorDetailsDTO.setOpt(opt);
-
-			Calendar weekStartDate = Calendar.getInstance();
-			if (notificationType.trim().toLowerCase().equals("weekly")) {
-				OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
-				int DayNo = 0;
-				DayOfWeek Day = now.getDayOfWeek();
-				int Days = Day.getValue() - DayOfWeek.MONDAY.getValue();
-				now = now.minusDays(Days);
-				weekStartDate.setTimeInMillis(now.toInstant().toEpochMilli());
-
-				if (notificationDay != null && notificationDay.trim().length() > 0) {
-					switch (notificationDay) {
-					case "monday":
-						DayNo = 0;
-						break;
-					case "tuesday":
-						DayNo = 1;
-						break;
-					case "wednesday":
-						DayNo = 2;
-						break;
-					case "thursday":
-						DayNo = 3;
-						break;
-					case "friday":
-						DayNo = 4;
-						break;
-					case "saturday":
-						DayNo = 5;
-						break;
-					case "sunday":
-						DayNo = 6;
-						break;
-					default:
-						DayNo = 0;
-						break;
+					if (notificationDate.get(Calendar.DAY_OF_MONTH) <= startTime.get(Calendar.DAY_OF_MONTH)) {
+						notificationDate.add(Calendar.DAY_OF_MONTH, 7);
 					}
+					sensorDetailsDTO.setNotificationDate(notificationDate.getTime());
 				}
-
-				weekStartDate.add(Calendar.DAY_OF_MONTH, DayNo);
-				Calendar notificationDate = Calendar.getInstance();
-				notificationDate.setTimeInMillis(weekStartDate.getTimeInMillis());
-				Calendar startTime = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-
-				if (notificationDate.get(Calendar.DAY_OF_MONTH) <= startTime.get(Calendar.DAY_OF_MONTH)) {
-					notificationDate.add(Calendar.DAY_OF_MONTH, 7);
+				boolean status = false;
+				if (petParentId > 0 && sensorDetailsDTO.getNotificationDate() != null) {
+					status = migratedService.manageSensorChargingNotificationSettings(sensorDetailsDTO);
 				}
-				sensorDetailsDTO.setNotificationDate(notificationDate.getTime());
-			}
-			boolean status = false;
-			if (petParentId > 0 && sensorDetailsDTO.getNotificationDate() != null) {
-				status = migratedService.manageSensorChargingNotificationSettings(sensorDetailsDTO);
+				response = LegacyResponse.success(status);
+
+			} catch (Exception e) {
+				LOGGER.error("error while executing manageSensorChargingNotificationSettings", e);
 			}
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", status);
-			response.put("success", true);
-			response.put("warnings", "null");
-
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response validateDeviceNumber(String payload, String token) {
-		LOGGER.debug("entered into validateDeviceNumber");
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
-		try {
-			int petParentKeyId = migratedService.getPetParentByPetParentKey(token);
-			if (petParentKeyId == 0) {
-				return Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).build();
-			}
-
-			request = new JSONObject(payload);
-			String sensorNumber = request.getString("SensorNumber");
-			String clientId = request.getString("ClientID");
-
-			if (sensorNumber == null || sensorNumber.trim().length() == 0) {
-				throw new ServiceValidationException("Sensor Number is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.DEVICE_NUMBER_REQUIRED)));
-			}
+	public void validateDeviceNumber(DeviceNumberRequest request, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into validateDeviceNumber");
+			LegacyResponse response = new LegacyResponse();
+			try {
+				String sensorNumber = request.getSensorNumber();
+				String clientId = request.getClientId();
+
+				if (sensorNumber == null || sensorNumber.trim().length() == 0) {
+					throw new ServiceValidationException("Sensor Number is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.DEVICE_NUMBER_REQUIRED)));
+				}
 
-			if (clientId == null || clientId.trim().length() == 0) {
-				throw new ServiceValidationException("Client ID is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
-			}
+				if (clientId == null || clientId.trim().length() == 0) {
+					throw new ServiceValidationException("Client ID is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.CLIENT_ID_REQUIRED)));
+				}
 
-			String responseCode = "";
-			String message = "";
-			boolean IsValidDeviceNumber = false;
+				String responseCode = "";
+				String message = "";
+				boolean IsValidDeviceNumber = false;
 
-			DeviceAssignDTO assignDTO = migratedService.getDeviceAssignInfoByDeviceNumber(sensorNumber, clientId);
-			if (!assignDTO.isIsAssign()) {
-				responseCode = "SUCCESS";
-				message = "SUCCESS";
-				IsValidDeviceNumber = true;
-			} else {
-				responseCode = "ERROR";
-				if (assignDTO.isIsSameClient()) {
-					message = "The sensor you entered is already assigned to " + assignDTO.getPetName()
-							+ " in your practice. You must un-assign the sensor from " + assignDTO.getPetName()
-							+ " before it can be used with another patient.";
+				DeviceAssignDTO assignDTO = migratedService.getDeviceAssignInfoByDeviceNumber(sensorNumber, clientId);
+				if (!assignDTO.isIsAssign()) {
+					responseCode = "SUCCESS";
+					message = "SUCCESS";
+					IsValidDeviceNumber = true;
 				} else {
-					message = "The sensor you entered is already assigned to another patient. Please confirm you entered the correct device number or select a different sensor.";
-				}
+					responseCode = "ERROR";
+					if (assignDTO.isIsSameClient()) {
+						message = "The sensor you entered is already assigned to " + assignDTO.getPetName()
+								+ " in your practice. You must un-assign the sensor from " + assignDTO.getPetName()
+								+ " before it can be used with another patient.";
+					} else {
+						message = "The sensor you entered is already assigned to another patient. Please confirm you entered the correct device number or select a different sensor.";
+					}
 
-				IsValidDeviceNumber = false;
-			}
+					IsValidDeviceNumber = false;
+				}
 
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", new JSONObject().put("isValidDeviceNumber", IsValidDeviceNumber)
-					.put("message", message).put("responseCode", responseCode));
-			response.put("success", true);
-			response.put("warnings", "null");
+				DeviceNumberResult result = new DeviceNumberResult();
+				result.setValidDeviceNumber(IsValidDeviceNumber);
+				result.setMessage(message);
+				result.setResponseCode(responseCode);
+				response = LegacyResponse.success(result);
 
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+			} catch (Exception e) {
+				LOGGER.error("error while executing validateDeviceNumber", e);
+			}
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response manageClientInfo(String payload, String token) {
-		LOGGER.debug("entered into manageClientInfo");
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
-		JSONObject result = new JSONObject();
-		try {
-
-			/*
-			 * int petParentKeyId = migratedService.getPetParentByPetParentKey(token); if
-			 * (petParentKeyId == 0) { return
-			 * Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).
-			 * build(); }
-			 */
-
-			request = new JSONObject(payload);
-
-			String email = request.getString("Email");
-			String firstName = request.getString("FirstName");
-			String lastName = request.getString("LastName");
-			String phoneNumber = request.getString("PhoneNumber");
-
-			if (email == null || email.trim().length() == 0) {
-				throw new ServiceValidationException("Email is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.EMAIL_REQUIRED)));
-			}
+	public void manageClientInfo(ClientInfoRequest request, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into manageClientInfo");
+			LegacyResponse response = new LegacyResponse();
+			ManagedClientInfoResult result = new ManagedClientInfoResult();
+			try {
+
+				/*
+				 * int petParentKeyId = migratedService.getPetParentByPetParentKey(token); if
+				 * (petParentKeyId == 0) { return
+				 * Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).
+				 * build(); }
+				 */
+
+				String email = request.getEmail();
+				String firstName = request.getFirstName();
+				String lastName = request.getLastName();
+				String phoneNumber = request.getPhoneNumber();
+
+				if (email == null || email.trim().length() == 0) {
+					throw new ServiceValidationException("Email is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.EMAIL_REQUIRED)));
+				}
 
-			if (firstName == null || firstName.trim().length() == 0) {
-				throw new ServiceValidationException("First Name is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.FIRST_NAME_REQUIRED)));
-			}
+				if (firstName == null || firstName.trim().length() == 0) {
+					throw new ServiceValidationException("First Name is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.FIRST_NAME_REQUIRED)));
+				}
 
-			if (lastName == null || lastName.trim().length() == 0) {
-				throw new ServiceValidationException("Last Name is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.LAST_NAME_REQUIRED)));
-			}
+				if (lastName == null || lastName.trim().length() == 0) {
+					throw new ServiceValidationException("Last Name is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.LAST_NAME_REQUIRED)));
+				}
 
-			if (phoneNumber == null || phoneNumber.trim().length() == 0) {
-				throw new ServiceValidationException("Phone Number is not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PHONE_NUMBER_REQUIRED)));
-			}
+				if (phoneNumber == null || phoneNumber.trim().length() == 0) {
+					throw new ServiceValidationException("Phone Number is not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PHONE_NUMBER_REQUIRED)));
+				}
+
+				ClientInfo client = migratedService.getClientInfoByEmail(email);
 
-			ClientInfo client = migratedService.getClientInfoByEmail(email);
+				if (client != null && client.getClientId() > 0) {
+					String password = migratedService.getPasswordByClientID(client.getClientId());
+					if (StringUtils.isEmpty(password)) {
+						client.setFirstName(firstName);
+						client.setLastName(lastName);
 
-			if (client != null && client.getClientId() > 0) {
-				String password = migratedService.getPasswordByClientID(client.getClientId());
-				if (StringUtils.isEmpty(password)) {
-					client.setFirstName(firstName);
-					client.setLastName(lastName);
+						String fullName = "";
+						if (StringUtils.isNotEmpty(firstName) && StringUtils.isNotEmpty(lastName)) {
+							fullName += firstName + " " + lastName;
+						} else {
+							if (StringUtils.isNoneEmpty(firstName)) {
+								fullName = firstName;
+							}
+						}
 
+						client.setFullName(fullName);
+
+						if (client.getPhoneNumber() != null && client.getPhoneNumber().trim().length() > 0) {
+							if (phoneNumber != null && phoneNumber.trim().length() > 0) {
+								if (phoneNumber.contains(" ")) {
+									String[] phoneCodeArray = phoneNumber.split(" ");
+									String countryCode = phoneCodeArray[0];
+									String phoneCode = phoneCodeArray[1];
+									if (countryCode == "+1") {
+										String firstPhoneCode = " (" + phoneCode.substring(0, 3) + ") ";
+										String secondPhoneCode = phoneCode.substring(3, 3);
+										String thirdPhoneCode = "-" + phoneCode.substring(6);
+										phoneNumber = countryCode + firstPhoneCode + secondPhoneCode + thirdPhoneCode;
+										client.setPhoneNumber(phoneNumber);
+									}
+								}
+							}
+						}
+						client.setUserId("1");
+						boolean status = migratedService.updateClientInfo(client);
+						if (status) {
+							result.setClientId(client.getClientId());
+							result.setFirstName(client.getFirstName());
+							result.setLastName(client.getLastName());
+							result.setEmail(client.getEmail());
+							result.setPhoneNumber(client.getPhoneNumber());
+							result.setResponseCode("SUCCESS");
+						} else {
+							result.setClientId(0);
+							result.setFirstName("");
+							result.setLastName("");
+							result.setEmail("");
+							result.setPhoneNumber("");
+							result.setResponseCode("Please contact system administrator.");
+
+						}
+					} else {
+						result.setClientId(0);
+						result.setFirstName("");
+						result.setLastName("");
+						result.setEmail("");
+						result.setPhoneNumber("");
+						result.setResponseCode("Given email address already existed in the System.");
+					}
+				} else {
 					String fullName = "";
 					if (StringUtils.isNotEmpty(firstName) && StringUtils.isNotEmpty(lastName)) {
 						fullName += firstName + " " + lastName;
@@ -1022,448 +983,376 @@ public class MigratedResourceImpl implements MigratedResource {
 						}
 					}
 
-					client.setFullName(fullName);
-
-					if (client.getPhoneNumber() != null && client.getPhoneNumber().trim().length() > 0) {
-						if (phoneNumber != null && phoneNumber.trim().length() > 0) {
-							if (phoneNumber.contains(" ")) {
-								String[] phoneCodeArray = phoneNumber.split(" ");
-								String countryCode = phoneCodeArray[0];
-								String phoneCode = phoneCodeArray[1];
-								if (countryCode == "+1") {
-									String firstPhoneCode = " (" + phoneCode.substring(0, 3) + ") ";
-									String secondPhoneCode = phoneCode.substring(3, 3);
-									String thirdPhoneCode = "-" + phoneCode.substring(6);
-									phoneNumber = countryCode + firstPhoneCode + secondPhoneCode + thirdPhoneCode;
-									client.setPhoneNumber(phoneNumber);
-								}
+					if (phoneNumber != null && phoneNumber.trim().length() > 0) {
+						if (phoneNumber.contains(" ")) {
+							String[] phoneCodeArray = phoneNumber.split(" ");
+							String countryCode = phoneCodeArray[0];
+							String phoneCode = phoneCodeArray[1];
+							if (countryCode == "+1") {
+								String firstPhoneCode = " (" + phoneCode.substring(0, 3) + ") ";
+								String secondPhoneCode = phoneCode.substring(3, 3);
+								String thirdPhoneCode = "-" + phoneCode.substring(6);
+								phoneNumber = countryCode + firstPhoneCode + secondPhoneCode + thirdPhoneCode;
 							}
 						}
 					}
-					client.setUserId("1");
-					boolean status = migratedService.updateClientInfo(client);
-					if (status) {
-						result.put("ClientID", client.getClientId());
-						result.put("FirstName", client.getFirstName());
-						result.put("LastName", client.getLastName());
-						result.put("Email", client.getEmail());
-						result.put("PhoneNumber", client.getPhoneNumber());
-						result.put("ResponseCode", "SUCCESS");
-					} else {
-						result.put("ClientID", 0);
-						result.put("FirstName", "");
-						result.put("LastName", "");
-						result.put("Email", "");
-						result.put("PhoneNumber", "");
-						result.put("ResponseCode", "Please contact system administrator.");
 
-					}
-				} else {
-					result.put("ClientID", 0);
-					result.put("FirstName", "");
-					result.put("LastName", "");
-					result.put("Email", "");
-					result.put("PhoneNumber", "");
-					result.put("ResponseCode", "Given email address already existed in the System.");
-				}
-			} else {
-				String fullName = "";
-				if (StringUtils.isNotEmpty(firstName) && StringUtils.isNotEmpty(lastName)) {
-					fullName += firstName + " " + lastName;
-				} else {
-					if (StringUtils.isNoneEmpty(firstName)) {
-						fullName = firstName;
-					}
-				}
-
-				if (phoneNumber != null && phoneNumber.trim().length() > 0) {
-					if (phoneNumber.contains(" ")) {
-						String[] phoneCodeArray = phoneNumber.split(" ");
-						String countryCode = phoneCodeArray[0];
-						String phoneCode = phoneCodeArray[1];
-						if (countryCode == "+1") {
-							String firstPhoneCode = " (" + phoneCode.substring(0, 3) + ") ";
-							String secondPhoneCode = phoneCode.substring(3, 3);
-							String thirdPhoneCode = "-" + phoneCode.substring(6);
-							phoneNumber = countryCode + firstPhoneCode + secondPhoneCode + thirdPhoneCode;
-						}
+					ClientInfo newClientInfo = new ClientInfo();
+					newClientInfo.setFirstName(firstName);
+					newClientInfo.setLastName(lastName);
+					newClientInfo.setEmail(email);
+					newClientInfo.setFullName(fullName);
+					newClientInfo.setPhoneNumber(phoneNumber);
+					newClientInfo.setUserId("1");
+					int clientID = migratedService.insertClientInfo(newClientInfo);
+					if (clientID > 0) {
+						result.setClientId(clientID);
+						result.setFirstName(firstName);
+						result.setLastName(lastName);
+						result.setEmail(email);
+						result.setPhoneNumber(phoneNumber);
+						result.setResponseCode("SUCCESS");
 					}
 				}
 
-				ClientInfo newClientInfo = new ClientInfo();
-				newClientInfo.setFirstName(firstName);
-				newClientInfo.setLastName(lastName);
-				newClientInfo.setEmail(email);
-				newClientInfo.setFullName(fullName);
-				newClientInfo.setPhoneNumber(phoneNumber);
-				newClientInfo.setUserId("1");
-				int clientID = migratedService.insertClientInfo(newClientInfo);
-				if (clientID > 0) {
-					result.put("ClientID", clientID);
-					result.put("FirstName", firstName);
-					result.put("LastName", lastName);
-					result.put("Email", email);
-					result.put("PhoneNumber", phoneNumber);
-					result.put("ResponseCode", "SUCCESS");
-				}
+				response = LegacyResponse.success(result);
+			} catch (Exception e) {
+				LOGGER.error("error while executing manageClientInfo", e);
 			}
-
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", result);
-			response.put("success", true);
-			response.put("warnings", "null");
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@SuppressWarnings("unused")
 	@Override
-	public Response completeOnboardingInfo(String payload, String token) {
-		LOGGER.debug("entered into completeOnboardingInfo");
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
-		try {
-
-			int petParentKeyId = migratedService.getPetParentByPetParentKey(token);
-			if (petParentKeyId == 0) {
-				return Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).build();
-			}
-			request = new JSONObject(payload);
-			JSONObject about = (JSONObject) request.get("About");
-			JSONObject plan = (JSONObject) request.get("Plan");
-			JSONObject device = (JSONObject) request.get("Device");
-			JSONObject client = (JSONObject) request.get("Client");
-			JSONObject billing = (JSONObject) request.get("Billing");
-
-			if (about.getString("PetName") == null || about.getString("PetName").trim().length() == 0) {
-				throw new ServiceValidationException("Pet Name not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PET_NAME_REQUIRED)));
-			}
+	public void completeOnboardingInfo(String payload, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into completeOnboardingInfo");
+			LegacyResponse response = new LegacyResponse();
+			try {
+				OnboardingInfoRequest request = jsonCodec.readerFor(jsonCodec.typeOf(OnboardingInfoRequest.class))
+						.readValue(payload);
+				OnboardingInfoRequest.About about = request.getAbout();
+				OnboardingInfoRequest.Plan plan = request.getPlan();
+				OnboardingInfoRequest.Device device = request.getDevice();
+				OnboardingInfoRequest.Client client = request.getClient();
+				OnboardingInfoRequest.Billing billing = request.getBilling();
+
+				if (about.getPetName() == null || about.getPetName().trim().length() == 0) {
+					throw new ServiceValidationException("Pet Name not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PET_NAME_REQUIRED)));
+				}
 
-			if (about.getString("PetGender") == null || about.getString("PetGender").trim().length() == 0) {
-				throw new ServiceValidationException("Gender not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PET_GENDER_REQUIRED)));
-			}
+				if (about.getPetGender() == null || about.getPetGender().trim().length() == 0) {
+					throw new ServiceValidationException("Gender not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PET_GENDER_REQUIRED)));
+				}
 
-			if (about.getString("IsNeutered") == null || about.getString("IsNeutered").trim().length() == 0) {
-				throw new ServiceValidationException("IsNeutered not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.IS_NEUTERED_REQUIRED)));
-			}
+				if (about.getIsNeutered() == null || about.getIsNeutered().trim().length() == 0) {
+					throw new ServiceValidationException("IsNeutered not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.IS_NEUTERED_REQUIRED)));
+				}
 
-			if (about.getString("PetWeight") != null && about.getString("PetWeight").trim().length() == 0) {
-				throw new ServiceValidationException("Weight not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.WEIGHT_REQUIRED)));
-			}
+				if (about.getPetWeight() != null && about.getPetWeight().trim().length() == 0) {
+					throw new ServiceValidationException("Weight not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.WEIGHT_REQUIRED)));
+				}
 
-			if (about.getString("WeightUnit") == null || about.getString("WeightUnit").trim().length() == 0) {
-				throw new ServiceValidationException("Weight Unit not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.WEIGHT_UNIT_REQUIRED)));
-			}
+				if (about.getWeightUnit() == null || about.getWeightUnit().trim().length() == 0) {
+					throw new ServiceValidationException("Weight Unit not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.WEIGHT_UNIT_REQUIRED)));
+				}
 
-			if (about.getString("IsMixed") == null || about.getString("IsMixed").trim().length() == 0) {
-				throw new ServiceValidationException("IsMixed not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.IS_MIXED_REQUIRED)));
-			}
+				if (about.getIsMixed() == null || about.getIsMixed().trim().length() == 0) {
+					throw new ServiceValidationException("IsMixed not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.IS_MIXED_REQUIRED)));
+				}
 
-			if (about.getString("PetBreedID") == null || about.getString("PetBreedID").trim().length() == 0) {
-				throw new ServiceValidationException("Breed ID not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.BREED_ID_REQUIRED)));
-			}
+				if (about.getPetBreedId() == null || about.getPetBreedId().trim().length() == 0) {
+					throw new ServiceValidationException("Breed ID not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.BREED_ID_REQUIRED)));
+				}
 
-			if (device.getString("SensorNumber") == null || device.getString("SensorNumber").trim().length() == 0) {
-				throw new ServiceValidationException("Sensor Number not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.DEVICE_NUMBER_REQUIRED)));
-			}
+				if (device.getSensorNumber() == null || device.getSensorNumber().trim().length() == 0) {
+					throw new ServiceValidationException("Sensor Number not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.DEVICE_NUMBER_REQUIRED)));
+				}
 
-			if (device.getString("DeviceType") == null || device.getString("DeviceType").trim().length() == 0) {
-				throw new ServiceValidationException("Device Type not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.DEVICE_TYPE_REQUIRED)));
-			}
+				if (device.getDeviceType() == null || device.getDeviceType().trim().length() == 0) {
+					throw new ServiceValidationException("Device Type not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.DEVICE_TYPE_REQUIRED)));
+				}
 
-			if (device.getString("DeviceAddDate") == null || device.getString("DeviceAddDate").trim().length() == 0) {
-				throw new ServiceValidationException("Device Add Date not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.DEVICE_ADD_DATE_REQUIRED)));
-			}
+				if (device.getDeviceAddDate() == null || device.getDeviceAddDate().trim().length() == 0) {
+					throw new ServiceValidationException("Device Add Date not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.DEVICE_ADD_DATE_REQUIRED)));
+				}
 
-			if (client.getString("ClientEmail") == null || client.getString("ClientEmail").trim().length() == 0) {
-				throw new ServiceValidationException("Email not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.EMAIL_REQUIRED)));
-			}
+				if (client.getClientEmail() == null || client.getClientEmail().trim().length() == 0) {
+					throw new ServiceValidationException("Email not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.EMAIL_REQUIRED)));
+				}
 
-			if (client.getString("ClientFirstName") == null
-					|| client.getString("ClientFirstName").trim().length() == 0) {
-				throw new ServiceValidationException("Client First Name not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.FIRST_NAME_REQUIRED)));
-			}
+				if (client.getClientFirstName() == null || client.getClientFirstName().trim().length() == 0) {
+					throw new ServiceValidationException("Client First Name not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.FIRST_NAME_REQUIRED)));
+				}
 
-			if (client.getString("ClientLastName") == null || client.getString("ClientLastName").trim().length() == 0) {
-				throw new ServiceValidationException("Client Last Name not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.LAST_NAME_REQUIRED)));
-			}
+				if (client.getClientLastName() == null || client.getClientLastName().trim().length() == 0) {
+					throw new ServiceValidationException("Client Last Name not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.LAST_NAME_REQUIRED)));
+				}
 
-			if (client.getString("ClientPhone") == null || client.getString("ClientPhone").trim().length() == 0) {
-				throw new ServiceValidationException("Client Phone not provided",
-						Arrays.asList(new WearablesError(WearablesErrorCode.PHONE_NUMBER_REQUIRED)));
-			}
+				if (client.getClientPhone() == null || client.getClientPhone().trim().length() == 0) {
+					throw new ServiceValidationException("Client Phone not provided",
+							Arrays.asList(new WearablesError(WearablesErrorCode.PHONE_NUMBER_REQUIRED)));
+				}
 
-			StringBuilder sbStatus = new StringBuilder();
-			int petID = 0;
-			String OnboardingInfoGuid;
-			String UID = "";
+				StringBuilder sbStatus = new StringBuilder();
+				int petID = 0;
+				String OnboardingInfoGuid;
+				String UID = "";
 
-			OnboardingInfo onboardingInfo = new OnboardingInfo();
-			onboardingInfo.setClinicID(2901);// Convert.ToInt32(AppConfig.StudyId);
-			onboardingInfo.setUserID(1);// Convert.ToInt32(AppConfig.ClinicUserID);
+				OnboardingInfo onboardingInfo = new OnboardingInfo();
+				onboardingInfo.setClinicID(2901);// Convert.ToInt32(AppConfig.StudyId);
+				onboardingInfo.setUserID(1);// Convert.ToInt32(AppConfig.ClinicUserID);
 
-			if (about != null) {
-				String petName = about.getString("PetName");
-				if (petName != null && petName.trim().length() > 0) {
-					onboardingInfo.setTitle(petName);
+				if (about != null) {
+					String petName = about.getPetName();
+					if (petName != null && petName.trim().length() > 0) {
+						onboardingInfo.setTitle(petName);
+					}
 				}
-			}
 
-			onboardingInfo.setData(payload);
-			OnboardingInfoGuid = migratedService.handleOnboardingInfo(onboardingInfo);
-			OnboardingInfo onboardingData = migratedService.getOnboardingInfoByUID(OnboardingInfoGuid);
-			List<MonitoringPlan> monitoringPlanList = migratedService
-					.getMonitoringPlanList(onboardingData.getClinicID());
-			PetInfoDTO petInfo = new PetInfoDTO();
-			String petId = about.getString("PetID");
-			if (petId != null && petId.trim().length() != 0) {
-				petID = Integer.parseInt(about.getString("PetID"));
-				petInfo = migratedService.getPetInfoByID(petID);
-			}
+				onboardingInfo.setData(payload);
+				OnboardingInfoGuid = migratedService.handleOnboardingInfo(onboardingInfo);
+				OnboardingInfo onboardingData = migratedService.getOnboardingInfoByUID(OnboardingInfoGuid);
+				List<MonitoringPlan> monitoringPlanList = migratedService
+						.getMonitoringPlanList(onboardingData.getClinicID());
+				PetInfoDTO petInfo = new PetInfoDTO();
+				String petId = about.getPetId();
+				if (petId != null && petId.trim().length() != 0) {
+					petID = Integer.parseInt(about.getPetId());
+					petInfo = migratedService.getPetInfoByID(petID);
+				}
 
-			String clientId = client.getString("ClientID");
-			if (clientId != null && clientId.trim().length() > 0) {
-				petInfo.setPetParentId(Integer.parseInt(clientId));
-			}
-			petInfo.setPetName(about.getString("PetName"));
-			petInfo.setGender(about.getString("PetGender"));
-			if (about.getString("IsUnknown") != null && about.getString("IsUnknown").trim().length() > 0) {
-				petInfo.setUnknown(Boolean.valueOf(about.getString("IsUnknown")));
-			}
-			petInfo.setBirthDay(about.getString("PetBirthday"));
-			if (about.getString("PetBreedID") != null && about.getString("PetBreedID").trim().length() > 0) {
-				petInfo.setBreedId(Integer.parseInt(about.getString("PetBreedID")));
-			}
+				String clientId = client.getClientId();
+				if (clientId != null && clientId.trim().length() > 0) {
+					petInfo.setPetParentId(Integer.parseInt(clientId));
+				}
+				petInfo.setPetName(about.getPetName());
+				petInfo.setGender(about.getPetGender());
+				if (about.getIsUnknown() != null && about.getIsUnknown().trim().length() > 0) {
+					petInfo.setUnknown(Boolean.valueOf(about.getIsUnknown()));
+				}
+				petInfo.setBirthDay(about.getPetBirthday());
+				if (about.getPetBreedId() != null && about.getPetBreedId().trim().length() > 0) {
+					petInfo.setBreedId(Integer.parseInt(about.getPetBreedId()));
+				}
 
-			if (about.getString("IsMixed") != null && about.getString("IsMixed").trim().length() > 0) {
-				petInfo.setIsMixed(Boolean.valueOf(about.getString("IsMixed")));
-			}
+				if (about.getIsMixed() != null && about.getIsMixed().trim().length() > 0) {
+					petInfo.setIsMixed(Boolean.valueOf(about.getIsMixed()));
+				}
 
-			petInfo.setMixBreed(about.getString("PetMixBreed"));
-			petInfo.setWeightUnit(about.getString("WeightUnit"));
-			petInfo.setWeight((about.getString("PetWeight")));
-			petInfo.setUserId(onboardingInfo.getUserID());
-			/*
-			 * if (about.getString("PetWeight") != null &&
-			 * about.getString("PetWeight").trim().length() > 0) { double weight =
-			 * Double.parseDouble(about.getString("PetWeight")); if
-			 * (!petInfo.getWeightUnit().equalsIgnoreCase("lbs")) { weight = weight *
-			 * 2.20462; } petInfo.setWeight(Double.toString(weight)); }
-			 */
-
-			if (about.getString("PetBFI") != null && about.getString("PetBFI").trim().length() > 0) {
-				petInfo.setPetBFI(Integer.parseInt(about.getString("PetBFI")));
-			}
+				petInfo.setMixBreed(about.getPetMixBreed());
+				petInfo.setWeightUnit(about.getWeightUnit());
+				petInfo.setWeight((about.getPetWeight()));
+				petInfo.setUserId(onboardingInfo.getUserID());
+				/*
+				 * if (about.getString("PetWeight") != null &&
+				 * about.getString("PetWeight").trim().length() > 0) { double weight =
+				 * Double.parseDouble(about.getString("PetWeight")); if
+				 * (!petInfo.getWeightUnit().equalsIgnoreCase("lbs")) { weight = weight *
+				 * 2.20462; } petInfo.setWeight(Double.toString(weight)); }
+				 */
+
+				if (about.getPetBfi() != null && about.getPetBfi().trim().length() > 0) {
+					petInfo.setPetBFI(Integer.parseInt(about.getPetBfi()));
+				}
 
-			if (about.getString("IsNeutered") != null && about.getString("IsNeutered").trim().length() > 0) {
-				petInfo.setNeutered(Boolean.valueOf(about.getString("IsNeutered")));
-			}
+				if (about.getIsNeutered() != null && about.getIsNeutered().trim().length() > 0) {
+					petInfo.setNeutered(Boolean.valueOf(about.getIsNeutered()));
+				}
 
-			if (petId != null && petId.trim().length() != 0) {
-				petInfo.setPetId(Integer.parseInt(petId));
-				migratedService.updatePetInfo(petInfo); // Completed
-				sbStatus.append("UPDATE PETINFO " + petId);
-			} else {
-				petInfo.setAlgorithmVersion("2.9.2");
-				petID = migratedService.insertPetInfo(petInfo);
-				petInfo.setPetId(petID);
-				sbStatus.append("INSERT PETINFO " + petId);
-			}
-			int clientID = 0;
-			ClientInfo clientInfo = new ClientInfo();
-			if (client.getString("ClientID") != null && client.getString("ClientID").trim().length() > 0) {
-				clientID = Integer.parseInt(client.getString("ClientID"));
-				clientInfo.setClientId(clientID);
-				clientInfo = migratedService.getClientInfoById(Integer.toString(clientID));
-			}
-			clientInfo.setFullName(client.getString("ClientFullName"));
-			clientInfo.setEmail(client.getString("ClientEmail"));
-			clientInfo.setPhoneNumber(client.getString("ClientPhone"));
-			clientInfo.setCustomerID(billing.getString("CustomerID"));
-			clientInfo.setUserId(Integer.toString(onboardingInfo.getUserID()));
-			if (clientID > 0) {
-				migratedService.updateClientInfo(clientInfo);
-				sbStatus.append("UPDATE CLIENTINFO " + clientID);
-			} else {
-				if (clientInfo.getPassword() != null && clientInfo.getPassword().trim().length() > 0) {
-					clientInfo.setPassword(Cryptography.encrypt(clientInfo.getPassword(), clientInfo.getUniqueId()));
+				if (petId != null && petId.trim().length() != 0) {
+					petInfo.setPetId(Integer.parseInt(petId));
+					migratedService.updatePetInfo(petInfo); // Completed
+					sbStatus.append("UPDATE PETINFO " + petId);
+				} else {
+					petInfo.setAlgorithmVersion("2.9.2");
+					petID = migratedService.insertPetInfo(petInfo);
+					petInfo.setPetId(petID);
+					sbStatus.append("INSERT PETINFO " + petId);
+				}
+				int clientID = 0;
+				ClientInfo clientInfo = new ClientInfo();
+				if (client.getClientId() != null && client.getClientId().trim().length() > 0) {
+					clientID = Integer.parseInt(client.getClientId());
+					clientInfo.setClientId(clientID);
+					clientInfo = migratedService.getClientInfoById(Integer.toString(clientID));
 				}
+				clientInfo.setFullName(client.getClientFullName());
+				clientInfo.setEmail(client.getClientEmail());
+				clientInfo.setPhoneNumber(client.getClientPhone());
+				clientInfo.setCustomerID(billing.getCustomerId());
+				clientInfo.setUserId(Integer.toString(onboardingInfo.getUserID()));
+				if (clientID > 0) {
+					migratedService.updateClientInfo(clientInfo);
+					sbStatus.append("UPDATE CLIENTINFO " + clientID);
+				} else {
+					if (clientInfo.getPassword() != null && clientInfo.getPassword().trim().length() > 0) {
+						clientInfo.setPassword(
+								Cryptography.encrypt(clientInfo.getPassword(), clientInfo.getUniqueId()));
+					}
 
-				if (clientInfo.getFullName() != null && clientInfo.getFullName().trim().length() > 0) {
-					if (clientInfo.getFullName().contains(" ")) {
-						String[] nameArray = clientInfo.getFullName().split(" ");
-						clientInfo.setFirstName(nameArray[0]);
-						clientInfo.setLastName(nameArray[1]);
+					if (clientInfo.getFullName() != null && clientInfo.getFullName().trim().length() > 0) {
+						if (clientInfo.getFullName().contains(" ")) {
+							String[] nameArray = clientInfo.getFullName().split(" ");
+							clientInfo.setFirstName(nameArray[0]);
+							clientInfo.setLastName(nameArray[1]);
+						} else {
+							clientInfo.setFirstName(clientInfo.getFullName());
+							clientInfo.setLastName("");
+						}
 					} else {
-						clientInfo.setFirstName(clientInfo.getFullName());
+						clientInfo.setFirstName("");
 						clientInfo.setLastName("");
 					}
-				} else {
-					clientInfo.setFirstName("");
-					clientInfo.setLastName("");
+					clientID = migratedService.insertClientInfo(clientInfo); // Completed
+					clientInfo.setClientId(clientID);
+					sbStatus.append("INSERT CLIENTINFO " + clientID);
 				}
-				clientID = migratedService.insertClientInfo(clientInfo); // Completed
-				clientInfo.setClientId(clientID);
-				sbStatus.append("INSERT CLIENTINFO " + clientID);
-			}
 
-			int planID = 0;
-			MonitoringPlan monitoringPlan = new MonitoringPlan();
-			monitoringPlan.setPetID(petID);
-			monitoringPlan.setClientID(clientID);
-			monitoringPlan.setClinicID(onboardingData.getClinicID());
-			monitoringPlan.setSubscriptionID(billing.getString("SubscriptionID"));
-			monitoringPlan.setFree(onboardingData.isIsFree());
-			monitoringPlan.setUserID(onboardingData.getUserID());
-			Calendar startTime = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-			monitoringPlan.setStartDate(getStringDateFormat("yyyy-MM-dd HH:mm:ss", startTime.getTime()));
-			startTime.add(Calendar.YEAR, 1);
-			monitoringPlan.setEndDate(getStringDateFormat("yyyy-MM-dd HH:mm:ss", startTime.getTime()));
-
-			String PlanTypeID = plan.getString("PlanTypeID");
-			if (PlanTypeID != null && PlanTypeID.trim().length() > 0) {
-				monitoringPlan.setTypeID(Integer.parseInt(PlanTypeID));
-			}
-			// String comment = "onboarded new patient "+petInfo.getPetName();
-			planID = migratedService.insertMonitoringPlan(monitoringPlan);
-
-			sbStatus.append("INSERT MONITORINGPLAN " + planID);
-
-			PetCheckedInfo petCheckedInfo = new PetCheckedInfo();
-			petCheckedInfo.setPetID(petID);
-			petCheckedInfo.setCheckedBy(onboardingData.getUserID());
-
-			startTime = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-			petCheckedInfo.setCheckedTime(getStringDateFormat("yyyy-MM-dd HH:mm:ss", startTime.getTime()));
-			startTime.add(Calendar.DATE, 1);
-			String petCheckStartTime = "06:00";
-			String[] configTime = petCheckStartTime.split(":");
-			int hours = Integer.parseInt(configTime[0]);
-			int minutes = Integer.parseInt(configTime[1]);
-			startTime.set(Calendar.HOUR, hours);
-			startTime.set(Calendar.MINUTE, minutes);
-			petCheckedInfo.setNextCheckedTime(getStringDateFormat("yyyy-MM-dd HH:mm:ss", startTime.getTime()));
-
-			int petCheckedInfoID = migratedService.handlePetCheckedInfo(petCheckedInfo);
-			sbStatus.append("INSERT PETCHECKEDINFO " + petCheckedInfoID);
-
-			boolean IsJoinCompetition = false;
-			String joinCompleted = plan.getString("IsJoinCompetition");
-			if (joinCompleted != null && joinCompleted.trim().length() > 0) {
-				IsJoinCompetition = Boolean.parseBoolean(joinCompleted);
-			}
+				int planID = 0;
+				MonitoringPlan monitoringPlan = new MonitoringPlan();
+				monitoringPlan.setPetID(petID);
+				monitoringPlan.setClientID(clientID);
+				monitoringPlan.setClinicID(onboardingData.getClinicID());
+				monitoringPlan.setSubscriptionID(billing.getSubscriptionId());
+				monitoringPlan.setFree(onboardingData.isIsFree());
+				monitoringPlan.setUserID(onboardingData.getUserID());
+				Calendar startTime = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+				monitoringPlan.setStartDate(getStringDateFormat("yyyy-MM-dd HH:mm:ss", startTime.getTime()));
+				startTime.add(Calendar.YEAR, 1);
+				monitoringPlan.setEndDate(getStringDateFormat("yyyy-MM-dd HH:mm:ss", startTime.getTime()));
 
-			DeviceAssignDTO deviceAssign = new DeviceAssignDTO();
-			int deviceID = 0;
-			String deviceNumber = "";
-			if (device.getString("SensorNumber") != null && device.getString("SensorNumber").trim().length() > 0) {
-				deviceNumber = device.getString("SensorNumber");
-				DeviceInfo deviceInfo = migratedService.getDeviceInfoByDeviceNumber(deviceNumber);
-				if (deviceInfo.getDeviceID() > 0) {
-					deviceID = deviceInfo.getDeviceID();
-				} else {
-					deviceInfo = new DeviceInfo();
-					deviceInfo.setDeviceNumber(deviceNumber);
-					deviceInfo.setDeviceType(device.getString("DeviceType"));
-					deviceInfo.setAddDate(device.getString("DeviceAddDate"));
-					deviceInfo.setUserId(onboardingData.getUserID());
-					deviceID = migratedService.insertDeviceInfo(deviceInfo);
+				String PlanTypeID = plan.getPlanTypeId();
+				if (PlanTypeID != null && PlanTypeID.trim().length() > 0) {
+					monitoringPlan.setTypeID(Integer.parseInt(PlanTypeID));
+				}
+				// String comment = "onboarded new patient "+petInfo.getPetName();
+				planID = migratedService.insertMonitoringPlan(monitoringPlan);
+
+				sbStatus.append("INSERT MONITORINGPLAN " + planID);
+
+				PetCheckedInfo petCheckedInfo = new PetCheckedInfo();
+				petCheckedInfo.setPetID(petID);
+				petCheckedInfo.setCheckedBy(onboardingData.getUserID());
+
+				startTime = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+				petCheckedInfo.setCheckedTime(getStringDateFormat("yyyy-MM-dd HH:mm:ss", startTime.getTime()));
+				startTime.add(Calendar.DATE, 1);
+				String petCheckStartTime = "06:00";
+				String[] configTime = petCheckStartTime.split(":");
+				int hours = Integer.parseInt(configTime[0]);
+				int minutes = Integer.parseInt(configTime[1]);
+				startTime.set(Calendar.HOUR, hours);
+				startTime.set(Calendar.MINUTE, minutes);
+				petCheckedInfo.setNextCheckedTime(getStringDateFormat("yyyy-MM-dd HH:mm:ss", startTime.getTime()));
+
+				int petCheckedInfoID = migratedService.handlePetCheckedInfo(petCheckedInfo);
+				sbStatus.append("INSERT PETCHECKEDINFO " + petCheckedInfoID);
+
+				boolean IsJoinCompetition = false;
+				String joinCompleted = plan.getIsJoinCompetition();
+				if (joinCompleted != null && joinCompleted.trim().length() > 0) {
+					IsJoinCompetition = Boolean.parseBoolean(joinCompleted);
 				}
 
-				if (deviceID > 0) {
-					deviceAssign = new DeviceAssignDTO();
-					deviceAssign.setUserId(onboardingData.getUserID());
-					deviceAssign.setPetID(petID);
-					deviceAssign.setPlanID(planID);
-					deviceAssign.setDeviceID(deviceID);
-					deviceAssign.setDeviceNumber(deviceNumber);
-					deviceAssign.setIsAssign(true);
-					deviceAssign.setAssignDate(device.getString("DeviceAddDate"));
+				DeviceAssignDTO deviceAssign = new DeviceAssignDTO();
+				int deviceID = 0;
+				String deviceNumber = "";
+				if (device.getSensorNumber() != null && device.getSensorNumber().trim().length() > 0) {
+					deviceNumber = device.getSensorNumber();
+					DeviceInfo deviceInfo = migratedService.getDeviceInfoByDeviceNumber(deviceNumber);
+					if (deviceInfo.getDeviceID() > 0) {
+						deviceID = deviceInfo.getDeviceID();
+					} else {
+						deviceInfo = new DeviceInfo();
+						deviceInfo.setDeviceNumber(deviceNumber);
+						deviceInfo.setDeviceType(device.getDeviceType());
+						deviceInfo.setAddDate(device.getDeviceAddDate());
+						deviceInfo.setUserId(onboardingData.getUserID());
+						deviceID = migratedService.insertDeviceInfo(deviceInfo);
+					}
+
+					if (deviceID > 0) {
+						deviceAssign = new DeviceAssignDTO();
+						deviceAssign.setUserId(onboardingData.getUserID());
+						deviceAssign.setPetID(petID);
+						deviceAssign.setPlanID(planID);
+						deviceAssign.setDeviceID(deviceID);
+						deviceAssign.setDeviceNumber(deviceNumber);
+						deviceAssign.setIsAssign(true);
+						deviceAssign.setAssignDate(device.getDeviceAddDate());
+
+						int id = migratedService.insertDeviceAssign(deviceAssign);
+						sbStatus.append("INSERT DEVICEASSIGN " + id);
+					}
 
-					int id = migratedService.insertDeviceAssign(deviceAssign);
-					sbStatus.append("INSERT DEVICEASSIGN " + id);
 				}
 
-			}
+				migratedService.updateOnboardingArchived(UID, onboardingData.getUserID());
+				migratedService.updateOnboardingStatus(UID, sbStatus.toString(), onboardingData.getUserID());
 
-			migratedService.updateOnboardingArchived(UID, onboardingData.getUserID());
-			migratedService.updateOnboardingStatus(UID, sbStatus.toString(), onboardingData.getUserID());
-
-			String emailSubject = "Welcome to Wearables Clinical Trials";
-			String emailContent = EmailTemplate.getPetOnboardWelcomeEmail(clientInfo.getFirstName());
-
-			// Sending mail using SendGrid
-			ThreadPoolExecutor threadPoolExecutor = EmailThreadPoolExecutor.getEmailThreadPoolExecutor();
-			EmailSenderThread emailSenderThread = new EmailSenderThread(clientInfo.getEmail(), emailSubject,
-					emailContent);
-			threadPoolExecutor.submit(emailSenderThread);
-
-			JSONObject result = new JSONObject();
-			result.put("encryptPetID", Cryptography.encryptByAES(Integer.toString(petID)));
-			result.put("petID", petID);
-			result.put("responseCode", "SUCCESS");
-			result.put("uid", UID);
-
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("result", result);
-			response.put("responseMessage", "SUCCESS");
-			response.put("success", true);
-			response.put("warnings", "null");
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+				String emailSubject = "Welcome to Wearables Clinical Trials";
+				String emailContent = EmailTemplate.getPetOnboardWelcomeEmail(EmailTemplate.CLIENT_NAME_SUBSTITUTION);
+
+				// Sending mail using SendGrid
+				if (!emailDispatcher.send(clientInfo.getEmail(), emailSubject, emailContent, Collections.singletonMap(
+						EmailTemplate.CLIENT_NAME_SUBSTITUTION, String.valueOf(clientInfo.getFirstName())))) {
+					LOGGER.error("welcome email could not be sent to {}", clientInfo.getEmail());
+				}
+
+				OnboardingResult result = new OnboardingResult();
+				result.setEncryptPetId(Cryptography.encryptByAES(Integer.toString(petID)));
+				result.setPetId(petID);
+				result.setResponseCode("SUCCESS");
+				result.setUid(UID);
+				response = LegacyResponse.success(result);
+			} catch (Exception e) {
+				LOGGER.error("error while executing completeOnboardingInfo", e);
+			}
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 
 	@Override
-	public Response logoutUser(String payload, String token) {
-		LOGGER.debug("entered into logoutUser");
-		JSONObject request = null;
-		JSONObject response = new JSONObject();
-		try {
-
-			request = new JSONObject(payload);
-			String petParentId = request.getString("PetParentId");
-
-			migratedService.logoutUser(petParentId, token);
-
-			response.put("errors", "null");
-			response.put("responseCode", 0);
-			response.put("responseMessage", "SUCCESS");
-			response.put("result", new JSONObject().put("responseCode", "SUCCESS"));
-			response.put("success", true);
-			response.put("warnings", "null");
-
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+	public void logoutUser(LogoutRequest request, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("entered into logoutUser");
+			LegacyResponse response = new LegacyResponse();
+			try {
+
+				String petParentId = request.getPetParentId();
+
+				migratedService.logoutUser(petParentId, token);
+
+				response = LegacyResponse.success(new ResponseCodeResult("SUCCESS", null));
+
+			} catch (Exception e) {
+				LOGGER.error("error while executing logoutUser", e);
+			}
+			return Response.status(Response.Status.OK).entity(response).build();
+		});
 	}
 	
 	@Override
-	public Response validate() {
-		JSONObject response = new JSONObject();
-		response.put("responseMessage", "SUCCESS");
-		return Response.status(Response.Status.OK).entity(response.toString()).build();
+	public void validate(AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			return Response.status(Response.Status.OK).entity(LegacyResponse.message("SUCCESS")).build();
 
+		});
 	}
 
 	private String sendClientVerificationCode(ClientInfo clientInfo, String deliveryMethod, boolean isClinicTrial)
@@ -1521,14 +1410,13 @@ public class MigratedResourceImpl implements MigratedResource {
 	private String sendClientEmailVerificationCode(String email, String verificationCode, boolean isClinicTrial) {
 		String sid = "";
 		String emailSubject = "Verification Code";
-		String content = EmailTemplate.getSMSCodeEmail(verificationCode, isClinicTrial);
+		String content = EmailTemplate.getSMSCodeEmail(EmailTemplate.VERIFICATION_CODE_SUBSTITUTION, isClinicTrial);
 
-		// Sending mail using SendGrid
-		ThreadPoolExecutor threadPoolExecutor = EmailThreadPoolExecutor.getEmailThreadPoolExecutor();
-		EmailSenderThread emailSenderThread = new EmailSenderThread(email, emailSubject, content);
-		threadPoolExecutor.submit(emailSenderThread);
-
-		sid = "OK";
+		// Sending mail using SendGrid, an empty sid tells the app the code was not sent when the queue is full
+		if (emailDispatcher.send(email, emailSubject, content,
+				Collections.singletonMap(EmailTemplate.VERIFICATION_CODE_SUBSTITUTION, verificationCode))) {
+			sid = "OK";
+		}
 		return sid;
 	}
 
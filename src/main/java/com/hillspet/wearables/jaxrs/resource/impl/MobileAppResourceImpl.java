@@ -13,10 +13,10 @@
  */
 package com.hillspet.wearables.jaxrs.resource.impl;
 
-import java.util.Arrays;
 import java.util.List;
 
-import javax.ws.rs.core.Response;
+import javax.annotation.PostConstruct;
+import javax.ws.rs.container.AsyncResponse;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -24,9 +24,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.hillspet.wearables.common.builders.JaxrsJsonResponseBuilder;
-import com.hillspet.wearables.common.constants.WearablesErrorCode;
-import com.hillspet.wearables.common.dto.WearablesError;
-import com.hillspet.wearables.common.exceptions.ServiceValidationException;
 import com.hillspet.wearables.common.response.SuccessResponse;
 import com.hillspet.wearables.dto.Campaign;
 import com.hillspet.wearables.dto.LeaderBoard;
@@ -35,6 +32,8 @@ import com.hillspet.wearables.dto.PetCampaignPointsDTO;
 import com.hillspet.wearables.dto.PetDTO;
 import com.hillspet.wearables.dto.PetRedemptionHistoryDTO;
 import com.hillspet.wearables.dto.Questionnaire;
+import com.hillspet.wearables.jaxrs.async.ResourceBulkhead;
+import com.hillspet.wearables.jaxrs.async.ResourceBulkheads;
 import com.hillspet.wearables.jaxrs.resource.MobileAppResource;
 import com.hillspet.wearables.objects.common.response.CommonResponse;
 import com.hillspet.wearables.request.AssignSensorRequest;
@@ -76,234 +75,187 @@ public class MobileAppResourceImpl implements MobileAppResource {
 	@Autowired
 	private JaxrsJsonResponseBuilder responseBuilder;
 
-	@Override
-	public Response getFeedbackQuestionnaireByPetId(int petId, String token) {
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException(
-					"getQuestionnaireByPetId service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-		List<Questionnaire> questionnaireList = mobileAppService.getFeedbackQuestionnaireByPetId(petId);
-		QuestionnaireListResponse response = new QuestionnaireListResponse();
-		response.setQuestionnaireList(questionnaireList);
-		SuccessResponse<QuestionnaireListResponse> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(response);
-		return responseBuilder.buildResponse(successResponse);
+	@Autowired
+	private ResourceBulkheads resourceBulkheads;
+
+	private ResourceBulkhead bulkhead;
+
+	@PostConstruct
+	public void init() {
+		bulkhead = resourceBulkheads.forResource("mobileApp");
 	}
 
 	@Override
-	public Response getQuestionnaireByPetId(int petId, String token) {
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException(
-					"getQuestionnaireByPetId service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-		List<Questionnaire> questionnaireList = mobileAppService.getQuestionnaireByPetId(petId);
-		QuestionnaireListResponse response = new QuestionnaireListResponse();
-		response.setQuestionnaireList(questionnaireList);
-		SuccessResponse<QuestionnaireListResponse> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(response);
-		return responseBuilder.buildResponse(successResponse);
+	public void getFeedbackQuestionnaireByPetId(int petId, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			List<Questionnaire> questionnaireList = mobileAppService.getFeedbackQuestionnaireByPetId(petId);
+			QuestionnaireListResponse response = new QuestionnaireListResponse();
+			response.setQuestionnaireList(questionnaireList);
+			SuccessResponse<QuestionnaireListResponse> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(response);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 
 	@Override
-	public Response getQuestionnaireAnswers(int petId, int questionnaireId, String token) {
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException(
-					"getQuestionnaireAnswers service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-		List<Questionnaire> questionnaireList = mobileAppService.getQuestionnaireAnswers(petId, questionnaireId);
-		QuestionnaireListResponse response = new QuestionnaireListResponse();
-		response.setQuestionnaireList(questionnaireList);
-		SuccessResponse<QuestionnaireListResponse> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(response);
-		return responseBuilder.buildResponse(successResponse);
+	public void getQuestionnaireByPetId(int petId, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			List<Questionnaire> questionnaireList = mobileAppService.getQuestionnaireByPetId(petId);
+			QuestionnaireListResponse response = new QuestionnaireListResponse();
+			response.setQuestionnaireList(questionnaireList);
+			SuccessResponse<QuestionnaireListResponse> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(response);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 
 	@Override
-	public Response saveQuestionAnswers(QuestionAnswerRequest questionAnswerRequest, String token) {
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException("saveQuestionAnswers service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-		mobileAppService.saveQuestionAnswers(questionAnswerRequest);
-		CommonResponse response = new CommonResponse();
-		response.setMessage("Your answers has been saved successfully");
-		SuccessResponse<CommonResponse> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(response);
-		return responseBuilder.buildResponse(successResponse);
+	public void getQuestionnaireAnswers(int petId, int questionnaireId, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			List<Questionnaire> questionnaireList = mobileAppService.getQuestionnaireAnswers(petId, questionnaireId);
+			QuestionnaireListResponse response = new QuestionnaireListResponse();
+			response.setQuestionnaireList(questionnaireList);
+			SuccessResponse<QuestionnaireListResponse> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(response);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 
 	@Override
-	public Response getPetCampaignPoints(int petId, String token) {
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException(
-					"getPetCampaignPoints service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-		PetCampaignPointsDTO petCampaignDTO = mobileAppService.getPetCampaignPoints(petId);
-		PetCampaignResponse response = new PetCampaignResponse();
-		response.setPetCampaign(petCampaignDTO);
-		SuccessResponse<PetCampaignResponse> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(response);
-		return responseBuilder.buildResponse(successResponse);
+	public void saveQuestionAnswers(QuestionAnswerRequest questionAnswerRequest, String token,
+			AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			mobileAppService.saveQuestionAnswers(questionAnswerRequest);
+			CommonResponse response = new CommonResponse();
+			response.setMessage("Your answers has been saved successfully");
+			SuccessResponse<CommonResponse> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(response);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 
 	@Override
-	public Response getPetCampaignPointsList(int petId, String token) {
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException(
-					"getPetCampaignPointsList service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-		PetCampaignListResponse response = mobileAppService.getPetCampaignPointsList(petId);
-		SuccessResponse<PetCampaignListResponse> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(response);
-		return responseBuilder.buildResponse(successResponse);
+	public void getPetCampaignPoints(int petId, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			PetCampaignPointsDTO petCampaignDTO = mobileAppService.getPetCampaignPoints(petId);
+			PetCampaignResponse response = new PetCampaignResponse();
+			response.setPetCampaign(petCampaignDTO);
+			SuccessResponse<PetCampaignResponse> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(response);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 
 	@Override
-	public Response getCampaignListByPet(int petId, String token) {
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException(
-					"getCampaignListByPet service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-		List<Campaign> campaigns = mobileAppService.getCampaignListByPet(petId);
-		CampaignListResponse response = new CampaignListResponse();
-		response.setCampaigns(campaigns);
-		SuccessResponse<CampaignListResponse> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(response);
-		return responseBuilder.buildResponse(successResponse);
+	public void getPetCampaignPointsList(int petId, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			PetCampaignListResponse response = mobileAppService.getPetCampaignPointsList(petId);
+			SuccessResponse<PetCampaignListResponse> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(response);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 
 	@Override
-	public Response getLeaderBoardByCampaignId(int campaignId, int petId, String token) {
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException(
-					"getLeaderBoardByCampaignId service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-		List<LeaderBoard> leaderBoards = mobileAppService.getLeaderBoardByCampaignId(campaignId);
-		LeaderBoardResponse response = new LeaderBoardResponse();
-
-		response.setCurrentPet(
-				leaderBoards.stream().filter(obj -> obj.getPetId().equals(petId)).findFirst().orElse(null));
-
-		response.setLeaderBoards(leaderBoards);
-		SuccessResponse<LeaderBoardResponse> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(response);
-		return responseBuilder.buildResponse(successResponse);
+	public void getCampaignListByPet(int petId, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			List<Campaign> campaigns = mobileAppService.getCampaignListByPet(petId);
+			CampaignListResponse response = new CampaignListResponse();
+			response.setCampaigns(campaigns);
+			SuccessResponse<CampaignListResponse> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(response);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 
 	@Override
-	public Response getPetRedemptionHistory(int petId, String token) {
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException(
-					"getPetRedemptionHistory service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-
-		List<PetRedemptionHistoryDTO> redemptionHistoryDTOs = mobileAppService.getPetRedemptionHistory(petId);
-		PetRedemptionHistoryResponse response = new PetRedemptionHistoryResponse();
-		response.setRedemptionHistoryList(redemptionHistoryDTOs);
-
-		SuccessResponse<PetRedemptionHistoryResponse> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(response);
-		return responseBuilder.buildResponse(successResponse);
+	public void getLeaderBoardByCampaignId(int campaignId, int petId, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			List<LeaderBoard> leaderBoards = mobileAppService.getLeaderBoardByCampaignId(campaignId);
+			LeaderBoardResponse response = new LeaderBoardResponse();
+
+			response.setCurrentPet(
+					leaderBoards.stream().filter(obj -> obj.getPetId().equals(petId)).findFirst().orElse(null));
+
+			response.setLeaderBoards(leaderBoards);
+			SuccessResponse<LeaderBoardResponse> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(response);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 
 	@Override
-	public Response assignSensorToPet(AssignSensorRequest assignSensorRequest, String token) {
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException("assignSensorToPet service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-		mobileAppService.assignSensorToPet(assignSensorRequest);
-		CommonResponse response = new CommonResponse();
-		response.setMessage("Sensor has been assigned successfully");
-		SuccessResponse<CommonResponse> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(response);
-		return responseBuilder.buildResponse(successResponse);
+	public void getPetRedemptionHistory(int petId, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			List<PetRedemptionHistoryDTO> redemptionHistoryDTOs = mobileAppService.getPetRedemptionHistory(petId);
+			PetRedemptionHistoryResponse response = new PetRedemptionHistoryResponse();
+			response.setRedemptionHistoryList(redemptionHistoryDTOs);
+
+			SuccessResponse<PetRedemptionHistoryResponse> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(response);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 
 	@Override
-	public Response getPetDevicesByPetParent(int petParentId, String token) {
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException(
-					"getPetRedemptionHistory service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-
-		List<PetDTO> petDevices = mobileAppService.getPetDevicesByPetParent(petParentId);
-		PetDevicesResponse response = new PetDevicesResponse();
-		response.setPetDevices(petDevices);
-
-		SuccessResponse<PetDevicesResponse> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(response);
-		return responseBuilder.buildResponse(successResponse);
+	public void assignSensorToPet(AssignSensorRequest assignSensorRequest, String token,
+			AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			mobileAppService.assignSensorToPet(assignSensorRequest);
+			CommonResponse response = new CommonResponse();
+			response.setMessage("Sensor has been assigned successfully");
+			SuccessResponse<CommonResponse> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(response);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 
 	@Override
-	public Response getFeedbackByPetParent(int petParentId, String token) {
-		LOGGER.debug("getFeedbackByPetParent called");
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException(
-					"getPetRedemptionHistory service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-
-		List<MobileAppFeedback> feedbacks = mobileAppService.getFeedbackByPetParent(petParentId);
-		MobileAppFeedbackResponse response = new MobileAppFeedbackResponse();
-		response.setMobileAppFeeback(feedbacks);
-
-		SuccessResponse<MobileAppFeedbackResponse> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(response);
-		return responseBuilder.buildResponse(successResponse);
+	public void getPetDevicesByPetParent(int petParentId, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			List<PetDTO> petDevices = mobileAppService.getPetDevicesByPetParent(petParentId);
+			PetDevicesResponse response = new PetDevicesResponse();
+			response.setPetDevices(petDevices);
+
+			SuccessResponse<PetDevicesResponse> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(response);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 
 	@Override
-	public Response getDeviceTypes(String token) {
-		LOGGER.debug("getDeviceType called");
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException(
-					"getPetRedemptionHistory service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
-
-		List<String> deviceTypeList = mobileAppService.getDeviceTypes();
-		SuccessResponse<List<String>> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(deviceTypeList);
-		return responseBuilder.buildResponse(successResponse);
+	public void getFeedbackByPetParent(int petParentId, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("getFeedbackByPetParent called");
+			List<MobileAppFeedback> feedbacks = mobileAppService.getFeedbackByPetParent(petParentId);
+			MobileAppFeedbackResponse response = new MobileAppFeedbackResponse();
+			response.setMobileAppFeeback(feedbacks);
+
+			SuccessResponse<MobileAppFeedbackResponse> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(response);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 
 	@Override
-	public Response getDeviceModels(String deviceType, String token) {
-		LOGGER.debug("getDeviceModel called");
-		int petParentKeyId = mobileAppService.getPetParentByPetParentKey(token);
-		if (petParentKeyId == 0) {
-			throw new ServiceValidationException(
-					"getPetRedemptionHistory service validation failed cannot proceed further",
-					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
-		}
+	public void getDeviceTypes(String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("getDeviceType called");
+			List<String> deviceTypeList = mobileAppService.getDeviceTypes();
+			SuccessResponse<List<String>> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(deviceTypeList);
+			return responseBuilder.buildResponse(successResponse);
+		});
+	}
 
-		List<String> deviceModelList = mobileAppService.getDeviceModels(deviceType);
-		SuccessResponse<List<String>> successResponse = new SuccessResponse<>();
-		successResponse.setServiceResponse(deviceModelList);
-		return responseBuilder.buildResponse(successResponse);
+	@Override
+	public void getDeviceModels(String deviceType, String token, AsyncResponse asyncResponse) {
+		bulkhead.execute(asyncResponse, () -> {
+			LOGGER.debug("getDeviceModel called");
+			List<String> deviceModelList = mobileAppService.getDeviceModels(deviceType);
+			SuccessResponse<List<String>> successResponse = new SuccessResponse<>();
+			successResponse.setServiceResponse(deviceModelList);
+			return responseBuilder.buildResponse(successResponse);
+		});
 	}
 }
@@ -0,0 +1,46 @@
+package com.hillspet.wearables.request.migrated;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Payload of /migrated/ChangePassword.
+ *
+ * @author vvodyaram
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ChangePasswordRequest {
+
+	@JsonProperty("ClientID")
+	private int clientId;
+
+	@JsonProperty("NewPassword")
+	private String newPassword;
+
+	@JsonProperty("Password")
+	private String password;
+
+	public int getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(int clientId) {
+		this.clientId = clientId;
+	}
+
+	public String getNewPassword() {
+		return newPassword;
+	}
+
+	public void setNewPassword(String newPassword) {
+		this.newPassword = newPassword;
+	}
+
+	public String getPassword() {
+		return password;
+	}
+
+	public void setPassword(String password) {
+		this.password = password;
+	}
+}
@@ -0,0 +1,24 @@
+package com.hillspet.wearables.request.migrated;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Payload of /migrated/GetClientInfo and /migrated/GetPetTimerLog.
+ *
+ * @author vvodyaram
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClientIdRequest {
+
+	@JsonProperty("ClientID")
+	private Integer clientId;
+
+	public Integer getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(Integer clientId) {
+		this.clientId = clientId;
+	}
+}
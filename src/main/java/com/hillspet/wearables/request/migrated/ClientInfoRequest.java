@@ -0,0 +1,68 @@
+package com.hillspet.wearables.request.migrated;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Payload of /migrated/ChangeClientInfo and /migrated/ManageClientInfo.
+ *
+ * @author vvodyaram
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClientInfoRequest {
+
+	@JsonProperty("ClientID")
+	private int clientId;
+
+	@JsonProperty("Email")
+	private String email;
+
+	@JsonProperty("FirstName")
+	private String firstName;
+
+	@JsonProperty("LastName")
+	private String lastName;
+
+	@JsonProperty("PhoneNumber")
+	private String phoneNumber;
+
+	public int getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(int clientId) {
+		this.clientId = clientId;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public String getFirstName() {
+		return firstName;
+	}
+
+	public void setFirstName(String firstName) {
+		this.firstName = firstName;
+	}
+
+	public String getLastName() {
+		return lastName;
+	}
+
+	public void setLastName(String lastName) {
+		this.lastName = lastName;
+	}
+
+	public String getPhoneNumber() {
+		return phoneNumber;
+	}
+
+	public void setPhoneNumber(String phoneNumber) {
+		this.phoneNumber = phoneNumber;
+	}
+}
@@ -0,0 +1,46 @@
+package com.hillspet.wearables.request.migrated;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Payload of /migrated/ClientLogin.
+ *
+ * @author vvodyaram
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClientLoginRequest {
+
+	@JsonProperty("Email")
+	private String email;
+
+	@JsonProperty("Password")
+	private String password;
+
+	@JsonProperty("FCMToken")
+	private String fcmToken;
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public String getPassword() {
+		return password;
+	}
+
+	public void setPassword(String password) {
+		this.password = password;
+	}
+
+	public String getFcmToken() {
+		return fcmToken;
+	}
+
+	public void setFcmToken(String fcmToken) {
+		this.fcmToken = fcmToken;
+	}
+}
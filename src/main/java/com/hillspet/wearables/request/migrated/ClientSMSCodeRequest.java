@@ -0,0 +1,47 @@
+package com.hillspet.wearables.request.migrated;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Payload of /migrated/SendEmailVerificationCode, /migrated/CheckClientSMSCode
+ * and /migrated/SetClientPasswordBySMSCode.
+ *
+ * @author vvodyaram
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClientSMSCodeRequest {
+
+	@JsonProperty("Email")
+	private String email;
+
+	@JsonProperty("VerificationCode")
+	private String verificationCode;
+
+	@JsonProperty("Password")
+	private String password;
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public String getVerificationCode() {
+		return verificationCode;
+	}
+
+	public void setVerificationCode(String verificationCode) {
+		this.verificationCode = verificationCode;
+	}
+
+	public String getPassword() {
+		return password;
+	}
+
+	public void setPassword(String password) {
+		this.password = password;
+	}
+}
@@ -0,0 +1,35 @@
+package com.hillspet.wearables.request.migrated;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Payload of /migrated/ValidateDeviceNumber.
+ *
+ * @author vvodyaram
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DeviceNumberRequest {
+
+	@JsonProperty("SensorNumber")
+	private String sensorNumber;
+
+	@JsonProperty("ClientID")
+	private String clientId;
+
+	public String getSensorNumber() {
+		return sensorNumber;
+	}
+
+	public void setSensorNumber(String sensorNumber) {
+		this.sensorNumber = sensorNumber;
+	}
+
+	public String getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(String clientId) {
+		this.clientId = clientId;
+	}
+}
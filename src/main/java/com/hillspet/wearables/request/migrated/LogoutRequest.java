@@ -0,0 +1,24 @@
+package com.hillspet.wearables.request.migrated;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Payload of /migrated/logout.
+ *
+ * @author vvodyaram
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class LogoutRequest {
+
+	@JsonProperty("PetParentId")
+	private String petParentId;
+
+	public String getPetParentId() {
+		return petParentId;
+	}
+
+	public void setPetParentId(String petParentId) {
+		this.petParentId = petParentId;
+	}
+}
@@ -0,0 +1,364 @@
+package com.hillspet.wearables.request.migrated;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Payload of /migrated/CompleteOnboardingInfo. Every value is sent as a string
+ * by the app.
+ *
+ * @author vvodyaram
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OnboardingInfoRequest {
+
+	@JsonProperty("About")
+	private About about;
+
+	@JsonProperty("Plan")
+	private Plan plan;
+
+	@JsonProperty("Device")
+	private Device device;
+
+	@JsonProperty("Client")
+	private Client client;
+
+	@JsonProperty("Billing")
+	private Billing billing;
+
+	public About getAbout() {
+		return about;
+	}
+
+	public void setAbout(About about) {
+		this.about = about;
+	}
+
+	public Plan getPlan() {
+		return plan;
+	}
+
+	public void setPlan(Plan plan) {
+		this.plan = plan;
+	}
+
+	public Device getDevice() {
+		return device;
+	}
+
+	public void setDevice(Device device) {
+		this.device = device;
+	}
+
+	public Client getClient() {
+		return client;
+	}
+
+	public void setClient(Client client) {
+		this.client = client;
+	}
+
+	public Billing getBilling() {
+		return billing;
+	}
+
+	public void setBilling(Billing billing) {
+		this.billing = billing;
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class About {
+
+		@JsonProperty("PetID")
+		private String petId;
+
+		@JsonProperty("PetName")
+		private String petName;
+
+		@JsonProperty("PetGender")
+		private String petGender;
+
+		@JsonProperty("PetBirthday")
+		private String petBirthday;
+
+		@JsonProperty("IsUnknown")
+		private String isUnknown;
+
+		@JsonProperty("PetBreedID")
+		private String petBreedId;
+
+		@JsonProperty("IsMixed")
+		private String isMixed;
+
+		@JsonProperty("PetMixBreed")
+		private String petMixBreed;
+
+		@JsonProperty("PetWeight")
+		private String petWeight;
+
+		@JsonProperty("WeightUnit")
+		private String weightUnit;
+
+		@JsonProperty("PetBFI")
+		private String petBfi;
+
+		@JsonProperty("IsNeutered")
+		private String isNeutered;
+
+		public String getPetId() {
+			return petId;
+		}
+
+		public void setPetId(String petId) {
+			this.petId = petId;
+		}
+
+		public String getPetName() {
+			return petName;
+		}
+
+		public void setPetName(String petName) {
+			this.petName = petName;
+		}
+
+		public String getPetGender() {
+			return petGender;
+		}
+
+		public void setPetGender(String petGender) {
+			this.petGender = petGender;
+		}
+
+		public String getPetBirthday() {
+			return petBirthday;
+		}
+
+		public void setPetBirthday(String petBirthday) {
+			this.petBirthday = petBirthday;
+		}
+
+		public String getIsUnknown() {
+			return isUnknown;
+		}
+
+		public void setIsUnknown(String isUnknown) {
+			this.isUnknown = isUnknown;
+		}
+
+		public String getPetBreedId() {
+			return petBreedId;
+		}
+
+		public void setPetBreedId(String petBreedId) {
+			this.petBreedId = petBreedId;
+		}
+
+		public String getIsMixed() {
+			return isMixed;
+		}
+
+		public void setIsMixed(String isMixed) {
+			this.isMixed = isMixed;
+		}
+
+		public String getPetMixBreed() {
+			return petMixBreed;
+		}
+
+		public void setPetMixBreed(String petMixBreed) {
+			this.petMixBreed = petMixBreed;
+		}
+
+		public String getPetWeight() {
+			return petWeight;
+		}
+
+		public void setPetWeight(String petWeight) {
+			this.petWeight = petWeight;
+		}
+
+		public String getWeightUnit() {
+			return weightUnit;
+		}
+
+		public void setWeightUnit(String weightUnit) {
+			this.weightUnit = weightUnit;
+		}
+
+		public String getPetBfi() {
+			return petBfi;
+		}
+
+		public void setPetBfi(String petBfi) {
+			this.petBfi = petBfi;
+		}
+
+		public String getIsNeutered() {
+			return isNeutered;
+		}
+
+		public void setIsNeutered(String isNeutered) {
+			this.isNeutered = isNeutered;
+		}
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class Plan {
+
+		@JsonProperty("PlanTypeID")
+		private String planTypeId;
+
+		@JsonProperty("IsJoinCompetition")
+		private String isJoinCompetition;
+
+		public String getPlanTypeId() {
+			return planTypeId;
+		}
+
+		public void setPlanTypeId(String planTypeId) {
+			this.planTypeId = planTypeId;
+		}
+
+		public String getIsJoinCompetition() {
+			return isJoinCompetition;
+		}
+
+		public void setIsJoinCompetition(String isJoinCompetition) {
+			this.isJoinCompetition = isJoinCompetition;
+		}
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class Device {
+
+		@JsonProperty("SensorNumber")
+		private String sensorNumber;
+
+		@JsonProperty("DeviceType")
+		private String deviceType;
+
+		@JsonProperty("DeviceAddDate")
+		private String deviceAddDate;
+
+		public String getSensorNumber() {
+			return sensorNumber;
+		}
+
+		public void setSensorNumber(String sensorNumber) {
+			this.sensorNumber = sensorNumber;
+		}
+
+		public String getDeviceType() {
+			return deviceType;
+		}
+
+		public void setDeviceType(String deviceType) {
+			this.deviceType = deviceType;
+		}
+
+		public String getDeviceAddDate() {
+			return deviceAddDate;
+		}
+
+		public void setDeviceAddDate(String deviceAddDate) {
+			this.deviceAddDate = deviceAddDate;
+		}
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class Client {
+
+		@JsonProperty("ClientID")
+		private String clientId;
+
+		@JsonProperty("ClientEmail")
+		private String clientEmail;
+
+		@JsonProperty("ClientFirstName")
+		private String clientFirstName;
+
+		@JsonProperty("ClientLastName")
+		private String clientLastName;
+
+		@JsonProperty("ClientPhone")
+		private String clientPhone;
+
+		@JsonProperty("ClientFullName")
+		private String clientFullName;
+
+		public String getClientId() {
+			return clientId;
+		}
+
+		public void setClientId(String clientId) {
+			this.clientId = clientId;
+		}
+
+		public String getClientEmail() {
+			return clientEmail;
+		}
+
+		public void setClientEmail(String clientEmail) {
+			this.clientEmail = clientEmail;
+		}
+
+		public String getClientFirstName() {
+			return clientFirstName;
+		}
+
+		public void setClientFirstName(String clientFirstName) {
+			this.clientFirstName = clientFirstName;
+		}
+
+		public String getClientLastName() {
+			return clientLastName;
+		}
+
+		public void setClientLastName(String clientLastName) {
+			this.clientLastName = clientLastName;
+		}
+
+		public String getClientPhone() {
+			return clientPhone;
+		}
+
+		public void setClientPhone(String clientPhone) {
+			this.clientPhone = clientPhone;
+		}
+
+		public String getClientFullName() {
+			return clientFullName;
+		}
+
+		public void setClientFullName(String clientFullName) {
+			this.clientFullName = clientFullName;
+		}
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class Billing {
+
+		@JsonProperty("CustomerID")
+		private String customerId;
+
+		@JsonProperty("SubscriptionID")
+		private String subscriptionId;
+
+		public String getCustomerId() {
+			return customerId;
+		}
+
+		public void setCustomerId(String customerId) {
+			this.customerId = customerId;
+		}
+
+		public String getSubscriptionId() {
+			return subscriptionId;
+		}
+
+		public void setSubscriptionId(String subscriptionId) {
+			this.subscriptionId = subscriptionId;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.hillspet.wearables.request.migrated;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Payload of /migrated/ManagePetTimerLog.
+ *
+ * @author vvodyaram
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PetTimerLogRequest {
+
+	@JsonProperty("ClientID")
+	private String clientId;
+
+	@JsonProperty("PetID")
+	private String petId;
+
+	@JsonProperty("Category")
+	private String category;
+
+	@JsonProperty("DeviceNumber")
+	private String deviceNumber;
+
+	@JsonProperty("Duration")
+	private String duration;
+
+	@JsonProperty("TimerDate")
+	private String timerDate;
+
+	public String getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(String clientId) {
+		this.clientId = clientId;
+	}
+
+	public String getPetId() {
+		return petId;
+	}
+
+	public void setPetId(String petId) {
+		this.petId = petId;
+	}
+
+	public String getCategory() {
+		return category;
+	}
+
+	public void setCategory(String category) {
+		this.category = category;
+	}
+
+	public String getDeviceNumber() {
+		return deviceNumber;
+	}
+
+	public void setDeviceNumber(String deviceNumber) {
+		this.deviceNumber = deviceNumber;
+	}
+
+	public String getDuration() {
+		return duration;
+	}
+
+	public void setDuration(String duration) {
+		this.duration = duration;
+	}
+
+	public String getTimerDate() {
+		return timerDate;
+	}
+
+	public void setTimerDate(String timerDate) {
+		this.timerDate = timerDate;
+	}
+}
@@ -0,0 +1,68 @@
+package com.hillspet.wearables.request.migrated;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Payload of /migrated/ManageMobileAppScreensFeedback.
+ *
+ * @author vvodyaram
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ScreenFeedbackRequest {
+
+	@JsonProperty("ClientID")
+	private int clientId;
+
+	@JsonProperty("PetId")
+	private int petId;
+
+	@JsonProperty("PageName")
+	private String pageName;
+
+	@JsonProperty("DeviceType")
+	private String deviceType;
+
+	@JsonProperty("FeedbackText")
+	private String feedbackText;
+
+	public int getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(int clientId) {
+		this.clientId = clientId;
+	}
+
+	public int getPetId() {
+		return petId;
+	}
+
+	public void setPetId(int petId) {
+		this.petId = petId;
+	}
+
+	public String getPageName() {
+		return pageName;
+	}
+
+	public void setPageName(String pageName) {
+		this.pageName = pageName;
+	}
+
+	public String getDeviceType() {
+		return deviceType;
+	}
+
+	public void setDeviceType(String deviceType) {
+		this.deviceType = deviceType;
+	}
+
+	public String getFeedbackText() {
+		return feedbackText;
+	}
+
+	public void setFeedbackText(String feedbackText) {
+		this.feedbackText = feedbackText;
+	}
+}
@@ -0,0 +1,68 @@
+package com.hillspet.wearables.request.migrated;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Payload of /migrated/ManageSensorChargingNotificationSettings.
+ *
+ * @author vvodyaram
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SensorChargingNotificationRequest {
+
+	@JsonProperty("ClientID")
+	private int clientId;
+
+	@JsonProperty("PetID")
+	private int petId;
+
+	@JsonProperty("NotificationType")
+	private String notificationType;
+
+	@JsonProperty("NotificationDay")
+	private String notificationDay;
+
+	@JsonProperty("Opt")
+	private String opt;
+
+	public int getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(int clientId) {
+		this.clientId = clientId;
+	}
+
+	public int getPetId() {
+		return petId;
+	}
+
+	public void setPetId(int petId) {
+		this.petId = petId;
+	}
+
+	public String getNotificationType() {
+		return notificationType;
+	}
+
+	public void setNotificationType(String notificationType) {
+		this.notificationType = notificationType;
+	}
+
+	public String getNotificationDay() {
+		return notificationDay;
+	}
+
+	public void setNotificationDay(String notificationDay) {
+		this.notificationDay = notificationDay;
+	}
+
+	public String getOpt() {
+		return opt;
+	}
+
+	public void setOpt(String opt) {
+		this.opt = opt;
+	}
+}
@@ -0,0 +1,80 @@
+package com.hillspet.wearables.request.migrated;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Payload of /migrated/UpdateSensorSetupStatus and /migrated/GetSensorSetupStatus,
+ * the update names the pet PatientID and the read PetID.
+ *
+ * @author vvodyaram
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SensorSetupStatusRequest {
+
+	@JsonProperty("ClientID")
+	private String clientId;
+
+	@JsonProperty("PetID")
+	private String petId;
+
+	@JsonProperty("PatientID")
+	private String patientId;
+
+	@JsonProperty("SetupStatus")
+	private String setupStatus;
+
+	@JsonProperty("SSIDList")
+	private String ssidList;
+
+	@JsonProperty("DeviceNumber")
+	private String deviceNumber;
+
+	public String getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(String clientId) {
+		this.clientId = clientId;
+	}
+
+	public String getPetId() {
+		return petId;
+	}
+
+	public void setPetId(String petId) {
+		this.petId = petId;
+	}
+
+	public String getPatientId() {
+		return patientId;
+	}
+
+	public void setPatientId(String patientId) {
+		this.patientId = patientId;
+	}
+
+	public String getSetupStatus() {
+		return setupStatus;
+	}
+
+	public void setSetupStatus(String setupStatus) {
+		this.setupStatus = setupStatus;
+	}
+
+	public String getSsidList() {
+		return ssidList;
+	}
+
+	public void setSsidList(String ssidList) {
+		this.ssidList = ssidList;
+	}
+
+	public String getDeviceNumber() {
+		return deviceNumber;
+	}
+
+	public void setDeviceNumber(String deviceNumber) {
+		this.deviceNumber = deviceNumber;
+	}
+}
@@ -0,0 +1,29 @@
+package com.hillspet.wearables.response;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AdminStatsResponse {
+
+	private Map<String, Object> stats;
+
+	public AdminStatsResponse() {
+	}
+
+	public AdminStatsResponse(Map<String, Object> stats) {
+		this.stats = stats;
+	}
+
+	public Map<String, Object> getStats() {
+		return stats;
+	}
+
+	public void setStats(Map<String, Object> stats) {
+		this.stats = stats;
+	}
+
+}
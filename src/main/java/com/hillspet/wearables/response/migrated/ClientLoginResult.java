@@ -0,0 +1,44 @@
+package com.hillspet.wearables.response.migrated;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Result of /migrated/ClientLogin.
+ *
+ * @author vvodyaram
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClientLoginResult {
+
+	@JsonProperty("clientID")
+	private Integer clientId;
+
+	private String email;
+
+	private String token;
+
+	public Integer getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(Integer clientId) {
+		this.clientId = clientId;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public String getToken() {
+		return token;
+	}
+
+	public void setToken(String token) {
+		this.token = token;
+	}
+}
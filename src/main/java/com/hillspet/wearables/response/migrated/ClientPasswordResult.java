@@ -0,0 +1,65 @@
+package com.hillspet.wearables.response.migrated;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Result of /migrated/SetClientPasswordBySMSCode.
+ *
+ * @author vvodyaram
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClientPasswordResult {
+
+	@JsonProperty("clientID")
+	private Integer clientId;
+
+	@JsonProperty("petID")
+	private Integer petId;
+
+	private String petName;
+
+	private String token;
+
+	private String deviceNumber;
+
+	public Integer getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(Integer clientId) {
+		this.clientId = clientId;
+	}
+
+	public Integer getPetId() {
+		return petId;
+	}
+
+	public void setPetId(Integer petId) {
+		this.petId = petId;
+	}
+
+	public String getPetName() {
+		return petName;
+	}
+
+	public void setPetName(String petName) {
+		this.petName = petName;
+	}
+
+	public String getToken() {
+		return token;
+	}
+
+	public void setToken(String token) {
+		this.token = token;
+	}
+
+	public String getDeviceNumber() {
+		return deviceNumber;
+	}
+
+	public void setDeviceNumber(String deviceNumber) {
+		this.deviceNumber = deviceNumber;
+	}
+}
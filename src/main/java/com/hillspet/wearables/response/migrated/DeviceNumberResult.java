@@ -0,0 +1,44 @@
+package com.hillspet.wearables.response.migrated;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Result of /migrated/ValidateDeviceNumber.
+ *
+ * @author vvodyaram
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeviceNumberResult {
+
+	@JsonProperty("isValidDeviceNumber")
+	private Boolean validDeviceNumber;
+
+	private String message;
+
+	private String responseCode;
+
+	public Boolean getValidDeviceNumber() {
+		return validDeviceNumber;
+	}
+
+	public void setValidDeviceNumber(Boolean validDeviceNumber) {
+		this.validDeviceNumber = validDeviceNumber;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public void setMessage(String message) {
+		this.message = message;
+	}
+
+	public String getResponseCode() {
+		return responseCode;
+	}
+
+	public void setResponseCode(String responseCode) {
+		this.responseCode = responseCode;
+	}
+}
@@ -0,0 +1,43 @@
+package com.hillspet.wearables.response.migrated;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Key/Value result of the migrated endpoints that answer a flag and a message.
+ *
+ * @author vvodyaram
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KeyValueResult {
+
+	@JsonProperty("Key")
+	private Boolean key;
+
+	@JsonProperty("Value")
+	private String value;
+
+	public KeyValueResult() {
+	}
+
+	public KeyValueResult(Boolean key, String value) {
+		this.key = key;
+		this.value = value;
+	}
+
+	public Boolean getKey() {
+		return key;
+	}
+
+	public void setKey(Boolean key) {
+		this.key = key;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	public void setValue(String value) {
+		this.value = value;
+	}
+}
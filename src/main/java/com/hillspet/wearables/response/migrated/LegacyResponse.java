@@ -0,0 +1,106 @@
+package com.hillspet.wearables.response.migrated;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Response envelope of the .net migrated services. The app expects the
+ * missing errors, warnings and error results as the string "null", and a
+ * request that could not be processed is answered with an empty object, so
+ * the unset properties are left out.
+ *
+ * @author vvodyaram
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LegacyResponse {
+
+	private static final String NULL = "null";
+	private static final String SUCCESS = "SUCCESS";
+
+	private String errors;
+
+	private Integer responseCode;
+
+	private String responseMessage;
+
+	private Object result;
+
+	private Boolean success;
+
+	private String warnings;
+
+	public static LegacyResponse success(Object result) {
+		LegacyResponse response = new LegacyResponse();
+		response.setErrors(NULL);
+		response.setResponseCode(0);
+		response.setResponseMessage(SUCCESS);
+		response.setResult(result);
+		response.setSuccess(true);
+		response.setWarnings(NULL);
+		return response;
+	}
+
+	public static LegacyResponse error() {
+		LegacyResponse response = new LegacyResponse();
+		response.setErrors(NULL);
+		response.setResponseCode(1);
+		response.setResponseMessage("ERROR");
+		response.setResult(NULL);
+		response.setSuccess(false);
+		response.setWarnings(NULL);
+		return response;
+	}
+
+	public static LegacyResponse message(String responseMessage) {
+		LegacyResponse response = new LegacyResponse();
+		response.setResponseMessage(responseMessage);
+		return response;
+	}
+
+	public String getErrors() {
+		return errors;
+	}
+
+	public void setErrors(String errors) {
+		this.errors = errors;
+	}
+
+	public Integer getResponseCode() {
+		return responseCode;
+	}
+
+	public void setResponseCode(Integer responseCode) {
+		this.responseCode = responseCode;
+	}
+
+	public String getResponseMessage() {
+		return responseMessage;
+	}
+
+	public void setResponseMessage(String responseMessage) {
+		this.responseMessage = responseMessage;
+	}
+
+	public Object getResult() {
+		return result;
+	}
+
+	public void setResult(Object result) {
+		this.result = result;
+	}
+
+	public Boolean getSuccess() {
+		return success;
+	}
+
+	public void setSuccess(Boolean success) {
+		this.success = success;
+	}
+
+	public String getWarnings() {
+		return warnings;
+	}
+
+	public void setWarnings(String warnings) {
+		this.warnings = warnings;
+	}
+}
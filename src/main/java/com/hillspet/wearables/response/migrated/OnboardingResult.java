@@ -0,0 +1,55 @@
+package com.hillspet.wearables.response.migrated;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Result of /migrated/CompleteOnboardingInfo.
+ *
+ * @author vvodyaram
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OnboardingResult {
+
+	@JsonProperty("encryptPetID")
+	private String encryptPetId;
+
+	@JsonProperty("petID")
+	private Integer petId;
+
+	private String responseCode;
+
+	private String uid;
+
+	public String getEncryptPetId() {
+		return encryptPetId;
+	}
+
+	public void setEncryptPetId(String encryptPetId) {
+		this.encryptPetId = encryptPetId;
+	}
+
+	public Integer getPetId() {
+		return petId;
+	}
+
+	public void setPetId(Integer petId) {
+		this.petId = petId;
+	}
+
+	public String getResponseCode() {
+		return responseCode;
+	}
+
+	public void setResponseCode(String responseCode) {
+		this.responseCode = responseCode;
+	}
+
+	public String getUid() {
+		return uid;
+	}
+
+	public void setUid(String uid) {
+		this.uid = uid;
+	}
+}
@@ -0,0 +1,40 @@
+package com.hillspet.wearables.response.migrated;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Status result of the migrated endpoints that only acknowledge the request.
+ *
+ * @author vvodyaram
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResponseCodeResult {
+
+	private String responseCode;
+
+	private String responseMessage;
+
+	public ResponseCodeResult() {
+	}
+
+	public ResponseCodeResult(String responseCode, String responseMessage) {
+		this.responseCode = responseCode;
+		this.responseMessage = responseMessage;
+	}
+
+	public String getResponseCode() {
+		return responseCode;
+	}
+
+	public void setResponseCode(String responseCode) {
+		this.responseCode = responseCode;
+	}
+
+	public String getResponseMessage() {
+		return responseMessage;
+	}
+
+	public void setResponseMessage(String responseMessage) {
+		this.responseMessage = responseMessage;
+	}
+}
@@ -0,0 +1,35 @@
+package com.hillspet.wearables.response.migrated;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Result of /migrated/GetSensorSetupStatus.
+ *
+ * @author vvodyaram
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SensorSetupStatusResult {
+
+	@JsonProperty("SetupStatus")
+	private String setupStatus;
+
+	@JsonProperty("SSIDList")
+	private String ssidList;
+
+	public String getSetupStatus() {
+		return setupStatus;
+	}
+
+	public void setSetupStatus(String setupStatus) {
+		this.setupStatus = setupStatus;
+	}
+
+	public String getSsidList() {
+		return ssidList;
+	}
+
+	public void setSsidList(String ssidList) {
+		this.ssidList = ssidList;
+	}
+}
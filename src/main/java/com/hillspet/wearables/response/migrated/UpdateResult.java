@@ -0,0 +1,29 @@
+package com.hillspet.wearables.response.migrated;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Result of /migrated/ChangeClientInfo.
+ *
+ * @author vvodyaram
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UpdateResult {
+
+	private Boolean result;
+
+	public UpdateResult() {
+	}
+
+	public UpdateResult(Boolean result) {
+		this.result = result;
+	}
+
+	public Boolean getResult() {
+		return result;
+	}
+
+	public void setResult(Boolean result) {
+		this.result = result;
+	}
+}
@@ -0,0 +1,60 @@
+package com.hillspet.wearables.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.ext.Provider;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hillspet.wearables.common.constants.WearablesErrorCode;
+import com.hillspet.wearables.common.dto.WearablesError;
+import com.hillspet.wearables.common.exceptions.ServiceValidationException;
+
+/**
+ * Guards the resources annotated with {@link AdminKeyRequired}. The AdminKey
+ * header must match wearables.admin.apiKey, when the key is not configured the
+ * admin resources are disabled.
+ *
+ * @author vvodyaram
+ */
+@Provider
+@Component
+@Priority(Priorities.AUTHENTICATION)
+public class AdminKeyAuthenticationFilter implements ContainerRequestFilter {
+
+	private static final Logger LOGGER = LogManager.getLogger(AdminKeyAuthenticationFilter.class);
+
+	public static final String ADMIN_KEY_HEADER = "AdminKey";
+
+	@Value("${wearables.admin.apiKey:}")
+	private String adminApiKey;
+
+	@Override
+	public void filter(ContainerRequestContext requestContext) {
+		ResourceMethod resourceMethod = ((ExtendedUriInfo) requestContext.getUriInfo()).getMatchedResourceMethod();
+		if (resourceMethod == null || !resourceMethod.getInvocable().getDefinitionMethod().getDeclaringClass()
+				.isAnnotationPresent(AdminKeyRequired.class)) {
+			return;
+		}
+
+		String adminKey = requestContext.getHeaderString(ADMIN_KEY_HEADER);
+		if (StringUtils.isBlank(adminApiKey) || adminKey == null || !MessageDigest
+				.isEqual(adminApiKey.getBytes(StandardCharsets.UTF_8), adminKey.getBytes(StandardCharsets.UTF_8))) {
+			LOGGER.warn("admin request rejected for {}", requestContext.getUriInfo().getPath());
+			throw new ServiceValidationException("AdminKey validation failed cannot proceed further",
+					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.hillspet.wearables.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a resource interface as an operational endpoint that requires the
+ * AdminKey header to match the configured wearables.admin.apiKey, see
+ * {@link AdminKeyAuthenticationFilter}.
+ * 
+ * @author vvodyaram
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface AdminKeyRequired {
+}
@@ -0,0 +1,142 @@
+package com.hillspet.wearables.security;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.hillspet.wearables.common.constants.AuthenticationStatus;
+import com.hillspet.wearables.common.constants.Constants;
+import com.hillspet.wearables.common.constants.WearablesErrorCode;
+import com.hillspet.wearables.common.dto.ClientContext;
+import com.hillspet.wearables.common.dto.WearablesError;
+import com.hillspet.wearables.common.exceptions.ServiceValidationException;
+import com.hillspet.wearables.helpers.ClientContextService;
+import com.hillspet.wearables.helpers.PetParentContext;
+import com.hillspet.wearables.service.questionnaire.MobileAppService;
+
+/**
+ * Resolves the ClientToken header of every request that is mapped to a
+ * resource method annotated (directly or through its resource interface) with
+ * {@link ClientTokenRequired}.
+ *
+ * The filter runs after resource matching but before the request entity is
+ * read, so an invalid token is rejected without any JSON parsing or service
+ * call. On success the pet parent key id is stored as the userId of the request
+ * scoped {@link ClientContext} and in the {@link PetParentContext}, which is
+ * cleared again by the response filter so that no pet parent is left behind
+ * on the container thread. The resources running on a bulkhead clear it once
+ * the call is handed over, see ResourceBulkhead.
+ *
+ * @author vvodyaram
+ */
+@Provider
+@Component
+@Priority(Priorities.AUTHENTICATION)
+public class ClientTokenAuthenticationFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+	private static final Logger LOGGER = LogManager.getLogger(ClientTokenAuthenticationFilter.class);
+
+	public static final String CLIENT_TOKEN_HEADER = "ClientToken";
+
+	private final ConcurrentHashMap<Method, Optional<ClientTokenRequired>> annotationCache = new ConcurrentHashMap<>();
+
+	@Autowired
+	private MobileAppService mobileAppService;
+
+	@Autowired
+	private ClientContextService clientContextService;
+
+	@Override
+	public void filter(ContainerRequestContext requestContext) {
+		PetParentContext.clear();
+		ResourceMethod resourceMethod = ((ExtendedUriInfo) requestContext.getUriInfo()).getMatchedResourceMethod();
+		if (resourceMethod == null) {
+			return;
+		}
+		Optional<ClientTokenRequired> clientTokenRequired = annotationCache
+				.computeIfAbsent(resourceMethod.getInvocable().getHandlingMethod(), method -> Optional
+						.ofNullable(findAnnotation(resourceMethod.getInvocable())));
+		if (!clientTokenRequired.isPresent()) {
+			return;
+		}
+
+		String token = requestContext.getHeaderString(CLIENT_TOKEN_HEADER);
+		int petParentKeyId = StringUtils.isBlank(token) ? 0 : mobileAppService.getPetParentByPetParentKey(token);
+		if (petParentKeyId == 0) {
+			LOGGER.debug("ClientToken rejected for {}", requestContext.getUriInfo().getPath());
+			if (clientTokenRequired.get().legacyResponse()) {
+				requestContext.abortWith(Response.status(Response.Status.FORBIDDEN).entity(Constants.INVALID_TOKEN).build());
+				return;
+			}
+			throw new ServiceValidationException("ClientToken validation failed cannot proceed further",
+					Arrays.asList(new WearablesError(WearablesErrorCode.AUTHORIZATION_FAILED)));
+		}
+
+		clientContextService.setClientContext(new ClientContext.ClientContextBuilder()
+				.authStatus(AuthenticationStatus.GRANTED_AUTHENTICATED).userId(String.valueOf(petParentKeyId))
+				.startTime(System.currentTimeMillis()).rawResourceUrl(requestContext.getUriInfo().getPath())
+				.build());
+		PetParentContext.set(String.valueOf(petParentKeyId));
+	}
+
+	@Override
+	public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+		PetParentContext.clear();
+	}
+
+	/**
+	 * Looks up the annotation on the resource method, then on the resource
+	 * interface method and finally on the resource class and its interfaces.
+	 */
+	private static ClientTokenRequired findAnnotation(Invocable invocable) {
+		Method handlingMethod = invocable.getHandlingMethod();
+		Method definitionMethod = invocable.getDefinitionMethod();
+
+		ClientTokenRequired annotation = handlingMethod.getAnnotation(ClientTokenRequired.class);
+		if (annotation == null) {
+			annotation = definitionMethod.getAnnotation(ClientTokenRequired.class);
+		}
+		if (annotation == null) {
+			annotation = definitionMethod.getDeclaringClass().getAnnotation(ClientTokenRequired.class);
+		}
+		if (annotation == null) {
+			Class<?> handlerClass = handlingMethod.getDeclaringClass();
+			annotation = handlerClass.getAnnotation(ClientTokenRequired.class);
+			for (int i = 0; annotation == null && i < handlerClass.getInterfaces().length; i++) {
+				annotation = findInterfaceAnnotation(handlerClass.getInterfaces()[i], handlingMethod);
+			}
+		}
+		return annotation;
+	}
+
+	private static ClientTokenRequired findInterfaceAnnotation(Class<?> resourceInterface, Method handlingMethod) {
+		try {
+			Method method = resourceInterface.getMethod(handlingMethod.getName(), handlingMethod.getParameterTypes());
+			if (method.isAnnotationPresent(ClientTokenRequired.class)) {
+				return method.getAnnotation(ClientTokenRequired.class);
+			}
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+		return resourceInterface.getAnnotation(ClientTokenRequired.class);
+	}
+}
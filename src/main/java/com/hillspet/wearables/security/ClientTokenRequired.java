@@ -0,0 +1,31 @@
+package com.hillspet.wearables.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a resource interface (all of its methods) or a single resource method
+ * as requiring a valid ClientToken header. The token is resolved once per
+ * request by {@link ClientTokenAuthenticationFilter} before the request entity
+ * is read and the resolved pet parent identity is stored in the request scoped
+ * ClientContext.
+ * 
+ * @author vvodyaram
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface ClientTokenRequired {
+
+	/**
+	 * When true an invalid token is answered with the legacy
+	 * {@code Constants.INVALID_TOKEN} body instead of the standard error response,
+	 * used by the endpoints migrated from the old mobile services.
+	 */
+	boolean legacyResponse() default false;
+}
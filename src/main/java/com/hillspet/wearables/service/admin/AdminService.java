@@ -0,0 +1,43 @@
+package com.hillspet.wearables.service.admin;
+
+import java.util.Map;
+
+import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
+
+public interface AdminService {
+
+	Map<String, Object> getProcedureCallStats() throws ServiceExecutionException;
+
+	int clearProcedureCalls() throws ServiceExecutionException;
+
+	Map<String, Object> getTokenCacheStats() throws ServiceExecutionException;
+
+	void clearTokenCache() throws ServiceExecutionException;
+
+	Map<String, Object> getSignedUrlCacheStats() throws ServiceExecutionException;
+
+	void clearSignedUrlCache() throws ServiceExecutionException;
+
+	Map<String, Object> getReferenceDataStats() throws ServiceExecutionException;
+
+	String refreshReferenceData() throws ServiceExecutionException;
+
+	Map<String, Object> getEmailQueueStats() throws ServiceExecutionException;
+
+	Map<String, Object> getCompressionStats() throws ServiceExecutionException;
+
+	Map<String, Object> getDbStats() throws ServiceExecutionException;
+
+	Map<String, Object> getSlowQueries() throws ServiceExecutionException;
+
+	int clearDbStats() throws ServiceExecutionException;
+
+	Map<String, Object> getAdmissionStats() throws ServiceExecutionException;
+
+	Map<String, Object> getReplicaStats() throws ServiceExecutionException;
+
+	Map<String, Object> getDbRetryStats() throws ServiceExecutionException;
+
+	Map<String, Object> getBulkheadStats() throws ServiceExecutionException;
+
+}
@@ -0,0 +1,171 @@
+package com.hillspet.wearables.service.admin.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
+import com.hillspet.wearables.common.utils.GcsObjectMetadataCache;
+import com.hillspet.wearables.common.utils.MediaUrlResolver;
+import com.hillspet.wearables.common.utils.SignedUrlCache;
+import com.hillspet.wearables.dao.ConnectionPoolMetrics;
+import com.hillspet.wearables.dao.DaoRetryPolicy;
+import com.hillspet.wearables.dao.QueryStatsRegistry;
+import com.hillspet.wearables.dao.ReadReplicaRouter;
+import com.hillspet.wearables.dao.SimpleJdbcCallRegistry;
+import com.hillspet.wearables.dao.cache.PetParentKeyCache;
+import com.hillspet.wearables.dao.cache.ReferenceDataCache;
+import com.hillspet.wearables.email.EmailDispatcher;
+import com.hillspet.wearables.jaxrs.async.ResourceBulkheads;
+import com.hillspet.wearables.jaxrs.filter.AdmissionControlFilter;
+import com.hillspet.wearables.jaxrs.filter.CompressionFilter;
+import com.hillspet.wearables.service.admin.AdminService;
+
+@Service
+public class AdminServiceImpl implements AdminService {
+
+	private static final Logger LOGGER = LogManager.getLogger(AdminServiceImpl.class);
+
+	@Autowired
+	private SimpleJdbcCallRegistry simpleJdbcCallRegistry;
+
+	@Autowired
+	private PetParentKeyCache petParentKeyCache;
+
+	@Autowired
+	private SignedUrlCache signedUrlCache;
+
+	@Autowired
+	private GcsObjectMetadataCache objectMetadataCache;
+
+	@Autowired
+	private MediaUrlResolver mediaUrlResolver;
+
+	@Autowired
+	private ReferenceDataCache referenceDataCache;
+
+	@Autowired
+	private EmailDispatcher emailDispatcher;
+
+	@Autowired
+	private CompressionFilter compressionFilter;
+
+	@Autowired
+	private QueryStatsRegistry queryStatsRegistry;
+
+	@Autowired
+	private AdmissionControlFilter admissionControlFilter;
+
+	@Autowired
+	private ReadReplicaRouter readReplicaRouter;
+
+	@Autowired
+	private ConnectionPoolMetrics connectionPoolMetrics;
+
+	@Autowired
+	private DaoRetryPolicy daoRetryPolicy;
+
+	@Autowired
+	private ResourceBulkheads resourceBulkheads;
+
+	@Override
+	public Map<String, Object> getProcedureCallStats() throws ServiceExecutionException {
+		return simpleJdbcCallRegistry.getStats();
+	}
+
+	@Override
+	public int clearProcedureCalls() throws ServiceExecutionException {
+		LOGGER.debug("clearProcedureCalls called");
+		return simpleJdbcCallRegistry.clear();
+	}
+
+	@Override
+	public Map<String, Object> getTokenCacheStats() throws ServiceExecutionException {
+		return petParentKeyCache.getStats();
+	}
+
+	@Override
+	public void clearTokenCache() throws ServiceExecutionException {
+		LOGGER.debug("clearTokenCache called");
+		petParentKeyCache.clear();
+	}
+
+	@Override
+	public Map<String, Object> getSignedUrlCacheStats() throws ServiceExecutionException {
+		Map<String, Object> stats = new LinkedHashMap<>(signedUrlCache.getStats());
+		stats.put("objectMetadata", objectMetadataCache.getStats());
+		stats.put("mediaUrls", mediaUrlResolver.getStats());
+		return stats;
+	}
+
+	@Override
+	public void clearSignedUrlCache() throws ServiceExecutionException {
+		LOGGER.debug("clearSignedUrlCache called");
+		signedUrlCache.clear();
+		objectMetadataCache.clear();
+	}
+
+	@Override
+	public Map<String, Object> getReferenceDataStats() throws ServiceExecutionException {
+		return referenceDataCache.getStats();
+	}
+
+	@Override
+	public String refreshReferenceData() throws ServiceExecutionException {
+		LOGGER.debug("refreshReferenceData called");
+		return referenceDataCache.refresh();
+	}
+
+	@Override
+	public Map<String, Object> getEmailQueueStats() throws ServiceExecutionException {
+		return emailDispatcher.getStats();
+	}
+
+	@Override
+	public Map<String, Object> getCompressionStats() throws ServiceExecutionException {
+		return compressionFilter.getStats();
+	}
+
+	@Override
+	public Map<String, Object> getDbStats() throws ServiceExecutionException {
+		return queryStatsRegistry.getStats();
+	}
+
+	@Override
+	public Map<String, Object> getSlowQueries() throws ServiceExecutionException {
+		return queryStatsRegistry.getSlowQueries();
+	}
+
+	@Override
+	public int clearDbStats() throws ServiceExecutionException {
+		LOGGER.debug("clearDbStats called");
+		return queryStatsRegistry.clear();
+	}
+
+	@Override
+	public Map<String, Object> getAdmissionStats() throws ServiceExecutionException {
+		return admissionControlFilter.getStats();
+	}
+
+	@Override
+	public Map<String, Object> getReplicaStats() throws ServiceExecutionException {
+		Map<String, Object> stats = readReplicaRouter.getStats();
+		stats.put("pool", connectionPoolMetrics.getStats());
+		return stats;
+	}
+
+	@Override
+	public Map<String, Object> getDbRetryStats() throws ServiceExecutionException {
+		return daoRetryPolicy.getStats();
+	}
+
+	@Override
+	public Map<String, Object> getBulkheadStats() throws ServiceExecutionException {
+		return resourceBulkheads.getStats();
+	}
+
+}
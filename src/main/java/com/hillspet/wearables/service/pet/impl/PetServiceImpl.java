@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
+import com.hillspet.wearables.dao.cache.ReferenceDataCache;
 import com.hillspet.wearables.dao.pet.PetDao;
 import com.hillspet.wearables.dto.EatingEnthusiasmScale;
 import com.hillspet.wearables.dto.ImageScoringScale;
@@ -46,6 +47,9 @@ public class PetServiceImpl implements PetService {
 	@Autowired
 	private PetDao petDao;
 
+	@Autowired
+	private ReferenceDataCache referenceDataCache;
+
 	@Override
 	public PetWeightDTO addPetWeight(AddPetWeight addPetWeight) throws ServiceExecutionException {
 		LOGGER.debug("addPetWeight called");
@@ -82,7 +86,7 @@ public class PetServiceImpl implements PetService {
 	@Override
 	public PetSpeciesResponse getPetSpecies() throws ServiceExecutionException {
 		LOGGER.debug("getPetSpecies called");
-		List<PetSpecies> speciesList = petDao.getPetSpecies();
+		List<PetSpecies> speciesList = referenceDataCache.getPetSpecies();
 		PetSpeciesResponse response = new PetSpeciesResponse();
 		response.setSpecies(speciesList);
 		LOGGER.debug("getPetSpecies end");
@@ -92,7 +96,7 @@ public class PetServiceImpl implements PetService {
 	@Override
 	public PetBreedResponse getPetBreeds(int speciesId) throws ServiceExecutionException {
 		LOGGER.debug("getPetBreeds called");
-		List<PetBreed> petBreeds = petDao.getPetBreeds(speciesId);
+		List<PetBreed> petBreeds = referenceDataCache.getPetBreeds(speciesId);
 		PetBreedResponse response = new PetBreedResponse();
 		response.setPetBreedList(petBreeds);
 		LOGGER.debug("getPetBreeds end");
@@ -102,7 +106,7 @@ public class PetServiceImpl implements PetService {
 	@Override
 	public PetBehaviorsResponse getPetBehaviors(int speciesId, int behaviorTypeId) throws ServiceExecutionException {
 		LOGGER.debug("getPetBehaviors called");
-		List<PetBehavior> petBehaviors = petDao.getPetBehaviors(speciesId, behaviorTypeId);
+		List<PetBehavior> petBehaviors = referenceDataCache.getPetBehaviors(speciesId, behaviorTypeId);
 		PetBehaviorsResponse response = new PetBehaviorsResponse();
 		response.setPetBehaviorList(petBehaviors);
 		LOGGER.debug("getPetBehaviors end");
@@ -112,7 +116,7 @@ public class PetServiceImpl implements PetService {
 	@Override
 	public EatingEnthusiasmScaleResponse getPetEatingEnthusiasmScale() throws ServiceExecutionException {
 		LOGGER.debug("getPetEatingEnthusiasmScale called");
-		List<EatingEnthusiasmScale> eatingEnthusiasmScales = petDao.getPetEatingEnthusiasmScale();
+		List<EatingEnthusiasmScale> eatingEnthusiasmScales = referenceDataCache.getPetEatingEnthusiasmScale();
 		EatingEnthusiasmScaleResponse response = new EatingEnthusiasmScaleResponse();
 		response.setEatingEnthusiasmScales(eatingEnthusiasmScales);
 		LOGGER.debug("getPetEatingEnthusiasmScale end");
@@ -122,7 +126,7 @@ public class PetServiceImpl implements PetService {
 	@Override
 	public PetFeedingTimeResponse getPetFeedingTime() throws ServiceExecutionException {
 		LOGGER.debug("getPetFeedingTime called");
-		List<PetFeedingTime> petFeedingTimes = petDao.getPetFeedingTime();
+		List<PetFeedingTime> petFeedingTimes = referenceDataCache.getPetFeedingTime();
 		PetFeedingTimeResponse response = new PetFeedingTimeResponse();
 		response.setPetFeedingTimes(petFeedingTimes);
 		LOGGER.debug("getPetFeedingTime end");
@@ -195,7 +199,7 @@ public class PetServiceImpl implements PetService {
 	@Override
 	public PetFeedingPreferenceResponse getPetFeedingPreferences() throws ServiceExecutionException {
 		LOGGER.debug("getPetFeedingPreferences called");
-		List<PetFeedingPreference> petFeedingPreferences = petDao.getPetFeedingPreferences();
+		List<PetFeedingPreference> petFeedingPreferences = referenceDataCache.getPetFeedingPreferences();
 		PetFeedingPreferenceResponse response = new PetFeedingPreferenceResponse();
 		response.setPetFeedingPreferences(petFeedingPreferences);
 		LOGGER.debug("getPetFeedingPreferences end");
@@ -21,6 +21,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
+import com.hillspet.wearables.dao.cache.ReferenceDataCache;
 import com.hillspet.wearables.dao.questionnaire.MobileAppDao;
 import com.hillspet.wearables.dto.Campaign;
 import com.hillspet.wearables.dto.LeaderBoard;
@@ -59,6 +60,9 @@ public class MobileAppServiceImpl implements MobileAppService {
 	@Autowired
 	private MobileAppDao mobileAppDao;
 
+	@Autowired
+	private ReferenceDataCache referenceDataCache;
+
 	@Override
 	public List<Questionnaire> getFeedbackQuestionnaireByPetId(int petId) throws ServiceExecutionException {
 		LOGGER.debug("getFeedbackQuestionnaireByPetId called");
@@ -167,7 +171,7 @@ public class MobileAppServiceImpl implements MobileAppService {
 	@Override
 	public List<String> getDeviceTypes() throws ServiceExecutionException {
 		LOGGER.debug("getDeviceType called");
-		List<String> deviceTypeList = mobileAppDao.getDeviceTypes();
+		List<String> deviceTypeList = referenceDataCache.getDeviceTypes();
 		LOGGER.debug("getDeviceType list", deviceTypeList.size());
 		return deviceTypeList;
 	}
@@ -175,7 +179,7 @@ public class MobileAppServiceImpl implements MobileAppService {
 	@Override
 	public List<String> getDeviceModels(String deviceType) throws ServiceExecutionException {
 		LOGGER.debug("getDeviceModel called");
-		List<String> deviceTypeList = mobileAppDao.getDeviceModels(deviceType);
+		List<String> deviceTypeList = referenceDataCache.getDeviceModels(deviceType);
 		LOGGER.debug("getDeviceModel list", deviceTypeList.size());
 		return deviceTypeList;
 	}
@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
+import com.hillspet.wearables.dao.cache.ReferenceDataCache;
 import com.hillspet.wearables.dao.supportmaterial.SupportMaterialDao;
 import com.hillspet.wearables.dto.MaterialCategory;
 import com.hillspet.wearables.dto.MaterialType;
@@ -25,10 +26,13 @@ public class SupportMaterialServiceImpl implements SupportMaterialService {
 	@Autowired
 	private SupportMaterialDao supportMaterialDao;
 
+	@Autowired
+	private ReferenceDataCache referenceDataCache;
+
 	@Override
 	public MaterialTypesResponse getMaterialTypeList() throws ServiceExecutionException {
 		LOGGER.debug("getMaterialTypeList called");
-		List<MaterialType> materialTypeList = supportMaterialDao.getMaterialTypeList();
+		List<MaterialType> materialTypeList = referenceDataCache.getMaterialTypeList();
 		MaterialTypesResponse response = new MaterialTypesResponse();
 		response.setMaterialTypes(materialTypeList);
 		LOGGER.debug("getMaterialTypeList end");
@@ -38,7 +42,7 @@ public class SupportMaterialServiceImpl implements SupportMaterialService {
 	@Override
 	public MaterialCategoriesResponse getMaterialCategoryList(int categoryId) throws ServiceExecutionException {
 		LOGGER.debug("getMaterialCategoryList called");
-		List<MaterialCategory> materialCategoryList = supportMaterialDao.getMaterialCategoryList(categoryId);
+		List<MaterialCategory> materialCategoryList = referenceDataCache.getMaterialCategoryList(categoryId);
 		MaterialCategoriesResponse response = new MaterialCategoriesResponse();
 		response.setMaterialCategories(materialCategoryList);
 		LOGGER.debug("getMaterialCategoryList end");
@@ -0,0 +1,104 @@
+package com.hillspet.wearables;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hillspet.wearables.dao.configuration.DataSourceConfig;
+import com.mchange.v2.c3p0.PooledDataSource;
+
+/**
+ * Checkout latency and throughput of the c3p0 and the HikariCP pools built by
+ * {@link WearablesApplication} with the pool settings of the default profile,
+ * more threads than connections so that the pool is contended.
+ *
+ * The pools connect to an in-memory H2 database, the cost of the c3p0 test on
+ * checkout is therefore far lower than a round trip to MySQL. The Connector/J
+ * properties of the HikariCP pool are ignored by H2.
+ *
+ * @author vvodyaram
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ConnectionPoolBenchmark {
+
+	@Param({ "c3p0", "hikari" })
+	private String poolType;
+
+	private DataSource dataSource;
+
+	@Setup
+	public void setUp() {
+		DataSourceConfig config = new DataSourceConfig();
+		config.setPoolType(poolType);
+		config.setDataSourceName("benchmark-" + poolType);
+		config.setDriverClass("org.h2.Driver");
+		config.setJdbcUrl("jdbc:h2:mem:pools;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE");
+		config.setUser("sa");
+		config.setPassword("");
+		config.setTestConnectionOnCheckin(false);
+		config.setTestConnectionOnCheckout(true);
+		config.setForceSynchronousCheckins(true);
+		config.setDebugUnreturnedConnectionStackTraces(true);
+		config.setInitialPoolSize(5);
+		config.setMinPoolSize(2);
+		config.setMaxPoolSize(5);
+		config.setNumHelperThreads(5);
+		config.setAcquireIncrement(1);
+		config.setMaxStatements(10);
+		config.setMaxIdleTime(1800);
+		config.setCheckoutTimeout(60000);
+		config.setIdleConnectionTestPeriod(60);
+		config.setMaxIdleTimeExcessConnections(0);
+
+		dataSource = ReflectionTestUtils.invokeMethod(new WearablesApplication(), "createPool", config,
+				"benchmark-" + poolType);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException, SQLException {
+		if (dataSource instanceof PooledDataSource) {
+			((PooledDataSource) dataSource).close();
+		} else {
+			((Closeable) dataSource).close();
+		}
+	}
+
+	@Benchmark
+	public boolean checkout() throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			return connection.getAutoCommit();
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ConnectionPoolBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,81 @@
+package com.hillspet.wearables.common.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vvodyaram
+ */
+class BoundedLruCacheTest {
+
+	@Test
+	void evictsTheLeastRecentlyUsedEntry() {
+		BoundedLruCache<String, Integer> cache = new BoundedLruCache<>(3);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+		cache.get("a");
+
+		cache.put("d", 4);
+
+		assertNull(cache.get("b"));
+		assertEquals(Integer.valueOf(1), cache.get("a"));
+		assertEquals(Integer.valueOf(4), cache.get("d"));
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	void replacingAnEntryEvictsNothing() {
+		BoundedLruCache<String, Integer> cache = new BoundedLruCache<>(2);
+		cache.put("a", 1);
+		cache.put("b", 2);
+
+		cache.put("a", 3);
+
+		assertEquals(Integer.valueOf(3), cache.get("a"));
+		assertEquals(2, cache.size());
+		assertEquals(0, cache.getEvictionCount());
+	}
+
+	@Test
+	void staysWithinMaxSizeAcrossSegments() {
+		BoundedLruCache<Integer, Integer> cache = new BoundedLruCache<>(1000);
+		for (int i = 0; i < 10000; i++) {
+			cache.put(i, i);
+		}
+
+		assertTrue(cache.size() <= 1000);
+		assertEquals(10000 - cache.size(), cache.getEvictionCount());
+		assertEquals(Integer.valueOf(9999), cache.get(9999));
+	}
+
+	@Test
+	void removesOnlyTheExpectedValue() {
+		BoundedLruCache<String, Integer> cache = new BoundedLruCache<>(10);
+		cache.put("a", 1);
+
+		assertFalse(cache.remove("a", 2));
+		assertFalse(cache.replace("a", 2, 3));
+		assertTrue(cache.replace("a", 1, 3));
+		assertTrue(cache.remove("a", 3));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void removeIfDropsMatchingValues() {
+		BoundedLruCache<String, Integer> cache = new BoundedLruCache<>(10);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+
+		assertEquals(2, cache.removeIf(value -> value != 2));
+
+		assertEquals(1, cache.entries().size());
+		assertEquals("b", cache.entries().get(0).getKey());
+	}
+}
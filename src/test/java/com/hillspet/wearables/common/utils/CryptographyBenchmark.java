@@ -0,0 +1,203 @@
+package com.hillspet.wearables.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.codec.binary.Base64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Per call cost of {@link Cryptography} against the previous implementation,
+ * which derived the key and looked up a new Cipher on every call and generated
+ * the AES login key each time.
+ *
+ * The encryption keys cycle through the uniqueId values of 1,000 pet parents,
+ * as the login and onboarding calls do. The previous INFO logging of the
+ * plain and cipher texts is left out of the legacy copies.
+ *
+ * @author vvodyaram
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Thread)
+public class CryptographyBenchmark {
+
+	private static final int PET_PARENTS = 1000;
+
+	private static final String PASSWORD = "Welcome@123";
+	private static final String PET_PARENT_EMAIL = "pet.parent@example.com";
+	private static final String LOGIN_KEY = "AGLOGICAAGLOGICAAGLOGICAAGLOGICA";
+	private static final String LOGIN_IV = "2019010720190107";
+
+	private static final String CRYPTO_TRANSFORMATION = "DESede/ECB/PKCS5Padding";
+	private static final String ALGO = "DESede";
+
+	private String[] uniqueIds;
+	private String[] encryptedPasswords;
+	private String[] encryptedEmails;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		uniqueIds = new String[PET_PARENTS];
+		encryptedPasswords = new String[PET_PARENTS];
+		encryptedEmails = new String[PET_PARENTS];
+		for (int i = 0; i < PET_PARENTS; i++) {
+			uniqueIds[i] = String.valueOf(1793162651635247L + i * 7919L);
+			encryptedPasswords[i] = Cryptography.encrypt(PASSWORD, uniqueIds[i]);
+			encryptedEmails[i] = Cryptography.petParentEncrypt(PET_PARENT_EMAIL, uniqueIds[i]);
+		}
+	}
+
+	@Benchmark
+	public String encryptPerCallKey() throws GeneralSecurityException {
+		return legacyEncrypt(PASSWORD, uniqueIds[nextPetParent()]);
+	}
+
+	@Benchmark
+	public String encryptCachedKey() {
+		return Cryptography.encrypt(PASSWORD, uniqueIds[nextPetParent()]);
+	}
+
+	@Benchmark
+	public String decryptPerCallKey() throws GeneralSecurityException {
+		int petParent = nextPetParent();
+		return legacyDecrypt(encryptedPasswords[petParent], uniqueIds[petParent]);
+	}
+
+	@Benchmark
+	public String decryptCachedKey() {
+		int petParent = nextPetParent();
+		return Cryptography.decrypt(encryptedPasswords[petParent], uniqueIds[petParent]);
+	}
+
+	@Benchmark
+	public String petParentDecryptPerCallKey() throws GeneralSecurityException {
+		int petParent = nextPetParent();
+		return legacyPetParentDecrypt(encryptedEmails[petParent], uniqueIds[petParent]);
+	}
+
+	@Benchmark
+	public String petParentDecryptCachedKey() {
+		int petParent = nextPetParent();
+		return Cryptography.petParentDecrypt(encryptedEmails[petParent], uniqueIds[petParent]);
+	}
+
+	@Benchmark
+	public String encryptByAESPerCallKey() throws GeneralSecurityException {
+		return legacyEncryptByAES(PET_PARENT_EMAIL);
+	}
+
+	@Benchmark
+	public String encryptByAESCachedKey() {
+		return Cryptography.encryptByAES(PET_PARENT_EMAIL);
+	}
+
+	private int nextPetParent() {
+		next = next + 1 == PET_PARENTS ? 0 : next + 1;
+		return next;
+	}
+
+	private static String legacyEncrypt(String plainText, String encryptionKey) throws GeneralSecurityException {
+		byte[] inputBytes = plainText.getBytes(StandardCharsets.US_ASCII);
+		byte[] passwordBytes = encryptionKey.getBytes(StandardCharsets.US_ASCII);
+
+		MessageDigest md = MessageDigest.getInstance("MD5");
+		byte[] passwordHash = md.digest(passwordBytes);
+		byte[] keyBytes = Arrays.copyOf(passwordHash, 24);
+
+		for (int j = 0, k = 16; j < 8;) {
+			keyBytes[k++] = keyBytes[j++];
+		}
+
+		SecretKey key = new SecretKeySpec(keyBytes, ALGO);
+
+		Cipher cipher = Cipher.getInstance(CRYPTO_TRANSFORMATION);
+		cipher.init(Cipher.ENCRYPT_MODE, key);
+
+		byte[] cipherBuf = cipher.doFinal(inputBytes);
+		return new String(Base64.encodeBase64(cipherBuf));
+	}
+
+	private static String legacyDecrypt(String encryptedString, String encryptionKey)
+			throws GeneralSecurityException {
+		byte[] inputBytes = Base64.decodeBase64(encryptedString);
+		byte[] passwordBytes = encryptionKey.getBytes(StandardCharsets.US_ASCII);
+
+		MessageDigest md = MessageDigest.getInstance("MD5");
+		byte[] passwordHash = md.digest(passwordBytes);
+		byte[] keyBytes = Arrays.copyOf(passwordHash, 24);
+
+		for (int j = 0, k = 16; j < 8;) {
+			keyBytes[k++] = keyBytes[j++];
+		}
+
+		SecretKey key = new SecretKeySpec(keyBytes, ALGO);
+
+		Cipher decipher = Cipher.getInstance(CRYPTO_TRANSFORMATION);
+		decipher.init(Cipher.DECRYPT_MODE, key);
+
+		return new String(decipher.doFinal(inputBytes), StandardCharsets.UTF_8);
+	}
+
+	private static String legacyPetParentDecrypt(String encryptedString, String petParentEncryptionKey)
+			throws GeneralSecurityException {
+		byte[] message = Base64.decodeBase64(encryptedString);
+
+		Cipher decipher = Cipher.getInstance(CRYPTO_TRANSFORMATION);
+		byte[] keyBytes = Arrays.copyOf(petParentEncryptionKey.getBytes(StandardCharsets.UTF_8), 24);
+		decipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(keyBytes, ALGO));
+
+		return new String(decipher.doFinal(message), StandardCharsets.UTF_8);
+	}
+
+	private static String legacyEncryptByAES(String input) throws GeneralSecurityException {
+		SecureRandom randomSecureRandom = new SecureRandom();
+		byte[] bytes = LOGIN_IV.getBytes(StandardCharsets.US_ASCII);
+		randomSecureRandom.nextBytes(bytes);
+		IvParameterSpec iv = new IvParameterSpec(bytes);
+
+		Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+
+		SecureRandom random = new SecureRandom();
+		random.setSeed(LOGIN_KEY.getBytes(StandardCharsets.US_ASCII));
+
+		KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+		keyGenerator.init(random);
+		SecretKey key = keyGenerator.generateKey();
+
+		cipher.init(Cipher.ENCRYPT_MODE, key, iv);
+		return Base64.encodeBase64String(cipher.doFinal(input.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(CryptographyBenchmark.class.getSimpleName()).build()).run();
+	}
+}
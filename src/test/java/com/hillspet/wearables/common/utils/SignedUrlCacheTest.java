@@ -0,0 +1,153 @@
+package com.hillspet.wearables.common.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hillspet.wearables.common.utils.SignedUrlCache.SignedUrl;
+
+/**
+ * @author vvodyaram
+ */
+class SignedUrlCacheTest {
+
+	private static final String BUCKET = "bucket";
+
+	private SignedUrlCache cache;
+
+	private final AtomicInteger signCount = new AtomicInteger();
+
+	private long lifetimeMillis = TimeUnit.HOURS.toMillis(1);
+
+	@BeforeEach
+	void setUp() {
+		cache = new SignedUrlCache();
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "minRemainingSeconds", 300L);
+		ReflectionTestUtils.setField(cache, "maxSize", 100);
+		ReflectionTestUtils.setField(cache, "refreshAheadSeconds", 600L);
+		ReflectionTestUtils.setField(cache, "hotAccessCount", 3);
+		cache.start();
+	}
+
+	@Test
+	void reusesUrlWithEnoughLifetimeLeft() throws Exception {
+		SignedUrl first = cache.get(BUCKET, "a.jpg", this::sign);
+		SignedUrl second = cache.get(BUCKET, "a.jpg", this::sign);
+
+		assertSame(first, second);
+		assertEquals(1, signCount.get());
+		assertEquals(1L, cache.getStats().get("hits"));
+		assertEquals(1L, cache.getStats().get("misses"));
+	}
+
+	@Test
+	void resignsUrlCloseToExpiry() throws Exception {
+		lifetimeMillis = TimeUnit.SECONDS.toMillis(200);
+		SignedUrl first = cache.get(BUCKET, "a.jpg", this::sign);
+		SignedUrl second = cache.get(BUCKET, "a.jpg", this::sign);
+
+		assertNotEquals(first.getUrl(), second.getUrl());
+		assertEquals(2, signCount.get());
+	}
+
+	@Test
+	void keysOnBucketAndPath() throws Exception {
+		cache.get(BUCKET, "a.jpg", this::sign);
+		cache.get("other", "a.jpg", this::sign);
+		cache.get(BUCKET, "b.jpg", this::sign);
+
+		assertEquals(3, signCount.get());
+	}
+
+	@Test
+	void missingObjectIsNotCached() throws Exception {
+		assertNull(cache.get(BUCKET, "a.jpg", (bucketName, objectPath) -> null));
+		cache.get(BUCKET, "a.jpg", this::sign);
+
+		assertEquals(1, signCount.get());
+		assertEquals(1, cache.getStats().get("size"));
+	}
+
+	@Test
+	void signFailureIsCountedAndNotCached() throws Exception {
+		assertThrows(IOException.class, () -> cache.get(BUCKET, "a.jpg", (bucketName, objectPath) -> {
+			throw new IOException("unavailable");
+		}));
+
+		assertEquals(1L, cache.getStats().get("signFailures"));
+		assertEquals(0, cache.getStats().get("size"));
+	}
+
+	@Test
+	void invalidateDropsUrl() throws Exception {
+		cache.get(BUCKET, "a.jpg", this::sign);
+
+		cache.invalidate(BUCKET, "a.jpg");
+		cache.get(BUCKET, "a.jpg", this::sign);
+
+		assertEquals(2, signCount.get());
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedWhenFull() throws Exception {
+		ReflectionTestUtils.setField(cache, "maxSize", 10);
+		cache.start();
+		for (int i = 0; i < 10; i++) {
+			cache.get(BUCKET, i + ".jpg", this::sign);
+		}
+		cache.get(BUCKET, "0.jpg", this::sign);
+
+		cache.get(BUCKET, "10.jpg", this::sign);
+		cache.get(BUCKET, "0.jpg", this::sign);
+		cache.get(BUCKET, "1.jpg", this::sign);
+
+		assertEquals(12, signCount.get());
+		assertEquals(2L, cache.getStats().get("evictions"));
+		assertEquals(10, cache.getStats().get("size"));
+	}
+
+	@Test
+	void disabledCacheSignsEveryCall() throws Exception {
+		ReflectionTestUtils.setField(cache, "enabled", false);
+		cache.get(BUCKET, "a.jpg", this::sign);
+		cache.get(BUCKET, "a.jpg", this::sign);
+
+		assertEquals(2, signCount.get());
+		assertEquals(0, cache.getStats().get("size"));
+	}
+
+	@Test
+	void refreshResignsHotUrlsAndDropsColdOnes() throws Exception {
+		lifetimeMillis = TimeUnit.SECONDS.toMillis(500);
+		cache.get(BUCKET, "hot.jpg", this::sign);
+		for (int i = 0; i < 3; i++) {
+			cache.get(BUCKET, "hot.jpg", this::sign);
+		}
+		lifetimeMillis = TimeUnit.SECONDS.toMillis(100);
+		cache.get(BUCKET, "cold.jpg", this::sign);
+		lifetimeMillis = TimeUnit.HOURS.toMillis(1);
+
+		ReflectionTestUtils.invokeMethod(cache, "refresh");
+
+		assertEquals(1L, cache.getStats().get("refreshes"));
+		assertEquals(1, cache.getStats().get("size"));
+		assertEquals(1L, cache.getStats().get("evictions"));
+	}
+
+	private SignedUrl sign(String bucketName, String objectPath) {
+		int count = signCount.incrementAndGet();
+		return new SignedUrl("https://storage.googleapis.com/" + bucketName + "/" + objectPath + "?sig=" + count,
+				1024L, System.currentTimeMillis() + lifetimeMillis);
+	}
+}
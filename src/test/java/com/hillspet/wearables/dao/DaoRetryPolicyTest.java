@@ -0,0 +1,166 @@
+package com.hillspet.wearables.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @author vvodyaram
+ */
+class DaoRetryPolicyTest {
+
+	private static final String PROCEDURE = "MOBILE_APP_UPDATE_PET_PROFILE";
+
+	private DaoRetryPolicy policy;
+
+	private final AtomicInteger attempts = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		policy = new DaoRetryPolicy();
+		ReflectionTestUtils.setField(policy, "enabled", true);
+		ReflectionTestUtils.setField(policy, "maxAttempts", 4);
+		ReflectionTestUtils.setField(policy, "initialBackoffMillis", 1L);
+		ReflectionTestUtils.setField(policy, "maxBackoffMillis", 2L);
+		ReflectionTestUtils.setField(policy, "multiplier", 2.0);
+		ReflectionTestUtils.setField(policy, "budgetMillis", 1000L);
+	}
+
+	@Test
+	void retriesADeadlockedStatement() {
+		assertEquals("done", policy.execute("UPDATE PET", true, failing(2, deadlock())));
+
+		assertEquals(3, attempts.get());
+		assertEquals(2L, policy.getStats().get("retries"));
+		assertEquals(1L, policy.getStats().get("recovered"));
+	}
+
+	@Test
+	void retriesALockWaitTimeoutOfAStatement() {
+		assertEquals("done", policy.execute("UPDATE PET", true, failing(1, lockWaitTimeout())));
+
+		assertEquals(2, attempts.get());
+	}
+
+	@Test
+	void doesNotRetryADeadlockedProcedureNotDeclaredIdempotent() {
+		DataAccessException failure = deadlock();
+
+		assertSame(failure, assertThrows(DataAccessException.class,
+				() -> policy.execute(PROCEDURE, false, failing(1, failure))));
+
+		assertEquals(1, attempts.get());
+		assertEquals(1L, policy.getStats().get("notIdempotent"));
+	}
+
+	@Test
+	void retriesAProcedureDeclaredIdempotent() {
+		policy.declareIdempotent(PROCEDURE);
+
+		assertEquals("done", policy.execute(PROCEDURE, false, failing(2, new QueryTimeoutException("timeout"))));
+
+		assertEquals(3, attempts.get());
+	}
+
+	@Test
+	void doesNotRetryOtherTransientErrorsOfAStatementNotDeclaredIdempotent() {
+		assertThrows(QueryTimeoutException.class,
+				() -> policy.execute("UPDATE PET", true, failing(1, new QueryTimeoutException("timeout"))));
+
+		assertEquals(1, attempts.get());
+	}
+
+	@Test
+	void doesNotRetryPermanentErrors() {
+		policy.declareIdempotent(PROCEDURE);
+		DataAccessException failure = new DataIntegrityViolationException("duplicate entry",
+				new SQLException("Duplicate entry", "23000", 1062));
+
+		assertThrows(DataIntegrityViolationException.class,
+				() -> policy.execute(PROCEDURE, false, failing(1, failure)));
+
+		assertEquals(1, attempts.get());
+		assertEquals(0L, policy.getStats().get("notIdempotent"));
+	}
+
+	@Test
+	void givesUpAfterTheMaxAttempts() {
+		ReflectionTestUtils.setField(policy, "maxAttempts", 3);
+
+		assertThrows(DeadlockLoserDataAccessException.class,
+				() -> policy.execute("UPDATE PET", true, failing(Integer.MAX_VALUE, deadlock())));
+
+		assertEquals(3, attempts.get());
+		assertEquals(1L, policy.getStats().get("attemptsExhausted"));
+	}
+
+	@Test
+	void givesUpWhenTheBudgetIsSpent() {
+		ReflectionTestUtils.setField(policy, "budgetMillis", 0L);
+
+		assertThrows(DeadlockLoserDataAccessException.class,
+				() -> policy.execute("UPDATE PET", true, failing(Integer.MAX_VALUE, deadlock())));
+
+		assertEquals(1, attempts.get());
+		assertEquals(1L, policy.getStats().get("budgetSpent"));
+	}
+
+	@Test
+	void doesNotRetryInsideATransaction() {
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			assertThrows(DeadlockLoserDataAccessException.class,
+					() -> policy.execute("UPDATE PET", true, failing(1, deadlock())));
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+
+		assertEquals(1, attempts.get());
+	}
+
+	@Test
+	void doesNotRetryWhenDisabled() {
+		ReflectionTestUtils.setField(policy, "enabled", false);
+
+		assertThrows(DeadlockLoserDataAccessException.class,
+				() -> policy.execute("UPDATE PET", true, failing(1, deadlock())));
+
+		assertEquals(1, attempts.get());
+	}
+
+	/**
+	 * @return a call throwing the failure for its first failures attempts
+	 */
+	private Supplier<String> failing(int failures, DataAccessException failure) {
+		return () -> {
+			if (attempts.incrementAndGet() <= failures) {
+				throw failure;
+			}
+			return "done";
+		};
+	}
+
+	private static DataAccessException deadlock() {
+		return new DeadlockLoserDataAccessException("deadlock",
+				new SQLException("Deadlock found when trying to get lock", "40001", 1213));
+	}
+
+	private static DataAccessException lockWaitTimeout() {
+		return new CannotAcquireLockException("lock wait timeout",
+				new SQLException("Lock wait timeout exceeded", "HY000", 1205));
+	}
+}
@@ -0,0 +1,170 @@
+package com.hillspet.wearables.dao.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author vvodyaram
+ */
+class PetParentKeyCacheTest {
+
+	private PetParentKeyCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new PetParentKeyCache();
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+		ReflectionTestUtils.setField(cache, "negativeTtlSeconds", 10L);
+		ReflectionTestUtils.setField(cache, "maxSize", 100);
+		ReflectionTestUtils.setField(cache, "negativeMaxSize", 10);
+		cache.start();
+	}
+
+	@Test
+	void returnsCachedKey() {
+		cache.put("token", 42);
+
+		assertEquals(Integer.valueOf(42), cache.get("token"));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(0, cache.getMissCount());
+	}
+
+	@Test
+	void unknownTokenIsMiss() {
+		assertNull(cache.get("token"));
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	void unresolvedTokenIsCachedAsNegativeEntry() {
+		cache.put("token", 0);
+
+		assertEquals(Integer.valueOf(0), cache.get("token"));
+		assertEquals(1, cache.getNegativeHitCount());
+		assertEquals(0, cache.getHitCount());
+	}
+
+	@Test
+	void keyExpiresAfterTtl() throws InterruptedException {
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 1L);
+		cache.put("token", 42);
+
+		Thread.sleep(1100);
+
+		assertNull(cache.get("token"));
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	void negativeEntryExpiresAfterNegativeTtl() throws InterruptedException {
+		ReflectionTestUtils.setField(cache, "negativeTtlSeconds", 1L);
+		cache.put("unknown", 0);
+		cache.put("known", 42);
+
+		Thread.sleep(1100);
+
+		assertNull(cache.get("unknown"));
+		assertEquals(Integer.valueOf(42), cache.get("known"));
+	}
+
+	@Test
+	void zeroNegativeTtlDisablesNegativeCaching() {
+		ReflectionTestUtils.setField(cache, "negativeTtlSeconds", 0L);
+		cache.put("token", 0);
+
+		assertNull(cache.get("token"));
+	}
+
+	@Test
+	void evictsWhenFull() {
+		ReflectionTestUtils.setField(cache, "maxSize", 10);
+		cache.start();
+		for (int i = 1; i <= 10; i++) {
+			cache.put("token" + i, i);
+		}
+
+		cache.put("token11", 11);
+
+		assertEquals(Integer.valueOf(11), cache.get("token11"));
+		assertEquals(1, cache.getEvictionCount());
+		assertEquals(10, cache.getStats().get("size"));
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedToken() {
+		ReflectionTestUtils.setField(cache, "maxSize", 3);
+		cache.start();
+		cache.put("token1", 1);
+		cache.put("token2", 2);
+		cache.put("token3", 3);
+		cache.get("token1");
+
+		cache.put("token4", 4);
+
+		assertNull(cache.get("token2"));
+		assertEquals(Integer.valueOf(1), cache.get("token1"));
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	void unknownTokensNeverEvictKnownTokens() {
+		ReflectionTestUtils.setField(cache, "maxSize", 3);
+		ReflectionTestUtils.setField(cache, "negativeMaxSize", 2);
+		cache.start();
+		cache.put("known", 42);
+		for (int i = 1; i <= 100; i++) {
+			cache.put("unknown" + i, 0);
+		}
+
+		assertEquals(Integer.valueOf(42), cache.get("known"));
+		assertEquals(Integer.valueOf(0), cache.get("unknown100"));
+		assertEquals(98, cache.getEvictionCount());
+		assertEquals(3, cache.getStats().get("size"));
+	}
+
+	@Test
+	void resolvedTokenReplacesNegativeEntry() {
+		cache.put("token", 0);
+
+		cache.put("token", 42);
+
+		assertEquals(Integer.valueOf(42), cache.get("token"));
+		assertEquals(0, cache.getStats().get("negativeSize"));
+	}
+
+	@Test
+	void invalidateRemovesToken() {
+		cache.put("token", 42);
+
+		cache.invalidate("token");
+
+		assertNull(cache.get("token"));
+	}
+
+	@Test
+	void disabledCacheKeepsNothing() {
+		ReflectionTestUtils.setField(cache, "enabled", false);
+		cache.put("token", 42);
+
+		assertNull(cache.get("token"));
+		assertEquals(0, cache.getMissCount());
+	}
+
+	@Test
+	void statsReportHitRatio() {
+		cache.put("token", 42);
+		cache.get("token");
+		cache.get("token");
+		cache.get("other");
+
+		assertEquals(2d / 3, (Double) cache.getStats().get("hitRatio"), 1e-9);
+		assertTrue((Boolean) cache.getStats().get("enabled"));
+	}
+}
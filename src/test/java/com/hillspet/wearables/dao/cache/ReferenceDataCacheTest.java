@@ -0,0 +1,156 @@
+package com.hillspet.wearables.dao.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
+import com.hillspet.wearables.dao.pet.PetDao;
+import com.hillspet.wearables.dao.questionnaire.MobileAppDao;
+import com.hillspet.wearables.dao.supportmaterial.SupportMaterialDao;
+import com.hillspet.wearables.dto.PetBehavior;
+import com.hillspet.wearables.dto.PetBreed;
+import com.hillspet.wearables.dto.PetSpecies;
+
+/**
+ * @author vvodyaram
+ */
+class ReferenceDataCacheTest {
+
+	private ReferenceDataCache cache;
+
+	private PetDao petDao;
+
+	private MobileAppDao mobileAppDao;
+
+	private SupportMaterialDao supportMaterialDao;
+
+	@BeforeEach
+	void setUp() {
+		petDao = mock(PetDao.class);
+		mobileAppDao = mock(MobileAppDao.class);
+		supportMaterialDao = mock(SupportMaterialDao.class);
+		when(petDao.getPetSpecies()).thenReturn(Arrays.asList(species(1, "Dog"), species(2, "Cat")));
+		when(mobileAppDao.getDeviceTypes()).thenReturn(Collections.singletonList("AGL2"));
+
+		cache = new ReferenceDataCache();
+		ReflectionTestUtils.setField(cache, "petDao", petDao);
+		ReflectionTestUtils.setField(cache, "mobileAppDao", mobileAppDao);
+		ReflectionTestUtils.setField(cache, "supportMaterialDao", supportMaterialDao);
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxParameterizedEntries", 500);
+	}
+
+	@Test
+	void loadsOnFirstUseAndServesFromSnapshot() {
+		List<PetSpecies> first = cache.getPetSpecies();
+		List<PetSpecies> second = cache.getPetSpecies();
+
+		assertSame(first, second);
+		assertEquals(2, first.size());
+		verify(petDao, times(1)).getPetSpecies();
+	}
+
+	@Test
+	void listsAreUnmodifiable() {
+		assertThrows(UnsupportedOperationException.class, () -> cache.getPetSpecies().add(new PetSpecies()));
+	}
+
+	@Test
+	void preloadsBreedsOfKnownSpecies() {
+		when(petDao.getPetBreeds(1)).thenReturn(Collections.singletonList(new PetBreed()));
+		cache.refresh();
+
+		assertEquals(1, cache.getPetBreeds(1).size());
+		assertEquals(0, cache.getPetBreeds(2).size());
+		verify(petDao, times(1)).getPetBreeds(1);
+		verify(petDao, times(1)).getPetBreeds(2);
+		verify(mobileAppDao, times(1)).getDeviceModels("AGL2");
+	}
+
+	@Test
+	void addsOtherParametersOnFirstUse() {
+		when(petDao.getPetBehaviors(1, 3)).thenReturn(Collections.singletonList(new PetBehavior()));
+		cache.refresh();
+		int entries = (Integer) cache.getStats().get("parameterizedEntries");
+
+		assertEquals(1, cache.getPetBehaviors(1, 3).size());
+		assertEquals(1, cache.getPetBehaviors(1, 3).size());
+
+		verify(petDao, times(1)).getPetBehaviors(1, 3);
+		assertEquals(entries + 1, cache.getStats().get("parameterizedEntries"));
+	}
+
+	@Test
+	void reloadsAddedParametersOnRefresh() {
+		cache.getPetBehaviors(1, 3);
+
+		cache.refresh();
+
+		verify(petDao, times(2)).getPetBehaviors(1, 3);
+	}
+
+	@Test
+	void loadsParametersBeyondTheLimitEveryTime() {
+		ReflectionTestUtils.setField(cache, "maxParameterizedEntries", 0);
+
+		cache.getPetBehaviors(1, 3);
+		cache.getPetBehaviors(1, 3);
+
+		verify(petDao, times(2)).getPetBehaviors(1, 3);
+	}
+
+	@Test
+	void versionOnlyChangesWithTheData() {
+		String version = cache.refresh();
+
+		assertEquals(version, cache.refresh());
+
+		when(petDao.getPetSpecies()).thenReturn(Collections.singletonList(species(1, "Dog")));
+		assertNotEquals(version, cache.refresh());
+	}
+
+	@Test
+	void failedRefreshKeepsPreviousSnapshot() {
+		String version = cache.refresh();
+		List<PetSpecies> species = cache.getPetSpecies();
+		when(petDao.getPetSpecies()).thenThrow(new ServiceExecutionException("database unavailable"));
+
+		assertThrows(ServiceExecutionException.class, () -> cache.refresh());
+
+		assertEquals(version, cache.getVersion());
+		assertSame(species, cache.getPetSpecies());
+	}
+
+	@Test
+	void disabledCacheReadsTheDatabase() {
+		ReflectionTestUtils.setField(cache, "enabled", false);
+
+		cache.getPetSpecies();
+		cache.getPetBehaviors(1, 3);
+		cache.getPetBehaviors(1, 3);
+
+		verify(petDao, times(1)).getPetSpecies();
+		verify(petDao, times(2)).getPetBehaviors(1, 3);
+	}
+
+	private static PetSpecies species(int speciesId, String speciesName) {
+		PetSpecies species = new PetSpecies();
+		species.setSpeciesId(speciesId);
+		species.setSpeciesName(speciesName);
+		return species;
+	}
+}
@@ -0,0 +1,445 @@
+package com.hillspet.wearables.dao.questionnaire.impl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlReturnResultSet;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hillspet.wearables.common.exceptions.ServiceExecutionException;
+import com.hillspet.wearables.dao.BaseDaoImpl;
+import com.hillspet.wearables.dao.QueryStatsRegistry;
+import com.hillspet.wearables.dao.ReadReplicaRouter;
+import com.hillspet.wearables.dao.configuration.DataSourceConfig;
+import com.hillspet.wearables.dto.Question;
+import com.hillspet.wearables.dto.QuestionAnswer;
+import com.hillspet.wearables.dto.QuestionAnswerOption;
+import com.hillspet.wearables.dto.Questionnaire;
+import com.hillspet.wearables.dto.QuestionnaireInstruction;
+
+/**
+ * Maps the five result sets of MOBILE_APP_GET_QUESTIONNAIRE_BY_PET_ID for a
+ * synthetic pet with 25 questionnaires of 40 questions (5,125 rows), once
+ * through the materialized {@code #result-set-N} maps the DAO used to copy
+ * from and once through the streaming {@link MobileAppDaoImpl}.
+ *
+ * The rows come from H2 tables, a scripted CallableStatement hands them out as
+ * the result sets of the procedure call. The DAO logging is turned down so
+ * that only the JDBC reads and the mapping are measured.
+ *
+ * @author vvodyaram
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuestionnaireMappingBenchmark {
+
+	private static final int PET_ID = 1;
+	private static final int QUESTIONNAIRES = 25;
+	private static final int QUESTIONS = 40;
+	private static final int ANSWER_OPTIONS = 3;
+	private static final int INSTRUCTIONS = 4;
+
+	private static final String[] RESULT_SET_QUERIES = {
+			"SELECT QUESTIONNAIRE_ID, QUESTIONNAIRE_INSTRUCTION_ID, INSTRUCTION, INSTRUCTION_ORDER "
+					+ "FROM QUESTIONNAIRE_INSTRUCTION ORDER BY QUESTIONNAIRE_INSTRUCTION_ID",
+			"SELECT QUESTION_ID, QUESTION_ANSWER_OPTION_ID, ANSWER FROM QUESTION_ANSWER_OPTION "
+					+ "ORDER BY QUESTION_ANSWER_OPTION_ID",
+			"SELECT QUESTIONNAIRE_ID, QUESTION_ID, QUESTION, QUESTION_TYPE_ID, QUESTION_TYPE, QUESTION_ORDER, "
+					+ "IS_MANDATORY, SCALE_MAX, SCALE_MIN, STEP_VALUE FROM QUESTION ORDER BY QUESTION_ID",
+			"SELECT STUDY_ID, QUESTIONNAIRE_ID, QUESTIONNAIRE_NAME, START_DATE, END_DATE, ANS_CNT, "
+					+ "QUESTIONNAIRE_RESPONSE_ID FROM QUESTIONNAIRE ORDER BY QUESTIONNAIRE_ID",
+			"SELECT QUESTIONNAIRE_RESPONSE_ID, QUESTION_ID, ANSWER, ANSWER_OPTION_ID FROM QUESTION_ANSWER "
+					+ "ORDER BY QUESTION_ID" };
+
+	private Connection connection;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private MobileAppDaoImpl mobileAppDao;
+
+	@Setup
+	public void setUp() throws SQLException {
+		Configurator.setLevel("com.hillspet.wearables", Level.WARN);
+		connection = DriverManager.getConnection("jdbc:h2:mem:questionnaires");
+		createTables();
+
+		jdbcTemplate = new JdbcTemplate(scriptedProcedureDataSource());
+		DataSourceConfig dataSourceConfig = new DataSourceConfig();
+		dataSourceConfig.setSchema("wearables");
+
+		mobileAppDao = new MobileAppDaoImpl();
+		ReflectionTestUtils.setField(mobileAppDao, "jdbcTemplate", jdbcTemplate);
+		ReflectionTestUtils.setField(mobileAppDao, "dataSourceConfig", dataSourceConfig);
+		ReflectionTestUtils.setField(mobileAppDao, "queryStatsRegistry", new QueryStatsRegistry());
+		ReflectionTestUtils.setField(mobileAppDao, "readReplicaRouter", new ReadReplicaRouter());
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public List<Questionnaire> materializedMaps() {
+		List<SqlParameter> declaredParameters = new ArrayList<>();
+		for (int i = 1; i <= RESULT_SET_QUERIES.length; i++) {
+			declaredParameters.add(new SqlReturnResultSet(BaseDaoImpl.RESULT_SET_PREFIX + i, new ColumnMapRowMapper()));
+		}
+		Map<String, Object> outParams = jdbcTemplate.call(con -> {
+			CallableStatement callableStatement = con
+					.prepareCall("{call wearables.MOBILE_APP_GET_QUESTIONNAIRE_BY_PET_ID(?)}");
+			callableStatement.setObject(1, PET_ID);
+			return callableStatement;
+		}, declaredParameters);
+		return copyFromMaps(outParams);
+	}
+
+	@Benchmark
+	public List<Questionnaire> streamedRows() throws ServiceExecutionException {
+		return mobileAppDao.getQuestionnaireByPetId(PET_ID);
+	}
+
+	/**
+	 * The copy of the result set maps into the DTOs done by getQuestionnaireByPetId
+	 * before the rows were streamed.
+	 */
+	@SuppressWarnings("unchecked")
+	private static List<Questionnaire> copyFromMaps(Map<String, Object> outParams) {
+		List<Questionnaire> questionnaireList = new ArrayList<>();
+		List<QuestionAnswer> questionAnswerList = new ArrayList<>();
+
+		Map<Integer, List<QuestionnaireInstruction>> instructionsMap = new HashMap<>();
+		Map<Integer, List<QuestionAnswerOption>> questionAnsOptsMap = new HashMap<>();
+		Map<Integer, List<Question>> questionsMap = new HashMap<>();
+
+		Iterator<Entry<String, Object>> itr = outParams.entrySet().iterator();
+		while (itr.hasNext()) {
+			Map.Entry<String, Object> entry = itr.next();
+			String key = entry.getKey();
+
+			if (key.equals(MobileAppDaoImpl.RESULT_SET_1)) {
+				List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
+				list.forEach(instruction -> {
+					QuestionnaireInstruction questionnaireInstruction = new QuestionnaireInstruction();
+					questionnaireInstruction
+							.setInstructionId((Integer) instruction.get("QUESTIONNAIRE_INSTRUCTION_ID"));
+					questionnaireInstruction.setInstruction((String) instruction.get("INSTRUCTION"));
+					questionnaireInstruction.setInstructionOrder((Integer) instruction.get("INSTRUCTION_ORDER"));
+
+					Integer questionnaireId = (Integer) instruction.get("QUESTIONNAIRE_ID");
+					instructionsMap.computeIfAbsent(questionnaireId, k -> new ArrayList<QuestionnaireInstruction>())
+							.add(questionnaireInstruction);
+				});
+			}
+
+			if (key.equals(MobileAppDaoImpl.RESULT_SET_2)) {
+				List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
+				list.forEach(answerOpts -> {
+					QuestionAnswerOption ansOptions = new QuestionAnswerOption();
+					ansOptions.setQuestionAnswerId((Integer) answerOpts.get("QUESTION_ANSWER_OPTION_ID"));
+					ansOptions.setQuestionAnswer((String) answerOpts.get("ANSWER"));
+
+					Integer questionId = (Integer) answerOpts.get("QUESTION_ID");
+					questionAnsOptsMap.computeIfAbsent(questionId, k -> new ArrayList<QuestionAnswerOption>())
+							.add(ansOptions);
+				});
+			}
+
+			if (key.equals(MobileAppDaoImpl.RESULT_SET_3)) {
+				List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
+				list.forEach(quest -> {
+					Question question = new Question();
+					Integer questionId = (Integer) quest.get("QUESTION_ID");
+					question.setQuestionId(questionId);
+					question.setQuestion((String) quest.get("QUESTION"));
+					question.setQuestionTypeId((Integer) quest.get("QUESTION_TYPE_ID"));
+					question.setQuestionType((String) quest.get("QUESTION_TYPE"));
+					question.setQuestionOrder((Integer) quest.get("QUESTION_ORDER"));
+					question.setIsMandatory(quest.get("IS_MANDATORY") != null
+							&& (Integer) quest.get("IS_MANDATORY") > NumberUtils.INTEGER_ZERO ? Boolean.TRUE
+									: Boolean.FALSE);
+
+					question.setCeil((Integer) quest.get("SCALE_MAX"));
+					question.setFloor((Integer) quest.get("SCALE_MIN"));
+					question.setTickStep((Integer) quest.get("STEP_VALUE"));
+
+					question.setQuestionAnswerOptions(questionAnsOptsMap.get(questionId) != null
+							? questionAnsOptsMap.get(questionId)
+							: new ArrayList<>());
+
+					Integer questionnaireId = (Integer) quest.get("QUESTIONNAIRE_ID");
+					questionsMap.computeIfAbsent(questionnaireId, k -> new ArrayList<Question>()).add(question);
+				});
+			}
+
+			if (key.equals(MobileAppDaoImpl.RESULT_SET_4)) {
+				List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
+				list.forEach(quesObj -> {
+					Questionnaire questionnaire = new Questionnaire();
+					Integer questionnaireId = (Integer) quesObj.get("QUESTIONNAIRE_ID");
+					questionnaire.setStudyIds((String) quesObj.get("STUDY_ID"));
+
+					questionnaire.setQuestionnaireId(questionnaireId);
+					questionnaire.setQuestionnaireName((String) quesObj.get("QUESTIONNAIRE_NAME"));
+
+					Date startDate = (Date) quesObj.get("START_DATE");
+					questionnaire.setStartDate((startDate.toLocalDate()));
+
+					Date endDate = (Date) quesObj.get("END_DATE");
+					questionnaire.setEndDate((endDate.toLocalDate()));
+
+					Long ansCount = (Long) quesObj.get("ANS_CNT");
+					if (ansCount > 0) {
+						questionnaire.setStatus("Submitted");
+					} else {
+						if (endDate.toLocalDate().isBefore(LocalDate.now())) {
+							questionnaire.setStatus("Elapsed");
+						} else {
+							questionnaire.setStatus("Open");
+						}
+					}
+
+					Integer questionnaireResponseId = quesObj.get("QUESTIONNAIRE_RESPONSE_ID") != null
+							? (Integer) quesObj.get("QUESTIONNAIRE_RESPONSE_ID")
+							: NumberUtils.INTEGER_ZERO;
+					questionnaire.setQuestionnaireResponseId(questionnaireResponseId);
+
+					questionnaire.setQuestions(questionsMap.get(questionnaireId) != null
+							? questionsMap.get(questionnaireId)
+							: new ArrayList<>());
+
+					questionnaire.setInstructions(instructionsMap.get(questionnaireId) != null
+							? instructionsMap.get(questionnaireId)
+							: new ArrayList<>());
+					questionnaireList.add(questionnaire);
+				});
+			}
+
+			if (key.equals(MobileAppDaoImpl.RESULT_SET_5)) {
+				List<Map<String, Object>> list = (List<Map<String, Object>>) entry.getValue();
+				list.forEach(quesObj -> {
+					QuestionAnswer questionAnswer = new QuestionAnswer();
+
+					questionAnswer.setQuestionnaireResponseId((Integer) quesObj.get("QUESTIONNAIRE_RESPONSE_ID"));
+					questionAnswer.setQuestionId((Integer) quesObj.get("QUESTION_ID"));
+					questionAnswer.setAnswer((String) quesObj.get("ANSWER"));
+					questionAnswer.setAnswerOptionId((Integer) quesObj.get("ANSWER_OPTION_ID"));
+
+					questionAnswerList.add(questionAnswer);
+				});
+			}
+
+			questionnaireList.parallelStream().forEach(questionnaire -> {
+				questionnaire.getQuestions().parallelStream().forEach(question -> {
+					Optional<QuestionAnswer> optionalAnswer = questionAnswerList.stream()
+							.filter(answer -> answer.getQuestionnaireResponseId()
+									.equals(questionnaire.getQuestionnaireResponseId())
+									&& answer.getQuestionId().equals(question.getQuestionId()))
+							.findFirst();
+					if (optionalAnswer.isPresent()) {
+						question.setAnswer(optionalAnswer.get().getAnswer());
+					}
+				});
+			});
+		}
+		return questionnaireList;
+	}
+
+	private void createTables() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE QUESTIONNAIRE_INSTRUCTION (QUESTIONNAIRE_ID INT, "
+					+ "QUESTIONNAIRE_INSTRUCTION_ID INT, INSTRUCTION VARCHAR(500), INSTRUCTION_ORDER INT)");
+			statement.execute("CREATE TABLE QUESTION_ANSWER_OPTION (QUESTION_ID INT, "
+					+ "QUESTION_ANSWER_OPTION_ID INT, ANSWER VARCHAR(200))");
+			statement.execute("CREATE TABLE QUESTION (QUESTIONNAIRE_ID INT, QUESTION_ID INT, QUESTION VARCHAR(500), "
+					+ "QUESTION_TYPE_ID INT, QUESTION_TYPE VARCHAR(50), QUESTION_ORDER INT, IS_MANDATORY INT, "
+					+ "SCALE_MAX INT, SCALE_MIN INT, STEP_VALUE INT)");
+			statement.execute("CREATE TABLE QUESTIONNAIRE (STUDY_ID VARCHAR(100), QUESTIONNAIRE_ID INT, "
+					+ "QUESTIONNAIRE_NAME VARCHAR(200), START_DATE DATE, END_DATE DATE, ANS_CNT BIGINT, "
+					+ "QUESTIONNAIRE_RESPONSE_ID INT)");
+			statement.execute("CREATE TABLE QUESTION_ANSWER (QUESTIONNAIRE_RESPONSE_ID INT, QUESTION_ID INT, "
+					+ "ANSWER VARCHAR(500), ANSWER_OPTION_ID INT)");
+		}
+
+		try (PreparedStatement instructions = connection
+				.prepareStatement("INSERT INTO QUESTIONNAIRE_INSTRUCTION VALUES (?, ?, ?, ?)");
+				PreparedStatement options = connection
+						.prepareStatement("INSERT INTO QUESTION_ANSWER_OPTION VALUES (?, ?, ?)");
+				PreparedStatement questions = connection.prepareStatement(
+						"INSERT INTO QUESTION VALUES (?, ?, ?, 1, 'Multiple Choice', ?, 1, 10, 0, 1)");
+				PreparedStatement questionnaires = connection
+						.prepareStatement("INSERT INTO QUESTIONNAIRE VALUES ('1,2', ?, ?, ?, ?, ?, ?)");
+				PreparedStatement answers = connection
+						.prepareStatement("INSERT INTO QUESTION_ANSWER VALUES (?, ?, ?, ?)")) {
+			for (int questionnaireId = 1; questionnaireId <= QUESTIONNAIRES; questionnaireId++) {
+				for (int i = 1; i <= INSTRUCTIONS; i++) {
+					instructions.setInt(1, questionnaireId);
+					instructions.setInt(2, (questionnaireId - 1) * INSTRUCTIONS + i);
+					instructions.setString(3, "Instruction " + i + " of questionnaire " + questionnaireId);
+					instructions.setInt(4, i);
+					instructions.addBatch();
+				}
+				for (int q = 1; q <= QUESTIONS; q++) {
+					int questionId = (questionnaireId - 1) * QUESTIONS + q;
+					questions.setInt(1, questionnaireId);
+					questions.setInt(2, questionId);
+					questions.setString(3, "Question " + q + " of questionnaire " + questionnaireId);
+					questions.setInt(4, q);
+					questions.addBatch();
+					for (int o = 1; o <= ANSWER_OPTIONS; o++) {
+						options.setInt(1, questionId);
+						options.setInt(2, (questionId - 1) * ANSWER_OPTIONS + o);
+						options.setString(3, "Option " + o);
+						options.addBatch();
+					}
+					answers.setInt(1, questionnaireId);
+					answers.setInt(2, questionId);
+					answers.setString(3, "Option " + (q % ANSWER_OPTIONS + 1));
+					answers.setInt(4, (questionId - 1) * ANSWER_OPTIONS + q % ANSWER_OPTIONS + 1);
+					answers.addBatch();
+				}
+				questionnaires.setInt(1, questionnaireId);
+				questionnaires.setString(2, "Questionnaire " + questionnaireId);
+				questionnaires.setDate(3, Date.valueOf("2021-01-01"));
+				questionnaires.setDate(4, Date.valueOf("2030-12-31"));
+				questionnaires.setLong(5, QUESTIONS);
+				questionnaires.setInt(6, questionnaireId);
+				questionnaires.addBatch();
+			}
+			instructions.executeBatch();
+			options.executeBatch();
+			questions.executeBatch();
+			questionnaires.executeBatch();
+			answers.executeBatch();
+		}
+	}
+
+	/**
+	 * DataSource whose CallableStatements return the results of the
+	 * RESULT_SET_QUERIES one after the other, as a MySQL procedure returning
+	 * five result sets would.
+	 */
+	private DataSource scriptedProcedureDataSource() {
+		Connection procedureConnection = proxy(Connection.class, (method, args) -> {
+			if ("prepareCall".equals(method.getName())) {
+				return proxy(CallableStatement.class, new ScriptedResultSets());
+			}
+			return null;
+		});
+		return proxy(DataSource.class, (method, args) -> {
+			if ("getConnection".equals(method.getName())) {
+				return procedureConnection;
+			}
+			return null;
+		});
+	}
+
+	private final class ScriptedResultSets implements ProxyHandler {
+		private int index = -1;
+		private ResultSet current;
+
+		@Override
+		public Object invoke(Method method, Object[] args) throws SQLException {
+			switch (method.getName()) {
+			case "execute":
+			case "getMoreResults":
+				return next();
+			case "getResultSet":
+				return current;
+			case "getUpdateCount":
+				return -1;
+			default:
+				return null;
+			}
+		}
+
+		private boolean next() throws SQLException {
+			if (current != null) {
+				current.getStatement().close();
+				current = null;
+			}
+			if (++index < RESULT_SET_QUERIES.length) {
+				current = connection.createStatement().executeQuery(RESULT_SET_QUERIES[index]);
+			}
+			return current != null;
+		}
+	}
+
+	@FunctionalInterface
+	private interface ProxyHandler {
+		Object invoke(Method method, Object[] args) throws SQLException;
+	}
+
+	private static <T> T proxy(Class<T> type, ProxyHandler handler) {
+		InvocationHandler invocationHandler = (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return type.getSimpleName();
+			default:
+				break;
+			}
+			Object result = handler.invoke(method, args);
+			if (result == null && method.getReturnType() == boolean.class) {
+				return false;
+			}
+			if (result == null && method.getReturnType() == int.class) {
+				return 0;
+			}
+			return result;
+		};
+		return type.cast(Proxy.newProxyInstance(QuestionnaireMappingBenchmark.class.getClassLoader(),
+				new Class<?>[] { type }, invocationHandler));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(QuestionnaireMappingBenchmark.class.getSimpleName()).build()).run();
+	}
+}
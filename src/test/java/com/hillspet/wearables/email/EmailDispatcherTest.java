@@ -0,0 +1,233 @@
+package com.hillspet.wearables.email;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hillspet.wearables.common.utils.JsonCodec;
+import com.hillspet.wearables.common.utils.SendGridEmailUtil;
+import com.sendgrid.helpers.mail.Mail;
+import com.sendgrid.helpers.mail.objects.Personalization;
+
+/**
+ * @author vvodyaram
+ */
+class EmailDispatcherTest {
+
+	@TempDir
+	Path directory;
+
+	private Path journalFile;
+
+	private final JsonCodec jsonCodec = new JsonCodec();
+
+	private EmailTransport transport;
+
+	private EmailDispatcher dispatcher;
+
+	/** recipients of each request accepted by the transport */
+	private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+	/** recipients whose mails are refused by SendGrid */
+	private final Set<String> refused = ConcurrentHashMap.newKeySet();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		journalFile = directory.resolve("email-outbound.journal");
+		transport = mock(EmailTransport.class);
+		doAnswer(invocation -> {
+			List<String> recipients = recipients(invocation.getArgument(0));
+			if (recipients.stream().anyMatch(refused::contains)) {
+				throw new EmailProviderException(400, "{\"errors\":[]}");
+			}
+			requests.add(recipients);
+			return null;
+		}).when(transport).send(any(Mail.class));
+
+		SendGridEmailUtil emailUtil = new SendGridEmailUtil();
+		ReflectionTestUtils.setField(emailUtil, "mailFrom", "noreply@example.com");
+		ReflectionTestUtils.setField(emailUtil, "emailTransport", transport);
+
+		dispatcher = new EmailDispatcher();
+		ReflectionTestUtils.setField(dispatcher, "emailUtil", emailUtil);
+		ReflectionTestUtils.setField(dispatcher, "jsonCodec", jsonCodec);
+		ReflectionTestUtils.setField(dispatcher, "workerCount", 1);
+		ReflectionTestUtils.setField(dispatcher, "queueCapacity", 100);
+		ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+		ReflectionTestUtils.setField(dispatcher, "retryBaseMillis", 10L);
+		ReflectionTestUtils.setField(dispatcher, "retryMaxMillis", 100L);
+		ReflectionTestUtils.setField(dispatcher, "journalFile", journalFile.toString());
+		ReflectionTestUtils.setField(dispatcher, "journalCompactEvery", 500);
+		ReflectionTestUtils.setField(dispatcher, "maxBatchSize", 100);
+		ReflectionTestUtils.setField(dispatcher, "lingerMillis", 200L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		dispatcher.stop();
+	}
+
+	@Test
+	void sendsQueuedMailsWithTheSameTemplateInOneRequest() throws Exception {
+		dispatcher.start();
+
+		dispatcher.send("first@example.com", "Welcome", "Hello");
+		dispatcher.send("second@example.com", "Welcome", "Hello");
+		dispatcher.send("third@example.com", "Welcome", "Hello");
+
+		awaitStat("sent", 3L);
+		assertEquals(1, requests.size());
+		assertEquals(3, requests.get(0).size());
+		awaitStat("journaled", 0);
+	}
+
+	@Test
+	void sendsMailsRecoveredFromTheJournal() throws Exception {
+		EmailJournal journal = new EmailJournal(journalFile, jsonCodec, 500);
+		journal.open();
+		journal.append(new OutboundEmail(1, "first@example.com", "Welcome", "Hello", Collections.emptyMap()));
+		journal.append(new OutboundEmail(2, "second@example.com", "Welcome", "Hello", Collections.emptyMap()));
+		journal.close();
+
+		dispatcher.start();
+
+		awaitStat("sent", 2L);
+		assertEquals(2L, dispatcher.getStats().get("recovered"));
+		assertTrue(dispatcher.send("third@example.com", "Welcome", "Hello"));
+		awaitStat("sent", 3L);
+		awaitStat("journaled", 0);
+	}
+
+	@Test
+	void splitsARefusedBatchSoOnlyTheBadAddressIsDropped() throws Exception {
+		refused.add("bad@example.com");
+		dispatcher.start();
+
+		dispatcher.send("first@example.com", "Welcome", "Hello");
+		dispatcher.send("bad@example.com", "Welcome", "Hello");
+		dispatcher.send("third@example.com", "Welcome", "Hello");
+		dispatcher.send("fourth@example.com", "Welcome", "Hello");
+
+		awaitStat("sent", 3L);
+		awaitStat("failed", 1L);
+		assertTrue((Long) dispatcher.getStats().get("batchSplits") >= 1);
+		assertEquals(0L, dispatcher.getStats().get("retried"));
+	}
+
+	@Test
+	void retriesTransientFailures() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		doAnswer(invocation -> {
+			if (calls.incrementAndGet() == 1) {
+				throw new EmailProviderException(503, "");
+			}
+			requests.add(recipients(invocation.getArgument(0)));
+			return null;
+		}).when(transport).send(any(Mail.class));
+		dispatcher.start();
+
+		dispatcher.send("first@example.com", "Welcome", "Hello");
+
+		awaitStat("sent", 1L);
+		assertEquals(1L, dispatcher.getStats().get("retried"));
+		assertEquals(0L, dispatcher.getStats().get("failed"));
+	}
+
+	@Test
+	void retriesARevokedApiKeyForTheWholeBatchWithoutSplitting() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		doAnswer(invocation -> {
+			calls.incrementAndGet();
+			throw new EmailProviderException(401, "{\"errors\":[{\"message\":\"authorization required\"}]}");
+		}).when(transport).send(any(Mail.class));
+		dispatcher.start();
+
+		dispatcher.send("first@example.com", "Welcome", "Hello");
+		dispatcher.send("second@example.com", "Welcome", "Hello");
+		dispatcher.send("third@example.com", "Welcome", "Hello");
+
+		awaitStat("failed", 3L);
+		// the retried mails usually share a request again, never fewer than one per attempt
+		assertTrue(calls.get() >= 3);
+		assertEquals(0L, dispatcher.getStats().get("batchSplits"));
+		assertEquals((long) calls.get(), dispatcher.getStats().get("refusedRequests"));
+		assertEquals(6L, dispatcher.getStats().get("retried"));
+	}
+
+	@Test
+	void failsATooLargeRequestWithoutSplittingOrRetrying() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		doAnswer(invocation -> {
+			calls.incrementAndGet();
+			throw new EmailProviderException(413, "");
+		}).when(transport).send(any(Mail.class));
+		dispatcher.start();
+
+		dispatcher.send("first@example.com", "Welcome", "Hello");
+		dispatcher.send("second@example.com", "Welcome", "Hello");
+
+		awaitStat("failed", 2L);
+		assertEquals(1, calls.get());
+		assertEquals(0L, dispatcher.getStats().get("batchSplits"));
+		assertEquals(0L, dispatcher.getStats().get("retried"));
+	}
+
+	@Test
+	void rejectsMailsAboveTheQueueCapacity() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(transport).send(any(Mail.class));
+		ReflectionTestUtils.setField(dispatcher, "queueCapacity", 1);
+		dispatcher.start();
+
+		assertTrue(dispatcher.send("first@example.com", "Welcome", "Hello"));
+		assertFalse(dispatcher.send("second@example.com", "Welcome", "Hello"));
+
+		release.countDown();
+		awaitStat("sent", 1L);
+		assertEquals(1L, dispatcher.getStats().get("rejected"));
+	}
+
+	private void awaitStat(String name, Object expected) throws InterruptedException {
+		await(() -> expected.equals(dispatcher.getStats().get(name)));
+		assertEquals(expected, dispatcher.getStats().get(name), name);
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static List<String> recipients(Mail mail) {
+		List<String> recipients = new CopyOnWriteArrayList<>();
+		for (Personalization personalization : mail.getPersonalization()) {
+			personalization.getTos().forEach(to -> recipients.add(to.getEmail()));
+		}
+		return recipients;
+	}
+}
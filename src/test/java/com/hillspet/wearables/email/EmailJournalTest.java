@@ -0,0 +1,159 @@
+package com.hillspet.wearables.email;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hillspet.wearables.common.utils.JsonCodec;
+
+/**
+ * @author vvodyaram
+ */
+class EmailJournalTest {
+
+	@TempDir
+	Path directory;
+
+	private Path file;
+
+	private final JsonCodec jsonCodec = new JsonCodec();
+
+	@BeforeEach
+	void setUp() {
+		file = directory.resolve("email-outbound.journal");
+	}
+
+	@Test
+	void replaysPendingMailsAfterCrash() throws IOException, InterruptedException {
+		EmailJournal journal = new EmailJournal(file, jsonCodec, 500);
+		journal.open();
+		OutboundEmail first = mail(1, "first@example.com");
+		OutboundEmail second = mail(2, "second@example.com");
+		OutboundEmail third = mail(3, "third@example.com");
+		journal.append(first);
+		journal.append(second);
+		journal.append(third);
+		journal.markDone(second);
+		// no close, the process died once the writer caught up
+		awaitLines(4);
+
+		List<OutboundEmail> recovered = new EmailJournal(file, jsonCodec, 500).open();
+
+		assertEquals(2, recovered.size());
+		assertEquals(1L, recovered.get(0).getId());
+		assertEquals("first@example.com", recovered.get(0).getRecipient());
+		assertEquals(3L, recovered.get(1).getId());
+		assertEquals("third@example.com", recovered.get(1).getRecipient());
+	}
+
+	@Test
+	void skipsTornLastLine() throws IOException {
+		EmailJournal journal = new EmailJournal(file, jsonCodec, 500);
+		journal.open();
+		journal.append(mail(1, "first@example.com"));
+		journal.close();
+		Files.write(file, "Q\t{\"id\":2,\"recip".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+		List<OutboundEmail> recovered = new EmailJournal(file, jsonCodec, 500).open();
+
+		assertEquals(1, recovered.size());
+		assertEquals(1L, recovered.get(0).getId());
+	}
+
+	@Test
+	void openRewritesOnlyThePendingMails() throws IOException {
+		EmailJournal journal = new EmailJournal(file, jsonCodec, 500);
+		journal.open();
+		OutboundEmail first = mail(1, "first@example.com");
+		journal.append(first);
+		journal.append(mail(2, "second@example.com"));
+		journal.markDone(first);
+		journal.close();
+
+		new EmailJournal(file, jsonCodec, 500).open();
+
+		List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+		assertEquals(1, lines.size());
+		assertTrue(lines.get(0).startsWith("Q\t"));
+	}
+
+	@Test
+	void compactsOnceEnoughMailsAreDone() throws IOException {
+		EmailJournal journal = new EmailJournal(file, jsonCodec, 10);
+		journal.open();
+		for (int i = 1; i <= 10; i++) {
+			OutboundEmail mail = mail(i, "recipient" + i + "@example.com");
+			journal.append(mail);
+			journal.markDone(mail);
+		}
+		journal.close();
+
+		assertEquals(0, journal.size());
+		assertEquals(Collections.emptyList(), Files.readAllLines(file, StandardCharsets.UTF_8));
+		assertEquals(0, new EmailJournal(file, jsonCodec, 10).open().size());
+	}
+
+	@Test
+	void ignoresDoneOfUnknownMail() throws IOException {
+		EmailJournal journal = new EmailJournal(file, jsonCodec, 500);
+		journal.open();
+		journal.append(mail(1, "first@example.com"));
+
+		journal.markDone(mail(7, "other@example.com"));
+		journal.close();
+
+		assertEquals(1, journal.size());
+		assertEquals(1, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+	}
+
+	@Test
+	void createsTheJournalReadableByTheOwnerOnly() throws IOException {
+		assumeTrue(directory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+		file = directory.resolve("outbound").resolve("email-outbound.journal");
+		EmailJournal journal = new EmailJournal(file, jsonCodec, 500);
+		journal.open();
+		journal.append(mail(1, "first@example.com"));
+		journal.close();
+
+		assertEquals(PosixFilePermissions.fromString("rwx------"),
+				Files.getPosixFilePermissions(file.getParent()));
+		assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(file));
+	}
+
+	@Test
+	void restrictsAnExistingJournalToTheOwner() throws IOException {
+		assumeTrue(directory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+		Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-r--r--")));
+
+		new EmailJournal(file, jsonCodec, 500).open();
+
+		assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(file));
+	}
+
+	private void awaitLines(int expected) throws IOException, InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (Files.readAllLines(file, StandardCharsets.UTF_8).size() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(expected, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+	}
+
+	private static OutboundEmail mail(long id, String recipient) {
+		return new OutboundEmail(id, recipient, "Welcome", "Hello %name%",
+				Collections.singletonMap("%name%", recipient));
+	}
+}
@@ -0,0 +1,157 @@
+package com.hillspet.wearables.email;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sendgrid.Method;
+import com.sendgrid.Request;
+import com.sendgrid.SendGrid;
+import com.sendgrid.helpers.mail.Mail;
+import com.sendgrid.helpers.mail.objects.Content;
+import com.sendgrid.helpers.mail.objects.Email;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Time to deliver a burst of 1,000 mails to a local stub of the SendGrid API
+ * from as many threads as the default email workers, once with a new SendGrid
+ * client per mail as SendGridEmailUtil used to do and once through the shared
+ * {@link SendGridEmailTransport}.
+ *
+ * The stub answers 202 to every mail without a delay, the difference is the
+ * connection setup and the client construction. Against api.sendgrid.com every
+ * new client also pays a TLS handshake.
+ *
+ * @author vvodyaram
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailTransportBenchmark {
+
+	private static final int BURST = 1000;
+	private static final int WORKERS = 4;
+	private static final String API_KEY = "SG.benchmark";
+
+	private HttpServer stubServer;
+	private ExecutorService stubExecutor;
+	private ExecutorService workers;
+	private String host;
+	private SendGridEmailTransport transport;
+
+	@Setup
+	public void setUp() throws IOException {
+		Configurator.setLevel("com.hillspet.wearables", Level.WARN);
+		stubServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		stubServer.createContext("/v3/mail/send", exchange -> {
+			try (InputStream body = exchange.getRequestBody()) {
+				byte[] buffer = new byte[4096];
+				while (body.read(buffer) != -1) {
+					// the mail is discarded
+				}
+			}
+			exchange.sendResponseHeaders(202, -1);
+			exchange.close();
+		});
+		stubExecutor = Executors.newFixedThreadPool(WORKERS * 4);
+		stubServer.setExecutor(stubExecutor);
+		stubServer.start();
+		host = "127.0.0.1:" + stubServer.getAddress().getPort();
+
+		transport = new SendGridEmailTransport();
+		ReflectionTestUtils.setField(transport, "apiKey", API_KEY);
+		ReflectionTestUtils.setField(transport, "host", host);
+		ReflectionTestUtils.setField(transport, "useHttp", true);
+		ReflectionTestUtils.setField(transport, "maxConnections", 20);
+		ReflectionTestUtils.setField(transport, "connectTimeoutMillis", 5000);
+		ReflectionTestUtils.setField(transport, "socketTimeoutMillis", 15000);
+		ReflectionTestUtils.setField(transport, "connectionRequestTimeoutMillis", 5000);
+		ReflectionTestUtils.setField(transport, "idleTimeoutSeconds", 60L);
+		transport.start();
+
+		workers = Executors.newFixedThreadPool(WORKERS);
+	}
+
+	@TearDown
+	public void tearDown() {
+		workers.shutdownNow();
+		transport.stop();
+		stubServer.stop(0);
+		stubExecutor.shutdownNow();
+	}
+
+	@Benchmark
+	public int clientPerMail() throws InterruptedException, ExecutionException {
+		return burst(() -> {
+			SendGrid sendGrid = new SendGrid(API_KEY, true);
+			sendGrid.setHost(host);
+			Request request = new Request();
+			request.setMethod(Method.POST);
+			request.setEndpoint("mail/send");
+			request.setBody(mail().build());
+			sendGrid.api(request);
+		});
+	}
+
+	@Benchmark
+	public int sharedTransport() throws InterruptedException, ExecutionException {
+		return burst(() -> transport.send(mail()));
+	}
+
+	private int burst(MailSender sender) throws InterruptedException, ExecutionException {
+		List<Future<Void>> sent = new ArrayList<>(BURST);
+		for (int i = 0; i < BURST; i++) {
+			sent.add(workers.submit(() -> {
+				sender.send();
+				return null;
+			}));
+		}
+		for (Future<Void> mail : sent) {
+			mail.get();
+		}
+		return sent.size();
+	}
+
+	private static Mail mail() {
+		return new Mail(new Email("no-reply@example.com"), "Your pet's weekly activity",
+				new Email("pet.parent@example.com"), new Content("text/html", "<p>Weekly activity summary</p>"));
+	}
+
+	@FunctionalInterface
+	private interface MailSender {
+		void send() throws IOException;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(EmailTransportBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,67 @@
+package com.hillspet.wearables.jaxrs.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.hillspet.wearables.helpers.PetParentContext;
+
+/**
+ * @author vvodyaram
+ */
+class ResourceBulkheadTest {
+
+	private ResourceBulkhead bulkhead;
+
+	@AfterEach
+	void tearDown() {
+		PetParentContext.clear();
+		if (bulkhead != null) {
+			bulkhead.shutdown();
+		}
+	}
+
+	@Test
+	void carriesThePetParentOverAndClearsItOnTheContainerThread() throws InterruptedException {
+		bulkhead = new ResourceBulkhead("test", 1, 1, 0);
+		AtomicReference<String> seen = new AtomicReference<>();
+		CountDownLatch done = new CountDownLatch(1);
+		PetParentContext.set("42");
+
+		bulkhead.execute(mock(AsyncResponse.class), () -> {
+			seen.set(PetParentContext.get());
+			done.countDown();
+			return Response.ok().build();
+		});
+
+		assertNull(PetParentContext.get());
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertEquals("42", seen.get());
+	}
+
+	@Test
+	void clearsThePetParentAfterAnInlineCall() {
+		bulkhead = new ResourceBulkhead("test", 0, 1, 0);
+		AtomicReference<String> seen = new AtomicReference<>();
+		PetParentContext.set("42");
+
+		bulkhead.execute(mock(AsyncResponse.class), () -> {
+			seen.set(PetParentContext.get());
+			return Response.ok().build();
+		});
+
+		assertEquals("42", seen.get());
+		assertNull(PetParentContext.get());
+	}
+}
@@ -0,0 +1,158 @@
+package com.hillspet.wearables.jaxrs.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vvodyaram
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	@Test
+	void admitsUpToTheLimit() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 100, 10, 1.5, 1);
+
+		for (int i = 0; i < 4; i++) {
+			assertTrue(limiter.acquire(0));
+		}
+
+		assertFalse(limiter.acquire(0));
+		assertEquals(4, limiter.getInflight());
+		assertEquals(0, limiter.getQueued());
+	}
+
+	@Test
+	void growsWhileTheLatencyStaysFlat() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 10, 1.5, 1);
+
+		runWindows(limiter, 5, 10);
+
+		assertTrue(limiter.getLimit() > 20, "limit " + limiter.getLimit());
+	}
+
+	@Test
+	void shrinksWhenTheLatencyRises() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 1, 100, 10, 1.5, 1);
+		runWindows(limiter, 1, 10);
+		int limit = limiter.getLimit();
+
+		runWindows(limiter, 3, 100);
+
+		assertTrue(limiter.getLimit() < limit, "limit " + limiter.getLimit() + " was " + limit);
+	}
+
+	@Test
+	void staysWithinTheBounds() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 5, 30, 10, 1.5, 1);
+
+		runWindows(limiter, 20, 10);
+		assertEquals(30, limiter.getLimit());
+
+		runWindows(limiter, 20, 1000);
+		assertEquals(5, limiter.getLimit());
+	}
+
+	@Test
+	void doesNotGrowWhenHalfTheLimitIsUnused() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 10, 1.5, 1);
+
+		for (int i = 0; i < 50; i++) {
+			assertTrue(limiter.acquire(0));
+			limiter.release(10 * MILLIS, true);
+		}
+
+		assertEquals(10, limiter.getLimit());
+	}
+
+	@Test
+	void ignoresReleasesWithoutSample() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 10, 1.5, 1);
+		runWindows(limiter, 1, 10);
+		int limit = limiter.getLimit();
+
+		for (int i = 0; i < 50; i++) {
+			assertTrue(limiter.acquire(0));
+			limiter.release(1000 * MILLIS, false);
+		}
+
+		assertEquals(limit, limiter.getLimit());
+		assertEquals(0, limiter.getInflight());
+	}
+
+	@Test
+	void refusesAtOnceWhenTheExpectedWaitExceedsTheBudget() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 1, 1.5, 1);
+		assertTrue(limiter.acquire(0));
+		limiter.release(200 * MILLIS, true);
+		assertTrue(limiter.acquire(0));
+
+		long start = System.nanoTime();
+		assertFalse(limiter.acquire(100 * MILLIS));
+
+		assertTrue(System.nanoTime() - start < 100 * MILLIS);
+		assertEquals(200 * MILLIS, limiter.expectedWaitNanos());
+	}
+
+	@Test
+	void refusesAfterWaitingForTheWholeBudget() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 10, 1.5, 1);
+		assertTrue(limiter.acquire(0));
+
+		long start = System.nanoTime();
+		assertFalse(limiter.acquire(50 * MILLIS));
+
+		assertTrue(System.nanoTime() - start >= 50 * MILLIS);
+		assertEquals(0, limiter.getQueued());
+	}
+
+	@Test
+	void admitsAQueuedRequestOnRelease() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 10, 1.5, 1);
+		assertTrue(limiter.acquire(0));
+
+		CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> limiter.acquire(5000 * MILLIS));
+		while (limiter.getQueued() == 0) {
+			Thread.sleep(1);
+		}
+		limiter.release(MILLIS, true);
+
+		assertTrue(queued.get(5, TimeUnit.SECONDS));
+		assertEquals(1, limiter.getInflight());
+		assertEquals(0, limiter.getQueued());
+	}
+
+	@Test
+	void roundsTheRetryAfterUp() {
+		assertEquals(1, AdaptiveConcurrencyLimiter.toRetryAfterSeconds(0));
+		assertEquals(1, AdaptiveConcurrencyLimiter.toRetryAfterSeconds(TimeUnit.SECONDS.toNanos(1)));
+		assertEquals(2, AdaptiveConcurrencyLimiter.toRetryAfterSeconds(TimeUnit.MILLISECONDS.toNanos(1500)));
+	}
+
+	/**
+	 * Fills the limit and releases every slot with the given latency, until the
+	 * given number of windows of 10 samples is complete.
+	 */
+	private static void runWindows(AdaptiveConcurrencyLimiter limiter, int windows, long rttMillis) {
+		int samples = 0;
+		while (samples < windows * 10) {
+			int limit = limiter.getLimit();
+			for (int i = 0; i < limit; i++) {
+				assertTrue(limiter.acquire(0));
+			}
+			for (int i = 0; i < limit && samples < windows * 10; i++, samples++) {
+				limiter.release(rttMillis * MILLIS, true);
+			}
+			while (limiter.getInflight() > 0) {
+				limiter.release(rttMillis * MILLIS, false);
+			}
+		}
+	}
+}
@@ -0,0 +1,246 @@
+package com.hillspet.wearables.jaxrs.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author vvodyaram
+ */
+class CompressionFilterTest {
+
+	private static final int MIN_SIZE_BYTES = 1024;
+
+	private CompressionFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		filter = new CompressionFilter();
+		ReflectionTestUtils.setField(filter, "enabled", true);
+		ReflectionTestUtils.setField(filter, "minSizeBytes", MIN_SIZE_BYTES);
+		ReflectionTestUtils.setField(filter, "level", 6);
+		ReflectionTestUtils.setField(filter, "mimeTypes", new String[] { "application/json", " text/plain " });
+		filter.init();
+	}
+
+	@Test
+	void negotiatesTheEncoding() {
+		assertEquals("gzip", CompressionFilter.negotiate("gzip, deflate, br"));
+		assertEquals("gzip", CompressionFilter.negotiate("x-gzip"));
+		assertEquals("gzip", CompressionFilter.negotiate("*"));
+		assertEquals("deflate", CompressionFilter.negotiate("deflate"));
+		assertEquals("deflate", CompressionFilter.negotiate("gzip;q=0, deflate"));
+		assertEquals("deflate", CompressionFilter.negotiate("gzip;q=0.5, deflate;q=0.8"));
+		assertEquals("deflate", CompressionFilter.negotiate("gzip;q=0, *"));
+		assertEquals("gzip", CompressionFilter.negotiate("GZIP;q=0.5, deflate;q=0.5"));
+		assertNull(CompressionFilter.negotiate(null));
+		assertNull(CompressionFilter.negotiate(""));
+		assertNull(CompressionFilter.negotiate("identity"));
+		assertNull(CompressionFilter.negotiate("br"));
+		assertNull(CompressionFilter.negotiate("*;q=0"));
+		assertNull(CompressionFilter.negotiate("gzip;q=invalid"));
+	}
+
+	@Test
+	void selectsTheEncodingForAllowedMediaTypes() {
+		ContainerRequestContext request = request("gzip, deflate");
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		filter.filter(request, response(new MediaType("application", "json", "UTF-8"), headers));
+
+		verify(request).setProperty(anyString(), eq("gzip"));
+		assertEquals(Arrays.asList(HttpHeaders.ACCEPT_ENCODING), headers.get(HttpHeaders.VARY));
+	}
+
+	@Test
+	void skipsOtherMediaTypes() {
+		ContainerRequestContext request = request("gzip");
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		filter.filter(request, response(new MediaType("image", "png"), headers));
+
+		verify(request, never()).setProperty(anyString(), any());
+		assertFalse(headers.containsKey(HttpHeaders.VARY));
+	}
+
+	@Test
+	void skipsEncodedResponses() {
+		ContainerRequestContext request = request("gzip");
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+		headers.putSingle(HttpHeaders.CONTENT_ENCODING, "br");
+
+		filter.filter(request, response(MediaType.APPLICATION_JSON_TYPE, headers));
+
+		verify(request, never()).setProperty(anyString(), any());
+	}
+
+	@Test
+	void countsClientsWithoutCompression() {
+		ContainerRequestContext request = request(null);
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		filter.filter(request, response(MediaType.APPLICATION_JSON_TYPE, headers));
+
+		verify(request, never()).setProperty(anyString(), any());
+		assertEquals(Arrays.asList(HttpHeaders.ACCEPT_ENCODING), headers.get(HttpHeaders.VARY));
+		assertEquals(1L, filter.getStats().get("notAccepted"));
+	}
+
+	@Test
+	void gzipsEntitiesAboveTheThreshold() throws IOException {
+		byte[] entity = entity(MIN_SIZE_BYTES * 8);
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+		headers.putSingle(HttpHeaders.CONTENT_LENGTH, entity.length);
+
+		byte[] written = write("gzip", entity, headers);
+
+		assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+		assertFalse(headers.containsKey(HttpHeaders.CONTENT_LENGTH));
+		assertTrue(written.length < entity.length);
+		assertArrayEquals(entity, read(new GZIPInputStream(new ByteArrayInputStream(written))));
+		assertEquals(1L, filter.getStats().get("compressed"));
+		assertEquals((long) entity.length, filter.getStats().get("bytesIn"));
+		assertEquals((long) written.length, filter.getStats().get("bytesOut"));
+	}
+
+	@Test
+	void deflatesEntitiesAboveTheThreshold() throws IOException {
+		byte[] entity = entity(MIN_SIZE_BYTES * 8);
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		byte[] written = write("deflate", entity, headers);
+
+		assertEquals("deflate", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+		assertArrayEquals(entity, read(new InflaterInputStream(new ByteArrayInputStream(written))));
+	}
+
+	@Test
+	void writesEntitiesUpToTheThresholdAsTheyAre() throws IOException {
+		byte[] entity = entity(MIN_SIZE_BYTES);
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		byte[] written = write("gzip", entity, headers);
+
+		assertFalse(headers.containsKey(HttpHeaders.CONTENT_ENCODING));
+		assertArrayEquals(entity, written);
+		assertEquals(1L, filter.getStats().get("belowThreshold"));
+		assertEquals(0L, filter.getStats().get("compressed"));
+	}
+
+	@Test
+	void compressesFromTheFirstByteAboveTheThreshold() throws IOException {
+		byte[] entity = entity(MIN_SIZE_BYTES + 1);
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		byte[] written = write("gzip", entity, headers);
+
+		assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+		assertArrayEquals(entity, read(new GZIPInputStream(new ByteArrayInputStream(written))));
+	}
+
+	@Test
+	void leavesTheEntityAloneWithoutEncoding() throws IOException {
+		byte[] entity = entity(MIN_SIZE_BYTES * 8);
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		byte[] written = write(null, entity, headers);
+
+		assertArrayEquals(entity, written);
+		assertFalse(headers.containsKey(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(0L, filter.getStats().get("belowThreshold"));
+	}
+
+	private static ContainerRequestContext request(String acceptEncoding) {
+		ContainerRequestContext request = mock(ContainerRequestContext.class);
+		when(request.getHeaderString(HttpHeaders.ACCEPT_ENCODING)).thenReturn(acceptEncoding);
+		return request;
+	}
+
+	private static ContainerResponseContext response(MediaType mediaType, MultivaluedMap<String, Object> headers) {
+		ContainerResponseContext response = mock(ContainerResponseContext.class);
+		when(response.hasEntity()).thenReturn(true);
+		when(response.getMediaType()).thenReturn(mediaType);
+		when(response.getHeaders()).thenReturn(headers);
+		return response;
+	}
+
+	/**
+	 * Runs the interceptor around a writer that writes the entity in small chunks,
+	 * as Jackson does, and returns the bytes that reached the container.
+	 */
+	private byte[] write(String encoding, byte[] entity, MultivaluedMap<String, Object> headers) throws IOException {
+		ByteArrayOutputStream container = new ByteArrayOutputStream();
+		AtomicReference<OutputStream> out = new AtomicReference<>(container);
+		WriterInterceptorContext context = mock(WriterInterceptorContext.class);
+		when(context.getProperty(anyString())).thenReturn(encoding);
+		when(context.getHeaders()).thenReturn(headers);
+		doAnswer(invocation -> out.get()).when(context).getOutputStream();
+		doAnswer(invocation -> {
+			out.set(invocation.getArgument(0));
+			return null;
+		}).when(context).setOutputStream(any());
+		doAnswer(invocation -> {
+			OutputStream stream = out.get();
+			for (int offset = 0; offset < entity.length; offset += 100) {
+				stream.write(entity, offset, Math.min(100, entity.length - offset));
+				stream.flush();
+			}
+			return null;
+		}).when(context).proceed();
+
+		filter.aroundWriteTo(context);
+
+		return container.toByteArray();
+	}
+
+	private static byte[] entity(int size) {
+		StringBuilder json = new StringBuilder("[");
+		while (json.length() < size) {
+			json.append("{\"petId\":").append(json.length()).append(",\"petName\":\"Rex\"},");
+		}
+		json.setLength(size - 1);
+		return json.append(']').toString().getBytes();
+	}
+
+	private static byte[] read(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+		while ((read = in.read(buffer)) >= 0) {
+			out.write(buffer, 0, read);
+		}
+		return out.toByteArray();
+	}
+}